@@ -0,0 +1,37 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.benchmark;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.ws.config.annotation.EnableWs;
+
+/**
+ * Annotation-driven configuration shared by the dispatcher benchmarks.
+ *
+ * @since 5.0.0
+ */
+@EnableWs
+@Configuration(proxyBeanMethods = false)
+public class BenchmarkConfiguration {
+
+	@Bean
+	public EchoEndpoint echoEndpoint() {
+		return new EchoEndpoint();
+	}
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.benchmark;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.ws.WebServiceMessageFactory;
+import org.springframework.ws.soap.axiom.AxiomSoapMessageFactory;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+
+/**
+ * Factory methods for the messages and message factories used by the benchmarks.
+ *
+ * @since 5.0.0
+ */
+public abstract class BenchmarkMessages {
+
+	/** Identifies a {@link SaajSoapMessageFactory}. */
+	public static final String SAAJ = "saaj";
+
+	/** Identifies an {@link AxiomSoapMessageFactory} with payload caching enabled. */
+	public static final String AXIOM = "axiom";
+
+	/** Identifies an {@link AxiomSoapMessageFactory} with payload caching disabled. */
+	public static final String AXIOM_STREAMING = "axiom-streaming";
+
+	private static final String ENVELOPE_START = "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+			+ "<soapenv:Header/><soapenv:Body>";
+
+	private static final String ENVELOPE_END = "</soapenv:Body></soapenv:Envelope>";
+
+	private BenchmarkMessages() {
+	}
+
+	/**
+	 * Create and initialize the message factory identified by the given name.
+	 * @param name one of {@link #SAAJ}, {@link #AXIOM}, or {@link #AXIOM_STREAMING}
+	 * @return the initialized message factory
+	 * @throws Exception in case of initialization errors
+	 */
+	public static WebServiceMessageFactory createMessageFactory(String name) throws Exception {
+		switch (name) {
+			case SAAJ -> {
+				SaajSoapMessageFactory messageFactory = new SaajSoapMessageFactory();
+				messageFactory.afterPropertiesSet();
+				return messageFactory;
+			}
+			case AXIOM, AXIOM_STREAMING -> {
+				AxiomSoapMessageFactory messageFactory = new AxiomSoapMessageFactory();
+				messageFactory.setPayloadCaching(AXIOM.equals(name));
+				messageFactory.afterPropertiesSet();
+				return messageFactory;
+			}
+			default -> throw new IllegalArgumentException("Unknown message factory [" + name + "]");
+		}
+	}
+
+	/**
+	 * Create a SOAP 1.1 envelope whose payload has the given local name in the
+	 * {@link EchoEndpoint#NAMESPACE_URI benchmark namespace}, padded with
+	 * {@code <item>} children until the payload is at least {@code payloadSize} bytes.
+	 * @param localPart the local name of the payload root element
+	 * @param payloadSize the minimum payload size, in bytes
+	 * @return the UTF-8 encoded envelope
+	 */
+	public static byte[] createEnvelope(String localPart, int payloadSize) {
+		return (ENVELOPE_START + createPayload(localPart, payloadSize) + ENVELOPE_END)
+			.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Create a payload with the given local name in the
+	 * {@link EchoEndpoint#NAMESPACE_URI benchmark namespace}, padded with
+	 * {@code <item>} children until it is at least {@code payloadSize} bytes.
+	 * @param localPart the local name of the payload root element
+	 * @param payloadSize the minimum payload size, in bytes
+	 * @return the payload
+	 */
+	public static String createPayload(String localPart, int payloadSize) {
+		StringBuilder builder = new StringBuilder(payloadSize + 128);
+		builder.append("<b:").append(localPart).append(" xmlns:b=\"").append(EchoEndpoint.NAMESPACE_URI).append("\">");
+		int index = 0;
+		while (builder.length() < payloadSize) {
+			builder.append("<b:item>Item number ").append(index++).append("</b:item>");
+		}
+		builder.append("</b:").append(localPart).append('>');
+		return builder.toString();
+	}
+
+}
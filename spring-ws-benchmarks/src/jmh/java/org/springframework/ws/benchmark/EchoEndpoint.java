@@ -0,0 +1,58 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.benchmark;
+
+import javax.xml.transform.Source;
+
+import org.w3c.dom.Element;
+
+import org.springframework.ws.server.endpoint.annotation.Endpoint;
+import org.springframework.ws.server.endpoint.annotation.PayloadRoot;
+import org.springframework.ws.server.endpoint.annotation.RequestPayload;
+import org.springframework.ws.server.endpoint.annotation.ResponsePayload;
+
+/**
+ * Endpoint that echoes its request payload, exposing the same operation through the
+ * JAXB, DOM and {@link Source} method signatures.
+ *
+ * @since 5.0.0
+ */
+@Endpoint
+public class EchoEndpoint {
+
+	/** The namespace of all benchmark payloads. */
+	public static final String NAMESPACE_URI = "urn:spring-ws:benchmark";
+
+	@PayloadRoot(namespace = NAMESPACE_URI, localPart = "jaxbEcho")
+	@ResponsePayload
+	public JaxbEcho jaxbEcho(@RequestPayload JaxbEcho request) {
+		return request;
+	}
+
+	@PayloadRoot(namespace = NAMESPACE_URI, localPart = "domEcho")
+	@ResponsePayload
+	public Element domEcho(@RequestPayload Element request) {
+		return request;
+	}
+
+	@PayloadRoot(namespace = NAMESPACE_URI, localPart = "sourceEcho")
+	@ResponsePayload
+	public Source sourceEcho(@RequestPayload Source request) {
+		return request;
+	}
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlRootElement;
+
+/**
+ * JAXB-bound payload used by the {@link EchoEndpoint#jaxbEcho(JaxbEcho)} operation.
+ *
+ * @since 5.0.0
+ */
+@XmlRootElement(name = "jaxbEcho", namespace = EchoEndpoint.NAMESPACE_URI)
+@XmlAccessorType(XmlAccessType.FIELD)
+public class JaxbEcho {
+
+	@XmlElement(name = "item", namespace = EchoEndpoint.NAMESPACE_URI)
+	private List<String> items = new ArrayList<>();
+
+	public List<String> getItems() {
+		return this.items;
+	}
+
+	public void setItems(List<String> items) {
+		this.items = items;
+	}
+
+}
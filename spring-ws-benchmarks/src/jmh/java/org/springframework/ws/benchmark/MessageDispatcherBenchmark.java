@@ -0,0 +1,100 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.WebServiceMessageFactory;
+import org.springframework.ws.context.DefaultMessageContext;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.soap.server.SoapMessageDispatcher;
+
+/**
+ * Benchmarks a full request/response cycle through
+ * {@link SoapMessageDispatcher#receive(MessageContext)}: parsing the request, routing
+ * it to the {@link EchoEndpoint}, invoking it, and serializing the response.
+ * <p>
+ * Run with {@code ./gradlew :spring-ws-benchmarks:jmh}; pass
+ * {@code -PjmhInclude=MessageDispatcherBenchmark} to run only this suite.
+ *
+ * @since 5.0.0
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MessageDispatcherBenchmark {
+
+	@Param({ BenchmarkMessages.SAAJ, BenchmarkMessages.AXIOM, BenchmarkMessages.AXIOM_STREAMING })
+	public String messageFactory;
+
+	@Param({ "jaxb", "dom", "source" })
+	public String endpoint;
+
+	@Param({ "1024", "102400", "1048576", "10485760" })
+	public int payloadSize;
+
+	@SuppressWarnings("NullAway.Init")
+	private AnnotationConfigApplicationContext applicationContext;
+
+	@SuppressWarnings("NullAway.Init")
+	private SoapMessageDispatcher dispatcher;
+
+	@SuppressWarnings("NullAway.Init")
+	private WebServiceMessageFactory webServiceMessageFactory;
+
+	@SuppressWarnings("NullAway.Init")
+	private byte[] request;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		this.applicationContext = new AnnotationConfigApplicationContext(BenchmarkConfiguration.class);
+		this.dispatcher = new SoapMessageDispatcher();
+		this.dispatcher.setApplicationContext(this.applicationContext);
+		this.webServiceMessageFactory = BenchmarkMessages.createMessageFactory(this.messageFactory);
+		this.request = BenchmarkMessages.createEnvelope(this.endpoint + "Echo", this.payloadSize);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.applicationContext.close();
+	}
+
+	@Benchmark
+	public void receive(Blackhole blackhole) throws Exception {
+		WebServiceMessage request = this.webServiceMessageFactory
+			.createWebServiceMessage(new ByteArrayInputStream(this.request));
+		MessageContext messageContext = new DefaultMessageContext(request, this.webServiceMessageFactory);
+		this.dispatcher.receive(messageContext);
+		WebServiceMessage response = messageContext.getResponse();
+		response.writeTo(OutputStream.nullOutputStream());
+		blackhole.consume(response);
+	}
+
+}
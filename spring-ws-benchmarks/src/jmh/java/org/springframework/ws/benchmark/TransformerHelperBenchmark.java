@@ -0,0 +1,142 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import javax.xml.transform.dom.DOMResult;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.sax.SAXSource;
+import javax.xml.transform.stax.StAXResult;
+import javax.xml.transform.stax.StAXSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+
+import org.springframework.xml.DocumentBuilderFactoryUtils;
+import org.springframework.xml.transform.TransformerHelper;
+
+/**
+ * Benchmarks identity copies through {@link TransformerHelper#transform}, as used for
+ * payload handling throughout Spring Web Services, for each supported source and result
+ * combination, with and without {@linkplain TransformerHelper#setDirectCopy(boolean)
+ * direct copying}. The {@code dom-stream} combination always uses a transformer, and
+ * serves as a reference.
+ * <p>
+ * Run with {@code ./gradlew :spring-ws-benchmarks:jmh -PjmhInclude=TransformerHelperBenchmark}.
+ *
+ * @since 5.0.0
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TransformerHelperBenchmark {
+
+	@Param({ "dom-dom", "stax-dom", "stax-stax", "sax-dom", "dom-stream" })
+	public String copy;
+
+	@Param({ "true", "false" })
+	public boolean directCopy;
+
+	@Param({ "1024", "102400" })
+	public int payloadSize;
+
+	@SuppressWarnings("NullAway.Init")
+	private TransformerHelper transformerHelper;
+
+	@SuppressWarnings("NullAway.Init")
+	private byte[] payload;
+
+	@SuppressWarnings("NullAway.Init")
+	private Document document;
+
+	@SuppressWarnings("NullAway.Init")
+	private XMLInputFactory inputFactory;
+
+	@SuppressWarnings("NullAway.Init")
+	private XMLOutputFactory outputFactory;
+
+	@SuppressWarnings("NullAway.Init")
+	private SAXParserFactory parserFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		this.transformerHelper = new TransformerHelper();
+		this.transformerHelper.setDirectCopy(this.directCopy);
+		StringBuilder builder = new StringBuilder("<ns:echoRequest xmlns:ns='" + EchoEndpoint.NAMESPACE_URI + "'>");
+		while (builder.length() < this.payloadSize) {
+			builder.append("<ns:item id='").append(builder.length()).append("'>Lorem ipsum dolor sit amet</ns:item>");
+		}
+		builder.append("</ns:echoRequest>");
+		this.payload = builder.toString().getBytes(StandardCharsets.UTF_8);
+		DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactoryUtils.newInstance();
+		documentBuilderFactory.setNamespaceAware(true);
+		this.document = documentBuilderFactory.newDocumentBuilder()
+			.parse(new InputSource(new ByteArrayInputStream(this.payload)));
+		this.inputFactory = XMLInputFactory.newInstance();
+		this.outputFactory = XMLOutputFactory.newInstance();
+		this.parserFactory = SAXParserFactory.newInstance();
+		this.parserFactory.setNamespaceAware(true);
+	}
+
+	@Benchmark
+	public Object transform() throws Exception {
+		Source source = createSource();
+		Result result = createResult();
+		this.transformerHelper.transform(source, result);
+		return result;
+	}
+
+	private Source createSource() throws Exception {
+		return switch (this.copy) {
+			case "dom-dom", "dom-stream" -> new DOMSource(this.document);
+			case "stax-dom", "stax-stax" ->
+				new StAXSource(this.inputFactory.createXMLStreamReader(new ByteArrayInputStream(this.payload)));
+			case "sax-dom" -> new SAXSource(this.parserFactory.newSAXParser().getXMLReader(),
+					new InputSource(new ByteArrayInputStream(this.payload)));
+			default -> throw new IllegalArgumentException("Unknown copy [" + this.copy + "]");
+		};
+	}
+
+	private Result createResult() throws Exception {
+		return switch (this.copy) {
+			case "dom-dom", "stax-dom", "sax-dom" -> new DOMResult();
+			case "stax-stax" ->
+				new StAXResult(this.outputFactory.createXMLStreamWriter(OutputStream.nullOutputStream()));
+			case "dom-stream" -> new StreamResult(new ByteArrayOutputStream(this.payload.length));
+			default -> throw new IllegalArgumentException("Unknown copy [" + this.copy + "]");
+		};
+	}
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.benchmark;
+
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+
+import org.springframework.xml.DocumentBuilderFactoryUtils;
+import org.springframework.xml.namespace.SimpleNamespaceContext;
+import org.springframework.xml.xpath.XPathExpression;
+import org.springframework.xml.xpath.XPathExpressionFactory;
+
+/**
+ * Benchmarks concurrent evaluation of a single shared {@link XPathExpression}, as done by
+ * {@code XPathPayloadEndpointMapping} and {@code @XPathParam} arguments, on one thread
+ * and on all available processors. The {@code synchronized} variants evaluate a single
+ * JAXP expression under a lock, and serve as the baseline for the scaling of the
+ * {@code shared} variants.
+ * <p>
+ * Run with {@code ./gradlew :spring-ws-benchmarks:jmh -PjmhInclude=XPathExpressionBenchmark}.
+ *
+ * @since 5.0.0
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class XPathExpressionBenchmark {
+
+	private static final String EXPRESSION = "/ns:order/ns:item[@sku='b']/@qty";
+
+	private static final String DOCUMENT = "<ns:order xmlns:ns='urn:spring-ws:benchmark'>"
+			+ "<ns:item sku='a' qty='1'/><ns:item sku='b' qty='2'/><ns:item sku='c' qty='3'/></ns:order>";
+
+	@SuppressWarnings("NullAway.Init")
+	private XPathExpression expression;
+
+	@SuppressWarnings("NullAway.Init")
+	private javax.xml.xpath.XPathExpression jaxpExpression;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		this.expression = XPathExpressionFactory.createXPathExpression(EXPRESSION,
+				Collections.singletonMap("ns", EchoEndpoint.NAMESPACE_URI));
+		XPath xpath = XPathFactory.newInstance().newXPath();
+		SimpleNamespaceContext namespaceContext = new SimpleNamespaceContext();
+		namespaceContext.bindNamespaceUri("ns", EchoEndpoint.NAMESPACE_URI);
+		xpath.setNamespaceContext(namespaceContext);
+		this.jaxpExpression = xpath.compile(EXPRESSION);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public String sharedSingleThread(ThreadState state) {
+		return this.expression.evaluateAsString(state.document);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String sharedAllThreads(ThreadState state) {
+		return this.expression.evaluateAsString(state.document);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public String synchronizedSingleThread(ThreadState state) throws Exception {
+		return evaluateSynchronized(state.document);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String synchronizedAllThreads(ThreadState state) throws Exception {
+		return evaluateSynchronized(state.document);
+	}
+
+	private String evaluateSynchronized(Document document) throws Exception {
+		synchronized (this.jaxpExpression) {
+			return (String) this.jaxpExpression.evaluate(document, XPathConstants.STRING);
+		}
+	}
+
+	/**
+	 * Holds a document per benchmark thread, since DOM implementations are not
+	 * guaranteed to be thread-safe, even for reads.
+	 */
+	@State(Scope.Thread)
+	public static class ThreadState {
+
+		@SuppressWarnings("NullAway.Init")
+		Document document;
+
+		@Setup(Level.Trial)
+		public void setUp() throws Exception {
+			DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactoryUtils.newInstance();
+			documentBuilderFactory.setNamespaceAware(true);
+			this.document = documentBuilderFactory.newDocumentBuilder()
+				.parse(new InputSource(new StringReader(DOCUMENT)));
+		}
+
+	}
+
+}
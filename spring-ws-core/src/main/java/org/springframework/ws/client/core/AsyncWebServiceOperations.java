@@ -0,0 +1,117 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.client.core;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Specifies a basic set of asynchronous Web service operations. Implemented by
+ * {@link WebServiceTemplate}.
+ * <p>
+ * The returned futures complete with the same result that the corresponding blocking
+ * method on {@link WebServiceOperations} returns, which may be {@code null}, or
+ * exceptionally with the {@link org.springframework.ws.client.WebServiceClientException}
+ * (or {@link org.springframework.oxm.XmlMappingException}) it throws.
+ * <p>
+ * Cancelling a returned future closes the underlying connection. Whether that aborts an
+ * exchange in progress depends on the transport; a blocking exchange may still run until
+ * its I/O fails or times out.
+ *
+ * @since 5.0.0
+ * @see WebServiceTemplate
+ * @see org.springframework.ws.transport.AsyncWebServiceConnection
+ */
+public interface AsyncWebServiceOperations {
+
+	/**
+	 * Sends a web service message that can be manipulated with the given callback,
+	 * reading the result with a {@code WebServiceMessageExtractor}.
+	 * <p>
+	 * This will only work with a default uri specified!
+	 * @param requestCallback the requestCallback to be used for manipulating the request
+	 * message
+	 * @param responseExtractor object that will extract results
+	 * @return a future for the result object, as returned by the
+	 * {@code WebServiceMessageExtractor}
+	 */
+	<T> CompletableFuture<T> sendAndReceiveAsync(@Nullable WebServiceMessageCallback requestCallback,
+			WebServiceMessageExtractor<T> responseExtractor);
+
+	/**
+	 * Sends a web service message that can be manipulated with the given callback,
+	 * reading the result with a {@code WebServiceMessageExtractor}.
+	 * @param uri the URI to send the message to
+	 * @param requestCallback the requestCallback to be used for manipulating the request
+	 * message
+	 * @param responseExtractor object that will extract results
+	 * @return a future for the result object, as returned by the
+	 * {@code WebServiceMessageExtractor}
+	 */
+	<T> CompletableFuture<T> sendAndReceiveAsync(String uri, @Nullable WebServiceMessageCallback requestCallback,
+			WebServiceMessageExtractor<T> responseExtractor);
+
+	/**
+	 * Sends a web service message that contains the given payload, marshalled by the
+	 * configured {@code Marshaller}. Returns a future for the unmarshalled payload of the
+	 * response message, if any.
+	 * <p>
+	 * This will only work with a default uri specified!
+	 * @param requestPayload the object to marshal into the request message payload
+	 * @return a future for the unmarshalled payload of the response message
+	 */
+	CompletableFuture<Object> marshalSendAndReceiveAsync(Object requestPayload);
+
+	/**
+	 * Sends a web service message that contains the given payload, marshalled by the
+	 * configured {@code Marshaller}. Returns a future for the unmarshalled payload of the
+	 * response message, if any.
+	 * @param uri the URI to send the message to
+	 * @param requestPayload the object to marshal into the request message payload
+	 * @return a future for the unmarshalled payload of the response message
+	 */
+	CompletableFuture<Object> marshalSendAndReceiveAsync(String uri, Object requestPayload);
+
+	/**
+	 * Sends a web service message that contains the given payload, marshalled by the
+	 * configured {@code Marshaller}. Returns a future for the unmarshalled payload of the
+	 * response message, if any. The given callback allows changing of the request message
+	 * after the payload has been marshalled to it.
+	 * <p>
+	 * This will only work with a default uri specified!
+	 * @param requestPayload the object to marshal into the request message payload
+	 * @param requestCallback callback to change message, can be {@code null}
+	 * @return a future for the unmarshalled payload of the response message
+	 */
+	CompletableFuture<Object> marshalSendAndReceiveAsync(Object requestPayload,
+			@Nullable WebServiceMessageCallback requestCallback);
+
+	/**
+	 * Sends a web service message that contains the given payload, marshalled by the
+	 * configured {@code Marshaller}. Returns a future for the unmarshalled payload of the
+	 * response message, if any. The given callback allows changing of the request message
+	 * after the payload has been marshalled to it.
+	 * @param uri the URI to send the message to
+	 * @param requestPayload the object to marshal into the request message payload
+	 * @param requestCallback callback to change message, can be {@code null}
+	 * @return a future for the unmarshalled payload of the response message
+	 */
+	CompletableFuture<Object> marshalSendAndReceiveAsync(String uri, Object requestPayload,
+			@Nullable WebServiceMessageCallback requestCallback);
+
+}
@@ -16,11 +16,14 @@
 
 package org.springframework.ws.client.core;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
@@ -28,11 +31,14 @@ import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerException;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.oxm.Marshaller;
 import org.springframework.oxm.Unmarshaller;
 import org.springframework.util.Assert;
@@ -44,6 +50,10 @@ import org.springframework.ws.client.WebServiceClientException;
 import org.springframework.ws.client.WebServiceIOException;
 import org.springframework.ws.client.WebServiceTransformerException;
 import org.springframework.ws.client.WebServiceTransportException;
+import org.springframework.ws.client.observation.DefaultWebServiceClientObservationConvention;
+import org.springframework.ws.client.observation.WebServiceClientObservationContext;
+import org.springframework.ws.client.observation.WebServiceClientObservationConvention;
+import org.springframework.ws.client.observation.WebServiceClientObservationDocumentation;
 import org.springframework.ws.client.support.WebServiceAccessor;
 import org.springframework.ws.client.support.destination.DestinationProvider;
 import org.springframework.ws.client.support.interceptor.ClientInterceptor;
@@ -52,6 +62,8 @@ import org.springframework.ws.context.MessageContext;
 import org.springframework.ws.soap.client.core.SoapFaultMessageResolver;
 import org.springframework.ws.support.DefaultStrategiesHelper;
 import org.springframework.ws.support.MarshallingUtils;
+import org.springframework.ws.support.MessageTracer;
+import org.springframework.ws.transport.AsyncWebServiceConnection;
 import org.springframework.ws.transport.FaultAwareWebServiceConnection;
 import org.springframework.ws.transport.TransportException;
 import org.springframework.ws.transport.WebServiceConnection;
@@ -117,11 +129,28 @@ import org.springframework.ws.transport.support.TransportUtils;
  * </ul>
  * <li>Call to {@link WebServiceConnection#close() close} on the connection.</li>
  * </ol>
+ * <p>
+ * The {@link AsyncWebServiceOperations asynchronous methods} follow the same algorithm,
+ * but return a {@link CompletableFuture}. If the connection is an
+ * {@link AsyncWebServiceConnection}, the request is sent without blocking, and the
+ * response is processed on the thread that completes the send. Other connections are
+ * used in a blocking fashion on the {@link #setAsyncExecutor(Executor) async executor}.
+ * Note that exchanges over an {@code AsyncWebServiceConnection} do not go through
+ * {@link #doSendAndReceive(MessageContext, WebServiceConnection, WebServiceMessageCallback, WebServiceMessageExtractor)
+ * doSendAndReceive}, so subclasses that override it do not affect them. The
+ * {@link #hasError hasError()}, {@link #handleError handleError()},
+ * {@link #hasFault hasFault()} and {@link #handleFault handleFault()} template methods
+ * are invoked for both.
+ * <p>
+ * When an {@link #setObservationRegistry(ObservationRegistry) observationRegistry} is
+ * configured, every exchange is recorded as an {@link Observation}, from the creation
+ * of the request until the response has been handled.
  *
  * @author Arjen Poutsma
  * @since 1.0.0
  */
-public class WebServiceTemplate extends WebServiceAccessor implements WebServiceOperations {
+public class WebServiceTemplate extends WebServiceAccessor
+		implements WebServiceOperations, AsyncWebServiceOperations {
 
 	/** Log category to use for message tracing. */
 	public static final String MESSAGE_TRACING_LOG_CATEGORY = "org.springframework.ws.client.MessageTracing";
@@ -134,6 +163,14 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 	protected static final Log receivedMessageTracingLogger = LogFactory
 		.getLog(WebServiceTemplate.MESSAGE_TRACING_LOG_CATEGORY + ".received");
 
+	/**
+	 * The maximum number of concurrent operations run by the default
+	 * {@linkplain #setAsyncExecutor(Executor) async executor}.
+	 */
+	private static final int DEFAULT_ASYNC_CONCURRENCY_LIMIT = 100;
+
+	private static final WebServiceClientObservationConvention DEFAULT_OBSERVATION_CONVENTION = new DefaultWebServiceClientObservationConvention();
+
 	private @Nullable Marshaller marshaller;
 
 	private @Nullable Unmarshaller unmarshaller;
@@ -148,6 +185,14 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 
 	private @Nullable DestinationProvider destinationProvider;
 
+	private Executor asyncExecutor = createDefaultAsyncExecutor();
+
+	private volatile @Nullable MessageTracer messageTracer;
+
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+	private @Nullable WebServiceClientObservationConvention observationConvention;
+
 	/** Creates a new {@code WebServiceTemplate} using default settings. */
 	public WebServiceTemplate() {
 		initDefaultStrategies();
@@ -360,6 +405,86 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 		this.interceptors = interceptors;
 	}
 
+	/**
+	 * Returns the executor used to run asynchronous operations over connections that are
+	 * not an {@link AsyncWebServiceConnection}.
+	 * @return the executor for blocking connections
+	 */
+	public Executor getAsyncExecutor() {
+		return this.asyncExecutor;
+	}
+
+	/**
+	 * Sets the executor used to run asynchronous operations over connections that are
+	 * not an {@link AsyncWebServiceConnection}. Each such operation occupies a thread of
+	 * this executor for its whole duration.
+	 * <p>
+	 * Default is a {@link SimpleAsyncTaskExecutor}, which starts a new thread for every
+	 * operation, and rejects operations when 100 are already running. Consider a pooled
+	 * or virtual thread-based executor instead. Operations rejected by the executor
+	 * complete exceptionally with a {@link RejectedExecutionException}.
+	 * @param asyncExecutor the executor for blocking connections
+	 */
+	public void setAsyncExecutor(Executor asyncExecutor) {
+		Assert.notNull(asyncExecutor, "'asyncExecutor' must not be null");
+		this.asyncExecutor = asyncExecutor;
+	}
+
+	private static Executor createDefaultAsyncExecutor() {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+		executor.setConcurrencyLimit(DEFAULT_ASYNC_CONCURRENCY_LIMIT);
+		executor.setRejectTasksWhenLimitReached(true);
+		return executor;
+	}
+
+	/**
+	 * Sets the {@link MessageTracer} that writes messages to the
+	 * {@linkplain #MESSAGE_TRACING_LOG_CATEGORY message tracing log} at trace level.
+	 * <p>
+	 * By default, all messages are traced in full, on the calling thread.
+	 * @param messageTracer the message tracer
+	 * @since 5.0.0
+	 */
+	public void setMessageTracer(MessageTracer messageTracer) {
+		Assert.notNull(messageTracer, "'messageTracer' must not be null");
+		this.messageTracer = messageTracer;
+	}
+
+	/**
+	 * Returns the {@link MessageTracer}, creating the default one on first use. The
+	 * default tracer writes synchronously, so it never starts a background thread.
+	 */
+	private MessageTracer obtainMessageTracer() {
+		MessageTracer messageTracer = this.messageTracer;
+		if (messageTracer == null) {
+			messageTracer = new MessageTracer();
+			this.messageTracer = messageTracer;
+		}
+		return messageTracer;
+	}
+
+	/**
+	 * Sets the {@link ObservationRegistry} used to record an observation for every
+	 * exchange. Default is {@link ObservationRegistry#NOOP}, which records nothing.
+	 * @param observationRegistry the observation registry
+	 * @since 5.0.0
+	 * @see WebServiceClientObservationDocumentation
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+		Assert.notNull(observationRegistry, "'observationRegistry' must not be null");
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * Sets a custom {@link WebServiceClientObservationConvention} to use instead of the
+	 * {@link DefaultWebServiceClientObservationConvention}.
+	 * @param observationConvention the observation convention
+	 * @since 5.0.0
+	 */
+	public void setObservationConvention(@Nullable WebServiceClientObservationConvention observationConvention) {
+		this.observationConvention = observationConvention;
+	}
+
 	/**
 	 * Initialize the default implementations for the template's strategies:
 	 * {@link SoapFaultMessageResolver},
@@ -423,7 +548,13 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 	@Override
 	public @Nullable Object marshalSendAndReceive(String uri, final @Nullable Object requestPayload,
 			final @Nullable WebServiceMessageCallback requestCallback) {
-		return sendAndReceive(uri, new WebServiceMessageCallback() {
+		return sendAndReceive(uri, createMarshallingCallback(requestPayload, requestCallback),
+				createUnmarshallingExtractor());
+	}
+
+	private WebServiceMessageCallback createMarshallingCallback(@Nullable Object requestPayload,
+			@Nullable WebServiceMessageCallback requestCallback) {
+		return new WebServiceMessageCallback() {
 
 			public void doWithMessage(WebServiceMessage request) throws IOException, TransformerException {
 				if (requestPayload != null) {
@@ -438,7 +569,11 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 					requestCallback.doWithMessage(request);
 				}
 			}
-		}, new WebServiceMessageExtractor<>() {
+		};
+	}
+
+	private WebServiceMessageExtractor<Object> createUnmarshallingExtractor() {
+		return new WebServiceMessageExtractor<>() {
 
 			public @Nullable Object extractData(WebServiceMessage response) throws IOException {
 				Unmarshaller unmarshaller = getUnmarshaller();
@@ -448,7 +583,7 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 				}
 				return MarshallingUtils.unmarshal(unmarshaller, response);
 			}
-		});
+		};
 	}
 
 	//
@@ -578,34 +713,74 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 			WebServiceMessageExtractor<T> responseExtractor) {
 		Assert.notNull(responseExtractor, "'responseExtractor' must not be null");
 		Assert.hasLength(uriString, "'uri' must not be empty");
-		TransportContext previousTransportContext = TransportContextHolder.getTransportContext();
-		WebServiceConnection connection = null;
+		WebServiceConnection connection;
 		try {
 			connection = createConnection(URI.create(uriString));
+		}
+		catch (IOException ex) {
+			throw convertIOException(ex);
+		}
+		return sendAndReceive(connection, requestCallback, responseExtractor);
+	}
+
+	private <T> @Nullable T sendAndReceive(WebServiceConnection connection,
+			@Nullable WebServiceMessageCallback requestCallback, WebServiceMessageExtractor<T> responseExtractor) {
+		TransportContext previousTransportContext = TransportContextHolder.getTransportContext();
+		WebServiceClientObservationContext observationContext = new WebServiceClientObservationContext(connection);
+		Observation observation = createObservation(observationContext).start();
+		try (Observation.Scope scope = observation.openScope()) {
 			TransportContextHolder.setTransportContext(new DefaultTransportContext(connection));
 			MessageContext messageContext = new DefaultMessageContext(getMessageFactory());
+			observationContext.setMessageContext(messageContext);
 
 			return doSendAndReceive(messageContext, connection, requestCallback, responseExtractor);
 		}
-		catch (TransportException ex) {
-			throw new WebServiceTransportException("Could not use transport: " + ex.getMessage(), ex);
-		}
 		catch (IOException ex) {
-			throw new WebServiceIOException("I/O error: " + ex.getMessage(), ex);
+			RuntimeException converted = convertIOException(ex);
+			observation.error(converted);
+			throw converted;
+		}
+		catch (RuntimeException ex) {
+			observation.error(ex);
+			throw ex;
 		}
 		finally {
-			if (connection != null) {
-				TransportUtils.closeConnection(connection);
-			}
+			stopObservation(observation, observationContext);
+			TransportUtils.closeConnection(connection);
 			TransportContextHolder.setTransportContext(previousTransportContext);
 		}
 	}
 
+	private Observation createObservation(WebServiceClientObservationContext observationContext) {
+		return WebServiceClientObservationDocumentation.WEB_SERVICE_CLIENT_EXCHANGES.observation(
+				this.observationConvention, DEFAULT_OBSERVATION_CONVENTION, () -> observationContext,
+				this.observationRegistry);
+	}
+
+	private static void stopObservation(Observation observation,
+			WebServiceClientObservationContext observationContext) {
+		MessageContext messageContext = observationContext.getMessageContext();
+		if (messageContext != null && messageContext.hasResponse()) {
+			observationContext.setResponse(messageContext.getResponse());
+		}
+		observation.stop();
+	}
+
+	private RuntimeException convertIOException(IOException ex) {
+		if (ex instanceof TransportException transportException) {
+			return new WebServiceTransportException("Could not use transport: " + ex.getMessage(), transportException);
+		}
+		return new WebServiceIOException("I/O error: " + ex.getMessage(), ex);
+	}
+
 	/**
 	 * Sends and receives a {@link MessageContext}. Sends the
 	 * {@link MessageContext#getRequest() request message}, and received to the
 	 * {@link MessageContext#getResponse() repsonse message}. Invocates the defined
 	 * {@link #setInterceptors(ClientInterceptor[]) interceptors} as part of the process.
+	 * <p>
+	 * Not invoked for asynchronous exchanges over an {@link AsyncWebServiceConnection},
+	 * which send the request without blocking.
 	 * @param messageContext the message context
 	 * @param connection the connection to use
 	 * @param requestCallback the requestCallback to be used for manipulating the request
@@ -617,7 +792,6 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 	 * message
 	 * @throws IOException in case of I/O errors
 	 */
-	@SuppressWarnings("unchecked")
 	protected <T> @Nullable T doSendAndReceive(MessageContext messageContext, WebServiceConnection connection,
 			@Nullable WebServiceMessageCallback requestCallback, WebServiceMessageExtractor<T> responseExtractor)
 			throws IOException {
@@ -641,56 +815,261 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 			// has been interrupted
 			if (!messageContext.hasResponse() && !intercepted) {
 				sendRequest(connection, messageContext.getRequest());
-				if (hasError(connection, messageContext.getRequest())) {
-					Object fallback = handleError(connection, messageContext.getRequest());
-					triggerAfterCompletion(interceptorIndex, messageContext, null);
-					return (T) fallback;
-				}
-				WebServiceMessage response = connection.receive(getMessageFactory());
-				messageContext.setResponse(response);
 			}
-			logResponse(messageContext);
-			if (messageContext.hasResponse()) {
-				if (!hasFault(connection, messageContext.getResponse())) {
-					triggerHandleResponse(interceptorIndex, messageContext);
-					T result = responseExtractor.extractData(messageContext.getResponse());
-					triggerAfterCompletion(interceptorIndex, messageContext, null);
-					return result;
-				}
-				else {
-					triggerHandleFault(interceptorIndex, messageContext);
-					Object fallback = handleFault(connection, messageContext);
-					triggerAfterCompletion(interceptorIndex, messageContext, null);
-					return (T) fallback;
-				}
+			return receiveResponse(messageContext, connection, interceptorIndex, !intercepted, responseExtractor);
+		}
+		catch (TransformerException ex) {
+			triggerAfterCompletion(interceptorIndex, messageContext, ex);
+			throw new WebServiceTransformerException("Transformation error: " + ex.getMessage(), ex);
+		}
+		catch (RuntimeException | IOException ex) {
+			// Trigger after-completion for thrown exception.
+			triggerAfterCompletion(interceptorIndex, messageContext, ex);
+			throw ex;
+		}
+	}
+
+	/**
+	 * Receives the response of a sent request, or handles the response set by an
+	 * interceptor, and extracts the result from it.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> @Nullable T receiveResponse(MessageContext messageContext, WebServiceConnection connection,
+			int interceptorIndex, boolean sent, WebServiceMessageExtractor<T> responseExtractor)
+			throws IOException, TransformerException {
+		if (!messageContext.hasResponse() && sent) {
+			if (hasError(connection, messageContext.getRequest())) {
+				Object fallback = handleError(connection, messageContext.getRequest());
+				triggerAfterCompletion(interceptorIndex, messageContext, null);
+				return (T) fallback;
+			}
+			WebServiceMessage response = connection.receive(getMessageFactory());
+			messageContext.setResponse(response);
+		}
+		logResponse(messageContext);
+		if (messageContext.hasResponse()) {
+			if (!hasFault(connection, messageContext.getResponse())) {
+				triggerHandleResponse(interceptorIndex, messageContext);
+				T result = responseExtractor.extractData(messageContext.getResponse());
+				triggerAfterCompletion(interceptorIndex, messageContext, null);
+				return result;
 			}
 			else {
+				triggerHandleFault(interceptorIndex, messageContext);
+				Object fallback = handleFault(connection, messageContext);
 				triggerAfterCompletion(interceptorIndex, messageContext, null);
-				return null;
+				return (T) fallback;
 			}
 		}
+		else {
+			triggerAfterCompletion(interceptorIndex, messageContext, null);
+			return null;
+		}
+	}
+
+	//
+	// Asynchronous methods
+	//
+
+	@Override
+	public <T> CompletableFuture<T> sendAndReceiveAsync(@Nullable WebServiceMessageCallback requestCallback,
+			WebServiceMessageExtractor<T> responseExtractor) {
+		String defaultUri = getDefaultUri();
+		Assert.notNull(defaultUri, "'defaultUri' must not be null");
+		return sendAndReceiveAsync(defaultUri, requestCallback, responseExtractor);
+	}
+
+	@Override
+	public <T> CompletableFuture<T> sendAndReceiveAsync(String uriString,
+			@Nullable WebServiceMessageCallback requestCallback, WebServiceMessageExtractor<T> responseExtractor) {
+		Assert.notNull(responseExtractor, "'responseExtractor' must not be null");
+		Assert.hasLength(uriString, "'uri' must not be empty");
+		WebServiceConnection connection;
+		try {
+			connection = createConnection(URI.create(uriString));
+		}
+		catch (IOException ex) {
+			return CompletableFuture.failedFuture(convertIOException(ex));
+		}
+		if (connection instanceof AsyncWebServiceConnection asyncConnection) {
+			WebServiceClientObservationContext observationContext = new WebServiceClientObservationContext(connection);
+			Observation observation = createObservation(observationContext).start();
+			CompletableFuture<T> future;
+			try (Observation.Scope scope = observation.openScope()) {
+				future = doSendAndReceiveAsync(asyncConnection, requestCallback, responseExtractor,
+						observationContext);
+			}
+			return closeOnCancel(future.whenComplete((result, ex) -> {
+				if (ex != null) {
+					Throwable cause = (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+					observation.error(cause);
+				}
+				stopObservation(observation, observationContext);
+				TransportUtils.closeConnection(connection);
+			}), connection);
+		}
+		else {
+			try {
+				return closeOnCancel(CompletableFuture.supplyAsync(
+						() -> sendAndReceive(connection, requestCallback, responseExtractor), this.asyncExecutor),
+						connection);
+			}
+			catch (RejectedExecutionException ex) {
+				TransportUtils.closeConnection(connection);
+				return CompletableFuture.failedFuture(ex);
+			}
+		}
+	}
+
+	/**
+	 * Closes the given connection when the given future is cancelled, which aborts an
+	 * exchange that is still in progress, as far as the transport supports it.
+	 */
+	private static <T> CompletableFuture<T> closeOnCancel(CompletableFuture<T> future,
+			WebServiceConnection connection) {
+		future.whenComplete((result, ex) -> {
+			if (ex instanceof CancellationException) {
+				TransportUtils.closeConnection(connection);
+			}
+		});
+		return future;
+	}
+
+	@Override
+	public CompletableFuture<Object> marshalSendAndReceiveAsync(Object requestPayload) {
+		return marshalSendAndReceiveAsync(requestPayload, null);
+	}
+
+	@Override
+	public CompletableFuture<Object> marshalSendAndReceiveAsync(String uri, Object requestPayload) {
+		return marshalSendAndReceiveAsync(uri, requestPayload, null);
+	}
+
+	@Override
+	public CompletableFuture<Object> marshalSendAndReceiveAsync(Object requestPayload,
+			@Nullable WebServiceMessageCallback requestCallback) {
+		String defaultUri = getDefaultUri();
+		Assert.notNull(defaultUri, "'defaultUri' must not be null");
+		return marshalSendAndReceiveAsync(defaultUri, requestPayload, requestCallback);
+	}
+
+	@Override
+	public CompletableFuture<Object> marshalSendAndReceiveAsync(String uri, Object requestPayload,
+			@Nullable WebServiceMessageCallback requestCallback) {
+		return sendAndReceiveAsync(uri, createMarshallingCallback(requestPayload, requestCallback),
+				createUnmarshallingExtractor());
+	}
+
+	/**
+	 * Asynchronous variant of
+	 * {@link #doSendAndReceive(MessageContext, WebServiceConnection, WebServiceMessageCallback, WebServiceMessageExtractor)}.
+	 * The request is prepared and written on the calling thread, the response is
+	 * processed on the thread that completes
+	 * {@link AsyncWebServiceConnection#sendAsync(WebServiceMessage)}.
+	 */
+	private <T> CompletableFuture<T> doSendAndReceiveAsync(AsyncWebServiceConnection connection,
+			@Nullable WebServiceMessageCallback requestCallback, WebServiceMessageExtractor<T> responseExtractor,
+			WebServiceClientObservationContext observationContext) {
+		TransportContext transportContext = new DefaultTransportContext(connection);
+		TransportContext previousTransportContext = TransportContextHolder.getTransportContext();
+		TransportContextHolder.setTransportContext(transportContext);
+		MessageContext messageContext = new DefaultMessageContext(getMessageFactory());
+		observationContext.setMessageContext(messageContext);
+		int interceptorIndex = -1;
+		try {
+			if (requestCallback != null) {
+				requestCallback.doWithMessage(messageContext.getRequest());
+			}
+			// Apply handleRequest of registered interceptors
+			boolean intercepted = false;
+			if (this.interceptors != null) {
+				for (int i = 0; i < this.interceptors.length; i++) {
+					interceptorIndex = i;
+					if (!this.interceptors[i].handleRequest(messageContext)) {
+						intercepted = true;
+						break;
+					}
+				}
+			}
+			if (messageContext.hasResponse() || intercepted) {
+				return CompletableFuture.completedFuture(
+						receiveResponse(messageContext, connection, interceptorIndex, false, responseExtractor));
+			}
+			traceRequest(messageContext.getRequest());
+			int lastInterceptorIndex = interceptorIndex;
+			return connection.sendAsync(messageContext.getRequest())
+				.handle((result, ex) -> completeAsync(messageContext, connection, transportContext,
+						lastInterceptorIndex, responseExtractor, ex));
+		}
+		catch (TransformerException ex) {
+			triggerAfterCompletion(interceptorIndex, messageContext, ex);
+			return CompletableFuture
+				.failedFuture(new WebServiceTransformerException("Transformation error: " + ex.getMessage(), ex));
+		}
+		catch (IOException ex) {
+			triggerAfterCompletion(interceptorIndex, messageContext, ex);
+			return CompletableFuture.failedFuture(convertIOException(ex));
+		}
+		catch (RuntimeException ex) {
+			triggerAfterCompletion(interceptorIndex, messageContext, ex);
+			return CompletableFuture.failedFuture(ex);
+		}
+		finally {
+			TransportContextHolder.setTransportContext(previousTransportContext);
+		}
+	}
+
+	private <T> @Nullable T completeAsync(MessageContext messageContext, WebServiceConnection connection,
+			TransportContext transportContext, int interceptorIndex, WebServiceMessageExtractor<T> responseExtractor,
+			@Nullable Throwable sendException) {
+		TransportContext previousTransportContext = TransportContextHolder.getTransportContext();
+		TransportContextHolder.setTransportContext(transportContext);
+		try {
+			if (sendException != null) {
+				Throwable cause = (sendException instanceof CompletionException && sendException.getCause() != null)
+						? sendException.getCause() : sendException;
+				if (cause instanceof IOException ioException) {
+					throw ioException;
+				}
+				else if (cause instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				throw new CompletionException(cause);
+			}
+			return receiveResponse(messageContext, connection, interceptorIndex, true, responseExtractor);
+		}
 		catch (TransformerException ex) {
 			triggerAfterCompletion(interceptorIndex, messageContext, ex);
 			throw new WebServiceTransformerException("Transformation error: " + ex.getMessage(), ex);
 		}
-		catch (RuntimeException | IOException ex) {
-			// Trigger after-completion for thrown exception.
+		catch (IOException ex) {
+			triggerAfterCompletion(interceptorIndex, messageContext, ex);
+			throw convertIOException(ex);
+		}
+		catch (RuntimeException ex) {
 			triggerAfterCompletion(interceptorIndex, messageContext, ex);
 			throw ex;
 		}
+		finally {
+			TransportContextHolder.setTransportContext(previousTransportContext);
+		}
 	}
 
 	/** Sends the request in the given message context over the connection. */
 	private void sendRequest(WebServiceConnection connection, WebServiceMessage request) throws IOException {
-		if (sentMessageTracingLogger.isTraceEnabled()) {
-			ByteArrayOutputStream os = new ByteArrayOutputStream();
-			request.writeTo(os);
-			sentMessageTracingLogger.trace("Sent request [" + os.toString(StandardCharsets.UTF_8) + "]");
+		traceRequest(request);
+		connection.send(request);
+	}
+
+	private void traceRequest(WebServiceMessage request) throws IOException {
+		MessageTracer messageTracer = obtainMessageTracer();
+		if (sentMessageTracingLogger.isTraceEnabled() && messageTracer.isSampled(request)) {
+			MessageTracer.CapturedContent requestContent = messageTracer.capture(request);
+			messageTracer.trace(sentMessageTracingLogger, () -> "Sent request [" + requestContent + "]");
 		}
 		else if (sentMessageTracingLogger.isDebugEnabled()) {
 			sentMessageTracingLogger.debug("Sent request [" + request + "]");
 		}
-		connection.send(request);
 	}
 
 	/**
@@ -735,14 +1114,12 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 
 	private void logResponse(MessageContext messageContext) throws IOException {
 		if (messageContext.hasResponse()) {
-			if (receivedMessageTracingLogger.isTraceEnabled()) {
-				ByteArrayOutputStream requestStream = new ByteArrayOutputStream();
-				messageContext.getRequest().writeTo(requestStream);
-				ByteArrayOutputStream responseStream = new ByteArrayOutputStream();
-				messageContext.getResponse().writeTo(responseStream);
-				receivedMessageTracingLogger
-					.trace("Received response [" + responseStream.toString(StandardCharsets.UTF_8) + "] for request ["
-							+ requestStream.toString(StandardCharsets.UTF_8) + "]");
+			MessageTracer messageTracer = obtainMessageTracer();
+			if (receivedMessageTracingLogger.isTraceEnabled() && messageTracer.isSampled(messageContext.getRequest())) {
+				MessageTracer.CapturedContent requestContent = messageTracer.capture(messageContext.getRequest());
+				MessageTracer.CapturedContent responseContent = messageTracer.capture(messageContext.getResponse());
+				messageTracer.trace(receivedMessageTracingLogger,
+						() -> "Received response [" + responseContent + "] for request [" + requestContent + "]");
 			}
 			else if (receivedMessageTracingLogger.isDebugEnabled()) {
 				receivedMessageTracingLogger.debug("Received response [" + messageContext.getResponse()
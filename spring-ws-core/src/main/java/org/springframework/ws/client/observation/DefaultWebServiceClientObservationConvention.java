@@ -0,0 +1,156 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.client.observation;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+
+import javax.xml.namespace.QName;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.StringUtils;
+import org.springframework.ws.FaultAwareWebServiceMessage;
+import org.springframework.ws.client.observation.WebServiceClientObservationDocumentation.LowCardinalityKeyNames;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.soap.SoapMessage;
+import org.springframework.ws.transport.WebServiceConnection;
+
+/**
+ * Default {@link WebServiceClientObservationConvention} implementation.
+ *
+ * @since 5.0.0
+ * @see WebServiceClientObservationDocumentation
+ */
+public class DefaultWebServiceClientObservationConvention implements WebServiceClientObservationConvention {
+
+	private static final String DEFAULT_NAME = "spring.ws.client.requests";
+
+	private static final KeyValue URI_NONE = KeyValue.of(LowCardinalityKeyNames.URI, KeyValue.NONE_VALUE);
+
+	private static final KeyValue SOAP_ACTION_NONE = KeyValue.of(LowCardinalityKeyNames.SOAP_ACTION,
+			KeyValue.NONE_VALUE);
+
+	private static final KeyValue OUTCOME_SUCCESS = KeyValue.of(LowCardinalityKeyNames.OUTCOME, "SUCCESS");
+
+	private static final KeyValue OUTCOME_FAULT = KeyValue.of(LowCardinalityKeyNames.OUTCOME, "FAULT");
+
+	private static final KeyValue OUTCOME_ERROR = KeyValue.of(LowCardinalityKeyNames.OUTCOME, "ERROR");
+
+	private static final KeyValue FAULT_CODE_NONE = KeyValue.of(LowCardinalityKeyNames.FAULT_CODE,
+			KeyValue.NONE_VALUE);
+
+	private static final KeyValue EXCEPTION_NONE = KeyValue.of(LowCardinalityKeyNames.EXCEPTION, KeyValue.NONE_VALUE);
+
+	private final String name;
+
+	/**
+	 * Create a convention with the default name {@code "spring.ws.client.requests"}.
+	 */
+	public DefaultWebServiceClientObservationConvention() {
+		this(DEFAULT_NAME);
+	}
+
+	/**
+	 * Create a convention with a custom name.
+	 * @param name the observation name
+	 */
+	public DefaultWebServiceClientObservationConvention(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public String getName() {
+		return this.name;
+	}
+
+	@Override
+	public String getContextualName(WebServiceClientObservationContext context) {
+		return "ws exchange";
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(WebServiceClientObservationContext context) {
+		return KeyValues.of(uri(context), soapAction(context), outcome(context), faultCode(context),
+				exception(context));
+	}
+
+	protected KeyValue uri(WebServiceClientObservationContext context) {
+		WebServiceConnection connection = context.getCarrier();
+		if (connection != null) {
+			try {
+				URI uri = connection.getUri();
+				if (uri != null) {
+					String value = uri.toString();
+					int queryIndex = value.indexOf('?');
+					return KeyValue.of(LowCardinalityKeyNames.URI,
+							(queryIndex != -1) ? value.substring(0, queryIndex) : value);
+				}
+			}
+			catch (URISyntaxException ex) {
+				// fall through
+			}
+		}
+		return URI_NONE;
+	}
+
+	protected KeyValue soapAction(WebServiceClientObservationContext context) {
+		MessageContext messageContext = context.getMessageContext();
+		if (messageContext != null && messageContext.getRequest() instanceof SoapMessage soapMessage) {
+			String soapAction = StringUtils.trimTrailingCharacter(
+					StringUtils.trimLeadingCharacter(soapMessage.getSoapAction(), '"'), '"');
+			if (StringUtils.hasLength(soapAction)) {
+				return KeyValue.of(LowCardinalityKeyNames.SOAP_ACTION, soapAction);
+			}
+		}
+		return SOAP_ACTION_NONE;
+	}
+
+	protected KeyValue outcome(WebServiceClientObservationContext context) {
+		if (getFault(context) != null) {
+			return OUTCOME_FAULT;
+		}
+		return (context.getError() != null) ? OUTCOME_ERROR : OUTCOME_SUCCESS;
+	}
+
+	protected KeyValue faultCode(WebServiceClientObservationContext context) {
+		FaultAwareWebServiceMessage fault = getFault(context);
+		QName faultCode = (fault != null) ? fault.getFaultCode() : null;
+		return (faultCode != null) ? KeyValue.of(LowCardinalityKeyNames.FAULT_CODE, faultCode.getLocalPart())
+				: FAULT_CODE_NONE;
+	}
+
+	protected KeyValue exception(WebServiceClientObservationContext context) {
+		Throwable error = context.getError();
+		if (error == null) {
+			return EXCEPTION_NONE;
+		}
+		String simpleName = error.getClass().getSimpleName();
+		return KeyValue.of(LowCardinalityKeyNames.EXCEPTION,
+				!simpleName.isEmpty() ? simpleName : error.getClass().getName());
+	}
+
+	private static @Nullable FaultAwareWebServiceMessage getFault(WebServiceClientObservationContext context) {
+		if (context.getResponse() instanceof FaultAwareWebServiceMessage faultMessage && faultMessage.hasFault()) {
+			return faultMessage;
+		}
+		return null;
+	}
+
+}
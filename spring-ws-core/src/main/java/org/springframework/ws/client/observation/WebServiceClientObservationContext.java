@@ -0,0 +1,73 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.client.observation;
+
+import io.micrometer.observation.transport.RequestReplySenderContext;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.transport.AbstractWebServiceConnection;
+import org.springframework.ws.transport.WebServiceConnection;
+
+/**
+ * Context that holds information for metadata collection during a Web service exchange
+ * performed by a {@link org.springframework.ws.client.core.WebServiceTemplate}.
+ * <p>
+ * Trace context is propagated as
+ * {@linkplain AbstractWebServiceConnection#addTransportHeader(String, String) transport
+ * headers} of the request.
+ *
+ * @since 5.0.0
+ */
+public class WebServiceClientObservationContext
+		extends RequestReplySenderContext<WebServiceConnection, WebServiceMessage> {
+
+	private @Nullable MessageContext messageContext;
+
+	/**
+	 * Create a new observation context.
+	 * @param connection the connection used for the exchange
+	 */
+	public WebServiceClientObservationContext(WebServiceConnection connection) {
+		super(WebServiceClientObservationContext::addTransportHeader);
+		Assert.notNull(connection, "connection must not be null");
+		setCarrier(connection);
+	}
+
+	private static void addTransportHeader(@Nullable WebServiceConnection connection, String name, String value) {
+		if (connection instanceof AbstractWebServiceConnection abstractConnection) {
+			abstractConnection.addTransportHeader(name, value);
+		}
+	}
+
+	/**
+	 * Returns the message context of the exchange, if it has been created.
+	 */
+	public @Nullable MessageContext getMessageContext() {
+		return this.messageContext;
+	}
+
+	/**
+	 * Sets the message context of the exchange.
+	 */
+	public void setMessageContext(@Nullable MessageContext messageContext) {
+		this.messageContext = messageContext;
+	}
+
+}
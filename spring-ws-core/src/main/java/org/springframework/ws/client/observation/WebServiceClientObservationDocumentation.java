@@ -0,0 +1,111 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.client.observation;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * Documented {@link io.micrometer.common.KeyValue KeyValues} for the observations of
+ * Web service client exchanges.
+ * <p>
+ * This class is used by automated tools to document KeyValues attached to the
+ * observations.
+ *
+ * @since 5.0.0
+ * @see DefaultWebServiceClientObservationConvention
+ */
+public enum WebServiceClientObservationDocumentation implements ObservationDocumentation {
+
+	/**
+	 * Web service exchanges performed by a client.
+	 */
+	WEB_SERVICE_CLIENT_EXCHANGES {
+		@Override
+		public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+			return DefaultWebServiceClientObservationConvention.class;
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return LowCardinalityKeyNames.values();
+		}
+
+	};
+
+	public enum LowCardinalityKeyNames implements KeyName {
+
+		/**
+		 * URI of the connection, without query, {@value io.micrometer.common.KeyValue#NONE_VALUE}
+		 * if it is not known.
+		 */
+		URI {
+			@Override
+			public String asString() {
+				return "uri";
+			}
+		},
+
+		/**
+		 * SOAP action of the request, {@value io.micrometer.common.KeyValue#NONE_VALUE} if
+		 * the request has none.
+		 */
+		SOAP_ACTION {
+			@Override
+			public String asString() {
+				return "soap.action";
+			}
+		},
+
+		/**
+		 * Outcome of the exchange: {@code "SUCCESS"}, {@code "FAULT"} if the response is a
+		 * fault, or {@code "ERROR"} if the exchange failed.
+		 */
+		OUTCOME {
+			@Override
+			public String asString() {
+				return "outcome";
+			}
+		},
+
+		/**
+		 * Local part of the fault code of the response,
+		 * {@value io.micrometer.common.KeyValue#NONE_VALUE} if the response is not a fault.
+		 */
+		FAULT_CODE {
+			@Override
+			public String asString() {
+				return "fault.code";
+			}
+		},
+
+		/**
+		 * Name of the exception thrown during the exchange,
+		 * {@value io.micrometer.common.KeyValue#NONE_VALUE} if no exception was thrown.
+		 */
+		EXCEPTION {
+			@Override
+			public String asString() {
+				return "exception";
+			}
+		}
+
+	}
+
+}
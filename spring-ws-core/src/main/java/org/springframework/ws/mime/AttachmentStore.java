@@ -0,0 +1,296 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.mime;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.activation.DataHandler;
+import jakarta.activation.DataSource;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Store for attachment content. Content up to a given threshold is kept in memory, while
+ * larger content is spilled to a temporary file. Spilled content is exposed through a
+ * {@link DataHandler} that reads the file through a memory mapping, so that it does not
+ * take up heap space, no matter how large the attachment is.
+ * <p>
+ * A store is meant to hold the attachments of a single message, and should be
+ * {@linkplain #close() closed} when that message is no longer used, typically when the
+ * connection it was received on is closed. Files that are still present when their data
+ * handler is garbage collected are deleted as well. Files that cannot be deleted, for
+ * instance because they are still mapped on a platform that does not allow deleting
+ * mapped files, are deleted when the virtual machine exits.
+ *
+ * @since 5.0.0
+ * @see org.springframework.ws.transport.TransportInputStream#registerResource(Closeable)
+ */
+public class AttachmentStore implements Closeable {
+
+	/** The default threshold, in bytes. */
+	public static final int DEFAULT_THRESHOLD = 4096;
+
+	private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+	private static final Log logger = LogFactory.getLog(AttachmentStore.class);
+
+	private static final Cleaner cleaner = Cleaner.create();
+
+	private final File directory;
+
+	private final int threshold;
+
+	private final List<Cleaner.Cleanable> files = new ArrayList<>();
+
+	/**
+	 * Create a new {@code AttachmentStore} that spills content larger than the
+	 * {@linkplain #DEFAULT_THRESHOLD default threshold} to the temporary directory of the
+	 * operating system.
+	 */
+	public AttachmentStore() {
+		this(new File(System.getProperty("java.io.tmpdir")), DEFAULT_THRESHOLD);
+	}
+
+	/**
+	 * Create a new {@code AttachmentStore} with the given directory and threshold.
+	 * @param directory the directory to store spilled content in
+	 * @param threshold the size in bytes above which content is spilled to disk
+	 */
+	public AttachmentStore(File directory, int threshold) {
+		Assert.notNull(directory, "'directory' must not be null");
+		Assert.isTrue(threshold >= 0, "'threshold' must not be negative");
+		this.directory = directory;
+		this.threshold = threshold;
+	}
+
+	/**
+	 * Stores the content of the given stream, and returns a {@code DataHandler} for it.
+	 * The stream is read until its end, but not closed.
+	 * @param inputStream the content to store
+	 * @param contentType the content type, or {@code null} for
+	 * {@code application/octet-stream}
+	 * @return a data handler for the stored content
+	 * @throws IOException in case of I/O errors
+	 */
+	public DataHandler store(InputStream inputStream, @Nullable String contentType) throws IOException {
+		Assert.notNull(inputStream, "'inputStream' must not be null");
+		String type = (contentType != null) ? contentType : DEFAULT_CONTENT_TYPE;
+		byte[] head = inputStream.readNBytes(this.threshold + 1);
+		if (head.length <= this.threshold) {
+			return new DataHandler(new ByteArrayDataSource(head, type));
+		}
+		Path file = Files.createTempFile(this.directory.toPath(), "attachment", ".bin");
+		try (OutputStream outputStream = Files.newOutputStream(file)) {
+			outputStream.write(head);
+			inputStream.transferTo(outputStream);
+		}
+		catch (IOException ex) {
+			Files.deleteIfExists(file);
+			throw ex;
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Stored attachment of type [" + type + "] in [" + file + "]");
+		}
+		MappedFileDataSource dataSource = new MappedFileDataSource(file, type);
+		Cleaner.Cleanable cleanable = cleaner.register(dataSource, new FileDeleter(file));
+		synchronized (this.files) {
+			this.files.add(cleanable);
+		}
+		return new DataHandler(dataSource);
+	}
+
+	/**
+	 * Deletes all files created by this store. Data handlers returned by
+	 * {@link #store(InputStream, String)} can no longer be read afterwards, if their
+	 * content was spilled to disk.
+	 */
+	@Override
+	public void close() {
+		synchronized (this.files) {
+			for (Cleaner.Cleanable file : this.files) {
+				file.clean();
+			}
+			this.files.clear();
+		}
+	}
+
+	/**
+	 * Deletes a spilled file. Does not refer to the data source, so that it can be used as
+	 * {@link Cleaner} action.
+	 */
+	private static final class FileDeleter implements Runnable {
+
+		private final Path file;
+
+		FileDeleter(Path file) {
+			this.file = file;
+		}
+
+		@Override
+		public void run() {
+			try {
+				Files.deleteIfExists(this.file);
+			}
+			catch (IOException ex) {
+				logger.warn("Could not delete attachment file [" + this.file + "], deleting it on exit", ex);
+				this.file.toFile().deleteOnExit();
+			}
+		}
+
+	}
+
+	/**
+	 * Activation framework {@code DataSource} for content kept in memory.
+	 */
+	private static final class ByteArrayDataSource implements DataSource {
+
+		private final byte[] content;
+
+		private final String contentType;
+
+		ByteArrayDataSource(byte[] content, String contentType) {
+			this.content = content;
+			this.contentType = contentType;
+		}
+
+		@Override
+		public InputStream getInputStream() {
+			return new ByteArrayInputStream(this.content);
+		}
+
+		@Override
+		public OutputStream getOutputStream() {
+			throw new UnsupportedOperationException("Read-only jakarta.activation.DataSource");
+		}
+
+		@Override
+		public String getContentType() {
+			return this.contentType;
+		}
+
+		@Override
+		public String getName() {
+			return "ByteArrayDataSource";
+		}
+
+	}
+
+	/**
+	 * Activation framework {@code DataSource} that reads a file through a memory mapping.
+	 * Files that are too large to be mapped in one piece are read through a regular
+	 * stream.
+	 */
+	private static final class MappedFileDataSource implements DataSource {
+
+		private final Path file;
+
+		private final String contentType;
+
+		MappedFileDataSource(Path file, String contentType) {
+			this.file = file;
+			this.contentType = contentType;
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+				long size = channel.size();
+				if (size > Integer.MAX_VALUE) {
+					return Files.newInputStream(this.file);
+				}
+				return new ByteBufferInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+			}
+		}
+
+		@Override
+		public OutputStream getOutputStream() {
+			throw new UnsupportedOperationException("Read-only jakarta.activation.DataSource");
+		}
+
+		@Override
+		public String getContentType() {
+			return this.contentType;
+		}
+
+		@Override
+		public String getName() {
+			return this.file.getFileName().toString();
+		}
+
+	}
+
+	/**
+	 * {@code InputStream} that reads from a {@link MappedByteBuffer}.
+	 */
+	private static final class ByteBufferInputStream extends InputStream {
+
+		private final ByteBuffer buffer;
+
+		ByteBufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return this.buffer.hasRemaining() ? (this.buffer.get() & 0xFF) : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if (len == 0) {
+				return 0;
+			}
+			if (!this.buffer.hasRemaining()) {
+				return -1;
+			}
+			int count = Math.min(len, this.buffer.remaining());
+			this.buffer.get(b, off, count);
+			return count;
+		}
+
+		@Override
+		public long skip(long n) {
+			int count = (int) Math.max(0, Math.min(n, this.buffer.remaining()));
+			this.buffer.position(this.buffer.position() + count);
+			return count;
+		}
+
+		@Override
+		public int available() {
+			return this.buffer.remaining();
+		}
+
+	}
+
+}
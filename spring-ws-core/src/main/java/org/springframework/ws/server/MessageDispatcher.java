@@ -16,13 +16,17 @@
 
 package org.springframework.ws.server;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import javax.xml.namespace.QName;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
@@ -33,6 +37,7 @@ import org.springframework.beans.factory.BeanNameAware;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.OrderComparator;
+import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
 import org.springframework.web.servlet.DispatcherServlet;
@@ -44,9 +49,19 @@ import org.springframework.ws.server.endpoint.MessageEndpoint;
 import org.springframework.ws.server.endpoint.PayloadEndpoint;
 import org.springframework.ws.server.endpoint.adapter.MessageEndpointAdapter;
 import org.springframework.ws.server.endpoint.adapter.PayloadEndpointAdapter;
+import org.springframework.ws.server.endpoint.support.PayloadRootUtils;
+import org.springframework.ws.server.observation.DefaultWebServiceServerObservationConvention;
+import org.springframework.ws.server.observation.WebServiceServerObservationContext;
+import org.springframework.ws.server.observation.WebServiceServerObservationConvention;
+import org.springframework.ws.server.observation.WebServiceServerObservationDocumentation;
 import org.springframework.ws.soap.server.SoapMessageDispatcher;
 import org.springframework.ws.support.DefaultStrategiesHelper;
+import org.springframework.ws.support.MessageTracer;
+import org.springframework.ws.transport.WebServiceConnection;
 import org.springframework.ws.transport.WebServiceMessageReceiver;
+import org.springframework.ws.transport.context.TransportContext;
+import org.springframework.ws.transport.context.TransportContextHolder;
+import org.springframework.xml.transform.TransformerHelper;
 
 /**
  * Central dispatcher for use within Spring-WS, dispatching Web service messages to
@@ -69,6 +84,13 @@ import org.springframework.ws.transport.WebServiceMessageReceiver;
  * {@link EndpointExceptionResolver}, for example mapping certain exceptions to SOAP
  * Faults. Default is none. Additional exception resolvers can be added through the
  * {@link #setEndpointExceptionResolvers(List) endpointExceptionResolvers} property.</li>
+ * <li>It can cache the outcome of endpoint and adapter lookups, so that the registered
+ * mappings and adapters are only consulted once per distinct request key. This is
+ * disabled by default, and can be enabled through the
+ * {@link #setEndpointLookupCaching(boolean) endpointLookupCaching} property.</li>
+ * <li>It can record an {@link Observation} for every dispatched request, when an
+ * {@link #setObservationRegistry(ObservationRegistry) observationRegistry} is
+ * configured.</li>
  * </ul>
  *
  * @author Arjen Poutsma
@@ -101,8 +123,29 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 	protected static final Log receivedMessageTracingLogger = LogFactory
 		.getLog(MessageDispatcher.MESSAGE_TRACING_LOG_CATEGORY + ".received");
 
+	/** Default maximum number of cached endpoint lookups. */
+	public static final int DEFAULT_ENDPOINT_LOOKUP_CACHE_LIMIT = 256;
+
+	private static final WebServiceServerObservationConvention DEFAULT_OBSERVATION_CONVENTION = new DefaultWebServiceServerObservationConvention();
+
 	private final DefaultStrategiesHelper defaultStrategiesHelper;
 
+	private final TransformerHelper transformerHelper = new TransformerHelper();
+
+	private final Map<Object, EndpointInvocationChain> endpointLookupCache = new ConcurrentHashMap<>();
+
+	private final Map<Object, EndpointAdapter> endpointAdapterCache = new ConcurrentHashMap<>();
+
+	private boolean endpointLookupCaching = false;
+
+	private int endpointLookupCacheLimit = DEFAULT_ENDPOINT_LOOKUP_CACHE_LIMIT;
+
+	private volatile @Nullable MessageTracer messageTracer;
+
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+	private @Nullable WebServiceServerObservationConvention observationConvention;
+
 	/** The registered bean name for this dispatcher. */
 	@SuppressWarnings("NullAway.Init")
 	private String beanName;
@@ -132,6 +175,7 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 	/** Sets the {@code EndpointAdapter}s to use by this {@code MessageDispatcher}. */
 	public void setEndpointAdapters(List<EndpointAdapter> endpointAdapters) {
 		this.endpointAdapters = endpointAdapters;
+		clearEndpointLookupCache();
 	}
 
 	/**
@@ -158,6 +202,99 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 	/** Sets the {@code EndpointMapping}s to use by this {@code MessageDispatcher}. */
 	public void setEndpointMappings(List<EndpointMapping> endpointMappings) {
 		this.endpointMappings = endpointMappings;
+		clearEndpointLookupCache();
+	}
+
+	/**
+	 * Indicates whether endpoint lookups are cached.
+	 * @since 5.0.0
+	 */
+	public boolean isEndpointLookupCaching() {
+		return this.endpointLookupCaching;
+	}
+
+	/**
+	 * Sets whether the resolved {@code EndpointInvocationChain} and
+	 * {@code EndpointAdapter} should be cached per
+	 * {@linkplain #getEndpointLookupKey(MessageContext) lookup key}. When enabled, the
+	 * endpoint mappings are only consulted for the first request of each distinct key.
+	 * <p>
+	 * Only enable this when all registered endpoint mappings (and any
+	 * {@link SmartEndpointInterceptor}) base their decision solely on the information
+	 * captured in the lookup key, as is the case for the annotation-driven mappings.
+	 * Mappings that inspect the payload content, such as XPath-based mappings, should not
+	 * be combined with caching. Defaults to {@code false}.
+	 * @since 5.0.0
+	 */
+	public void setEndpointLookupCaching(boolean endpointLookupCaching) {
+		this.endpointLookupCaching = endpointLookupCaching;
+		clearEndpointLookupCache();
+	}
+
+	/**
+	 * Sets the maximum number of endpoint lookups to cache. Once the limit is reached,
+	 * lookups for new keys are resolved but no longer cached. Defaults to
+	 * {@value #DEFAULT_ENDPOINT_LOOKUP_CACHE_LIMIT}.
+	 * @since 5.0.0
+	 */
+	public void setEndpointLookupCacheLimit(int endpointLookupCacheLimit) {
+		this.endpointLookupCacheLimit = endpointLookupCacheLimit;
+	}
+
+	/**
+	 * Removes all cached endpoint lookups. Invoked when the application context is
+	 * (re)set, or when the endpoint mappings or adapters change.
+	 * @since 5.0.0
+	 */
+	public void clearEndpointLookupCache() {
+		this.endpointLookupCache.clear();
+		this.endpointAdapterCache.clear();
+	}
+
+	/**
+	 * Sets the {@link MessageTracer} that writes messages to the
+	 * {@linkplain #MESSAGE_TRACING_LOG_CATEGORY message tracing log} at trace level. By
+	 * default, all messages are traced in full, on the calling thread.
+	 * @since 5.0.0
+	 */
+	public void setMessageTracer(MessageTracer messageTracer) {
+		Assert.notNull(messageTracer, "'messageTracer' must not be null");
+		this.messageTracer = messageTracer;
+	}
+
+	/**
+	 * Returns the {@link MessageTracer}, creating the default one on first use. The
+	 * default tracer writes synchronously, so it never starts a background thread.
+	 */
+	private MessageTracer obtainMessageTracer() {
+		MessageTracer messageTracer = this.messageTracer;
+		if (messageTracer == null) {
+			messageTracer = new MessageTracer();
+			this.messageTracer = messageTracer;
+		}
+		return messageTracer;
+	}
+
+	/**
+	 * Sets the {@link ObservationRegistry} used to record an observation for every
+	 * dispatched request. If not set, a unique {@code ObservationRegistry} bean in the
+	 * application context is used. Otherwise, the default is
+	 * {@link ObservationRegistry#NOOP}, which records nothing.
+	 * @since 5.0.0
+	 * @see WebServiceServerObservationDocumentation
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+		Assert.notNull(observationRegistry, "observationRegistry must not be null");
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * Sets a custom {@link WebServiceServerObservationConvention} to use instead of the
+	 * {@link DefaultWebServiceServerObservationConvention}.
+	 * @since 5.0.0
+	 */
+	public void setObservationConvention(@Nullable WebServiceServerObservationConvention observationConvention) {
+		this.observationConvention = observationConvention;
 	}
 
 	@Override
@@ -170,18 +307,21 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 		initEndpointAdapters(applicationContext);
 		initEndpointExceptionResolvers(applicationContext);
 		initEndpointMappings(applicationContext);
+		initObservationRegistry(applicationContext);
+		clearEndpointLookupCache();
 	}
 
 	@Override
 	public void receive(MessageContext messageContext) throws Exception {
 		// Let's keep a reference to the request content as it came in, it might be
 		// changed by interceptors in dispatch()
-		String requestContent = "";
-		if (receivedMessageTracingLogger.isTraceEnabled() || sentMessageTracingLogger.isTraceEnabled()) {
-			requestContent = getMessageContent(messageContext.getRequest());
-		}
-		if (receivedMessageTracingLogger.isTraceEnabled()) {
-			receivedMessageTracingLogger.trace("Received request [" + requestContent + "]");
+		MessageTracer messageTracer = obtainMessageTracer();
+		boolean traced = (receivedMessageTracingLogger.isTraceEnabled() || sentMessageTracingLogger.isTraceEnabled())
+				&& messageTracer.isSampled(messageContext.getRequest());
+		MessageTracer.CapturedContent requestContent = traced ? messageTracer.capture(messageContext.getRequest())
+				: null;
+		if (requestContent != null && receivedMessageTracingLogger.isTraceEnabled()) {
+			messageTracer.trace(receivedMessageTracingLogger, () -> "Received request [" + requestContent + "]");
 		}
 		else if (receivedMessageTracingLogger.isDebugEnabled()) {
 			receivedMessageTracingLogger.debug("Received request [" + messageContext.getRequest() + "]");
@@ -189,10 +329,10 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 		dispatch(messageContext);
 		if (messageContext.hasResponse()) {
 			WebServiceMessage response = messageContext.getResponse();
-			if (sentMessageTracingLogger.isTraceEnabled()) {
-				String responseContent = getMessageContent(response);
-				sentMessageTracingLogger
-					.trace("Sent response [" + responseContent + "] for request [" + requestContent + "]");
+			if (requestContent != null && sentMessageTracingLogger.isTraceEnabled()) {
+				MessageTracer.CapturedContent responseContent = messageTracer.capture(response);
+				messageTracer.trace(sentMessageTracingLogger,
+						() -> "Sent response [" + responseContent + "] for request [" + requestContent + "]");
 			}
 			else if (sentMessageTracingLogger.isDebugEnabled()) {
 				sentMessageTracingLogger
@@ -205,12 +345,6 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 		}
 	}
 
-	private String getMessageContent(WebServiceMessage message) throws IOException {
-		ByteArrayOutputStream bos = new ByteArrayOutputStream();
-		message.writeTo(bos);
-		return bos.toString(StandardCharsets.UTF_8);
-	}
-
 	/**
 	 * Dispatches the request in the given MessageContext according to the configuration.
 	 * @param messageContext the message context
@@ -218,6 +352,35 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 	 * cannot be resolved for the incoming message
 	 */
 	protected final void dispatch(MessageContext messageContext) throws Exception {
+		if (this.observationRegistry.isNoop()) {
+			doDispatch(messageContext, null);
+			return;
+		}
+		WebServiceServerObservationContext observationContext = new WebServiceServerObservationContext(messageContext,
+				getConnection());
+		Observation observation = WebServiceServerObservationDocumentation.WEB_SERVICE_SERVER_REQUESTS
+			.observation(this.observationConvention, DEFAULT_OBSERVATION_CONVENTION, () -> observationContext,
+					this.observationRegistry)
+			.start();
+		try (Observation.Scope scope = observation.openScope()) {
+			observationContext.setPayloadRootQName(PayloadRootUtils
+				.getPayloadRootQName(messageContext.getRequest().getPayloadSource(), this.transformerHelper));
+			doDispatch(messageContext, observationContext);
+		}
+		catch (Exception ex) {
+			observation.error(ex);
+			throw ex;
+		}
+		finally {
+			if (messageContext.hasResponse()) {
+				observationContext.setResponse(messageContext.getResponse());
+			}
+			observation.stop();
+		}
+	}
+
+	private void doDispatch(MessageContext messageContext,
+			@Nullable WebServiceServerObservationContext observationContext) throws Exception {
 		EndpointInvocationChain mappedEndpoint = null;
 		int interceptorIndex = -1;
 		try {
@@ -227,6 +390,9 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 				if (mappedEndpoint == null || mappedEndpoint.getEndpoint() == null) {
 					throw new NoEndpointFoundException(messageContext.getRequest());
 				}
+				if (observationContext != null) {
+					observationContext.setEndpoint(mappedEndpoint.getEndpoint());
+				}
 				if (!handleRequest(mappedEndpoint, messageContext)) {
 					return;
 				}
@@ -257,6 +423,9 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 				throw ex;
 			}
 			catch (Exception ex) {
+				if (observationContext != null) {
+					observationContext.setError(ex);
+				}
 				Object endpoint = (mappedEndpoint != null) ? mappedEndpoint.getEndpoint() : null;
 				processEndpointException(messageContext, endpoint, ex);
 				triggerHandleResponse(messageContext, mappedEndpoint, interceptorIndex);
@@ -275,10 +444,36 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 
 	/**
 	 * Returns the endpoint for this request. All endpoint mappings are tried, in order.
+	 * <p>
+	 * If {@linkplain #setEndpointLookupCaching(boolean) endpoint lookup caching} is
+	 * enabled, a previously resolved chain for the same
+	 * {@linkplain #getEndpointLookupKey(MessageContext) lookup key} is returned instead.
 	 * @return the {@code EndpointInvocationChain}, or {@code null} if no endpoint could
 	 * be found.
 	 */
 	protected @Nullable EndpointInvocationChain getEndpoint(MessageContext messageContext) throws Exception {
+		if (!this.endpointLookupCaching) {
+			return lookupEndpoint(messageContext);
+		}
+		Object key = getEndpointLookupKey(messageContext);
+		if (key == null) {
+			return lookupEndpoint(messageContext);
+		}
+		EndpointInvocationChain endpoint = this.endpointLookupCache.get(key);
+		if (endpoint != null) {
+			if (this.logger.isTraceEnabled()) {
+				this.logger.trace("Using cached endpoint [" + endpoint.getEndpoint() + "] for key " + key);
+			}
+			return endpoint;
+		}
+		endpoint = lookupEndpoint(messageContext);
+		if (endpoint != null && this.endpointLookupCache.size() < this.endpointLookupCacheLimit) {
+			this.endpointLookupCache.put(key, endpoint);
+		}
+		return endpoint;
+	}
+
+	private @Nullable EndpointInvocationChain lookupEndpoint(MessageContext messageContext) throws Exception {
 		for (EndpointMapping endpointMapping : getEndpointMappings()) {
 			EndpointInvocationChain endpoint = endpointMapping.getEndpoint(messageContext);
 			if (endpoint != null) {
@@ -295,14 +490,58 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 		return null;
 	}
 
+	/**
+	 * Returns the key under which the endpoint lookup for the given message context is
+	 * cached, if {@linkplain #setEndpointLookupCaching(boolean) enabled}. Two requests
+	 * with equal keys are expected to map to the same endpoint.
+	 * <p>
+	 * The default implementation combines the qualified name of the payload root element
+	 * with the URI of the current transport connection. Subclasses can add
+	 * protocol-specific information, or return {@code null} to bypass the cache for a
+	 * particular request.
+	 * @param messageContext the message context
+	 * @return the lookup key, or {@code null} if the lookup should not be cached
+	 * @since 5.0.0
+	 */
+	protected @Nullable Object getEndpointLookupKey(MessageContext messageContext) throws Exception {
+		QName payloadRootQName = PayloadRootUtils.getPayloadRootQName(messageContext.getRequest().getPayloadSource(),
+				this.transformerHelper);
+		return Arrays.asList(payloadRootQName, getConnectionUri());
+	}
+
+	private @Nullable URI getConnectionUri() throws Exception {
+		WebServiceConnection connection = getConnection();
+		return (connection != null) ? connection.getUri() : null;
+	}
+
+	private static @Nullable WebServiceConnection getConnection() {
+		TransportContext transportContext = TransportContextHolder.getTransportContext();
+		return (transportContext != null) ? transportContext.getConnection() : null;
+	}
+
 	/**
 	 * Returns the {@code EndpointAdapter} for the given endpoint.
 	 * @param endpoint the endpoint to find an adapter for
 	 * @return the adapter
 	 */
 	protected EndpointAdapter getEndpointAdapter(Object endpoint) {
+		if (this.endpointLookupCaching) {
+			EndpointAdapter endpointAdapter = this.endpointAdapterCache.get(endpoint);
+			if (endpointAdapter == null) {
+				endpointAdapter = lookupEndpointAdapter(endpoint);
+				if (this.endpointAdapterCache.size() < this.endpointLookupCacheLimit) {
+					this.endpointAdapterCache.put(endpoint, endpointAdapter);
+				}
+			}
+			return endpointAdapter;
+		}
+		return lookupEndpointAdapter(endpoint);
+	}
+
+	private EndpointAdapter lookupEndpointAdapter(Object endpoint) {
+		boolean debugEnabled = this.logger.isDebugEnabled();
 		for (EndpointAdapter endpointAdapter : getEndpointAdapters()) {
-			if (this.logger.isDebugEnabled()) {
+			if (debugEnabled) {
 				this.logger.debug("Testing endpoint adapter [" + endpointAdapter + "]");
 			}
 			if (endpointAdapter.supports(endpoint)) {
@@ -486,4 +725,15 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 		}
 	}
 
+	/**
+	 * Initialize the {@link ObservationRegistry} used by this dispatcher. If none was set
+	 * explicitly, a unique {@code ObservationRegistry} bean is used if available.
+	 */
+	private void initObservationRegistry(ApplicationContext applicationContext) {
+		if (this.observationRegistry.isNoop()) {
+			this.observationRegistry = applicationContext.getBeanProvider(ObservationRegistry.class)
+				.getIfUnique(() -> ObservationRegistry.NOOP);
+		}
+	}
+
 }
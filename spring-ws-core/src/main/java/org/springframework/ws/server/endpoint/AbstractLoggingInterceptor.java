@@ -17,6 +17,8 @@
 package org.springframework.ws.server.endpoint;
 
 import java.io.StringWriter;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Source;
@@ -55,6 +57,8 @@ public abstract class AbstractLoggingInterceptor extends TransformerObjectSuppor
 
 	private boolean logResponse = true;
 
+	private final Queue<Transformer> transformers = new ConcurrentLinkedQueue<>();
+
 	/** Indicates whether the request should be logged. Default is {@code true}. */
 	public final void setLogRequest(boolean logRequest) {
 		this.logRequest = logRequest;
@@ -149,9 +153,13 @@ public abstract class AbstractLoggingInterceptor extends TransformerObjectSuppor
 	 */
 	protected void logMessageSource(String logMessage, @Nullable Source source) throws TransformerException {
 		if (source != null) {
-			Transformer transformer = createNonIndentingTransformer();
+			Transformer transformer = this.transformers.poll();
+			if (transformer == null) {
+				transformer = createNonIndentingTransformer();
+			}
 			StringWriter writer = new StringWriter();
 			transformer.transform(source, new StreamResult(writer));
+			this.transformers.offer(transformer);
 			String message = logMessage + writer;
 			logMessage(message);
 		}
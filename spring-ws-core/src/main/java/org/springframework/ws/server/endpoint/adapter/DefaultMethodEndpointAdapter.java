@@ -16,9 +16,18 @@
 
 package org.springframework.ws.server.endpoint.adapter;
 
+import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.jspecify.annotations.Nullable;
 
@@ -26,6 +35,10 @@ import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
 import org.springframework.ws.context.MessageContext;
@@ -47,6 +60,15 @@ import org.springframework.ws.server.endpoint.adapter.method.jaxb.XmlRootElement
  * Default extension of {@link AbstractMethodEndpointAdapter} with support for pluggable
  * {@linkplain MethodArgumentResolver argument resolvers} and
  * {@linkplain MethodReturnValueHandler return value handlers}.
+ * <p>
+ * The resolver or handler that supports a given {@link MethodParameter} is determined
+ * once, and cached for subsequent invocations of the same endpoint method.
+ * <p>
+ * Endpoint methods may also return a {@link CompletionStage}, such as a
+ * {@link CompletableFuture}, or a single-value reactive type known to the
+ * {@link ReactiveAdapterRegistry}, such as a {@code Mono}. The return value handlers are
+ * then selected for the type of the eventual result, and the response is created once
+ * that result is available. A {@code Void} result produces no response payload.
  *
  * @author Arjen Poutsma
  * @since 2.0
@@ -54,6 +76,13 @@ import org.springframework.ws.server.endpoint.adapter.method.jaxb.XmlRootElement
 public class DefaultMethodEndpointAdapter extends AbstractMethodEndpointAdapter
 		implements BeanClassLoaderAware, InitializingBean {
 
+	/**
+	 * Default maximum time to wait for the result of an asynchronous endpoint method.
+	 * @since 5.0.0
+	 * @see #setAsyncResultTimeout(Duration)
+	 */
+	public static final Duration DEFAULT_ASYNC_RESULT_TIMEOUT = Duration.ofSeconds(30);
+
 	private static final String DOM4J_CLASS_NAME = "org.dom4j.Element";
 
 	private static final String JAXB2_CLASS_NAME = "jakarta.xml.bind.Binder";
@@ -68,6 +97,9 @@ public class DefaultMethodEndpointAdapter extends AbstractMethodEndpointAdapter
 
 	private static final String SOAP_HEADER_ELEMENT_ARGUMENT_RESOLVER_CLASS_NAME = "org.springframework.ws.soap.server.endpoint.adapter.method.SoapHeaderElementMethodArgumentResolver";
 
+	private static final boolean reactiveStreamsPresent = ClassUtils.isPresent("org.reactivestreams.Publisher",
+			DefaultMethodEndpointAdapter.class.getClassLoader());
+
 	@SuppressWarnings("NullAway.Init")
 	private List<MethodArgumentResolver> methodArgumentResolvers;
 
@@ -76,6 +108,15 @@ public class DefaultMethodEndpointAdapter extends AbstractMethodEndpointAdapter
 
 	private @Nullable ClassLoader classLoader;
 
+	private final Map<MethodParameter, MethodArgumentResolver> argumentResolverCache = new ConcurrentHashMap<>(256);
+
+	private final Map<MethodParameter, MethodReturnValueHandler> returnValueHandlerCache = new ConcurrentHashMap<>(
+			256);
+
+	private final Map<MethodParameter, MethodParameter> returnTypeCache = new ConcurrentHashMap<>(256);
+
+	private @Nullable Duration asyncResultTimeout = DEFAULT_ASYNC_RESULT_TIMEOUT;
+
 	/**
 	 * Create a new instance with default method argument and return value resolvers.
 	 * @return a new instance with defaults configured
@@ -98,6 +139,7 @@ public class DefaultMethodEndpointAdapter extends AbstractMethodEndpointAdapter
 	 */
 	public void setMethodArgumentResolvers(List<MethodArgumentResolver> methodArgumentResolvers) {
 		this.methodArgumentResolvers = methodArgumentResolvers;
+		this.argumentResolverCache.clear();
 	}
 
 	/**
@@ -112,6 +154,27 @@ public class DefaultMethodEndpointAdapter extends AbstractMethodEndpointAdapter
 	 */
 	public void setMethodReturnValueHandlers(List<MethodReturnValueHandler> methodReturnValueHandlers) {
 		this.methodReturnValueHandlers = methodReturnValueHandlers;
+		this.returnValueHandlerCache.clear();
+	}
+
+	/**
+	 * Sets the maximum time to wait for the result of an endpoint method that returns a
+	 * {@link CompletionStage} or a reactive type. When the timeout elapses, the pending
+	 * result is cancelled and the invocation fails with a {@link TimeoutException}, which
+	 * is handled by the endpoint exception resolvers like any other endpoint exception.
+	 * The pending result is cancelled as well when the waiting thread is interrupted.
+	 * <p>
+	 * Defaults to {@link #DEFAULT_ASYNC_RESULT_TIMEOUT}, which matches the default
+	 * {@linkplain org.springframework.ws.transport.http.WebServiceMessageReceiverHandlerAdapter#setAsyncTimeout(long)
+	 * timeout of asynchronously handled HTTP requests}. A value of {@code null} waits
+	 * until the result is available.
+	 * @param asyncResultTimeout the timeout, or {@code null} to wait indefinitely
+	 * @since 5.0.0
+	 */
+	public void setAsyncResultTimeout(@Nullable Duration asyncResultTimeout) {
+		Assert.isTrue(asyncResultTimeout == null || !asyncResultTimeout.isNegative(),
+				"asyncResultTimeout must not be negative");
+		this.asyncResultTimeout = asyncResultTimeout;
 	}
 
 	private ClassLoader getClassLoader() {
@@ -214,39 +277,100 @@ public class DefaultMethodEndpointAdapter extends AbstractMethodEndpointAdapter
 	@Override
 	protected boolean supportsInternal(MethodEndpoint methodEndpoint) {
 		return supportsParameters(methodEndpoint.getMethodParameters())
-				&& supportsReturnType(methodEndpoint.getReturnType());
+				&& supportsReturnType(getReturnType(methodEndpoint));
 	}
 
 	private boolean supportsParameters(MethodParameter[] methodParameters) {
 		for (MethodParameter methodParameter : methodParameters) {
-			boolean supported = false;
+			if (getMethodArgumentResolver(methodParameter) == null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean supportsReturnType(MethodParameter methodReturnType) {
+		if (isVoid(methodReturnType)) {
+			return true;
+		}
+		return getMethodReturnValueHandler(methodReturnType) != null;
+	}
+
+	private static boolean isVoid(MethodParameter methodReturnType) {
+		Class<?> type = methodReturnType.getParameterType();
+		return Void.TYPE.equals(type)
+				|| (methodReturnType instanceof AsyncResultMethodParameter && Void.class.equals(type));
+	}
+
+	/**
+	 * Returns the return type that the return value handlers should support for the given
+	 * endpoint: the declared return type, or the result type of an asynchronous return
+	 * type.
+	 */
+	private MethodParameter getReturnType(MethodEndpoint methodEndpoint) {
+		return this.returnTypeCache.computeIfAbsent(methodEndpoint.getReturnType(),
+				DefaultMethodEndpointAdapter::resolveReturnType);
+	}
+
+	private static MethodParameter resolveReturnType(MethodParameter returnType) {
+		Class<?> type = returnType.getParameterType();
+		if (CompletionStage.class.isAssignableFrom(type)) {
+			ResolvableType resultType = ResolvableType.forMethodParameter(returnType)
+				.as(CompletionStage.class)
+				.getGeneric();
+			return new AsyncResultMethodParameter(returnType, resultType);
+		}
+		ReactiveAdapter reactiveAdapter = getReactiveAdapter(type);
+		if (reactiveAdapter != null && !reactiveAdapter.isMultiValue()) {
+			ResolvableType resultType = reactiveAdapter.isNoValue() ? ResolvableType.forClass(Void.class)
+					: ResolvableType.forMethodParameter(returnType).getGeneric();
+			return new AsyncResultMethodParameter(returnType, resultType);
+		}
+		return returnType;
+	}
+
+	private static @Nullable ReactiveAdapter getReactiveAdapter(Class<?> type) {
+		return reactiveStreamsPresent ? ReactiveAdapterRegistry.getSharedInstance().getAdapter(type) : null;
+	}
+
+	/**
+	 * Returns the first {@code MethodArgumentResolver} that supports the given parameter,
+	 * caching the outcome.
+	 */
+	private @Nullable MethodArgumentResolver getMethodArgumentResolver(MethodParameter methodParameter) {
+		MethodArgumentResolver result = this.argumentResolverCache.get(methodParameter);
+		if (result == null) {
 			for (MethodArgumentResolver methodArgumentResolver : this.methodArgumentResolvers) {
 				if (this.logger.isTraceEnabled()) {
 					this.logger.trace("Testing if argument resolver [" + methodArgumentResolver + "] supports ["
 							+ methodParameter.getGenericParameterType() + "]");
 				}
 				if (methodArgumentResolver.supportsParameter(methodParameter)) {
-					supported = true;
+					result = methodArgumentResolver;
+					this.argumentResolverCache.put(methodParameter, result);
 					break;
 				}
 			}
-			if (!supported) {
-				return false;
-			}
 		}
-		return true;
+		return result;
 	}
 
-	private boolean supportsReturnType(MethodParameter methodReturnType) {
-		if (Void.TYPE.equals(methodReturnType.getParameterType())) {
-			return true;
-		}
-		for (MethodReturnValueHandler methodReturnValueHandler : this.methodReturnValueHandlers) {
-			if (methodReturnValueHandler.supportsReturnType(methodReturnType)) {
-				return true;
+	/**
+	 * Returns the first {@code MethodReturnValueHandler} that supports the given return
+	 * type, caching the outcome.
+	 */
+	private @Nullable MethodReturnValueHandler getMethodReturnValueHandler(MethodParameter returnType) {
+		MethodReturnValueHandler result = this.returnValueHandlerCache.get(returnType);
+		if (result == null) {
+			for (MethodReturnValueHandler methodReturnValueHandler : this.methodReturnValueHandlers) {
+				if (methodReturnValueHandler.supportsReturnType(returnType)) {
+					result = methodReturnValueHandler;
+					this.returnValueHandlerCache.put(returnType, result);
+					break;
+				}
 			}
 		}
-		return false;
+		return result;
 	}
 
 	@Override
@@ -263,18 +387,77 @@ public class DefaultMethodEndpointAdapter extends AbstractMethodEndpointAdapter
 			this.logger.trace("Method [" + methodEndpoint + "] returned [" + returnValue + "]");
 		}
 
-		Class<?> returnType = methodEndpoint.getMethod().getReturnType();
-		if (!Void.TYPE.equals(returnType)) {
+		MethodParameter returnType = getReturnType(methodEndpoint);
+		if (returnType instanceof AsyncResultMethodParameter && returnValue != null) {
+			returnValue = awaitAsyncResult(returnValue, methodEndpoint);
+			if (this.logger.isTraceEnabled()) {
+				this.logger.trace("Method [" + methodEndpoint + "] completed with [" + returnValue + "]");
+			}
+		}
+		if (!isVoid(returnType)) {
 			handleMethodReturnValue(messageContext, returnValue, methodEndpoint);
 		}
 	}
 
+	/**
+	 * Waits for the result of the given asynchronous return value, rethrowing the
+	 * exception it completed with, if any.
+	 */
+	private @Nullable Object awaitAsyncResult(Object returnValue, MethodEndpoint methodEndpoint) throws Exception {
+		CompletableFuture<?> future = toFuture(returnValue);
+		try {
+			return (this.asyncResultTimeout != null)
+					? future.get(this.asyncResultTimeout.toNanos(), TimeUnit.NANOSECONDS) : future.get();
+		}
+		catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof Exception exception) {
+				throw exception;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw ex;
+		}
+		catch (TimeoutException ex) {
+			future.cancel(true);
+			throw new TimeoutException(
+					"Method [" + methodEndpoint + "] did not complete within " + this.asyncResultTimeout);
+		}
+		catch (InterruptedException ex) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw ex;
+		}
+	}
+
+	private static CompletableFuture<?> toFuture(Object returnValue) {
+		if (returnValue instanceof CompletableFuture<?> future) {
+			return future;
+		}
+		if (returnValue instanceof CompletionStage<?> stage) {
+			CompletableFuture<Object> future = new CompletableFuture<>();
+			stage.whenComplete((result, ex) -> {
+				if (ex != null) {
+					future.completeExceptionally(ex);
+				}
+				else {
+					future.complete(result);
+				}
+			});
+			return future;
+		}
+		ReactiveAdapter reactiveAdapter = getReactiveAdapter(returnValue.getClass());
+		Assert.state(reactiveAdapter != null, () -> "No ReactiveAdapter for [" + returnValue.getClass() + "]");
+		return PublisherFuture.subscribe(reactiveAdapter, returnValue);
+	}
+
 	/**
 	 * Returns the argument array for the given method endpoint.
 	 * <p>
-	 * This implementation iterates over the set
-	 * {@linkplain #setMethodArgumentResolvers(List) argument resolvers} to resolve each
-	 * argument.
+	 * This implementation uses the first of the set
+	 * {@linkplain #setMethodArgumentResolvers(List) argument resolvers} that supports a
+	 * parameter to resolve each argument.
 	 * @param messageContext the current message context
 	 * @param methodEndpoint the method endpoint to get arguments for
 	 * @return the arguments
@@ -285,11 +468,9 @@ public class DefaultMethodEndpointAdapter extends AbstractMethodEndpointAdapter
 		MethodParameter[] parameters = methodEndpoint.getMethodParameters();
 		@Nullable Object[] args = new Object[parameters.length];
 		for (int i = 0; i < parameters.length; i++) {
-			for (MethodArgumentResolver methodArgumentResolver : this.methodArgumentResolvers) {
-				if (methodArgumentResolver.supportsParameter(parameters[i])) {
-					args[i] = methodArgumentResolver.resolveArgument(messageContext, parameters[i]);
-					break;
-				}
+			MethodArgumentResolver methodArgumentResolver = getMethodArgumentResolver(parameters[i]);
+			if (methodArgumentResolver != null) {
+				args[i] = methodArgumentResolver.resolveArgument(messageContext, parameters[i]);
 			}
 		}
 		return args;
@@ -298,25 +479,59 @@ public class DefaultMethodEndpointAdapter extends AbstractMethodEndpointAdapter
 	/**
 	 * Handle the return value for the given method endpoint.
 	 * <p>
-	 * This implementation iterates over the set
-	 * {@linkplain #setMethodReturnValueHandlers(java.util.List)} return value handlers}
-	 * to resolve the return value.
+	 * This implementation uses the first of the set
+	 * {@linkplain #setMethodReturnValueHandlers(java.util.List) return value handlers}
+	 * that supports the return type to handle the return value.
 	 * @param messageContext the current message context
 	 * @param returnValue the return value
 	 * @param methodEndpoint the method endpoint to get arguments for
 	 * @throws Exception in case of errors
 	 */
-	protected void handleMethodReturnValue(MessageContext messageContext, Object returnValue,
+	protected void handleMethodReturnValue(MessageContext messageContext, @Nullable Object returnValue,
 			MethodEndpoint methodEndpoint) throws Exception {
-		MethodParameter returnType = methodEndpoint.getReturnType();
-		for (MethodReturnValueHandler methodReturnValueHandler : this.methodReturnValueHandlers) {
-			if (methodReturnValueHandler.supportsReturnType(returnType)) {
-				methodReturnValueHandler.handleReturnValue(messageContext, returnType, returnValue);
-				return;
-			}
+		MethodParameter returnType = getReturnType(methodEndpoint);
+		MethodReturnValueHandler methodReturnValueHandler = getMethodReturnValueHandler(returnType);
+		if (methodReturnValueHandler != null) {
+			methodReturnValueHandler.handleReturnValue(messageContext, returnType, returnValue);
+			return;
 		}
 		throw new IllegalStateException(
 				"Return value [" + returnValue + "] not resolved by any MethodReturnValueHandler");
 	}
 
+	/**
+	 * Return type of an endpoint method returning a {@link CompletionStage} or reactive
+	 * type, exposing the type of the eventual result to the return value handlers.
+	 */
+	private static final class AsyncResultMethodParameter extends MethodParameter {
+
+		private final ResolvableType resultType;
+
+		AsyncResultMethodParameter(MethodParameter returnType, ResolvableType resultType) {
+			super(returnType);
+			this.resultType = resultType;
+		}
+
+		AsyncResultMethodParameter(AsyncResultMethodParameter original) {
+			super(original);
+			this.resultType = original.resultType;
+		}
+
+		@Override
+		public Class<?> getParameterType() {
+			return this.resultType.toClass();
+		}
+
+		@Override
+		public Type getGenericParameterType() {
+			return this.resultType.getType();
+		}
+
+		@Override
+		public AsyncResultMethodParameter clone() {
+			return new AsyncResultMethodParameter(this);
+		}
+
+	}
+
 }
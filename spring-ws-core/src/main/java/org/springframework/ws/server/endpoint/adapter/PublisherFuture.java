@@ -0,0 +1,97 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server.endpoint.adapter;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import org.springframework.core.ReactiveAdapter;
+
+/**
+ * {@link CompletableFuture} that completes with the single value emitted by a
+ * {@link Publisher}, or with {@code null} if the publisher completes empty. Cancelling
+ * the future cancels the subscription.
+ * <p>
+ * Only loaded when Reactive Streams is on the classpath.
+ *
+ * @since 5.0.0
+ */
+final class PublisherFuture extends CompletableFuture<Object> implements Subscriber<Object> {
+
+	private volatile @Nullable Subscription subscription;
+
+	private volatile @Nullable Object value;
+
+	private PublisherFuture() {
+	}
+
+	/**
+	 * Subscribe to the given single-value reactive type.
+	 * @param reactiveAdapter the adapter for the type of {@code source}
+	 * @param source the reactive type instance
+	 * @return a future for the value emitted by {@code source}
+	 */
+	static CompletableFuture<Object> subscribe(ReactiveAdapter reactiveAdapter, Object source) {
+		PublisherFuture future = new PublisherFuture();
+		Publisher<Object> publisher = reactiveAdapter.toPublisher(source);
+		publisher.subscribe(future);
+		return future;
+	}
+
+	@Override
+	public void onSubscribe(Subscription subscription) {
+		this.subscription = subscription;
+		if (isDone()) {
+			subscription.cancel();
+		}
+		else {
+			subscription.request(1);
+		}
+	}
+
+	@Override
+	public void onNext(Object item) {
+		if (this.value == null) {
+			this.value = item;
+		}
+	}
+
+	@Override
+	public void onError(Throwable throwable) {
+		completeExceptionally(throwable);
+	}
+
+	@Override
+	public void onComplete() {
+		complete(this.value);
+	}
+
+	@Override
+	public boolean cancel(boolean mayInterruptIfRunning) {
+		boolean cancelled = super.cancel(mayInterruptIfRunning);
+		Subscription subscription = this.subscription;
+		if (subscription != null) {
+			subscription.cancel();
+		}
+		return cancelled;
+	}
+
+}
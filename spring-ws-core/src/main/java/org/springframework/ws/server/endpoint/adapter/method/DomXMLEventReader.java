@@ -0,0 +1,172 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server.endpoint.adapter.method;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.Namespace;
+import javax.xml.stream.events.XMLEvent;
+
+import org.jspecify.annotations.Nullable;
+import org.w3c.dom.Node;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link XMLEventReader} that walks a DOM {@link org.w3c.dom.Document} or
+ * {@link org.w3c.dom.Element} in place, by creating events for the cursor of a
+ * {@link DomXMLStreamReader}.
+ *
+ * @since 5.0.0
+ */
+final class DomXMLEventReader implements XMLEventReader {
+
+	private static final XMLEventFactory eventFactory = XMLEventFactory.newFactory();
+
+	private final DomXMLStreamReader streamReader;
+
+	private boolean started;
+
+	private @Nullable XMLEvent peekedEvent;
+
+	DomXMLEventReader(Node root) {
+		this.streamReader = new DomXMLStreamReader(root);
+	}
+
+	@Override
+	public XMLEvent nextEvent() throws XMLStreamException {
+		XMLEvent event = this.peekedEvent;
+		if (event != null) {
+			this.peekedEvent = null;
+			return event;
+		}
+		if (!this.started) {
+			this.started = true;
+		}
+		else if (this.streamReader.hasNext()) {
+			this.streamReader.next();
+		}
+		else {
+			throw new NoSuchElementException();
+		}
+		return createEvent();
+	}
+
+	@Override
+	public boolean hasNext() {
+		return this.peekedEvent != null || !this.started || this.streamReader.hasNext();
+	}
+
+	@Override
+	public @Nullable XMLEvent peek() throws XMLStreamException {
+		if (this.peekedEvent == null && hasNext()) {
+			this.peekedEvent = nextEvent();
+		}
+		return this.peekedEvent;
+	}
+
+	@Override
+	public Object next() {
+		try {
+			return nextEvent();
+		}
+		catch (XMLStreamException ex) {
+			throw (NoSuchElementException) new NoSuchElementException(ex.getMessage()).initCause(ex);
+		}
+	}
+
+	@Override
+	public String getElementText() throws XMLStreamException {
+		if (this.peekedEvent != null || this.streamReader.getEventType() != XMLStreamConstants.START_ELEMENT) {
+			throw new XMLStreamException("Not at START_ELEMENT");
+		}
+		return this.streamReader.getElementText();
+	}
+
+	@Override
+	public @Nullable XMLEvent nextTag() throws XMLStreamException {
+		XMLEvent event = nextEvent();
+		while ((event.isCharacters() && event.asCharacters().isWhiteSpace()) || event.isProcessingInstruction()
+				|| event.getEventType() == XMLStreamConstants.COMMENT) {
+			event = nextEvent();
+		}
+		if (!event.isStartElement() && !event.isEndElement()) {
+			throw new XMLStreamException("Expected START_ELEMENT or END_ELEMENT, but was " + event);
+		}
+		return event;
+	}
+
+	@Override
+	public @Nullable Object getProperty(String name) throws IllegalArgumentException {
+		return this.streamReader.getProperty(name);
+	}
+
+	@Override
+	public void close() {
+		this.streamReader.close();
+	}
+
+	private XMLEvent createEvent() {
+		DomXMLStreamReader reader = this.streamReader;
+		return switch (reader.getEventType()) {
+			case XMLStreamConstants.START_DOCUMENT -> eventFactory.createStartDocument();
+			case XMLStreamConstants.END_DOCUMENT -> eventFactory.createEndDocument();
+			case XMLStreamConstants.START_ELEMENT -> {
+				List<Attribute> attributes = new ArrayList<>(reader.getAttributeCount());
+				for (int i = 0; i < reader.getAttributeCount(); i++) {
+					attributes.add(eventFactory.createAttribute(nullToEmpty(reader.getAttributePrefix(i)),
+							nullToEmpty(reader.getAttributeNamespace(i)), reader.getAttributeLocalName(i),
+							reader.getAttributeValue(i)));
+				}
+				yield eventFactory.createStartElement(reader.getPrefix(), nullToEmpty(reader.getNamespaceURI()),
+						reader.getLocalName(), attributes.iterator(), getNamespaces().iterator(),
+						reader.getNamespaceContextSnapshot());
+			}
+			case XMLStreamConstants.END_ELEMENT -> eventFactory.createEndElement(reader.getPrefix(),
+					nullToEmpty(reader.getNamespaceURI()), reader.getLocalName(), getNamespaces().iterator());
+			case XMLStreamConstants.CHARACTERS -> eventFactory.createCharacters(reader.getText());
+			case XMLStreamConstants.CDATA -> eventFactory.createCData(reader.getText());
+			case XMLStreamConstants.COMMENT -> eventFactory.createComment(reader.getText());
+			case XMLStreamConstants.PROCESSING_INSTRUCTION ->
+				eventFactory.createProcessingInstruction(reader.getPITarget(), reader.getPIData());
+			default -> throw new IllegalStateException("Unexpected event type " + reader.getEventType());
+		};
+	}
+
+	private List<Namespace> getNamespaces() {
+		List<Namespace> namespaces = new ArrayList<>(this.streamReader.getNamespaceCount());
+		for (int i = 0; i < this.streamReader.getNamespaceCount(); i++) {
+			String prefix = this.streamReader.getNamespacePrefix(i);
+			String namespaceUri = this.streamReader.getNamespaceURI(i);
+			namespaces.add(StringUtils.hasLength(prefix) ? eventFactory.createNamespace(prefix, namespaceUri)
+					: eventFactory.createNamespace(namespaceUri));
+		}
+		return namespaces;
+	}
+
+	private static String nullToEmpty(@Nullable String s) {
+		return (s != null ? s : "");
+	}
+
+}
@@ -0,0 +1,648 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server.endpoint.adapter.method;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jspecify.annotations.Nullable;
+import org.w3c.dom.Attr;
+import org.w3c.dom.CharacterData;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.ProcessingInstruction;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link XMLStreamReader} that walks a DOM {@link Document} or {@link Element} in place,
+ * without serializing it first.
+ * <p>
+ * The reader always starts with a {@code START_DOCUMENT} event, and ends with an
+ * {@code END_DOCUMENT} event. When reading an element, the namespace declarations that
+ * are in scope from its ancestors are reported on that element, as are declarations
+ * for namespaces that are used, but not declared, in the DOM tree.
+ *
+ * @since 5.0.0
+ */
+final class DomXMLStreamReader implements XMLStreamReader {
+
+	private static final Location UNKNOWN_LOCATION = new UnknownLocation();
+
+	private final Node root;
+
+	private Node node;
+
+	private int eventType = XMLStreamConstants.START_DOCUMENT;
+
+	private final List<Attr> attributes = new ArrayList<>();
+
+	private final List<String> namespacePrefixes = new ArrayList<>();
+
+	private final List<String> namespaceUris = new ArrayList<>();
+
+	private final List<Integer> namespaceScopes = new ArrayList<>();
+
+	private final NamespaceContext namespaceContext = new ScopedNamespaceContext(this.namespacePrefixes,
+			this.namespaceUris);
+
+	DomXMLStreamReader(Node root) {
+		Assert.isTrue(root instanceof Document || root instanceof Element, "root must be a Document or Element");
+		this.root = root;
+		this.node = root;
+	}
+
+	@Override
+	public int next() throws XMLStreamException {
+		while (true) {
+			Node next;
+			switch (this.eventType) {
+				case XMLStreamConstants.START_DOCUMENT -> {
+					next = (this.root instanceof Document) ? this.root.getFirstChild() : this.root;
+					if (next == null) {
+						return endDocument();
+					}
+				}
+				case XMLStreamConstants.START_ELEMENT -> {
+					next = this.node.getFirstChild();
+					if (next == null) {
+						return endElement(this.node);
+					}
+				}
+				case XMLStreamConstants.END_DOCUMENT -> throw new NoSuchElementException("END_DOCUMENT reached");
+				default -> {
+					if (this.eventType == XMLStreamConstants.END_ELEMENT) {
+						popNamespaceScope();
+					}
+					if (this.node == this.root) {
+						return endDocument();
+					}
+					next = this.node.getNextSibling();
+					if (next == null) {
+						Node parent = this.node.getParentNode();
+						if (parent == null || (parent == this.root && parent instanceof Document)) {
+							return endDocument();
+						}
+						return endElement(parent);
+					}
+				}
+			}
+			if (visit(next)) {
+				return this.eventType;
+			}
+		}
+	}
+
+	/**
+	 * Moves to the given node, and sets the event type accordingly. Returns {@code false}
+	 * for nodes that are not reported, such as document types; in which case the reader
+	 * is positioned on the node without an event, and {@link #next()} continues with its
+	 * next sibling.
+	 */
+	private boolean visit(Node next) {
+		this.node = next;
+		switch (next.getNodeType()) {
+			case Node.ELEMENT_NODE -> {
+				startElement((Element) next);
+				return true;
+			}
+			case Node.TEXT_NODE -> this.eventType = XMLStreamConstants.CHARACTERS;
+			case Node.CDATA_SECTION_NODE -> this.eventType = XMLStreamConstants.CDATA;
+			case Node.COMMENT_NODE -> this.eventType = XMLStreamConstants.COMMENT;
+			case Node.PROCESSING_INSTRUCTION_NODE -> this.eventType = XMLStreamConstants.PROCESSING_INSTRUCTION;
+			default -> {
+				this.eventType = -1;
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void startElement(Element element) {
+		this.eventType = XMLStreamConstants.START_ELEMENT;
+		this.attributes.clear();
+		this.namespaceScopes.add(this.namespacePrefixes.size());
+		NamedNodeMap attributeMap = element.getAttributes();
+		for (int i = 0; i < attributeMap.getLength(); i++) {
+			Attr attribute = (Attr) attributeMap.item(i);
+			if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI())) {
+				String prefix = XMLConstants.XMLNS_ATTRIBUTE.equals(attribute.getName()) ? ""
+						: attribute.getLocalName();
+				declareNamespace(prefix, attribute.getValue());
+			}
+			else {
+				this.attributes.add(attribute);
+			}
+		}
+		if (element == this.root) {
+			for (Node ancestor = element.getParentNode(); ancestor instanceof Element; ancestor = ancestor
+				.getParentNode()) {
+				NamedNodeMap ancestorAttributes = ancestor.getAttributes();
+				for (int i = 0; i < ancestorAttributes.getLength(); i++) {
+					Attr attribute = (Attr) ancestorAttributes.item(i);
+					if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI())) {
+						String prefix = XMLConstants.XMLNS_ATTRIBUTE.equals(attribute.getName()) ? ""
+								: attribute.getLocalName();
+						if (!isDeclaredInScope(prefix)) {
+							declareNamespace(prefix, attribute.getValue());
+						}
+					}
+				}
+			}
+		}
+		declareNamespaceIfNecessary(element.getPrefix(), element.getNamespaceURI());
+		for (Attr attribute : this.attributes) {
+			if (StringUtils.hasLength(attribute.getNamespaceURI())) {
+				declareNamespaceIfNecessary(attribute.getPrefix(), attribute.getNamespaceURI());
+			}
+		}
+	}
+
+	private int endElement(Node element) {
+		this.node = element;
+		this.eventType = XMLStreamConstants.END_ELEMENT;
+		return this.eventType;
+	}
+
+	private int endDocument() {
+		this.eventType = XMLStreamConstants.END_DOCUMENT;
+		return this.eventType;
+	}
+
+	private void declareNamespace(String prefix, String namespaceUri) {
+		this.namespacePrefixes.add(prefix);
+		this.namespaceUris.add(namespaceUri);
+	}
+
+	private void declareNamespaceIfNecessary(@Nullable String prefix, @Nullable String namespaceUri) {
+		prefix = (prefix != null ? prefix : "");
+		namespaceUri = (namespaceUri != null ? namespaceUri : "");
+		String boundUri = this.namespaceContext.getNamespaceURI(prefix);
+		if (!namespaceUri.equals(boundUri != null ? boundUri : "")) {
+			declareNamespace(prefix, namespaceUri);
+		}
+	}
+
+	private boolean isDeclaredInScope(String prefix) {
+		int start = currentNamespaceScope();
+		for (int i = start; i < this.namespacePrefixes.size(); i++) {
+			if (prefix.equals(this.namespacePrefixes.get(i))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private int currentNamespaceScope() {
+		return this.namespaceScopes.isEmpty() ? 0 : this.namespaceScopes.get(this.namespaceScopes.size() - 1);
+	}
+
+	private void popNamespaceScope() {
+		int start = this.namespaceScopes.remove(this.namespaceScopes.size() - 1);
+		this.namespacePrefixes.subList(start, this.namespacePrefixes.size()).clear();
+		this.namespaceUris.subList(start, this.namespaceUris.size()).clear();
+	}
+
+	@Override
+	public void require(int expectedType, @Nullable String namespaceURI, @Nullable String localName)
+			throws XMLStreamException {
+		if (expectedType != this.eventType) {
+			throw new XMLStreamException("Expected event type " + expectedType + ", but was " + this.eventType);
+		}
+		if (namespaceURI != null && !namespaceURI.equals(getNamespaceURI())) {
+			throw new XMLStreamException("Expected namespace " + namespaceURI + ", but was " + getNamespaceURI());
+		}
+		if (localName != null && !localName.equals(getLocalName())) {
+			throw new XMLStreamException("Expected local name " + localName + ", but was " + getLocalName());
+		}
+	}
+
+	@Override
+	public String getElementText() throws XMLStreamException {
+		if (this.eventType != XMLStreamConstants.START_ELEMENT) {
+			throw new XMLStreamException("Parser must be on START_ELEMENT to read next text");
+		}
+		StringBuilder builder = new StringBuilder();
+		int event = next();
+		while (event != XMLStreamConstants.END_ELEMENT) {
+			switch (event) {
+				case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE ->
+					builder.append(getText());
+				case XMLStreamConstants.COMMENT, XMLStreamConstants.PROCESSING_INSTRUCTION -> {
+				}
+				case XMLStreamConstants.START_ELEMENT ->
+					throw new XMLStreamException("Element text content may not contain START_ELEMENT");
+				default -> throw new XMLStreamException("Unexpected event type " + event);
+			}
+			event = next();
+		}
+		return builder.toString();
+	}
+
+	@Override
+	public int nextTag() throws XMLStreamException {
+		int event = next();
+		while ((event == XMLStreamConstants.CHARACTERS && isWhiteSpace()) || event == XMLStreamConstants.SPACE
+				|| event == XMLStreamConstants.COMMENT || event == XMLStreamConstants.PROCESSING_INSTRUCTION) {
+			event = next();
+		}
+		if (event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT) {
+			throw new XMLStreamException("Expected START_ELEMENT or END_ELEMENT, but was " + event);
+		}
+		return event;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return this.eventType != XMLStreamConstants.END_DOCUMENT;
+	}
+
+	@Override
+	public void close() {
+	}
+
+	@Override
+	public int getEventType() {
+		return this.eventType;
+	}
+
+	@Override
+	public boolean isStartElement() {
+		return this.eventType == XMLStreamConstants.START_ELEMENT;
+	}
+
+	@Override
+	public boolean isEndElement() {
+		return this.eventType == XMLStreamConstants.END_ELEMENT;
+	}
+
+	@Override
+	public boolean isCharacters() {
+		return this.eventType == XMLStreamConstants.CHARACTERS;
+	}
+
+	@Override
+	public boolean isWhiteSpace() {
+		if (this.eventType != XMLStreamConstants.CHARACTERS && this.eventType != XMLStreamConstants.SPACE) {
+			return false;
+		}
+		String text = getText();
+		for (int i = 0; i < text.length(); i++) {
+			if (!Character.isWhitespace(text.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public QName getName() {
+		assertEvent(isStartElement() || isEndElement(), "START_ELEMENT or END_ELEMENT");
+		return toQName(this.node);
+	}
+
+	@Override
+	public String getLocalName() {
+		assertEvent(isStartElement() || isEndElement(), "START_ELEMENT or END_ELEMENT");
+		return getLocalName(this.node);
+	}
+
+	@Override
+	public @Nullable String getNamespaceURI() {
+		assertEvent(isStartElement() || isEndElement(), "START_ELEMENT or END_ELEMENT");
+		return this.node.getNamespaceURI();
+	}
+
+	@Override
+	public String getPrefix() {
+		assertEvent(isStartElement() || isEndElement(), "START_ELEMENT or END_ELEMENT");
+		String prefix = this.node.getPrefix();
+		return (prefix != null ? prefix : "");
+	}
+
+	@Override
+	public boolean hasName() {
+		return isStartElement() || isEndElement();
+	}
+
+	@Override
+	public @Nullable String getNamespaceURI(String prefix) {
+		return this.namespaceContext.getNamespaceURI(prefix);
+	}
+
+	@Override
+	public NamespaceContext getNamespaceContext() {
+		return this.namespaceContext;
+	}
+
+	@Override
+	public int getNamespaceCount() {
+		assertEvent(isStartElement() || isEndElement(), "START_ELEMENT or END_ELEMENT");
+		return this.namespacePrefixes.size() - currentNamespaceScope();
+	}
+
+	@Override
+	public @Nullable String getNamespacePrefix(int index) {
+		String prefix = this.namespacePrefixes.get(currentNamespaceScope() + index);
+		return (prefix.isEmpty() ? null : prefix);
+	}
+
+	@Override
+	public String getNamespaceURI(int index) {
+		return this.namespaceUris.get(currentNamespaceScope() + index);
+	}
+
+	@Override
+	public int getAttributeCount() {
+		assertEvent(isStartElement(), "START_ELEMENT");
+		return this.attributes.size();
+	}
+
+	@Override
+	public QName getAttributeName(int index) {
+		return toQName(getAttribute(index));
+	}
+
+	@Override
+	public @Nullable String getAttributeNamespace(int index) {
+		return getAttribute(index).getNamespaceURI();
+	}
+
+	@Override
+	public String getAttributeLocalName(int index) {
+		return getLocalName(getAttribute(index));
+	}
+
+	@Override
+	public @Nullable String getAttributePrefix(int index) {
+		return getAttribute(index).getPrefix();
+	}
+
+	@Override
+	public String getAttributeType(int index) {
+		return "CDATA";
+	}
+
+	@Override
+	public String getAttributeValue(int index) {
+		return getAttribute(index).getValue();
+	}
+
+	@Override
+	public @Nullable String getAttributeValue(@Nullable String namespaceURI, String localName) {
+		assertEvent(isStartElement(), "START_ELEMENT");
+		for (Attr attribute : this.attributes) {
+			String attributeNamespace = attribute.getNamespaceURI();
+			if (localName.equals(getLocalName(attribute)) && (namespaceURI == null
+					|| namespaceURI.equals(attributeNamespace != null ? attributeNamespace : ""))) {
+				return attribute.getValue();
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public boolean isAttributeSpecified(int index) {
+		return getAttribute(index).getSpecified();
+	}
+
+	private Attr getAttribute(int index) {
+		assertEvent(isStartElement(), "START_ELEMENT");
+		return this.attributes.get(index);
+	}
+
+	@Override
+	public String getText() {
+		assertEvent(hasText(), "CHARACTERS, CDATA, SPACE, or COMMENT");
+		return ((CharacterData) this.node).getData();
+	}
+
+	@Override
+	public char[] getTextCharacters() {
+		return getText().toCharArray();
+	}
+
+	@Override
+	public int getTextCharacters(int sourceStart, char[] target, int targetStart, int length)
+			throws XMLStreamException {
+		String text = getText();
+		int count = Math.min(length, text.length() - sourceStart);
+		text.getChars(sourceStart, sourceStart + count, target, targetStart);
+		return count;
+	}
+
+	@Override
+	public int getTextStart() {
+		return 0;
+	}
+
+	@Override
+	public int getTextLength() {
+		return getText().length();
+	}
+
+	@Override
+	public boolean hasText() {
+		return this.eventType == XMLStreamConstants.CHARACTERS || this.eventType == XMLStreamConstants.CDATA
+				|| this.eventType == XMLStreamConstants.SPACE || this.eventType == XMLStreamConstants.COMMENT;
+	}
+
+	@Override
+	public String getPITarget() {
+		assertEvent(this.eventType == XMLStreamConstants.PROCESSING_INSTRUCTION, "PROCESSING_INSTRUCTION");
+		return ((ProcessingInstruction) this.node).getTarget();
+	}
+
+	@Override
+	public String getPIData() {
+		assertEvent(this.eventType == XMLStreamConstants.PROCESSING_INSTRUCTION, "PROCESSING_INSTRUCTION");
+		return ((ProcessingInstruction) this.node).getData();
+	}
+
+	@Override
+	public Location getLocation() {
+		return UNKNOWN_LOCATION;
+	}
+
+	@Override
+	public @Nullable String getEncoding() {
+		return null;
+	}
+
+	@Override
+	public @Nullable String getVersion() {
+		return null;
+	}
+
+	@Override
+	public boolean isStandalone() {
+		return false;
+	}
+
+	@Override
+	public boolean standaloneSet() {
+		return false;
+	}
+
+	@Override
+	public @Nullable String getCharacterEncodingScheme() {
+		return null;
+	}
+
+	@Override
+	public @Nullable Object getProperty(String name) {
+		Assert.notNull(name, "name must not be null");
+		return (XMLInputFactory.IS_NAMESPACE_AWARE.equals(name) ? Boolean.TRUE : null);
+	}
+
+	private void assertEvent(boolean condition, String expected) {
+		if (!condition) {
+			throw new IllegalStateException("Expected " + expected + ", but was event type " + this.eventType);
+		}
+	}
+
+	private static String getLocalName(Node node) {
+		String localName = node.getLocalName();
+		if (localName == null) {
+			localName = node.getNodeName();
+			int idx = localName.indexOf(':');
+			if (idx != -1) {
+				localName = localName.substring(idx + 1);
+			}
+		}
+		return localName;
+	}
+
+	private static QName toQName(Node node) {
+		String namespaceUri = node.getNamespaceURI();
+		String prefix = node.getPrefix();
+		return new QName(namespaceUri != null ? namespaceUri : "", getLocalName(node), prefix != null ? prefix : "");
+	}
+
+	/**
+	 * Return a copy of the current namespace context, which is not affected by moving
+	 * the reader.
+	 */
+	NamespaceContext getNamespaceContextSnapshot() {
+		return new ScopedNamespaceContext(new ArrayList<>(this.namespacePrefixes), new ArrayList<>(this.namespaceUris));
+	}
+
+	/**
+	 * {@link NamespaceContext} that resolves prefixes against the given namespace
+	 * declarations, the last of which takes precedence.
+	 */
+	private static final class ScopedNamespaceContext implements NamespaceContext {
+
+		private final List<String> prefixes;
+
+		private final List<String> namespaceUris;
+
+		ScopedNamespaceContext(List<String> prefixes, List<String> namespaceUris) {
+			this.prefixes = prefixes;
+			this.namespaceUris = namespaceUris;
+		}
+
+		@Override
+		public @Nullable String getNamespaceURI(String prefix) {
+			Assert.notNull(prefix, "prefix must not be null");
+			if (XMLConstants.XML_NS_PREFIX.equals(prefix)) {
+				return XMLConstants.XML_NS_URI;
+			}
+			else if (XMLConstants.XMLNS_ATTRIBUTE.equals(prefix)) {
+				return XMLConstants.XMLNS_ATTRIBUTE_NS_URI;
+			}
+			for (int i = this.prefixes.size() - 1; i >= 0; i--) {
+				if (prefix.equals(this.prefixes.get(i))) {
+					return this.namespaceUris.get(i);
+				}
+			}
+			return null;
+		}
+
+		@Override
+		public @Nullable String getPrefix(String namespaceURI) {
+			Iterator<String> prefixes = getPrefixes(namespaceURI);
+			return (prefixes.hasNext() ? prefixes.next() : null);
+		}
+
+		@Override
+		public Iterator<String> getPrefixes(String namespaceURI) {
+			Assert.notNull(namespaceURI, "namespaceURI must not be null");
+			if (XMLConstants.XML_NS_URI.equals(namespaceURI)) {
+				return Collections.singletonList(XMLConstants.XML_NS_PREFIX).iterator();
+			}
+			else if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(namespaceURI)) {
+				return Collections.singletonList(XMLConstants.XMLNS_ATTRIBUTE).iterator();
+			}
+			List<String> result = new ArrayList<>();
+			for (int i = this.prefixes.size() - 1; i >= 0; i--) {
+				String prefix = this.prefixes.get(i);
+				if (namespaceURI.equals(this.namespaceUris.get(i)) && !result.contains(prefix)
+						&& namespaceURI.equals(getNamespaceURI(prefix))) {
+					result.add(prefix);
+				}
+			}
+			return result.iterator();
+		}
+
+	}
+
+	private static final class UnknownLocation implements Location {
+
+		@Override
+		public int getLineNumber() {
+			return -1;
+		}
+
+		@Override
+		public int getColumnNumber() {
+			return -1;
+		}
+
+		@Override
+		public int getCharacterOffset() {
+			return -1;
+		}
+
+		@Override
+		public @Nullable String getPublicId() {
+			return null;
+		}
+
+		@Override
+		public @Nullable String getSystemId() {
+			return null;
+		}
+
+	}
+
+}
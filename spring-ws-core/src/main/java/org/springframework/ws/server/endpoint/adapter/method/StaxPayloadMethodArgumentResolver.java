@@ -25,9 +25,17 @@ import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.Source;
 import javax.xml.transform.TransformerException;
+import javax.xml.transform.dom.DOMResult;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.sax.SAXSource;
 import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
 
 import org.jspecify.annotations.Nullable;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.util.xml.StaxUtils;
@@ -39,6 +47,10 @@ import org.springframework.xml.transform.TransformerObjectSupport;
 /**
  * Implementation of {@link MethodArgumentResolver} that supports StAX
  * {@link XMLStreamReader} and {@link XMLEventReader} arguments.
+ * <p>
+ * DOM payloads, such as those of SAAJ messages, are read in place rather than
+ * serialized and parsed again. SAX payloads that wrap an input stream or reader are
+ * read incrementally.
  *
  * @author Arjen Poutsma
  * @since 2.0
@@ -91,9 +103,13 @@ public class StaxPayloadMethodArgumentResolver extends TransformerObjectSupport
 				}
 			}
 		}
+		Node node = getNode(requestSource);
+		if (streamReader == null && node != null) {
+			streamReader = new DomXMLStreamReader(node);
+		}
 		if (streamReader == null) {
 			try {
-				streamReader = this.inputFactory.createXMLStreamReader(requestSource);
+				streamReader = this.inputFactory.createXMLStreamReader(toStreamSource(requestSource));
 			}
 			catch (XMLStreamException | UnsupportedOperationException ex) {
 				streamReader = null;
@@ -124,9 +140,13 @@ public class StaxPayloadMethodArgumentResolver extends TransformerObjectSupport
 
 			}
 		}
+		Node node = getNode(requestSource);
+		if (eventReader == null && node != null) {
+			eventReader = new DomXMLEventReader(node);
+		}
 		if (eventReader == null) {
 			try {
-				eventReader = this.inputFactory.createXMLEventReader(requestSource);
+				eventReader = this.inputFactory.createXMLEventReader(toStreamSource(requestSource));
 			}
 			catch (XMLStreamException | UnsupportedOperationException ex) {
 				eventReader = null;
@@ -152,6 +172,53 @@ public class StaxPayloadMethodArgumentResolver extends TransformerObjectSupport
 		return XMLInputFactoryUtils.newInstance();
 	}
 
+	/**
+	 * Returns the DOM node to read from for the given source, if any. DOM sources are
+	 * read in place, and SAX sources with a custom {@code XMLReader} are copied to a DOM
+	 * document first, as they cannot be read incrementally.
+	 */
+	private @Nullable Node getNode(Source source) throws TransformerException {
+		if (StaxUtils.isStaxSource(source)) {
+			return null;
+		}
+		else if (source instanceof DOMSource domSource) {
+			Node node = domSource.getNode();
+			return (node instanceof Document || node instanceof Element) ? node : null;
+		}
+		else if (source instanceof SAXSource saxSource && saxSource.getXMLReader() != null) {
+			DOMResult result = new DOMResult();
+			transform(source, result);
+			return result.getNode();
+		}
+		return null;
+	}
+
+	/**
+	 * Returns a {@link StreamSource} for a {@link SAXSource} that merely wraps an input
+	 * stream or reader, so that it can be read incrementally; or the given source
+	 * otherwise.
+	 */
+	private static Source toStreamSource(Source source) {
+		if (source instanceof SAXSource saxSource && !StaxUtils.isStaxSource(source)
+				&& saxSource.getXMLReader() == null) {
+			InputSource inputSource = saxSource.getInputSource();
+			if (inputSource != null) {
+				StreamSource streamSource = new StreamSource();
+				streamSource.setSystemId(inputSource.getSystemId());
+				streamSource.setPublicId(inputSource.getPublicId());
+				if (inputSource.getCharacterStream() != null) {
+					streamSource.setReader(inputSource.getCharacterStream());
+					return streamSource;
+				}
+				else if (inputSource.getByteStream() != null) {
+					streamSource.setInputStream(inputSource.getByteStream());
+					return streamSource;
+				}
+			}
+		}
+		return source;
+	}
+
 	private ByteArrayInputStream convertToByteArrayInputStream(Source source) throws TransformerException {
 		ByteArrayOutputStream bos = new ByteArrayOutputStream();
 		transform(source, new StreamResult(bos));
@@ -22,6 +22,8 @@ import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
 import java.net.URL;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -71,6 +73,11 @@ import org.springframework.xml.transform.TraxUtils;
  * marshalling} and
  * {@linkplain #unmarshalFromRequestPayload(org.springframework.ws.context.MessageContext, Class)
  * unmarshalling} methods.
+ * <p>
+ * By default, a new {@link Marshaller} or {@link Unmarshaller} is created for every
+ * invocation. Setting the {@linkplain #setPoolSize(int) pool size} to a positive value
+ * keeps up to that many idle instances per {@link JAXBContext}, so that they can be
+ * reused by subsequent invocations.
  *
  * @author Arjen Poutsma
  * @since 2.0
@@ -79,6 +86,38 @@ public abstract class AbstractJaxb2PayloadMethodProcessor extends AbstractPayloa
 
 	private final ConcurrentMap<Class<?>, JAXBContext> jaxbContexts = new ConcurrentHashMap<>();
 
+	private final ConcurrentMap<JAXBContext, Queue<Marshaller>> marshallerPools = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<JAXBContext, Queue<Unmarshaller>> unmarshallerPools = new ConcurrentHashMap<>();
+
+	private int poolSize = 0;
+
+	/**
+	 * Returns the maximum number of idle marshallers and unmarshallers kept per JAXB
+	 * context.
+	 * @since 5.0.0
+	 */
+	public int getPoolSize() {
+		return this.poolSize;
+	}
+
+	/**
+	 * Sets the maximum number of idle marshallers and unmarshallers kept per JAXB
+	 * context. Instances are borrowed without blocking: if none is available, a new one
+	 * is {@linkplain #createMarshaller(JAXBContext) created}, and returned instances that
+	 * do not fit in the pool are discarded. Instances that failed with an exception are
+	 * never returned to the pool.
+	 * <p>
+	 * Defaults to {@code 0}, meaning that a new instance is created for every invocation.
+	 * @since 5.0.0
+	 */
+	public void setPoolSize(int poolSize) {
+		Assert.isTrue(poolSize >= 0, "'poolSize' must not be negative");
+		this.poolSize = poolSize;
+		this.marshallerPools.clear();
+		this.unmarshallerPools.clear();
+	}
+
 	@Override
 	public final void handleReturnValue(MessageContext messageContext, MethodParameter returnType,
 			@Nullable Object returnValue) throws Exception {
@@ -107,20 +146,23 @@ public abstract class AbstractJaxb2PayloadMethodProcessor extends AbstractPayloa
 			this.logger.debug("Marshalling [" + jaxbElement + "] to response payload");
 		}
 		WebServiceMessage response = messageContext.getResponse();
+		JAXBContext jaxbContext = getJaxbContext(clazz);
 		if (response instanceof StreamingWebServiceMessage streamingResponse) {
 
-			StreamingPayload payload = new JaxbStreamingPayload(clazz, jaxbElement);
+			StreamingPayload payload = new JaxbStreamingPayload(jaxbContext, jaxbElement);
 			streamingResponse.setStreamingPayload(payload);
 		}
 		else {
 			Result responsePayload = response.getPayloadResult();
+			Marshaller marshaller = borrowMarshaller(jaxbContext);
 			try {
-				Jaxb2ResultCallback callback = new Jaxb2ResultCallback(clazz, jaxbElement);
+				Jaxb2ResultCallback callback = new Jaxb2ResultCallback(marshaller, jaxbElement);
 				TraxUtils.doWithResult(responsePayload, callback);
 			}
 			catch (Exception ex) {
 				throw convertToJaxbException(ex);
 			}
+			releaseMarshaller(jaxbContext, marshaller);
 		}
 	}
 
@@ -137,17 +179,20 @@ public abstract class AbstractJaxb2PayloadMethodProcessor extends AbstractPayloa
 		if (requestPayload == null) {
 			return null;
 		}
+		JAXBContext jaxbContext = getJaxbContext(clazz);
+		Unmarshaller unmarshaller = borrowUnmarshaller(jaxbContext);
+		Jaxb2SourceCallback callback = new Jaxb2SourceCallback(unmarshaller);
 		try {
-			Jaxb2SourceCallback callback = new Jaxb2SourceCallback(clazz);
 			TraxUtils.doWithSource(requestPayload, callback);
-			if (this.logger.isDebugEnabled()) {
-				this.logger.debug("Unmarshalled payload request to [" + callback.result + "]");
-			}
-			return callback.result;
 		}
 		catch (Exception ex) {
 			throw convertToJaxbException(ex);
 		}
+		releaseUnmarshaller(jaxbContext, unmarshaller);
+		if (this.logger.isDebugEnabled()) {
+			this.logger.debug("Unmarshalled payload request to [" + callback.result + "]");
+		}
+		return callback.result;
 	}
 
 	/**
@@ -163,17 +208,20 @@ public abstract class AbstractJaxb2PayloadMethodProcessor extends AbstractPayloa
 		if (requestPayload == null) {
 			return null;
 		}
+		JAXBContext jaxbContext = getJaxbContext(clazz);
+		Unmarshaller unmarshaller = borrowUnmarshaller(jaxbContext);
+		JaxbElementSourceCallback<T> callback = new JaxbElementSourceCallback<>(unmarshaller, clazz);
 		try {
-			JaxbElementSourceCallback<T> callback = new JaxbElementSourceCallback<>(clazz);
 			TraxUtils.doWithSource(requestPayload, callback);
-			if (this.logger.isDebugEnabled()) {
-				this.logger.debug("Unmarshalled payload request to [" + callback.result + "]");
-			}
-			return callback.result;
 		}
 		catch (Exception ex) {
 			throw convertToJaxbException(ex);
 		}
+		releaseUnmarshaller(jaxbContext, unmarshaller);
+		if (this.logger.isDebugEnabled()) {
+			this.logger.debug("Unmarshalled payload request to [" + callback.result + "]");
+		}
+		return callback.result;
 	}
 
 	private @Nullable Source getRequestPayload(MessageContext messageContext) {
@@ -201,8 +249,20 @@ public abstract class AbstractJaxb2PayloadMethodProcessor extends AbstractPayloa
 		return jaxbContext.createMarshaller();
 	}
 
-	private Marshaller createMarshaller(Class<?> clazz) throws JAXBException {
-		return createMarshaller(getJaxbContext(clazz));
+	private Marshaller borrowMarshaller(JAXBContext jaxbContext) throws JAXBException {
+		if (this.poolSize > 0) {
+			Marshaller marshaller = getPool(this.marshallerPools, jaxbContext).poll();
+			if (marshaller != null) {
+				return marshaller;
+			}
+		}
+		return createMarshaller(jaxbContext);
+	}
+
+	private void releaseMarshaller(JAXBContext jaxbContext, Marshaller marshaller) {
+		if (this.poolSize > 0) {
+			getPool(this.marshallerPools, jaxbContext).offer(marshaller);
+		}
 	}
 
 	/**
@@ -217,8 +277,24 @@ public abstract class AbstractJaxb2PayloadMethodProcessor extends AbstractPayloa
 		return jaxbContext.createUnmarshaller();
 	}
 
-	private Unmarshaller createUnmarshaller(Class<?> clazz) throws JAXBException {
-		return createUnmarshaller(getJaxbContext(clazz));
+	private Unmarshaller borrowUnmarshaller(JAXBContext jaxbContext) throws JAXBException {
+		if (this.poolSize > 0) {
+			Unmarshaller unmarshaller = getPool(this.unmarshallerPools, jaxbContext).poll();
+			if (unmarshaller != null) {
+				return unmarshaller;
+			}
+		}
+		return createUnmarshaller(jaxbContext);
+	}
+
+	private void releaseUnmarshaller(JAXBContext jaxbContext, Unmarshaller unmarshaller) {
+		if (this.poolSize > 0) {
+			getPool(this.unmarshallerPools, jaxbContext).offer(unmarshaller);
+		}
+	}
+
+	private <T> Queue<T> getPool(ConcurrentMap<JAXBContext, Queue<T>> pools, JAXBContext jaxbContext) {
+		return pools.computeIfAbsent(jaxbContext, (key) -> new ArrayBlockingQueue<>(this.poolSize));
 	}
 
 	private JAXBContext getJaxbContext(Class<?> clazz) throws JAXBException {
@@ -239,8 +315,8 @@ public abstract class AbstractJaxb2PayloadMethodProcessor extends AbstractPayloa
 
 		private @Nullable Object result;
 
-		Jaxb2SourceCallback(Class<?> clazz) throws JAXBException {
-			this.unmarshaller = createUnmarshaller(clazz);
+		Jaxb2SourceCallback(Unmarshaller unmarshaller) {
+			this.unmarshaller = unmarshaller;
 		}
 
 		@Override
@@ -309,8 +385,8 @@ public abstract class AbstractJaxb2PayloadMethodProcessor extends AbstractPayloa
 
 		private @Nullable JAXBElement<T> result;
 
-		JaxbElementSourceCallback(Class<T> declaredType) throws JAXBException {
-			this.unmarshaller = createUnmarshaller(declaredType);
+		JaxbElementSourceCallback(Unmarshaller unmarshaller, Class<T> declaredType) {
+			this.unmarshaller = unmarshaller;
 			this.declaredType = declaredType;
 		}
 
@@ -357,8 +433,8 @@ public abstract class AbstractJaxb2PayloadMethodProcessor extends AbstractPayloa
 
 		private final Object jaxbElement;
 
-		private Jaxb2ResultCallback(Class<?> clazz, Object jaxbElement) throws JAXBException {
-			this.marshaller = createMarshaller(clazz);
+		private Jaxb2ResultCallback(Marshaller marshaller, Object jaxbElement) {
+			this.marshaller = marshaller;
 			this.jaxbElement = jaxbElement;
 		}
 
@@ -401,16 +477,14 @@ public abstract class AbstractJaxb2PayloadMethodProcessor extends AbstractPayloa
 
 	private final class JaxbStreamingPayload implements StreamingPayload {
 
-		private final Object jaxbElement;
+		private final JAXBContext jaxbContext;
 
-		private final Marshaller marshaller;
+		private final Object jaxbElement;
 
 		private final QName name;
 
-		private JaxbStreamingPayload(Class<?> clazz, Object jaxbElement) throws JAXBException {
-			JAXBContext jaxbContext = getJaxbContext(clazz);
-			this.marshaller = jaxbContext.createMarshaller();
-			this.marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+		private JaxbStreamingPayload(JAXBContext jaxbContext, Object jaxbElement) {
+			this.jaxbContext = jaxbContext;
 			this.jaxbElement = jaxbElement;
 			JAXBIntrospector introspector = jaxbContext.createJAXBIntrospector();
 			this.name = introspector.getElementName(jaxbElement);
@@ -424,7 +498,12 @@ public abstract class AbstractJaxb2PayloadMethodProcessor extends AbstractPayloa
 		@Override
 		public void writeTo(XMLStreamWriter streamWriter) throws XMLStreamException {
 			try {
-				this.marshaller.marshal(this.jaxbElement, streamWriter);
+				Marshaller marshaller = borrowMarshaller(this.jaxbContext);
+				Object fragment = marshaller.getProperty(Marshaller.JAXB_FRAGMENT);
+				marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+				marshaller.marshal(this.jaxbElement, streamWriter);
+				marshaller.setProperty(Marshaller.JAXB_FRAGMENT, (fragment != null) ? fragment : Boolean.FALSE);
+				releaseMarshaller(this.jaxbContext, marshaller);
 			}
 			catch (JAXBException ex) {
 				throw new XMLStreamException("Could not marshal [" + this.jaxbElement + "]: " + ex.getMessage(), ex);
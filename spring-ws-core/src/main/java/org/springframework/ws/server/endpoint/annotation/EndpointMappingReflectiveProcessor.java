@@ -0,0 +1,118 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server.endpoint.annotation;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.xml.bind.JAXBElement;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.ExecutableMode;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.aot.hint.annotation.ReflectiveProcessor;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link ReflectiveProcessor} implementation for endpoint methods annotated with
+ * {@link PayloadRoot @PayloadRoot} and similar mapping annotations. In addition to
+ * registering the method for invocation, registers binding hints for the payload types
+ * of its parameters and return value, so that they can be (un)marshalled in a native
+ * image. Payload types wrapped in a {@link CompletionStage}, a single-value reactive type
+ * such as a {@code Mono}, or a {@link JAXBElement} are registered as well.
+ *
+ * @since 5.0.0
+ */
+public class EndpointMappingReflectiveProcessor implements ReflectiveProcessor {
+
+	private static final boolean reactiveStreamsPresent = ClassUtils.isPresent("org.reactivestreams.Publisher",
+			EndpointMappingReflectiveProcessor.class.getClassLoader());
+
+	private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+	@Override
+	public void registerReflectionHints(ReflectionHints hints, AnnotatedElement element) {
+		if (element instanceof Class<?> type) {
+			registerTypeHints(hints, type);
+		}
+		else if (element instanceof Method method) {
+			registerMethodHints(hints, method);
+		}
+	}
+
+	/**
+	 * Register reflection hints for the given endpoint type.
+	 * @param hints the reflection hints to contribute to
+	 * @param type the endpoint type
+	 */
+	protected void registerTypeHints(ReflectionHints hints, Class<?> type) {
+		hints.registerType(type);
+	}
+
+	/**
+	 * Register reflection hints for the given endpoint method, including the payload
+	 * types of its parameters and return value.
+	 * @param hints the reflection hints to contribute to
+	 * @param method the endpoint method
+	 */
+	protected void registerMethodHints(ReflectionHints hints, Method method) {
+		hints.registerMethod(method, ExecutableMode.INVOKE);
+		for (int i = 0; i < method.getParameterCount(); i++) {
+			registerPayloadTypeHints(hints, new MethodParameter(method, i));
+		}
+		registerPayloadTypeHints(hints, new MethodParameter(method, -1));
+	}
+
+	private void registerPayloadTypeHints(ReflectionHints hints, MethodParameter methodParameter) {
+		ResolvableType type = ResolvableType.forMethodParameter(methodParameter);
+		if (CompletionStage.class.isAssignableFrom(type.toClass())) {
+			type = type.as(CompletionStage.class).getGeneric();
+		}
+		else if (reactiveStreamsPresent) {
+			ReactiveAdapter reactiveAdapter = ReactiveAdapterRegistry.getSharedInstance().getAdapter(type.toClass());
+			if (reactiveAdapter != null && !reactiveAdapter.isMultiValue() && !reactiveAdapter.isNoValue()) {
+				type = type.getGeneric();
+			}
+		}
+		if (JAXBElement.class.isAssignableFrom(type.toClass())) {
+			type = type.as(JAXBElement.class).getGeneric();
+		}
+		Class<?> payloadType = type.toClass();
+		if (isBindableType(payloadType)) {
+			this.bindingRegistrar.registerReflectionHints(hints, type.getType());
+		}
+	}
+
+	/**
+	 * Indicates whether the given type is a candidate payload type, as opposed to a
+	 * framework or XML API type such as {@code MessageContext} or {@code Source}.
+	 */
+	private static boolean isBindableType(Class<?> type) {
+		if (type.isPrimitive() || type.isInterface() || type.isArray() || type == Object.class) {
+			return false;
+		}
+		String name = type.getName();
+		return !(name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jakarta.")
+				|| name.startsWith("org.w3c.") || name.startsWith("org.springframework."));
+	}
+
+}
@@ -22,6 +22,8 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import org.springframework.aot.hint.annotation.Reflective;
+
 /**
  * Marks an endpoint method as containing multiple {@link PayloadRoot PayloadRoots}.
  *
@@ -32,6 +34,7 @@ import java.lang.annotation.Target;
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
+@Reflective(EndpointMappingReflectiveProcessor.class)
 public @interface PayloadRoots {
 
 	PayloadRoot[] value();
@@ -36,6 +36,7 @@ import org.springframework.ws.server.EndpointInterceptor;
 import org.springframework.ws.soap.SoapFault;
 import org.springframework.ws.soap.SoapMessage;
 import org.springframework.xml.transform.TransformerObjectSupport;
+import org.springframework.xml.validation.FailFastValidationErrorHandler;
 import org.springframework.xml.validation.ValidationErrorHandler;
 import org.springframework.xml.validation.XmlValidator;
 import org.springframework.xml.validation.XmlValidatorFactory;
@@ -72,6 +73,8 @@ public abstract class AbstractValidatingInterceptor extends TransformerObjectSup
 
 	private @Nullable ValidationErrorHandler errorHandler;
 
+	private boolean failFast = false;
+
 	public String getSchemaLanguage() {
 		return this.schemaLanguage;
 	}
@@ -148,6 +151,19 @@ public abstract class AbstractValidatingInterceptor extends TransformerObjectSup
 		this.errorHandler = errorHandler;
 	}
 
+	/**
+	 * Indicates whether validation should stop at the first error. Default is
+	 * {@code false}, i.e. all errors are reported.
+	 * <p>
+	 * Only applies if no {@link #setErrorHandler(ValidationErrorHandler) error handler}
+	 * has been set.
+	 * @since 5.0.0
+	 * @see FailFastValidationErrorHandler
+	 */
+	public void setFailFast(boolean failFast) {
+		this.failFast = failFast;
+	}
+
 	/**
 	 * Indicates whether the request should be validated against the schema. Default is
 	 * {@code true}.
@@ -197,7 +213,7 @@ public abstract class AbstractValidatingInterceptor extends TransformerObjectSup
 		if (this.validateRequest) {
 			Source requestSource = getValidationRequestSource(messageContext.getRequest());
 			if (requestSource != null) {
-				SAXParseException[] errors = this.validator.validate(requestSource, this.errorHandler);
+				SAXParseException[] errors = this.validator.validate(requestSource, getErrorHandler());
 				if (!ObjectUtils.isEmpty(errors)) {
 					return handleRequestValidationErrors(messageContext, errors);
 				}
@@ -209,6 +225,13 @@ public abstract class AbstractValidatingInterceptor extends TransformerObjectSup
 		return true;
 	}
 
+	private @Nullable ValidationErrorHandler getErrorHandler() {
+		if (this.errorHandler == null && this.failFast) {
+			return new FailFastValidationErrorHandler();
+		}
+		return this.errorHandler;
+	}
+
 	/**
 	 * Template method that is called when the request message contains validation errors.
 	 * Default implementation logs all errors, and returns {@code false}, i.e. do not
@@ -241,7 +264,7 @@ public abstract class AbstractValidatingInterceptor extends TransformerObjectSup
 		if (this.validateResponse) {
 			Source responseSource = getValidationResponseSource(messageContext.getResponse());
 			if (responseSource != null) {
-				SAXParseException[] errors = this.validator.validate(responseSource, this.errorHandler);
+				SAXParseException[] errors = this.validator.validate(responseSource, getErrorHandler());
 				if (!ObjectUtils.isEmpty(errors)) {
 					return handleResponseValidationErrors(messageContext, errors);
 				}
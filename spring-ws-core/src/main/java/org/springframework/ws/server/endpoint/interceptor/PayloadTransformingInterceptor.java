@@ -16,20 +16,22 @@
 
 package org.springframework.ws.server.endpoint.interceptor;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-
+import javax.xml.XMLConstants;
 import javax.xml.transform.Source;
 import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.stream.StreamResult;
-import javax.xml.transform.stream.StreamSource;
+import javax.xml.transform.dom.DOMResult;
+import javax.xml.transform.dom.DOMSource;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
 import org.xml.sax.XMLReader;
 
 import org.springframework.beans.factory.InitializingBean;
@@ -51,6 +53,12 @@ import org.springframework.xml.transform.TransformerObjectSupport;
  * The stylesheets to use can be set using the {@code requestXslt} and
  * {@code responseXslt} properties. Both of these are optional: if not set, the message is
  * simply not transformed. Setting one of the two is required, though.
+ * <p>
+ * Payloads are transformed into an intermediate DOM tree, which is then copied into the
+ * message, because the payload source may not be read while the payload is being
+ * replaced. For DOM-based payloads, such as those of SAAJ and POX messages, the prefixed
+ * namespace declarations that the payload inherits from the envelope are kept, so that
+ * prefixes used in attribute values, such as {@code xsi:type}, still resolve.
  *
  * @author Arjen Poutsma
  * @since 1.0.0
@@ -117,10 +125,35 @@ public class PayloadTransformingInterceptor extends TransformerObjectSupport
 	}
 
 	private void transformMessage(WebServiceMessage message, Transformer transformer) throws TransformerException {
-		ByteArrayOutputStream os = new ByteArrayOutputStream();
-		transformer.transform(message.getPayloadSource(), new StreamResult(os));
-		ByteArrayInputStream is = new ByteArrayInputStream(os.toByteArray());
-		transform(new StreamSource(is), message.getPayloadResult());
+		Source payloadSource = message.getPayloadSource();
+		if (payloadSource instanceof DOMSource domSource && domSource.getNode() instanceof Element payloadElement) {
+			declareInheritedNamespaces(payloadElement);
+		}
+		DOMResult transformed = new DOMResult();
+		transformer.transform(payloadSource, transformed);
+		transform(new DOMSource(transformed.getNode()), message.getPayloadResult());
+	}
+
+	/**
+	 * Declares the prefixes that the given element inherits from its ancestors on the
+	 * element itself, since XSLT processors do not see declarations outside of the
+	 * transformed node. The element is replaced afterwards.
+	 */
+	private static void declareInheritedNamespaces(Element element) {
+		Node ancestor = element.getParentNode();
+		while (ancestor instanceof Element) {
+			NamedNodeMap attributes = ancestor.getAttributes();
+			for (int i = 0; i < attributes.getLength(); i++) {
+				Attr attribute = (Attr) attributes.item(i);
+				if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI())
+						&& XMLConstants.XMLNS_ATTRIBUTE.equals(attribute.getPrefix())
+						&& !element.hasAttribute(attribute.getName())) {
+					element.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, attribute.getName(),
+							attribute.getValue());
+				}
+			}
+			ancestor = ancestor.getParentNode();
+		}
 	}
 
 	/** Does nothing by default. Faults are not transformed. */
@@ -21,7 +21,6 @@ import java.lang.annotation.Annotation;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.context.ApplicationContext;
-import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.util.Assert;
 import org.springframework.ws.server.endpoint.annotation.Endpoint;
 
@@ -69,15 +68,12 @@ public abstract class AbstractAnnotationMethodEndpointMapping<T> extends Abstrac
 			this.logger.debug("Looking for endpoints in application context: " + applicationContext);
 		}
 		String[] beanNames = (this.detectEndpointsInAncestorContexts
-				? BeanFactoryUtils.beanNamesForTypeIncludingAncestors(applicationContext, Object.class)
-				: applicationContext.getBeanNamesForType(Object.class));
+				? BeanFactoryUtils.beanNamesForAnnotationIncludingAncestors(applicationContext,
+						getEndpointAnnotationType())
+				: applicationContext.getBeanNamesForAnnotation(getEndpointAnnotationType()));
 
 		for (String beanName : beanNames) {
-			Class<?> endpointClass = applicationContext.getType(beanName);
-			if (endpointClass != null
-					&& AnnotationUtils.findAnnotation(endpointClass, getEndpointAnnotationType()) != null) {
-				registerMethods(beanName);
-			}
+			registerMethods(beanName);
 		}
 	}
 
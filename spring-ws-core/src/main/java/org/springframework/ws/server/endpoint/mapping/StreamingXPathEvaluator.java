@@ -0,0 +1,597 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server.endpoint.mapping;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jspecify.annotations.Nullable;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Evaluates a restricted subset of XPath 1.0 location paths on a stream of XML events,
+ * stopping as soon as the result is known. Used by {@link XPathPayloadEndpointMapping} to
+ * route messages without building a DOM of the payload.
+ * <p>
+ * The supported subset consists of location paths made up of:
+ * <ul>
+ * <li>child ({@code /}) and descendant ({@code //}) steps; relative paths are evaluated
+ * against the payload root element,</li>
+ * <li>name tests, either qualified with a prefix bound in the namespace mappings,
+ * unqualified (i.e. in no namespace), or the {@code *} wildcard,</li>
+ * <li>attribute equality predicates, such as {@code [@type='order']}, on any step,</li>
+ * <li>a text equality predicate, such as {@code [text()='order']}, on the last
+ * element step,</li>
+ * <li>an optional final {@code text()} or {@code @attribute} step.</li>
+ * </ul>
+ * The result is the string value of the first selected node in document order, as
+ * returned by {@link org.springframework.xml.xpath.XPathExpression#evaluateAsString}.
+ * Expressions outside this subset are rejected by {@link #compile(String, Map)}.
+ *
+ * @since 5.0.0
+ */
+final class StreamingXPathEvaluator {
+
+	private final Step[] steps;
+
+	private final ResultType resultType;
+
+	private final @Nullable QName resultAttribute;
+
+	private final boolean relative;
+
+	private StreamingXPathEvaluator(Step[] steps, ResultType resultType, @Nullable QName resultAttribute,
+			boolean relative) {
+		this.steps = steps;
+		this.resultType = resultType;
+		this.resultAttribute = resultAttribute;
+		this.relative = relative;
+	}
+
+	/**
+	 * Compiles the given expression.
+	 * @param expression the XPath expression
+	 * @param namespaces the namespace bindings used in the expression, keyed by prefix
+	 * @return the evaluator, or {@code null} if the expression is not part of the
+	 * supported subset
+	 */
+	static @Nullable StreamingXPathEvaluator compile(String expression, Map<String, String> namespaces) {
+		try {
+			return new Parser(expression.trim(), namespaces).parse();
+		}
+		catch (IllegalArgumentException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Evaluates this expression on the element the given reader is positioned on (or on
+	 * the first element following the current position), reading no further than
+	 * necessary.
+	 * @param streamReader the reader
+	 * @return the string result; empty if nothing was selected
+	 */
+	String evaluate(XMLStreamReader streamReader) throws XMLStreamException {
+		Evaluation evaluation = new Evaluation();
+		int event = streamReader.getEventType();
+		while (event != XMLStreamConstants.START_ELEMENT) {
+			if (!streamReader.hasNext()) {
+				return "";
+			}
+			event = streamReader.next();
+		}
+		int depth = 0;
+		while (true) {
+			switch (event) {
+				case XMLStreamConstants.START_ELEMENT -> {
+					depth++;
+					evaluation.startElement(streamReader.getName(), (name) -> getAttributeValue(streamReader, name));
+				}
+				case XMLStreamConstants.END_ELEMENT -> {
+					depth--;
+					evaluation.endElement();
+				}
+				case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE ->
+					evaluation.characters(streamReader.getText());
+				default -> evaluation.otherNode();
+			}
+			if (evaluation.isDone() || depth == 0 || !streamReader.hasNext()) {
+				return evaluation.getResult();
+			}
+			event = streamReader.next();
+		}
+	}
+
+	/**
+	 * Evaluates this expression on the given element, walking the DOM tree without copying
+	 * it.
+	 * @param element the payload element
+	 * @return the string result; empty if nothing was selected
+	 */
+	String evaluate(Element element) {
+		Evaluation evaluation = new Evaluation();
+		walk(element, evaluation);
+		return evaluation.getResult();
+	}
+
+	private void walk(Node node, Evaluation evaluation) {
+		switch (node.getNodeType()) {
+			case Node.ELEMENT_NODE -> {
+				Element element = (Element) node;
+				String localName = (element.getLocalName() != null) ? element.getLocalName() : element.getNodeName();
+				evaluation.startElement(new QName(nullSafe(element.getNamespaceURI()), localName),
+						(name) -> element.hasAttributeNS(emptyToNull(name.getNamespaceURI()), name.getLocalPart())
+								? element.getAttributeNS(emptyToNull(name.getNamespaceURI()), name.getLocalPart())
+								: null);
+				for (Node child = node.getFirstChild(); child != null && !evaluation.isDone(); child = child
+					.getNextSibling()) {
+					walk(child, evaluation);
+				}
+				if (!evaluation.isDone()) {
+					evaluation.endElement();
+				}
+			}
+			case Node.TEXT_NODE, Node.CDATA_SECTION_NODE -> evaluation.characters(node.getNodeValue());
+			case Node.ENTITY_REFERENCE_NODE -> {
+				for (Node child = node.getFirstChild(); child != null && !evaluation.isDone(); child = child
+					.getNextSibling()) {
+					walk(child, evaluation);
+				}
+			}
+			default -> evaluation.otherNode();
+		}
+	}
+
+	/**
+	 * Returns the value of the attribute with exactly the given name. Unlike
+	 * {@link XMLStreamReader#getAttributeValue(String, String)} with a {@code null}
+	 * namespace, this does not match attributes in a namespace when looking for an
+	 * unqualified attribute.
+	 */
+	private static @Nullable String getAttributeValue(XMLStreamReader streamReader, QName name) {
+		for (int i = 0; i < streamReader.getAttributeCount(); i++) {
+			if (name.getLocalPart().equals(streamReader.getAttributeLocalName(i))
+					&& name.getNamespaceURI().equals(nullSafe(streamReader.getAttributeNamespace(i)))) {
+				return streamReader.getAttributeValue(i);
+			}
+		}
+		return null;
+	}
+
+	private static String nullSafe(@Nullable String s) {
+		return (s != null) ? s : "";
+	}
+
+	private static @Nullable String emptyToNull(String s) {
+		return StringUtils.hasLength(s) ? s : null;
+	}
+
+	private enum ResultType {
+
+		ELEMENT, TEXT, ATTRIBUTE
+
+	}
+
+	@FunctionalInterface
+	private interface Attributes {
+
+		@Nullable String getValue(QName name);
+
+	}
+
+	/**
+	 * A single element step of the location path.
+	 */
+	private static final class Step {
+
+		private final boolean descendant;
+
+		private final @Nullable QName name;
+
+		private final List<QName> attributeNames = new ArrayList<>();
+
+		private final List<String> attributeValues = new ArrayList<>();
+
+		private @Nullable String text;
+
+		Step(boolean descendant, @Nullable QName name) {
+			this.descendant = descendant;
+			this.name = name;
+		}
+
+		boolean matches(QName elementName, Attributes attributes) {
+			if (this.name != null && !this.name.equals(elementName)) {
+				return false;
+			}
+			for (int i = 0; i < this.attributeNames.size(); i++) {
+				if (!this.attributeValues.get(i).equals(attributes.getValue(this.attributeNames.get(i)))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+	}
+
+	/**
+	 * An element of the input that was selected by all steps, but whose text predicate
+	 * and/or string value is still being determined.
+	 */
+	private static final class Candidate {
+
+		private final int order;
+
+		private final int depth;
+
+		private final StringBuilder value = new StringBuilder();
+
+		private @Nullable StringBuilder textNode;
+
+		private boolean textMatched;
+
+		Candidate(int order, int depth) {
+			this.order = order;
+			this.depth = depth;
+		}
+
+	}
+
+	/**
+	 * The state of a single evaluation.
+	 */
+	private final class Evaluation {
+
+		/** The states reached for each open element; the top is the current element. */
+		private final List<BitSet> states = new ArrayList<>();
+
+		private final List<Candidate> candidates = new ArrayList<>();
+
+		private @Nullable StringBuilder textNode;
+
+		private int order;
+
+		private @Nullable String result;
+
+		private int resultOrder = Integer.MAX_VALUE;
+
+		private boolean done;
+
+		void startElement(QName name, Attributes attributes) {
+			endTextNode();
+			int elementOrder = this.order++;
+			int stepCount = StreamingXPathEvaluator.this.steps.length;
+			BitSet next = new BitSet(stepCount + 1);
+			if (this.states.isEmpty()) {
+				if (StreamingXPathEvaluator.this.relative) {
+					// the payload root is the context node; its children match the first step
+					next.set(0);
+				}
+				else {
+					BitSet initial = new BitSet(1);
+					initial.set(0);
+					advance(initial, name, attributes, next);
+				}
+			}
+			else {
+				advance(currentState(), name, attributes, next);
+			}
+			this.states.add(next);
+			if (next.get(stepCount)) {
+				selected(attributes, elementOrder);
+			}
+		}
+
+		private BitSet currentState() {
+			return this.states.get(this.states.size() - 1);
+		}
+
+		private boolean isCurrentElementSelected() {
+			return !this.states.isEmpty() && currentState().get(StreamingXPathEvaluator.this.steps.length);
+		}
+
+		private void advance(BitSet current, QName name, Attributes attributes, BitSet next) {
+			Step[] steps = StreamingXPathEvaluator.this.steps;
+			for (int i = current.nextSetBit(0); i >= 0 && i < steps.length; i = current.nextSetBit(i + 1)) {
+				if (steps[i].descendant) {
+					next.set(i);
+				}
+				if (steps[i].matches(name, attributes)) {
+					next.set(i + 1);
+				}
+			}
+		}
+
+		private void selected(Attributes attributes, int elementOrder) {
+			switch (StreamingXPathEvaluator.this.resultType) {
+				case ATTRIBUTE -> {
+					QName resultAttribute = StreamingXPathEvaluator.this.resultAttribute;
+					String value = (resultAttribute != null) ? attributes.getValue(resultAttribute) : null;
+					if (value != null) {
+						found(value, elementOrder);
+					}
+				}
+				case ELEMENT -> this.candidates.add(new Candidate(elementOrder, this.states.size()));
+				case TEXT -> {
+					// text nodes are handled in characters()
+				}
+			}
+		}
+
+		void characters(String text) {
+			if (StreamingXPathEvaluator.this.resultType == ResultType.TEXT && isCurrentElementSelected()) {
+				if (this.textNode == null) {
+					this.textNode = new StringBuilder();
+				}
+				this.textNode.append(text);
+			}
+			for (Candidate candidate : this.candidates) {
+				candidate.value.append(text);
+				if (candidate.depth == this.states.size()) {
+					if (candidate.textNode == null) {
+						candidate.textNode = new StringBuilder();
+					}
+					candidate.textNode.append(text);
+				}
+			}
+		}
+
+		void otherNode() {
+			endTextNode();
+		}
+
+		void endElement() {
+			endTextNode();
+			int depth = this.states.size();
+			Step last = StreamingXPathEvaluator.this.steps[StreamingXPathEvaluator.this.steps.length - 1];
+			for (int i = this.candidates.size() - 1; i >= 0; i--) {
+				Candidate candidate = this.candidates.get(i);
+				if (candidate.depth == depth) {
+					this.candidates.remove(i);
+					if (last.text == null || candidate.textMatched) {
+						found(candidate.value.toString(), candidate.order);
+					}
+				}
+			}
+			this.states.remove(depth - 1);
+			if (this.states.isEmpty()) {
+				this.done = true;
+			}
+			else if (this.result != null) {
+				this.done = !hasEarlierCandidate();
+			}
+		}
+
+		private void endTextNode() {
+			if (this.textNode != null) {
+				found(this.textNode.toString(), this.order++);
+				this.textNode = null;
+			}
+			String text = StreamingXPathEvaluator.this.steps[StreamingXPathEvaluator.this.steps.length - 1].text;
+			for (Candidate candidate : this.candidates) {
+				if (candidate.textNode != null) {
+					if (text != null && text.contentEquals(candidate.textNode)) {
+						candidate.textMatched = true;
+					}
+					candidate.textNode = null;
+				}
+			}
+		}
+
+		private void found(String value, int valueOrder) {
+			if (valueOrder < this.resultOrder) {
+				this.result = value;
+				this.resultOrder = valueOrder;
+			}
+			this.done = !hasEarlierCandidate();
+		}
+
+		/**
+		 * Indicates whether a candidate that precedes the current result in document order
+		 * is still open.
+		 */
+		private boolean hasEarlierCandidate() {
+			for (Candidate candidate : this.candidates) {
+				if (candidate.order < this.resultOrder) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		boolean isDone() {
+			return this.done;
+		}
+
+		String getResult() {
+			return (this.result != null) ? this.result : "";
+		}
+
+	}
+
+	/**
+	 * Parser for the supported subset.
+	 */
+	private static final class Parser {
+
+		private final String expression;
+
+		private final Map<String, String> namespaces;
+
+		private int pos;
+
+		Parser(String expression, Map<String, String> namespaces) {
+			this.expression = expression;
+			this.namespaces = namespaces;
+		}
+
+		StreamingXPathEvaluator parse() {
+			List<Step> steps = new ArrayList<>();
+			boolean relative = !this.expression.startsWith("/");
+			ResultType resultType = ResultType.ELEMENT;
+			QName resultAttribute = null;
+			boolean first = true;
+			while (this.pos < this.expression.length()) {
+				boolean descendant = false;
+				if (first && relative) {
+					first = false;
+				}
+				else if (consume("//")) {
+					descendant = true;
+				}
+				else if (!consume("/")) {
+					throw new IllegalArgumentException("Expected '/' at position " + this.pos);
+				}
+				first = false;
+				if (consume("text()")) {
+					resultType = ResultType.TEXT;
+					break;
+				}
+				if (consume("@")) {
+					resultType = ResultType.ATTRIBUTE;
+					resultAttribute = parseName(false);
+					break;
+				}
+				Step step = new Step(descendant, parseName(true));
+				while (consume("[")) {
+					parsePredicate(step);
+				}
+				steps.add(step);
+			}
+			if (this.pos != this.expression.length() || steps.isEmpty()) {
+				throw new IllegalArgumentException("Unsupported expression");
+			}
+			for (int i = 0; i < steps.size() - 1; i++) {
+				if (steps.get(i).text != null) {
+					throw new IllegalArgumentException("Text predicates are only supported on the last step");
+				}
+			}
+			if (resultType != ResultType.ELEMENT && steps.get(steps.size() - 1).text != null) {
+				throw new IllegalArgumentException("Text predicates are only supported on element results");
+			}
+			return new StreamingXPathEvaluator(steps.toArray(new Step[0]), resultType, resultAttribute, relative);
+		}
+
+		private void parsePredicate(Step step) {
+			skipWhitespace();
+			if (consume("@")) {
+				QName attributeName = parseName(false);
+				step.attributeNames.add(attributeName);
+				step.attributeValues.add(parseEqualsLiteral());
+			}
+			else if (consume("text()")) {
+				if (step.text != null) {
+					throw new IllegalArgumentException("Duplicate text predicate");
+				}
+				step.text = parseEqualsLiteral();
+			}
+			else {
+				throw new IllegalArgumentException("Unsupported predicate at position " + this.pos);
+			}
+			skipWhitespace();
+			if (!consume("]")) {
+				throw new IllegalArgumentException("Expected ']' at position " + this.pos);
+			}
+		}
+
+		private String parseEqualsLiteral() {
+			skipWhitespace();
+			if (!consume("=")) {
+				throw new IllegalArgumentException("Expected '=' at position " + this.pos);
+			}
+			skipWhitespace();
+			if (this.pos >= this.expression.length()) {
+				throw new IllegalArgumentException("Expected literal");
+			}
+			char quote = this.expression.charAt(this.pos);
+			if (quote != '\'' && quote != '"') {
+				throw new IllegalArgumentException("Expected literal at position " + this.pos);
+			}
+			int end = this.expression.indexOf(quote, this.pos + 1);
+			if (end == -1) {
+				throw new IllegalArgumentException("Unterminated literal at position " + this.pos);
+			}
+			String literal = this.expression.substring(this.pos + 1, end);
+			this.pos = end + 1;
+			return literal;
+		}
+
+		/**
+		 * Parses a name test. Returns {@code null} for the {@code *} wildcard, if allowed.
+		 */
+		private @Nullable QName parseName(boolean wildcardAllowed) {
+			if (wildcardAllowed && consume("*")) {
+				return null;
+			}
+			int start = this.pos;
+			if (this.pos >= this.expression.length() || !isNameStartChar(this.expression.charAt(this.pos))) {
+				throw new IllegalArgumentException("Expected name at position " + start);
+			}
+			while (this.pos < this.expression.length() && isNameChar(this.expression.charAt(this.pos))) {
+				this.pos++;
+			}
+			String name = this.expression.substring(start, this.pos);
+			if (!StringUtils.hasLength(name) || name.startsWith(":") || name.endsWith(":")) {
+				throw new IllegalArgumentException("Expected name at position " + start);
+			}
+			int colon = name.indexOf(':');
+			if (colon == -1) {
+				return new QName(XMLConstants.NULL_NS_URI, name);
+			}
+			String prefix = name.substring(0, colon);
+			String namespaceUri = this.namespaces.get(prefix);
+			if (namespaceUri == null || name.indexOf(':', colon + 1) != -1) {
+				throw new IllegalArgumentException("Unbound prefix '" + prefix + "'");
+			}
+			return new QName(namespaceUri, name.substring(colon + 1), prefix);
+		}
+
+		private boolean isNameStartChar(char c) {
+			return Character.isLetter(c) || c == '_';
+		}
+
+		private boolean isNameChar(char c) {
+			return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.' || c == ':';
+		}
+
+		private boolean consume(String token) {
+			if (this.expression.startsWith(token, this.pos)) {
+				this.pos += token.length();
+				return true;
+			}
+			return false;
+		}
+
+		private void skipWhitespace() {
+			while (this.pos < this.expression.length() && Character.isWhitespace(this.expression.charAt(this.pos))) {
+				this.pos++;
+			}
+		}
+
+	}
+
+}
@@ -16,21 +16,41 @@
 
 package org.springframework.ws.server.endpoint.mapping;
 
+import java.io.ByteArrayOutputStream;
+import java.io.CharArrayWriter;
+import java.io.FilterInputStream;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.util.Collections;
 import java.util.Map;
 
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.Source;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMResult;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamSource;
 
 import org.jspecify.annotations.Nullable;
+import org.w3c.dom.Document;
 import org.w3c.dom.Element;
+import org.w3c.dom.Node;
 
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
+import org.springframework.util.xml.StaxUtils;
 import org.springframework.ws.WebServiceMessage;
 import org.springframework.ws.context.MessageContext;
+import org.springframework.xml.XMLInputFactoryUtils;
 import org.springframework.xml.transform.TransformerFactoryUtils;
 import org.springframework.xml.xpath.XPathExpression;
 import org.springframework.xml.xpath.XPathExpressionFactory;
@@ -57,6 +77,12 @@ import org.springframework.xml.xpath.XPathExpressionFactory;
  *
  * The syntax is XPATH_EVALUATION=ENDPOINT_BEAN_NAME. The key is the evaluation of the
  * XPath expression for the incoming message, the value is the name of the endpoint.
+ * <p>
+ * Expressions that consist of simple location paths, with attribute and text equality
+ * predicates, are evaluated directly on the StAX events or DOM nodes of the payload,
+ * stopping as soon as the result is known. Other expressions require the payload to be
+ * copied into a new DOM first. Streaming evaluation can be disabled using the
+ * {@link #setStreamingEvaluation(boolean) streamingEvaluation} property.
  *
  * @author Arjen Poutsma
  * @since 1.0.0
@@ -65,6 +91,8 @@ import org.springframework.xml.xpath.XPathExpressionFactory;
  */
 public class XPathPayloadEndpointMapping extends AbstractMapBasedEndpointMapping implements InitializingBean {
 
+	private static final int SKIP_BUFFER_SIZE = 8192;
+
 	@SuppressWarnings("NullAway.Init")
 	private String expressionString;
 
@@ -73,8 +101,14 @@ public class XPathPayloadEndpointMapping extends AbstractMapBasedEndpointMapping
 
 	private @Nullable Map<String, String> namespaces;
 
+	private boolean streamingEvaluation = true;
+
+	private @Nullable StreamingXPathEvaluator streamingEvaluator;
+
 	private final TransformerFactory transformerFactory = TransformerFactoryUtils.newInstance();
 
+	private final XMLInputFactory inputFactory = XMLInputFactoryUtils.newInstance();
+
 	/** Sets the XPath expression to be used. */
 	public void setExpression(String expression) {
 		this.expressionString = expression;
@@ -88,6 +122,15 @@ public class XPathPayloadEndpointMapping extends AbstractMapBasedEndpointMapping
 		this.namespaces = namespaces;
 	}
 
+	/**
+	 * Sets whether supported expressions should be evaluated on the payload stream,
+	 * rather than on a DOM copy of the payload. Defaults to {@code true}.
+	 * @since 5.0.0
+	 */
+	public void setStreamingEvaluation(boolean streamingEvaluation) {
+		this.streamingEvaluation = streamingEvaluation;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		Assert.notNull(this.expressionString, "expression is required");
@@ -97,14 +140,109 @@ public class XPathPayloadEndpointMapping extends AbstractMapBasedEndpointMapping
 		else {
 			this.expression = XPathExpressionFactory.createXPathExpression(this.expressionString, this.namespaces);
 		}
+		if (this.streamingEvaluation) {
+			this.streamingEvaluator = StreamingXPathEvaluator.compile(this.expressionString,
+					(this.namespaces != null) ? this.namespaces : Collections.emptyMap());
+			if (this.streamingEvaluator == null && this.logger.isDebugEnabled()) {
+				this.logger.debug("Expression [" + this.expressionString
+						+ "] cannot be evaluated on a stream, payloads will be transformed to DOM");
+			}
+		}
 	}
 
 	@Override
 	protected @Nullable String getLookupKeyForMessage(MessageContext messageContext) throws Exception {
+		if (this.streamingEvaluator != null) {
+			Source payloadSource = messageContext.getRequest().getPayloadSource();
+			if (payloadSource == null) {
+				return null;
+			}
+			String result = evaluateStreaming(this.streamingEvaluator, payloadSource);
+			if (result != null) {
+				return result;
+			}
+		}
 		Element payloadElement = getMessagePayloadElement(messageContext.getRequest());
 		return this.expression.evaluateAsString(payloadElement);
 	}
 
+	/**
+	 * Evaluates the given evaluator on the payload source, without copying it. The
+	 * content read from a stream source is pushed back into it, so that it can still be
+	 * read in full afterwards. Returns {@code null} if the source type is not supported.
+	 */
+	private @Nullable String evaluateStreaming(StreamingXPathEvaluator evaluator, Source payloadSource)
+			throws Exception {
+		if (payloadSource instanceof DOMSource domSource) {
+			Node node = domSource.getNode();
+			if (node instanceof Document document) {
+				node = document.getDocumentElement();
+			}
+			return (node instanceof Element element) ? evaluator.evaluate(element) : null;
+		}
+		if (StaxUtils.isStaxSource(payloadSource)) {
+			XMLStreamReader streamReader = StaxUtils.getXMLStreamReader(payloadSource);
+			if (streamReader == null) {
+				XMLEventReader eventReader = StaxUtils.getXMLEventReader(payloadSource);
+				if (eventReader == null) {
+					return null;
+				}
+				streamReader = StaxUtils.createEventStreamReader(eventReader);
+			}
+			return evaluator.evaluate(streamReader);
+		}
+		if (payloadSource instanceof StreamSource streamSource) {
+			InputStream inputStream = streamSource.getInputStream();
+			if (inputStream != null) {
+				if (streamSource.getInputStream() != inputStream) {
+					// sources such as StringSource return a fresh stream on every invocation
+					try (inputStream) {
+						return evaluate(evaluator, this.inputFactory.createXMLStreamReader(inputStream));
+					}
+				}
+				RecordingInputStream recordingInputStream = new RecordingInputStream(inputStream);
+				try {
+					return evaluate(evaluator, this.inputFactory.createXMLStreamReader(recordingInputStream));
+				}
+				finally {
+					byte[] consumed = recordingInputStream.getConsumed();
+					PushbackInputStream pushbackInputStream = new PushbackInputStream(inputStream,
+							Math.max(consumed.length, 1));
+					pushbackInputStream.unread(consumed);
+					streamSource.setInputStream(pushbackInputStream);
+				}
+			}
+			Reader reader = streamSource.getReader();
+			if (reader != null) {
+				if (streamSource.getReader() != reader) {
+					try (reader) {
+						return evaluate(evaluator, this.inputFactory.createXMLStreamReader(reader));
+					}
+				}
+				RecordingReader recordingReader = new RecordingReader(reader);
+				try {
+					return evaluate(evaluator, this.inputFactory.createXMLStreamReader(recordingReader));
+				}
+				finally {
+					char[] consumed = recordingReader.getConsumed();
+					PushbackReader pushbackReader = new PushbackReader(reader, Math.max(consumed.length, 1));
+					pushbackReader.unread(consumed);
+					streamSource.setReader(pushbackReader);
+				}
+			}
+		}
+		return null;
+	}
+
+	private String evaluate(StreamingXPathEvaluator evaluator, XMLStreamReader streamReader) throws Exception {
+		try {
+			return evaluator.evaluate(streamReader);
+		}
+		finally {
+			streamReader.close();
+		}
+	}
+
 	private Element getMessagePayloadElement(WebServiceMessage message) throws TransformerException {
 		Transformer transformer = this.transformerFactory.newTransformer();
 		DOMResult domResult = new DOMResult();
@@ -117,4 +255,104 @@ public class XPathPayloadEndpointMapping extends AbstractMapBasedEndpointMapping
 		return StringUtils.hasLength(key);
 	}
 
+	/**
+	 * Input stream that records the bytes read from it, so that they can be pushed back.
+	 */
+	private static final class RecordingInputStream extends FilterInputStream {
+
+		private final ByteArrayOutputStream consumed = new ByteArrayOutputStream();
+
+		RecordingInputStream(InputStream inputStream) {
+			super(inputStream);
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b != -1) {
+				this.consumed.write(b);
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int n = super.read(b, off, len);
+			if (n > 0) {
+				this.consumed.write(b, off, n);
+			}
+			return n;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			return Math.max(read(new byte[(int) Math.min(Math.max(n, 0), SKIP_BUFFER_SIZE)]), 0);
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		@Override
+		public void close() {
+			// the stream is read again afterwards
+		}
+
+		byte[] getConsumed() {
+			return this.consumed.toByteArray();
+		}
+
+	}
+
+	/**
+	 * Reader that records the characters read from it, so that they can be pushed back.
+	 */
+	private static final class RecordingReader extends FilterReader {
+
+		private final CharArrayWriter consumed = new CharArrayWriter();
+
+		RecordingReader(Reader reader) {
+			super(reader);
+		}
+
+		@Override
+		public int read() throws IOException {
+			int c = super.read();
+			if (c != -1) {
+				this.consumed.write(c);
+			}
+			return c;
+		}
+
+		@Override
+		public int read(char[] cbuf, int off, int len) throws IOException {
+			int n = super.read(cbuf, off, len);
+			if (n > 0) {
+				this.consumed.write(cbuf, off, n);
+			}
+			return n;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			return Math.max(read(new char[(int) Math.min(Math.max(n, 0), SKIP_BUFFER_SIZE)]), 0);
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		@Override
+		public void close() {
+			// the reader is read again afterwards
+		}
+
+		char[] getConsumed() {
+			return this.consumed.toCharArray();
+		}
+
+	}
+
 }
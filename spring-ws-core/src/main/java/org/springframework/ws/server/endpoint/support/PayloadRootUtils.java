@@ -16,11 +16,19 @@
 
 package org.springframework.ws.server.endpoint.support;
 
+import java.io.ByteArrayInputStream;
+import java.io.CharArrayReader;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.PushbackReader;
 import java.io.Reader;
+import java.net.URI;
+import java.net.URISyntaxException;
 
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
@@ -29,26 +37,45 @@ import javax.xml.transform.Source;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMResult;
+import javax.xml.transform.stream.StreamSource;
 
 import org.jspecify.annotations.Nullable;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
+import org.xml.sax.Attributes;
 import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
 import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
 
 import org.springframework.lang.Contract;
+import org.springframework.xml.XMLInputFactoryUtils;
 import org.springframework.xml.namespace.QNameUtils;
 import org.springframework.xml.transform.TransformerHelper;
 import org.springframework.xml.transform.TraxUtils;
 
 /**
  * Helper class for determining the root qualified name of a Web Service payload.
+ * <p>
+ * For DOM and StAX sources, the name is read directly from the current node or event.
+ * For stream and SAX sources, only the start of the payload is parsed, up to the root
+ * element. The consumed bytes or characters are pushed back into the source, so that it
+ * can still be read in full afterwards. Only if the root element cannot be found that
+ * way, the source is transformed to a DOM.
  *
  * @author Arjen Poutsma
  * @since 1.0.0
  */
 public abstract class PayloadRootUtils {
 
+	/**
+	 * The maximum number of bytes or characters that is read from a stream source to find
+	 * the root element.
+	 */
+	private static final int ROOT_ELEMENT_READ_LIMIT = 8192;
+
+	private static final XMLInputFactory inputFactory = XMLInputFactoryUtils.newInstance();
+
 	private PayloadRootUtils() {
 	}
 
@@ -71,7 +98,7 @@ public abstract class PayloadRootUtils {
 			return null;
 		}
 		try {
-			PayloadRootSourceCallback callback = new PayloadRootSourceCallback();
+			PayloadRootSourceCallback callback = new PayloadRootSourceCallback(source);
 			TraxUtils.doWithSource(source, callback);
 			if (callback.result != null) {
 				return callback.result;
@@ -94,8 +121,14 @@ public abstract class PayloadRootUtils {
 
 	private static final class PayloadRootSourceCallback implements TraxUtils.SourceCallback {
 
+		private final Source source;
+
 		private @Nullable QName result;
 
+		PayloadRootSourceCallback(Source source) {
+			this.source = source;
+		}
+
 		@Override
 		public void domSource(Node node) throws Exception {
 			if (node.getNodeType() == Node.ELEMENT_NODE) {
@@ -141,24 +174,158 @@ public abstract class PayloadRootUtils {
 
 		@Override
 		public void saxSource(XMLReader reader, InputSource inputSource) throws Exception {
-			// Do nothing
+			if (inputSource.getByteStream() != null) {
+				PushbackInputStream inputStream = new PushbackInputStream(inputSource.getByteStream(),
+						ROOT_ELEMENT_READ_LIMIT);
+				this.result = readRootElement(inputStream);
+				inputSource.setByteStream(inputStream);
+			}
+			else if (inputSource.getCharacterStream() != null) {
+				PushbackReader characterStream = new PushbackReader(inputSource.getCharacterStream(),
+						ROOT_ELEMENT_READ_LIMIT);
+				this.result = readRootElement(characterStream);
+				inputSource.setCharacterStream(characterStream);
+			}
+			else if (inputSource.getSystemId() != null) {
+				source(inputSource.getSystemId());
+			}
+			else {
+				// custom SAXSource generating events without a stream: stop at the root
+				RootElementHandler handler = new RootElementHandler();
+				reader.setContentHandler(handler);
+				try {
+					reader.parse(inputSource);
+				}
+				catch (SAXException ex) {
+					if (handler.result == null) {
+						throw ex;
+					}
+				}
+				this.result = handler.result;
+			}
 		}
 
 		@Override
 		public void streamSource(InputStream inputStream) throws Exception {
-			// Do nothing
+			PushbackInputStream pushbackInputStream = new PushbackInputStream(inputStream, ROOT_ELEMENT_READ_LIMIT);
+			this.result = readRootElement(pushbackInputStream);
+			StreamSource streamSource = (StreamSource) this.source;
+			if (streamSource.getInputStream() == inputStream) {
+				streamSource.setInputStream(pushbackInputStream);
+			}
+			else {
+				pushbackInputStream.close();
+			}
 		}
 
 		@Override
 		public void streamSource(Reader reader) throws Exception {
-			// Do nothing
+			PushbackReader pushbackReader = new PushbackReader(reader, ROOT_ELEMENT_READ_LIMIT);
+			this.result = readRootElement(pushbackReader);
+			// sources such as StringSource return a fresh reader on every invocation
+			StreamSource streamSource = (StreamSource) this.source;
+			if (streamSource.getReader() == reader) {
+				streamSource.setReader(pushbackReader);
+			}
+			else {
+				pushbackReader.close();
+			}
 		}
 
 		@Override
 		public void source(String systemId) throws Exception {
-			// Do nothing
+			URI uri;
+			try {
+				uri = new URI(systemId);
+			}
+			catch (URISyntaxException ex) {
+				return;
+			}
+			if (!uri.isAbsolute()) {
+				// relative system ids are resolved by the transformer fallback
+				return;
+			}
+			try (InputStream inputStream = uri.toURL().openStream()) {
+				this.result = readRootElement(new PushbackInputStream(inputStream, ROOT_ELEMENT_READ_LIMIT));
+			}
+		}
+
+		/**
+		 * Reads the root element name from the start of the given stream, and pushes the
+		 * bytes read back.
+		 */
+		private @Nullable QName readRootElement(PushbackInputStream inputStream) throws IOException {
+			byte[] buffer = inputStream.readNBytes(ROOT_ELEMENT_READ_LIMIT);
+			inputStream.unread(buffer);
+			try {
+				return readRootElement(inputFactory.createXMLStreamReader(new ByteArrayInputStream(buffer)));
+			}
+			catch (XMLStreamException ex) {
+				return null;
+			}
+		}
+
+		/**
+		 * Reads the root element name from the start of the given reader, and pushes the
+		 * characters read back.
+		 */
+		private @Nullable QName readRootElement(PushbackReader reader) throws IOException {
+			char[] buffer = new char[ROOT_ELEMENT_READ_LIMIT];
+			int length = 0;
+			int read;
+			while (length < buffer.length && (read = reader.read(buffer, length, buffer.length - length)) != -1) {
+				length += read;
+			}
+			reader.unread(buffer, 0, length);
+			try {
+				return readRootElement(inputFactory.createXMLStreamReader(new CharArrayReader(buffer, 0, length)));
+			}
+			catch (XMLStreamException ex) {
+				return null;
+			}
+		}
+
+		/**
+		 * Advances the given reader up to the first start element, and returns its name.
+		 * Errors caused by the truncated remainder of the buffer are never encountered,
+		 * since parsing stops at the root element.
+		 */
+		private @Nullable QName readRootElement(XMLStreamReader streamReader) throws XMLStreamException {
+			try {
+				while (streamReader.hasNext()) {
+					if (streamReader.next() == XMLStreamConstants.START_ELEMENT) {
+						return streamReader.getName();
+					}
+				}
+				return null;
+			}
+			finally {
+				streamReader.close();
+			}
 		}
 
 	}
 
+	/**
+	 * SAX handler that aborts parsing at the root element.
+	 */
+	private static final class RootElementHandler extends DefaultHandler {
+
+		private @Nullable QName result;
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes)
+				throws SAXException {
+			String prefix = (qName.indexOf(':') > 0) ? qName.substring(0, qName.indexOf(':')) : "";
+			this.result = new QName(uri, localName, prefix);
+			throw new RootElementFoundException();
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private static final class RootElementFoundException extends SAXException {
+
+	}
+
 }
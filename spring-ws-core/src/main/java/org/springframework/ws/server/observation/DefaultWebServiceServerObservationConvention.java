@@ -0,0 +1,171 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server.observation;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+
+import javax.xml.namespace.QName;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.ClassUtils;
+import org.springframework.ws.FaultAwareWebServiceMessage;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.server.endpoint.MethodEndpoint;
+import org.springframework.ws.server.observation.WebServiceServerObservationDocumentation.HighCardinalityKeyNames;
+import org.springframework.ws.server.observation.WebServiceServerObservationDocumentation.LowCardinalityKeyNames;
+import org.springframework.ws.transport.WebServiceConnection;
+
+/**
+ * Default {@link WebServiceServerObservationConvention} implementation.
+ *
+ * @since 5.0.0
+ * @see WebServiceServerObservationDocumentation
+ */
+public class DefaultWebServiceServerObservationConvention implements WebServiceServerObservationConvention {
+
+	private static final String DEFAULT_NAME = "spring.ws.server.requests";
+
+	private static final KeyValue ENDPOINT_NONE = KeyValue.of(LowCardinalityKeyNames.ENDPOINT, KeyValue.NONE_VALUE);
+
+	private static final KeyValue PAYLOAD_ROOT_NONE = KeyValue.of(LowCardinalityKeyNames.PAYLOAD_ROOT,
+			KeyValue.NONE_VALUE);
+
+	private static final KeyValue OUTCOME_SUCCESS = KeyValue.of(LowCardinalityKeyNames.OUTCOME, "SUCCESS");
+
+	private static final KeyValue OUTCOME_FAULT = KeyValue.of(LowCardinalityKeyNames.OUTCOME, "FAULT");
+
+	private static final KeyValue OUTCOME_ERROR = KeyValue.of(LowCardinalityKeyNames.OUTCOME, "ERROR");
+
+	private static final KeyValue FAULT_CODE_NONE = KeyValue.of(LowCardinalityKeyNames.FAULT_CODE,
+			KeyValue.NONE_VALUE);
+
+	private static final KeyValue EXCEPTION_NONE = KeyValue.of(LowCardinalityKeyNames.EXCEPTION, KeyValue.NONE_VALUE);
+
+	private static final KeyValue CONNECTION_URI_NONE = KeyValue.of(HighCardinalityKeyNames.CONNECTION_URI,
+			KeyValue.NONE_VALUE);
+
+	private final String name;
+
+	/**
+	 * Create a convention with the default name {@code "spring.ws.server.requests"}.
+	 */
+	public DefaultWebServiceServerObservationConvention() {
+		this(DEFAULT_NAME);
+	}
+
+	/**
+	 * Create a convention with a custom name.
+	 * @param name the observation name
+	 */
+	public DefaultWebServiceServerObservationConvention(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public String getName() {
+		return this.name;
+	}
+
+	@Override
+	public String getContextualName(WebServiceServerObservationContext context) {
+		QName payloadRootQName = context.getPayloadRootQName();
+		return (payloadRootQName != null) ? "ws " + payloadRootQName.getLocalPart() : "ws request";
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(WebServiceServerObservationContext context) {
+		return KeyValues.of(endpoint(context), payloadRoot(context), outcome(context), faultCode(context),
+				exception(context));
+	}
+
+	@Override
+	public KeyValues getHighCardinalityKeyValues(WebServiceServerObservationContext context) {
+		return KeyValues.of(connectionUri(context));
+	}
+
+	protected KeyValue endpoint(WebServiceServerObservationContext context) {
+		Object endpoint = context.getEndpoint();
+		if (endpoint == null) {
+			return ENDPOINT_NONE;
+		}
+		if (endpoint instanceof MethodEndpoint methodEndpoint) {
+			return KeyValue.of(LowCardinalityKeyNames.ENDPOINT,
+					ClassUtils.getUserClass(methodEndpoint.getMethod().getDeclaringClass()).getSimpleName() + "#"
+							+ methodEndpoint.getMethod().getName());
+		}
+		return KeyValue.of(LowCardinalityKeyNames.ENDPOINT, ClassUtils.getUserClass(endpoint).getSimpleName());
+	}
+
+	protected KeyValue payloadRoot(WebServiceServerObservationContext context) {
+		QName payloadRootQName = context.getPayloadRootQName();
+		return (payloadRootQName != null)
+				? KeyValue.of(LowCardinalityKeyNames.PAYLOAD_ROOT, payloadRootQName.toString()) : PAYLOAD_ROOT_NONE;
+	}
+
+	protected KeyValue outcome(WebServiceServerObservationContext context) {
+		if (getFault(context) != null) {
+			return OUTCOME_FAULT;
+		}
+		return (context.getError() != null) ? OUTCOME_ERROR : OUTCOME_SUCCESS;
+	}
+
+	protected KeyValue faultCode(WebServiceServerObservationContext context) {
+		FaultAwareWebServiceMessage fault = getFault(context);
+		QName faultCode = (fault != null) ? fault.getFaultCode() : null;
+		return (faultCode != null) ? KeyValue.of(LowCardinalityKeyNames.FAULT_CODE, faultCode.getLocalPart())
+				: FAULT_CODE_NONE;
+	}
+
+	protected KeyValue exception(WebServiceServerObservationContext context) {
+		Throwable error = context.getError();
+		if (error == null) {
+			return EXCEPTION_NONE;
+		}
+		String simpleName = error.getClass().getSimpleName();
+		return KeyValue.of(LowCardinalityKeyNames.EXCEPTION,
+				!simpleName.isEmpty() ? simpleName : error.getClass().getName());
+	}
+
+	protected KeyValue connectionUri(WebServiceServerObservationContext context) {
+		WebServiceConnection connection = context.getCarrier();
+		if (connection != null) {
+			try {
+				URI uri = connection.getUri();
+				if (uri != null) {
+					return KeyValue.of(HighCardinalityKeyNames.CONNECTION_URI, uri.toString());
+				}
+			}
+			catch (URISyntaxException ex) {
+				// fall through
+			}
+		}
+		return CONNECTION_URI_NONE;
+	}
+
+	private static @Nullable FaultAwareWebServiceMessage getFault(WebServiceServerObservationContext context) {
+		WebServiceMessage response = context.getResponse();
+		if (response instanceof FaultAwareWebServiceMessage faultMessage && faultMessage.hasFault()) {
+			return faultMessage;
+		}
+		return null;
+	}
+
+}
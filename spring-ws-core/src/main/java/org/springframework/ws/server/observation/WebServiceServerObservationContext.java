@@ -0,0 +1,114 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server.observation;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+import javax.xml.namespace.QName;
+
+import io.micrometer.observation.transport.RequestReplyReceiverContext;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.transport.HeadersAwareReceiverWebServiceConnection;
+import org.springframework.ws.transport.WebServiceConnection;
+
+/**
+ * Context that holds information for metadata collection during the dispatching of a
+ * Web service message by a {@link org.springframework.ws.server.MessageDispatcher}.
+ * <p>
+ * Propagated trace context is read from the request headers of the receiving
+ * connection, if it is a {@link HeadersAwareReceiverWebServiceConnection}.
+ *
+ * @since 5.0.0
+ */
+public class WebServiceServerObservationContext
+		extends RequestReplyReceiverContext<WebServiceConnection, WebServiceMessage> {
+
+	private final MessageContext messageContext;
+
+	private @Nullable QName payloadRootQName;
+
+	private @Nullable Object endpoint;
+
+	/**
+	 * Create a new observation context.
+	 * @param messageContext the message context of the dispatched request
+	 * @param connection the connection the request was received on, if any
+	 */
+	public WebServiceServerObservationContext(MessageContext messageContext,
+			@Nullable WebServiceConnection connection) {
+		super(WebServiceServerObservationContext::getRequestHeader);
+		Assert.notNull(messageContext, "messageContext must not be null");
+		this.messageContext = messageContext;
+		if (connection != null) {
+			setCarrier(connection);
+		}
+	}
+
+	private static @Nullable String getRequestHeader(WebServiceConnection connection, String name) {
+		if (connection instanceof HeadersAwareReceiverWebServiceConnection headersAwareConnection) {
+			try {
+				Iterator<String> values = headersAwareConnection.getRequestHeaders(name);
+				return values.hasNext() ? values.next() : null;
+			}
+			catch (IOException ex) {
+				return null;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the message context of the dispatched request.
+	 */
+	public MessageContext getMessageContext() {
+		return this.messageContext;
+	}
+
+	/**
+	 * Returns the qualified name of the request payload root element, if known.
+	 */
+	public @Nullable QName getPayloadRootQName() {
+		return this.payloadRootQName;
+	}
+
+	/**
+	 * Sets the qualified name of the request payload root element.
+	 */
+	public void setPayloadRootQName(@Nullable QName payloadRootQName) {
+		this.payloadRootQName = payloadRootQName;
+	}
+
+	/**
+	 * Returns the endpoint the request was mapped to, if any.
+	 */
+	public @Nullable Object getEndpoint() {
+		return this.endpoint;
+	}
+
+	/**
+	 * Sets the endpoint the request was mapped to.
+	 */
+	public void setEndpoint(@Nullable Object endpoint) {
+		this.endpoint = endpoint;
+	}
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server.observation;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * Documented {@link io.micrometer.common.KeyValue KeyValues} for the observations of
+ * the server-side handling of Web service messages.
+ * <p>
+ * This class is used by automated tools to document KeyValues attached to the
+ * observations.
+ *
+ * @since 5.0.0
+ * @see DefaultWebServiceServerObservationConvention
+ */
+public enum WebServiceServerObservationDocumentation implements ObservationDocumentation {
+
+	/**
+	 * Web service requests dispatched to an endpoint.
+	 */
+	WEB_SERVICE_SERVER_REQUESTS {
+		@Override
+		public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+			return DefaultWebServiceServerObservationConvention.class;
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return LowCardinalityKeyNames.values();
+		}
+
+		@Override
+		public KeyName[] getHighCardinalityKeyNames() {
+			return HighCardinalityKeyNames.values();
+		}
+
+	};
+
+	public enum LowCardinalityKeyNames implements KeyName {
+
+		/**
+		 * Endpoint the request was mapped to, {@value io.micrometer.common.KeyValue#NONE_VALUE}
+		 * if no endpoint was found.
+		 */
+		ENDPOINT {
+			@Override
+			public String asString() {
+				return "endpoint";
+			}
+		},
+
+		/**
+		 * Qualified name of the request payload root element,
+		 * {@value io.micrometer.common.KeyValue#NONE_VALUE} if the request has no payload.
+		 */
+		PAYLOAD_ROOT {
+			@Override
+			public String asString() {
+				return "payload.root";
+			}
+		},
+
+		/**
+		 * Outcome of the request: {@code "SUCCESS"}, {@code "FAULT"} if the response is a
+		 * fault, or {@code "ERROR"} if the request could not be handled.
+		 */
+		OUTCOME {
+			@Override
+			public String asString() {
+				return "outcome";
+			}
+		},
+
+		/**
+		 * Local part of the fault code of the response,
+		 * {@value io.micrometer.common.KeyValue#NONE_VALUE} if the response is not a fault.
+		 */
+		FAULT_CODE {
+			@Override
+			public String asString() {
+				return "fault.code";
+			}
+		},
+
+		/**
+		 * Name of the exception thrown while handling the request,
+		 * {@value io.micrometer.common.KeyValue#NONE_VALUE} if no exception was thrown.
+		 */
+		EXCEPTION {
+			@Override
+			public String asString() {
+				return "exception";
+			}
+		}
+
+	}
+
+	public enum HighCardinalityKeyNames implements KeyName {
+
+		/**
+		 * URI of the connection the request was received on.
+		 */
+		CONNECTION_URI {
+			@Override
+			public String asString() {
+				return "connection.uri";
+			}
+		}
+
+	}
+
+}
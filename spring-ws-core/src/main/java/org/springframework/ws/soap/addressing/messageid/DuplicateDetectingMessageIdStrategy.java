@@ -0,0 +1,195 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.addressing.messageid;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Implementation of the {@link MessageIdStrategy} interface that detects duplicate
+ * {@code MessageID}s received within a configurable time window. New message ids are
+ * generated as by the {@link UuidMessageIdStrategy}.
+ * <p>
+ * Received message ids are remembered as 64-bit fingerprints in a fixed-size, lock
+ * striped hash table, so memory use is bounded by the {@link #setCapacity(int) capacity}
+ * regardless of the message rate. When the table is full, the entries closest to expiry
+ * are evicted first, which means that under sustained overload duplicates may be
+ * detected for less than the configured {@link #setWindow(Duration) window}.
+ * <p>
+ * To detect duplicates across a cluster, a shared {@link MessageIdStore} can be
+ * configured. It is only consulted for message ids that have not been seen locally.
+ *
+ * @since 5.0.0
+ * @see org.springframework.ws.soap.addressing.server.AbstractAddressingEndpointMapping#setMessageIdStrategy(MessageIdStrategy)
+ */
+public class DuplicateDetectingMessageIdStrategy extends UuidMessageIdStrategy {
+
+	/** Default time window in which duplicates are detected. */
+	public static final Duration DEFAULT_WINDOW = Duration.ofMinutes(5);
+
+	/** Default number of message ids remembered. */
+	public static final int DEFAULT_CAPACITY = 65536;
+
+	private static final int SEGMENT_COUNT = 16;
+
+	private static final int PROBE_LENGTH = 8;
+
+	private Duration window = DEFAULT_WINDOW;
+
+	private Clock clock = Clock.systemUTC();
+
+	private @Nullable MessageIdStore messageIdStore;
+
+	private volatile Segment[] segments = createSegments(DEFAULT_CAPACITY);
+
+	/**
+	 * Sets the time window in which duplicate message ids are detected. Defaults to 5
+	 * minutes.
+	 */
+	public void setWindow(Duration window) {
+		Assert.isTrue(!window.isNegative() && !window.isZero(), "window must be positive");
+		this.window = window;
+	}
+
+	/**
+	 * Sets the maximum number of message ids remembered. Defaults to {@value #DEFAULT_CAPACITY}.
+	 * <p>
+	 * Each remembered message id takes 16 bytes. Setting the capacity clears all
+	 * remembered message ids.
+	 */
+	public void setCapacity(int capacity) {
+		Assert.isTrue(capacity >= SEGMENT_COUNT, "capacity must be at least " + SEGMENT_COUNT);
+		this.segments = createSegments(capacity);
+	}
+
+	/**
+	 * Sets the shared store used to detect duplicates received by other nodes. Not set
+	 * by default.
+	 */
+	public void setMessageIdStore(@Nullable MessageIdStore messageIdStore) {
+		this.messageIdStore = messageIdStore;
+	}
+
+	/**
+	 * Sets the clock used to expire message ids. Defaults to the system clock.
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "clock must not be null");
+		this.clock = clock;
+	}
+
+	/**
+	 * Returns {@code true} if the given message id was received before within the
+	 * configured time window; {@code false} otherwise. Remembers the message id if it is
+	 * not a duplicate.
+	 */
+	@Override
+	public boolean isDuplicate(@Nullable URI messageId) {
+		if (messageId == null) {
+			return false;
+		}
+		long fingerprint = fingerprint(messageId.toString());
+		Segment segment = this.segments[(int) (fingerprint >>> 60) & (SEGMENT_COUNT - 1)];
+		long now = this.clock.millis();
+		if (!segment.add(fingerprint, now, now + this.window.toMillis())) {
+			return true;
+		}
+		MessageIdStore store = this.messageIdStore;
+		return store != null && !store.add(messageId, this.window);
+	}
+
+	private static Segment[] createSegments(int capacity) {
+		int segmentCapacity = Integer.highestOneBit(Math.max((capacity - 1) / SEGMENT_COUNT, PROBE_LENGTH - 1)) << 1;
+		Segment[] segments = new Segment[SEGMENT_COUNT];
+		for (int i = 0; i < SEGMENT_COUNT; i++) {
+			segments[i] = new Segment(segmentCapacity);
+		}
+		return segments;
+	}
+
+	/**
+	 * Returns a 64-bit FNV-1a hash of the given message id, with a final avalanche step.
+	 * Never returns {@code 0}, which marks an empty slot.
+	 */
+	private static long fingerprint(String messageId) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < messageId.length(); i++) {
+			hash ^= messageId.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		return (hash != 0) ? hash : 1;
+	}
+
+	/**
+	 * Open addressing hash table of fingerprints and their expiry times. Lookups and
+	 * insertions probe a fixed number of slots, so both take constant time.
+	 */
+	private static final class Segment {
+
+		private final long[] fingerprints;
+
+		private final long[] expiries;
+
+		private final int mask;
+
+		Segment(int capacity) {
+			this.fingerprints = new long[capacity];
+			this.expiries = new long[capacity];
+			this.mask = capacity - 1;
+		}
+
+		/**
+		 * Adds the given fingerprint, unless it is present and not expired.
+		 * @return {@code true} if added; {@code false} if a duplicate
+		 */
+		synchronized boolean add(long fingerprint, long now, long expiry) {
+			int start = (int) fingerprint;
+			int victim = -1;
+			long victimExpiry = Long.MAX_VALUE;
+			for (int i = 0; i < PROBE_LENGTH; i++) {
+				int index = (start + i) & this.mask;
+				long slotExpiry = this.expiries[index];
+				if (slotExpiry > now) {
+					if (this.fingerprints[index] == fingerprint) {
+						return false;
+					}
+					if (slotExpiry < victimExpiry) {
+						victim = index;
+						victimExpiry = slotExpiry;
+					}
+				}
+				else if (victimExpiry > now) {
+					victim = index;
+					victimExpiry = now;
+				}
+			}
+			this.fingerprints[victim] = fingerprint;
+			this.expiries[victim] = expiry;
+			return true;
+		}
+
+	}
+
+}
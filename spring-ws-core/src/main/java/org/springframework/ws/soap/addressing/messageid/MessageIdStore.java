@@ -0,0 +1,46 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.addressing.messageid;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Store of recently received WS-Addressing {@code MessageID}s, shared between the nodes
+ * of a cluster. Used by the {@link DuplicateDetectingMessageIdStrategy} to detect
+ * duplicates that were received by another node.
+ * <p>
+ * Implementations typically delegate to a distributed cache that supports atomic
+ * insertion with a time-to-live, such as a {@code SET NX EX} command.
+ *
+ * @since 5.0.0
+ * @see DuplicateDetectingMessageIdStrategy#setMessageIdStore(MessageIdStore)
+ */
+@FunctionalInterface
+public interface MessageIdStore {
+
+	/**
+	 * Atomically records the given message id, unless it has already been recorded and
+	 * has not expired yet.
+	 * @param messageId the message id
+	 * @param timeToLive how long the message id should be remembered
+	 * @return {@code true} if the message id was recorded; {@code false} if it was
+	 * already present
+	 */
+	boolean add(URI messageId, Duration timeToLive);
+
+}
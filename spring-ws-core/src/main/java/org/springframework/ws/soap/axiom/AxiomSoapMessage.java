@@ -42,6 +42,7 @@ import org.apache.axiom.soap.SOAPMessage;
 import org.apache.axiom.soap.SOAPProcessingException;
 import org.jspecify.annotations.Nullable;
 import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -208,6 +209,11 @@ public class AxiomSoapMessage extends AbstractSoapMessage implements StreamingWe
 
 	@Override
 	public void setDocument(Document document) {
+		if (this.axiomMessage.getSOAPEnvelope() instanceof Element envelopeElement
+				&& envelopeElement.getOwnerDocument() == document) {
+			// DOM-compatible Axiom message, which has been modified in place
+			return;
+		}
 		// save the Soap Action
 		String soapAction = getSoapAction();
 		// replace the Axiom message
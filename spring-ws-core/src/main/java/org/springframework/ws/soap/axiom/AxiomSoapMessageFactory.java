@@ -28,6 +28,7 @@ import javax.xml.stream.XMLStreamReader;
 
 import org.apache.axiom.attachments.Attachments;
 import org.apache.axiom.om.OMAbstractFactory;
+import org.apache.axiom.om.OMMetaFactory;
 import org.apache.axiom.om.OMException;
 import org.apache.axiom.om.OMXMLBuilderFactory;
 import org.apache.axiom.om.impl.MTOMConstants;
@@ -76,6 +77,11 @@ import org.springframework.xml.XMLInputFactoryUtils;
  * be defined via the {@link #setAttachmentCacheDir(File) attachmentCacheDir} property
  * (defaults to the system temp file path).
  * <p>
+ * Finally, messages can be created with Axiom's DOM-compatible implementation by setting
+ * the {@link #setDomCompatible(boolean) domCompatible} property to {@code true}. DOM-based
+ * processing, such as WS-Security, can then operate on the message directly, instead of
+ * on a copy that has to be converted back afterwards.
+ * <p>
  * Mostly derived from {@code org.apache.axis2.transport.http.HTTPTransportUtils} and
  * {@code org.apache.axis2.transport.TransportUtils}, which we cannot use since they are
  * not part of the Axiom distribution.
@@ -107,8 +113,10 @@ public class AxiomSoapMessageFactory implements SoapMessageFactory, Initializing
 
 	private int attachmentCacheThreshold = 4096;
 
+	private OMMetaFactory metaFactory = OMAbstractFactory.getMetaFactory();
+
 	// use SOAP 1.1 by default
-	private SOAPFactory soapFactory = OMAbstractFactory.getSOAP11Factory();
+	private SOAPFactory soapFactory = this.metaFactory.getSOAP11Factory();
 
 	private boolean langAttributeOnSoap11FaultString = true;
 
@@ -167,13 +175,32 @@ public class AxiomSoapMessageFactory implements SoapMessageFactory, Initializing
 		this.attachmentCacheThreshold = attachmentCacheThreshold;
 	}
 
+	/**
+	 * Indicates whether messages should be created with Axiom's DOM-compatible
+	 * implementation, in which every node also implements the corresponding
+	 * {@code org.w3c.dom} interface. Default is {@code false}.
+	 * <p>
+	 * Enabling this allows {@link AxiomSoapMessage#getDocument()} and
+	 * {@link AxiomSoapMessage#setDocument(org.w3c.dom.Document)} to work on the message
+	 * itself, rather than converting it to and from a separate DOM tree. This benefits
+	 * DOM-based processing of the whole envelope, such as the WSS4J security interceptor.
+	 * Requires {@code axiom-dom} on the classpath.
+	 * @since 5.0.0
+	 */
+	public void setDomCompatible(boolean domCompatible) {
+		this.metaFactory = domCompatible ? OMAbstractFactory.getMetaFactory(OMAbstractFactory.FEATURE_DOM)
+				: OMAbstractFactory.getMetaFactory();
+		this.soapFactory = (this.soapFactory.getSOAPVersion() == SOAPVersion.SOAP12)
+				? this.metaFactory.getSOAP12Factory() : this.metaFactory.getSOAP11Factory();
+	}
+
 	@Override
 	public void setSoapVersion(SoapVersion version) {
 		if (SoapVersion.SOAP_11 == version) {
-			this.soapFactory = OMAbstractFactory.getSOAP11Factory();
+			this.soapFactory = this.metaFactory.getSOAP11Factory();
 		}
 		else if (SoapVersion.SOAP_12 == version) {
-			this.soapFactory = OMAbstractFactory.getSOAP12Factory();
+			this.soapFactory = this.metaFactory.getSOAP12Factory();
 		}
 		else {
 			throw new IllegalArgumentException(
@@ -285,7 +312,7 @@ public class AxiomSoapMessageFactory implements SoapMessageFactory, Initializing
 	 */
 	private AxiomSoapMessage createAxiomSoapMessage(InputStream inputStream, String contentType, String soapAction)
 			throws XMLStreamException {
-		SOAPModelBuilder builder = OMXMLBuilderFactory.createSOAPModelBuilder(inputStream,
+		SOAPModelBuilder builder = OMXMLBuilderFactory.createSOAPModelBuilder(this.metaFactory, inputStream,
 				getCharSetEncoding(contentType));
 		SOAPMessage soapMessage = builder.getSOAPMessage();
 		return new AxiomSoapMessage(soapMessage, soapAction, this.payloadCaching,
@@ -303,10 +330,11 @@ public class AxiomSoapMessageFactory implements SoapMessageFactory, Initializing
 		SOAPModelBuilder builder;
 		if (MTOMConstants.SWA_TYPE.equals(attachments.getAttachmentSpecType())
 				|| MTOMConstants.SWA_TYPE_12.equals(attachments.getAttachmentSpecType())) {
-			builder = OMXMLBuilderFactory.createSOAPModelBuilder(attachments.getRootPartInputStream(), charSetEncoding);
+			builder = OMXMLBuilderFactory.createSOAPModelBuilder(this.metaFactory,
+					attachments.getRootPartInputStream(), charSetEncoding);
 		}
 		else if (MTOMConstants.MTOM_TYPE.equals(attachments.getAttachmentSpecType())) {
-			builder = OMXMLBuilderFactory.createSOAPModelBuilder(attachments.getMultipartBody());
+			builder = OMXMLBuilderFactory.createSOAPModelBuilder(this.metaFactory, attachments.getMultipartBody());
 		}
 		else {
 			throw new AxiomSoapMessageCreationException(
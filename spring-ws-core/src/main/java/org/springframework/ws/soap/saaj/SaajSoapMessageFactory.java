@@ -17,13 +17,18 @@
 package org.springframework.ws.soap.saaj;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PushbackInputStream;
+import java.io.SequenceInputStream;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.StringTokenizer;
 
+import jakarta.activation.DataHandler;
+import jakarta.xml.soap.AttachmentPart;
 import jakarta.xml.soap.MessageFactory;
 import jakarta.xml.soap.MimeHeaders;
 import jakarta.xml.soap.SOAPConstants;
@@ -40,6 +45,7 @@ import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.ws.InvalidXmlException;
+import org.springframework.ws.mime.AttachmentStore;
 import org.springframework.ws.soap.SoapMessageCreationException;
 import org.springframework.ws.soap.SoapMessageFactory;
 import org.springframework.ws.soap.SoapVersion;
@@ -58,6 +64,15 @@ import org.springframework.ws.transport.TransportInputStream;
  * {@link #setMessageFactory(jakarta.xml.soap.MessageFactory)} property. When a SAAJ
  * message factory is injected, the
  * {@link #setSoapVersion(org.springframework.ws.soap.SoapVersion)} property is ignored.
+ * <p>
+ * By default, SAAJ keeps the attachments of received messages in memory. Setting the
+ * {@link #setAttachmentCaching(boolean) attachmentCaching} property to {@code true} moves
+ * attachments larger than the {@link #setAttachmentCacheThreshold(int) threshold} to
+ * temporary files in the {@link #setAttachmentCacheDir(File) cache directory}. Files of
+ * requests received by a server-side connection are deleted when that connection is
+ * closed, so their attachments must not be used after the request has been handled.
+ * Files of other messages, such as responses read by a client, are deleted once their
+ * attachments are no longer referenced and have been garbage collected.
  *
  * @author Arjen Poutsma
  * @author Greg Turnquist
@@ -78,6 +93,12 @@ public class SaajSoapMessageFactory implements SoapMessageFactory, InitializingB
 
 	private @Nullable Map<String, ?> messageProperties;
 
+	private boolean attachmentCaching = false;
+
+	private File attachmentCacheDir = new File(System.getProperty("java.io.tmpdir"));
+
+	private int attachmentCacheThreshold = AttachmentStore.DEFAULT_THRESHOLD;
+
 	/** Default, empty constructor. */
 	public SaajSoapMessageFactory() {
 	}
@@ -120,6 +141,51 @@ public class SaajSoapMessageFactory implements SoapMessageFactory, InitializingB
 		this.langAttributeOnSoap11FaultString = langAttributeOnSoap11FaultString;
 	}
 
+	/**
+	 * Indicates whether attachments of received messages should be cached in temporary
+	 * files, rather than kept in memory. Defaults to {@code false}.
+	 * <p>
+	 * The files of requests received by a server-side connection are deleted when that
+	 * connection is closed. The files of other messages, such as responses read by a
+	 * client, are deleted once their attachments have been garbage collected.
+	 * @since 5.0.0
+	 * @see #setAttachmentCacheDir(File)
+	 * @see #setAttachmentCacheThreshold(int)
+	 */
+	public void setAttachmentCaching(boolean attachmentCaching) {
+		this.attachmentCaching = attachmentCaching;
+	}
+
+	/**
+	 * Sets the directory where SOAP attachments will be stored. Only used when
+	 * {@link #setAttachmentCaching(boolean) attachmentCaching} is set to {@code true}.
+	 * <p>
+	 * The parameter should be an existing, writable directory. This property defaults to
+	 * the temporary directory of the operating system (i.e. the value of the
+	 * {@code java.io.tmpdir} system property).
+	 * @since 5.0.0
+	 */
+	public void setAttachmentCacheDir(File attachmentCacheDir) {
+		Assert.notNull(attachmentCacheDir, "'attachmentCacheDir' must not be null");
+		Assert.isTrue(attachmentCacheDir.isDirectory(), "'attachmentCacheDir' must be a directory");
+		Assert.isTrue(attachmentCacheDir.canWrite(), "'attachmentCacheDir' must be writable");
+		this.attachmentCacheDir = attachmentCacheDir;
+	}
+
+	/**
+	 * Sets the threshold for attachments caching, in bytes. Attachments larger than this
+	 * threshold will be cached in the {@link #setAttachmentCacheDir(File) attachment
+	 * cache directory}. Only used when {@link #setAttachmentCaching(boolean)
+	 * attachmentCaching} is set to {@code true}.
+	 * <p>
+	 * Defaults to 4096 bytes (i.e. 4 kilobytes).
+	 * @since 5.0.0
+	 */
+	public void setAttachmentCacheThreshold(int attachmentCacheThreshold) {
+		Assert.isTrue(attachmentCacheThreshold > 0, "'attachmentCacheThreshold' must be larger than 0");
+		this.attachmentCacheThreshold = attachmentCacheThreshold;
+	}
+
 	@Override
 	public void setSoapVersion(SoapVersion version) {
 		if (SaajUtils.getSaajVersion() >= SaajUtils.SAAJ_13) {
@@ -200,11 +266,13 @@ public class SaajSoapMessageFactory implements SoapMessageFactory, InitializingB
 	@Override
 	public SaajSoapMessage createWebServiceMessage(InputStream inputStream) throws IOException {
 		MimeHeaders mimeHeaders = parseMimeHeaders(inputStream);
+		InputStream transportInputStream = inputStream;
 		try {
 			inputStream = checkForUtf8ByteOrderMark(inputStream);
 			SOAPMessage saajMessage = getMessageFactory().createMessage(mimeHeaders, inputStream);
 			saajMessage.getSOAPPart().getEnvelope();
 			postProcess(saajMessage);
+			cacheAttachments(saajMessage, transportInputStream);
 			return new SaajSoapMessage(saajMessage, this.langAttributeOnSoap11FaultString, this.messageFactory);
 		}
 		catch (SOAPException ex) {
@@ -219,6 +287,7 @@ public class SaajSoapMessageFactory implements SoapMessageFactory, InitializingB
 				try {
 					SOAPMessage saajMessage = getMessageFactory().createMessage(mimeHeaders, inputStream);
 					postProcess(saajMessage);
+					cacheAttachments(saajMessage, transportInputStream);
 					return new SaajSoapMessage(saajMessage, this.langAttributeOnSoap11FaultString);
 				}
 				catch (SOAPException ex2) {
@@ -271,6 +340,36 @@ public class SaajSoapMessageFactory implements SoapMessageFactory, InitializingB
 		return mimeHeaders;
 	}
 
+	/**
+	 * Moves the content of large attachments into an {@link AttachmentStore}, if
+	 * {@linkplain #setAttachmentCaching(boolean) enabled}. For messages read from a
+	 * {@link TransportInputStream} that {@linkplain TransportInputStream#supportsResources()
+	 * supports resources}, the store is closed together with that stream. Otherwise its
+	 * files are deleted when the attachments that refer to them are garbage collected.
+	 */
+	private void cacheAttachments(SOAPMessage saajMessage, InputStream inputStream) throws SOAPException, IOException {
+		if (!this.attachmentCaching || saajMessage.countAttachments() == 0) {
+			return;
+		}
+		AttachmentStore attachmentStore = new AttachmentStore(this.attachmentCacheDir, this.attachmentCacheThreshold);
+		if (inputStream instanceof TransportInputStream transportInputStream
+				&& transportInputStream.supportsResources()) {
+			transportInputStream.registerResource(attachmentStore);
+		}
+		for (Iterator<AttachmentPart> iterator = saajMessage.getAttachments(); iterator.hasNext();) {
+			AttachmentPart attachmentPart = iterator.next();
+			try (InputStream content = attachmentPart.getDataHandler().getInputStream()) {
+				// the size reported by SAAJ is not reliable, so read past the threshold
+				byte[] head = content.readNBytes(this.attachmentCacheThreshold + 1);
+				if (head.length > this.attachmentCacheThreshold) {
+					InputStream fullContent = new SequenceInputStream(new ByteArrayInputStream(head), content);
+					DataHandler dataHandler = attachmentStore.store(fullContent, attachmentPart.getContentType());
+					attachmentPart.setDataHandler(dataHandler);
+				}
+			}
+		}
+	}
+
 	private boolean isMimeHeader(String headerName) {
 		String lowerHeaderName = headerName.toLowerCase();
 		return lowerHeaderName.startsWith("content-") || lowerHeaderName.startsWith("mime-");
@@ -17,6 +17,7 @@
 package org.springframework.ws.soap.server;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -54,6 +55,11 @@ public class SoapMessageDispatcher extends MessageDispatcher {
 	/** Default message used when creating a SOAP MustUnderstand fault. */
 	public static final String DEFAULT_MUST_UNDERSTAND_FAULT_STRING = "One or more mandatory SOAP header blocks not understood";
 
+	private static final String ADDRESSING_ACTION_LOCAL_NAME = "Action";
+
+	private static final List<String> ADDRESSING_NAMESPACES = Arrays.asList("http://www.w3.org/2005/08/addressing",
+			"http://schemas.xmlsoap.org/ws/2004/08/addressing");
+
 	private String mustUnderstandFaultString = DEFAULT_MUST_UNDERSTAND_FAULT_STRING;
 
 	private Locale mustUnderstandFaultStringLocale = Locale.ENGLISH;
@@ -74,6 +80,35 @@ public class SoapMessageDispatcher extends MessageDispatcher {
 		this.mustUnderstandFaultStringLocale = mustUnderstandFaultStringLocale;
 	}
 
+	/**
+	 * Adds the SOAP action and the WS-Addressing action, if any, to the default lookup
+	 * key, so that SOAP action and WS-Addressing based endpoint mappings can be cached as
+	 * well.
+	 */
+	@Override
+	protected @Nullable Object getEndpointLookupKey(MessageContext messageContext) throws Exception {
+		Object key = super.getEndpointLookupKey(messageContext);
+		if (key != null && messageContext.getRequest() instanceof SoapMessage soapRequest) {
+			return Arrays.asList(key, soapRequest.getSoapAction(), getAddressingAction(soapRequest));
+		}
+		return key;
+	}
+
+	private @Nullable String getAddressingAction(SoapMessage soapRequest) {
+		SoapHeader soapHeader = soapRequest.getSoapHeader();
+		if (soapHeader != null) {
+			for (Iterator<SoapHeaderElement> iterator = soapHeader.examineAllHeaderElements(); iterator.hasNext();) {
+				SoapHeaderElement headerElement = iterator.next();
+				QName headerName = headerElement.getName();
+				if (ADDRESSING_ACTION_LOCAL_NAME.equals(headerName.getLocalPart())
+						&& ADDRESSING_NAMESPACES.contains(headerName.getNamespaceURI())) {
+					return headerElement.getText();
+				}
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Process the headers targeted at the actor or role fullfilled by the endpoint. Also
 	 * processed the {@code MustUnderstand} headers in the incoming SOAP request message.
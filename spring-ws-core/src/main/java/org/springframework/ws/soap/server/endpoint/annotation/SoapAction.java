@@ -23,6 +23,9 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import org.springframework.aot.hint.annotation.Reflective;
+import org.springframework.ws.server.endpoint.annotation.EndpointMappingReflectiveProcessor;
+
 /**
  * Marks an endpoint method as the handler for an incoming request. The annotation value
  * signifies the value for the request {@code SOAPAction} header that is handled by the
@@ -36,6 +39,7 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
 @Repeatable(SoapActions.class)
+@Reflective(EndpointMappingReflectiveProcessor.class)
 public @interface SoapAction {
 
 	/**
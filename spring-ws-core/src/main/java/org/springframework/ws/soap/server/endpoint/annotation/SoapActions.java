@@ -22,6 +22,9 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import org.springframework.aot.hint.annotation.Reflective;
+import org.springframework.ws.server.endpoint.annotation.EndpointMappingReflectiveProcessor;
+
 /**
  * Marks an endpoint method as containing multiple {@link SoapAction SoapActions}.
  *
@@ -32,6 +35,7 @@ import java.lang.annotation.Target;
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
+@Reflective(EndpointMappingReflectiveProcessor.class)
 public @interface SoapActions {
 
 	SoapAction[] value();
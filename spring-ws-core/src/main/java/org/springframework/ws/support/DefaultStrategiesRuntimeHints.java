@@ -0,0 +1,84 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.support;
+
+import java.io.IOException;
+import java.util.Properties;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link RuntimeHintsRegistrar} for the default strategies files loaded by
+ * {@link DefaultStrategiesHelper}. Registers the files themselves as resources, and the
+ * classes they list for reflective instantiation. Also registers the optional strategies
+ * that are instantiated by name, rather than through these files.
+ *
+ * @since 5.0.0
+ */
+class DefaultStrategiesRuntimeHints implements RuntimeHintsRegistrar {
+
+	private static final String[] DEFAULT_STRATEGIES_LOCATIONS = {
+			"org/springframework/ws/client/core/WebServiceTemplate.properties",
+			"org/springframework/ws/server/MessageDispatcher.properties",
+			"org/springframework/ws/soap/server/SoapMessageDispatcher.properties",
+			"org/springframework/ws/transport/http/MessageDispatcherServlet.properties" };
+
+	/**
+	 * Classes that {@link org.springframework.ws.server.endpoint.adapter.DefaultMethodEndpointAdapter}
+	 * instantiates by name, if present.
+	 */
+	private static final String[] INSTANTIATED_CLASS_NAMES = {
+			"org.springframework.ws.soap.server.endpoint.adapter.method.SoapMethodArgumentResolver",
+			"org.springframework.ws.soap.server.endpoint.adapter.method.SoapHeaderElementMethodArgumentResolver" };
+
+	@Override
+	public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+		for (String location : DEFAULT_STRATEGIES_LOCATIONS) {
+			ClassPathResource resource = new ClassPathResource(location, classLoader);
+			if (!resource.exists()) {
+				continue;
+			}
+			hints.resources().registerResource(resource);
+			Properties defaultStrategies;
+			try {
+				defaultStrategies = PropertiesLoaderUtils.loadProperties(resource);
+			}
+			catch (IOException ex) {
+				throw new IllegalStateException("Could not load '" + location + "'", ex);
+			}
+			for (String key : defaultStrategies.stringPropertyNames()) {
+				String[] classNames = StringUtils
+					.commaDelimitedListToStringArray(defaultStrategies.getProperty(key));
+				for (String className : classNames) {
+					hints.reflection()
+						.registerTypeIfPresent(classLoader, className.trim(), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+				}
+			}
+		}
+		for (String className : INSTANTIATED_CLASS_NAMES) {
+			hints.reflection().registerTypeIfPresent(classLoader, className, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+		}
+	}
+
+}
@@ -0,0 +1,455 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.support;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.Assert;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.soap.SoapMessage;
+
+/**
+ * Writes the content of {@link WebServiceMessage}s to the message tracing logs of the
+ * {@link org.springframework.ws.server.MessageDispatcher} and
+ * {@link org.springframework.ws.client.core.WebServiceTemplate}.
+ * <p>
+ * By default, every message is traced in full, on the calling thread. To keep tracing
+ * enabled under production load, this class can:
+ * <ul>
+ * <li>only trace a sample of the messages, using a {@link #setSampleRate(int) default
+ * rate} and {@link #setOperationSampleRates(Map) rates per SOAP action},</li>
+ * <li>truncate message content at a {@link #setMaxContentLength(int) maximum number of
+ * bytes}, at which point serializing the message is aborted,</li>
+ * <li>write trace entries {@link #setAsynchronous(boolean) asynchronously}, from a
+ * bounded queue that is drained by a background thread. Entries are dropped rather than
+ * blocking the caller when the queue is full.</li>
+ * </ul>
+ * Message content is serialized into pooled buffers, and copied once. Decoding and
+ * formatting the content happens when the entry is written.
+ *
+ * @since 5.0.0
+ */
+public class MessageTracer implements DisposableBean {
+
+	/** Default capacity of the asynchronous queue. */
+	public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+	/** Buffers that grew beyond this size are not returned to the pool. */
+	private static final int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
+
+	private static final Log logger = LogFactory.getLog(MessageTracer.class);
+
+	private int sampleRate = 1;
+
+	private Map<String, Integer> operationSampleRates = Collections.emptyMap();
+
+	private int maxContentLength = Integer.MAX_VALUE;
+
+	private boolean asynchronous = false;
+
+	private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+	private final Queue<CaptureBuffer> buffers = new ConcurrentLinkedQueue<>();
+
+	private final AtomicLong droppedEntries = new AtomicLong();
+
+	private volatile @Nullable TraceWriter writer;
+
+	/**
+	 * Sets the default sample rate: only one in {@code sampleRate} messages is traced.
+	 * Defaults to 1, i.e. all messages are traced.
+	 */
+	public void setSampleRate(int sampleRate) {
+		Assert.isTrue(sampleRate > 0, "'sampleRate' must be positive");
+		this.sampleRate = sampleRate;
+	}
+
+	/**
+	 * Sets the sample rates of specific operations, keyed by SOAP action. Messages
+	 * without a matching SOAP action use the {@link #setSampleRate(int) default rate}. A
+	 * rate of 0 disables tracing for the operation.
+	 */
+	public void setOperationSampleRates(Map<String, Integer> operationSampleRates) {
+		Assert.notNull(operationSampleRates, "'operationSampleRates' must not be null");
+		this.operationSampleRates = Map.copyOf(operationSampleRates);
+	}
+
+	/**
+	 * Sets the maximum number of bytes of message content that is traced. Longer content
+	 * is truncated, without serializing the rest of the message. Not limited by default.
+	 */
+	public void setMaxContentLength(int maxContentLength) {
+		Assert.isTrue(maxContentLength >= 0, "'maxContentLength' must not be negative");
+		this.maxContentLength = maxContentLength;
+	}
+
+	/**
+	 * Sets whether trace entries are written by a background thread. Defaults to
+	 * {@code false}.
+	 */
+	public void setAsynchronous(boolean asynchronous) {
+		this.asynchronous = asynchronous;
+	}
+
+	/**
+	 * Sets the maximum number of pending entries when writing asynchronously. Defaults to
+	 * {@value #DEFAULT_QUEUE_CAPACITY}.
+	 */
+	public void setQueueCapacity(int queueCapacity) {
+		Assert.isTrue(queueCapacity > 0, "'queueCapacity' must be positive");
+		this.queueCapacity = queueCapacity;
+	}
+
+	/**
+	 * Returns the number of entries dropped because the asynchronous queue was full.
+	 */
+	public long getDroppedEntries() {
+		return this.droppedEntries.get();
+	}
+
+	/**
+	 * Indicates whether the exchange that starts with the given message is to be traced,
+	 * according to the configured sample rates.
+	 * @param message the message
+	 * @return {@code true} if the message is to be traced; {@code false} otherwise
+	 */
+	public boolean isSampled(WebServiceMessage message) {
+		int rate = this.sampleRate;
+		if (!this.operationSampleRates.isEmpty() && message instanceof SoapMessage soapMessage) {
+			String soapAction = soapMessage.getSoapAction();
+			Integer operationRate = (soapAction != null) ? this.operationSampleRates.get(soapAction) : null;
+			if (operationRate != null) {
+				rate = operationRate;
+			}
+		}
+		if (rate <= 1) {
+			return rate == 1;
+		}
+		return ThreadLocalRandom.current().nextInt(rate) == 0;
+	}
+
+	/**
+	 * Captures the content of the given message, truncated to the configured maximum
+	 * length. Serializing the message is aborted once that length is exceeded.
+	 * @param message the message
+	 * @return the captured content
+	 * @throws IOException in case of I/O errors
+	 */
+	public CapturedContent capture(WebServiceMessage message) throws IOException {
+		CaptureBuffer buffer = this.buffers.poll();
+		if (buffer == null) {
+			buffer = new CaptureBuffer();
+		}
+		try {
+			buffer.reset(this.maxContentLength);
+			try {
+				message.writeTo(buffer);
+			}
+			catch (IOException | RuntimeException ex) {
+				// the message may wrap the exception that aborted serialization
+				if (!buffer.isLimitExceeded()) {
+					throw ex;
+				}
+			}
+			return buffer.toCapturedContent();
+		}
+		finally {
+			if (buffer.capacity() <= MAX_POOLED_BUFFER_SIZE) {
+				this.buffers.offer(buffer);
+			}
+		}
+	}
+
+	/**
+	 * Writes the given entry to the given log at trace level. The entry is created when
+	 * it is written, possibly on another thread.
+	 * @param log the log to write to
+	 * @param entry supplies the entry
+	 */
+	public void trace(Log log, Supplier<String> entry) {
+		if (!this.asynchronous) {
+			log.trace(entry.get());
+			return;
+		}
+		if (!getWriter().offer(log, entry)) {
+			this.droppedEntries.incrementAndGet();
+		}
+	}
+
+	private TraceWriter getWriter() {
+		TraceWriter writer = this.writer;
+		if (writer == null) {
+			synchronized (this) {
+				writer = this.writer;
+				if (writer == null) {
+					writer = new TraceWriter(this.queueCapacity);
+					writer.start();
+					this.writer = writer;
+				}
+			}
+		}
+		return writer;
+	}
+
+	/**
+	 * Stops the background thread, after writing pending entries.
+	 */
+	@Override
+	public void destroy() throws InterruptedException {
+		TraceWriter writer;
+		synchronized (this) {
+			writer = this.writer;
+			this.writer = null;
+		}
+		if (writer != null) {
+			writer.interrupt();
+			writer.join();
+		}
+	}
+
+	/**
+	 * Message content captured by a {@link MessageTracer}. Decoded when converted to a
+	 * string.
+	 */
+	public static final class CapturedContent {
+
+		private final byte[] content;
+
+		private final boolean truncated;
+
+		private CapturedContent(byte[] content, boolean truncated) {
+			this.content = content;
+			this.truncated = truncated;
+		}
+
+		/**
+		 * Returns the length of the captured content, in bytes.
+		 */
+		public int getLength() {
+			return this.content.length;
+		}
+
+		/**
+		 * Indicates whether the content was truncated.
+		 */
+		public boolean isTruncated() {
+			return this.truncated;
+		}
+
+		@Override
+		public String toString() {
+			if (!this.truncated) {
+				return new String(this.content, StandardCharsets.UTF_8);
+			}
+			return new String(this.content, 0, getCompleteLength(this.content), StandardCharsets.UTF_8) + "...";
+		}
+
+		/**
+		 * Returns the length of the given UTF-8 content without a trailing incomplete
+		 * character, so that truncated content does not end with a replacement character.
+		 */
+		private static int getCompleteLength(byte[] content) {
+			int length = content.length;
+			for (int i = length - 1; i >= Math.max(0, length - 4); i--) {
+				int b = content[i] & 0xFF;
+				if ((b & 0xC0) != 0x80) {
+					int characterLength = (b >= 0xF0) ? 4 : (b >= 0xE0) ? 3 : (b >= 0xC0) ? 2 : 1;
+					return (i + characterLength <= length) ? length : i;
+				}
+			}
+			return length;
+		}
+
+	}
+
+	/**
+	 * Output stream that keeps the first {@code limit} bytes written to it, and aborts
+	 * the serialization with a {@link LimitExceededException} when more are written.
+	 */
+	private static final class CaptureBuffer extends OutputStream {
+
+		private byte[] buffer = new byte[4096];
+
+		private int count;
+
+		private int limit;
+
+		private boolean limitExceeded;
+
+		void reset(int limit) {
+			this.count = 0;
+			this.limit = limit;
+			this.limitExceeded = false;
+		}
+
+		int capacity() {
+			return this.buffer.length;
+		}
+
+		boolean isLimitExceeded() {
+			return this.limitExceeded;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			if (this.count == this.limit) {
+				limitExceeded();
+			}
+			ensureCapacity(1);
+			this.buffer[this.count++] = (byte) b;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			int copied = Math.min(len, this.limit - this.count);
+			if (copied > 0) {
+				ensureCapacity(copied);
+				System.arraycopy(b, off, this.buffer, this.count, copied);
+				this.count += copied;
+			}
+			if (copied < len) {
+				limitExceeded();
+			}
+		}
+
+		private void limitExceeded() throws LimitExceededException {
+			this.limitExceeded = true;
+			throw new LimitExceededException();
+		}
+
+		private void ensureCapacity(int additional) {
+			int required = this.count + additional;
+			if (required > this.buffer.length) {
+				long newCapacity = Math.max(this.buffer.length * 2L, required);
+				this.buffer = Arrays.copyOf(this.buffer, (int) Math.min(newCapacity, this.limit));
+			}
+		}
+
+		CapturedContent toCapturedContent() {
+			return new CapturedContent(Arrays.copyOf(this.buffer, this.count), this.limitExceeded);
+		}
+
+	}
+
+	/**
+	 * Thrown by a {@link CaptureBuffer} to abort serializing a message once its limit is
+	 * exceeded. Does not fill in its stack trace, as it is never reported.
+	 */
+	@SuppressWarnings("serial")
+	private static final class LimitExceededException extends IOException {
+
+		LimitExceededException() {
+			super("Message tracing limit exceeded");
+		}
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+
+	}
+
+	/**
+	 * Background thread that writes queued entries.
+	 */
+	private final class TraceWriter extends Thread {
+
+		private final BlockingQueue<Entry> queue;
+
+		private long reportedDroppedEntries;
+
+		TraceWriter(int capacity) {
+			super("spring-ws-message-tracer");
+			setDaemon(true);
+			this.queue = new ArrayBlockingQueue<>(capacity);
+		}
+
+		boolean offer(Log log, Supplier<String> entry) {
+			return this.queue.offer(new Entry(log, entry));
+		}
+
+		@Override
+		public void run() {
+			try {
+				while (!isInterrupted()) {
+					write(this.queue.take());
+					reportDroppedEntries();
+				}
+			}
+			catch (InterruptedException ex) {
+				// stopping
+			}
+			Entry entry;
+			while ((entry = this.queue.poll()) != null) {
+				write(entry);
+			}
+			reportDroppedEntries();
+		}
+
+		private void write(Entry entry) {
+			try {
+				entry.log.trace(entry.supplier.get());
+			}
+			catch (RuntimeException ex) {
+				logger.warn("Could not write message trace entry", ex);
+			}
+		}
+
+		private void reportDroppedEntries() {
+			if (this.queue.isEmpty()) {
+				long droppedEntries = getDroppedEntries();
+				long dropped = droppedEntries - this.reportedDroppedEntries;
+				this.reportedDroppedEntries = droppedEntries;
+				if (dropped > 0 && logger.isWarnEnabled()) {
+					logger.warn("Dropped " + dropped + " message trace entries, because the queue was full");
+				}
+			}
+		}
+
+	}
+
+	private static final class Entry {
+
+		private final Log log;
+
+		private final Supplier<String> supplier;
+
+		Entry(Log log, Supplier<String> supplier) {
+			this.log = log;
+			this.supplier = supplier;
+		}
+
+	}
+
+}
@@ -68,9 +68,31 @@ public abstract class AbstractReceiverConnection extends AbstractWebServiceConne
 	/** Returns the output stream to write the request to. */
 	protected abstract OutputStream getResponseOutputStream() throws IOException;
 
+	/**
+	 * Returns the output stream to write the response to, given the
+	 * {@linkplain #getResponseOutputStream() response output stream}. The returned stream
+	 * is closed once the message has been written, which should not close the given
+	 * stream.
+	 * <p>
+	 * Default implementation returns the given stream. Subclasses can override this
+	 * method to encode the response.
+	 * @param responseOutputStream the stream to write the response to
+	 * @return the stream to write the message to
+	 * @throws IOException in case of I/O errors
+	 * @since 5.0.0
+	 */
+	protected OutputStream encodeResponseOutputStream(OutputStream responseOutputStream) throws IOException {
+		return responseOutputStream;
+	}
+
 	/** Implementation of {@code TransportInputStream} for receiving-side connections. */
 	private final class RequestTransportInputStream extends TransportInputStream {
 
+		@Override
+		public boolean supportsResources() {
+			return true;
+		}
+
 		@Override
 		protected InputStream createInputStream() throws IOException {
 			return getRequestInputStream();
@@ -91,6 +113,10 @@ public abstract class AbstractReceiverConnection extends AbstractWebServiceConne
 	/** Implementation of {@code TransportOutputStream} for sending-side connections. */
 	private final class ResponseTransportOutputStream extends TransportOutputStream {
 
+		private @Nullable OutputStream responseOutputStream;
+
+		private @Nullable OutputStream encodedOutputStream;
+
 		@Override
 		public void addHeader(String name, String value) throws IOException {
 			addResponseHeader(name, value);
@@ -98,7 +124,34 @@ public abstract class AbstractReceiverConnection extends AbstractWebServiceConne
 
 		@Override
 		protected OutputStream createOutputStream() throws IOException {
-			return getResponseOutputStream();
+			this.responseOutputStream = getResponseOutputStream();
+			OutputStream outputStream = encodeResponseOutputStream(this.responseOutputStream);
+			if (outputStream != this.responseOutputStream) {
+				this.encodedOutputStream = outputStream;
+			}
+			return outputStream;
+		}
+
+		@Override
+		public void finish() throws IOException {
+			if (this.encodedOutputStream != null) {
+				this.encodedOutputStream.close();
+			}
+			if (this.responseOutputStream != null) {
+				this.responseOutputStream.flush();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				super.close();
+			}
+			finally {
+				if (this.encodedOutputStream != null && this.responseOutputStream != null) {
+					this.responseOutputStream.close();
+				}
+			}
 		}
 
 	}
@@ -76,9 +76,29 @@ public abstract class AbstractSenderConnection extends AbstractWebServiceConnect
 	/** Returns the input stream to read the response from. */
 	protected abstract InputStream getResponseInputStream() throws IOException;
 
+	/**
+	 * Returns the output stream to write the request to, given the
+	 * {@linkplain #getRequestOutputStream() request output stream}. The returned stream is
+	 * closed once the message has been written, which should not close the given stream.
+	 * <p>
+	 * Default implementation returns the given stream. Subclasses can override this
+	 * method to encode the request.
+	 * @param requestOutputStream the stream to write the request to
+	 * @return the stream to write the message to
+	 * @throws IOException in case of I/O errors
+	 * @since 5.0.0
+	 */
+	protected OutputStream encodeRequestOutputStream(OutputStream requestOutputStream) throws IOException {
+		return requestOutputStream;
+	}
+
 	/** Implementation of {@code TransportInputStream} for receiving-side connections. */
 	class RequestTransportOutputStream extends TransportOutputStream {
 
+		private @Nullable OutputStream requestOutputStream;
+
+		private @Nullable OutputStream encodedOutputStream;
+
 		@Override
 		public void addHeader(String name, String value) throws IOException {
 			addRequestHeader(name, value);
@@ -86,7 +106,34 @@ public abstract class AbstractSenderConnection extends AbstractWebServiceConnect
 
 		@Override
 		protected OutputStream createOutputStream() throws IOException {
-			return getRequestOutputStream();
+			this.requestOutputStream = getRequestOutputStream();
+			OutputStream outputStream = encodeRequestOutputStream(this.requestOutputStream);
+			if (outputStream != this.requestOutputStream) {
+				this.encodedOutputStream = outputStream;
+			}
+			return outputStream;
+		}
+
+		@Override
+		public void finish() throws IOException {
+			if (this.encodedOutputStream != null) {
+				this.encodedOutputStream.close();
+			}
+			if (this.requestOutputStream != null) {
+				this.requestOutputStream.flush();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				super.close();
+			}
+			finally {
+				if (this.encodedOutputStream != null && this.requestOutputStream != null) {
+					this.requestOutputStream.close();
+				}
+			}
 		}
 
 	}
@@ -17,6 +17,8 @@
 package org.springframework.ws.transport;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
 
@@ -37,6 +39,24 @@ public abstract class AbstractWebServiceConnection implements WebServiceConnecti
 
 	private boolean closed = false;
 
+	private @Nullable Map<String, String> transportHeaders;
+
+	/**
+	 * Adds a header to be written to the {@code TransportOutputStream} when the next
+	 * message is sent over this connection, before the message itself. Used to propagate
+	 * information that is not part of the message, such as a trace context.
+	 * @param name the header name
+	 * @param value the header value
+	 * @since 5.0.0
+	 * @see TransportOutputStream#addHeader(String, String)
+	 */
+	public void addTransportHeader(String name, String value) {
+		if (this.transportHeaders == null) {
+			this.transportHeaders = new LinkedHashMap<>();
+		}
+		this.transportHeaders.put(name, value);
+	}
+
 	@Override
 	public final void send(WebServiceMessage message) throws IOException {
 		checkClosed();
@@ -45,8 +65,13 @@ public abstract class AbstractWebServiceConnection implements WebServiceConnecti
 		if (this.tos == null) {
 			return;
 		}
+		if (this.transportHeaders != null) {
+			for (Map.Entry<String, String> header : this.transportHeaders.entrySet()) {
+				this.tos.addHeader(header.getKey(), header.getValue());
+			}
+		}
 		message.writeTo(this.tos);
-		this.tos.flush();
+		this.tos.finish();
 		onSendAfterWrite(message);
 	}
 
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.transport;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.WebServiceMessageFactory;
+
+/**
+ * Sub-interface of {@link WebServiceConnection} that can send a message without blocking
+ * the calling thread while waiting for the response.
+ * <p>
+ * Once the future returned by {@link #sendAsync(WebServiceMessage)} completes, the
+ * response is available, and methods like {@link #hasError()} and
+ * {@link #receive(WebServiceMessageFactory)} can be invoked without blocking.
+ *
+ * @since 5.0.0
+ * @see org.springframework.ws.client.core.AsyncWebServiceOperations
+ */
+public interface AsyncWebServiceConnection extends WebServiceConnection {
+
+	/**
+	 * Sends the given message using this connection, without waiting for the response.
+	 * <p>
+	 * The message is written on the calling thread; the returned future is completed
+	 * once the response has been received, or completed exceptionally with an
+	 * {@link java.io.IOException} in case of I/O errors.
+	 * @param message the message to be sent
+	 * @return a future that completes when the response has been received
+	 */
+	CompletableFuture<Void> sendAsync(WebServiceMessage message);
+
+}
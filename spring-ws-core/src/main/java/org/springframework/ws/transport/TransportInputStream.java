@@ -16,9 +16,12 @@
 
 package org.springframework.ws.transport;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
 import org.jspecify.annotations.Nullable;
 
@@ -38,6 +41,8 @@ public abstract class TransportInputStream extends InputStream {
 
 	private @Nullable InputStream inputStream;
 
+	private final List<Closeable> resources = new ArrayList<>();
+
 	protected TransportInputStream() {
 	}
 
@@ -49,10 +54,65 @@ public abstract class TransportInputStream extends InputStream {
 		return this.inputStream;
 	}
 
+	/**
+	 * Indicates whether this stream accepts {@linkplain #registerResource(Closeable)
+	 * resources}. Only streams that are closed after the message read from them is no
+	 * longer used, such as the request stream of a receiving connection, should return
+	 * {@code true}.
+	 * <p>
+	 * Default implementation returns {@code false}.
+	 * @return {@code true} if resources can be registered; {@code false} otherwise
+	 * @since 5.0.0
+	 */
+	public boolean supportsResources() {
+		return false;
+	}
+
+	/**
+	 * Registers a resource that is to be closed together with this stream, such as the
+	 * {@link org.springframework.ws.mime.AttachmentStore} that holds the attachments of
+	 * the message read from it.
+	 * @param resource the resource to close
+	 * @throws IllegalStateException if this stream does not
+	 * {@linkplain #supportsResources() support resources}
+	 * @since 5.0.0
+	 */
+	public void registerResource(Closeable resource) {
+		Assert.notNull(resource, "'resource' must not be null");
+		Assert.state(supportsResources(), "Resources are not supported by this stream");
+		this.resources.add(resource);
+	}
+
 	@Override
 	public void close() throws IOException {
-		if (this.inputStream != null) {
-			getInputStream().close();
+		Throwable failure = null;
+		try {
+			if (this.inputStream != null) {
+				getInputStream().close();
+			}
+		}
+		catch (IOException | RuntimeException ex) {
+			failure = ex;
+		}
+		for (Closeable resource : this.resources) {
+			try {
+				resource.close();
+			}
+			catch (IOException | RuntimeException ex) {
+				if (failure == null) {
+					failure = ex;
+				}
+				else {
+					failure.addSuppressed(ex);
+				}
+			}
+		}
+		this.resources.clear();
+		if (failure instanceof IOException ioException) {
+			throw ioException;
+		}
+		else if (failure instanceof RuntimeException runtimeException) {
+			throw runtimeException;
 		}
 	}
 
@@ -76,6 +76,19 @@ public abstract class TransportOutputStream extends OutputStream {
 		getOutputStream().write(b);
 	}
 
+	/**
+	 * Finishes writing a message to this stream, without closing it. Invoked once the
+	 * message has been written.
+	 * <p>
+	 * Default implementation {@linkplain #flush() flushes} the stream. Subclasses can
+	 * override this method to complete an encoding of the content, for instance.
+	 * @throws IOException in case of I/O errors
+	 * @since 5.0.0
+	 */
+	public void finish() throws IOException {
+		flush();
+	}
+
 	/**
 	 * Adds a header with the given name and value. This method can be called multiple
 	 * times, to allow for headers with multiple values.
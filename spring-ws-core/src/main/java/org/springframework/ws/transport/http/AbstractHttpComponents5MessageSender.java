@@ -60,7 +60,10 @@ public abstract class AbstractHttpComponents5MessageSender extends AbstractHttpW
 		}
 		HttpHost httpHost = HttpHost.create(uri);
 		HttpContext httpContext = createContext(uri);
-		return new HttpComponents5Connection(getHttpClient(), httpHost, httpPost, httpContext);
+		HttpComponents5Connection connection = new HttpComponents5Connection(getHttpClient(), httpHost, httpPost,
+				httpContext);
+		prepareContentEncoding(connection);
+		return connection;
 	}
 
 	@Override
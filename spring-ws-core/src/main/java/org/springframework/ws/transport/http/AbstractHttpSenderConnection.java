@@ -18,14 +18,16 @@ package org.springframework.ws.transport.http;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.PushbackInputStream;
 import java.util.Iterator;
-import java.util.zip.GZIPInputStream;
 
 import javax.xml.namespace.QName;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.ws.transport.AbstractSenderConnection;
 import org.springframework.ws.transport.FaultAwareWebServiceConnection;
@@ -53,6 +55,25 @@ public abstract class AbstractHttpSenderConnection extends AbstractSenderConnect
 	 */
 	private @Nullable PushbackInputStream rawResponseInputStream;
 
+	/**
+	 * The codec used to encode the request, if any.
+	 */
+	private @Nullable ContentCodec requestContentCodec;
+
+	/**
+	 * Sets the codec used to encode the request, and adds the corresponding
+	 * {@code Content-Encoding} header. Responses with the same content encoding are
+	 * decoded with this codec as well. Requests are not encoded by default.
+	 * @param requestContentCodec the codec to encode the request with
+	 * @throws IOException in case of I/O errors
+	 * @since 5.0.0
+	 */
+	public void setRequestContentCodec(ContentCodec requestContentCodec) throws IOException {
+		Assert.notNull(requestContentCodec, "'requestContentCodec' must not be null");
+		this.requestContentCodec = requestContentCodec;
+		addRequestHeader(HttpTransportConstants.HEADER_CONTENT_ENCODING, requestContentCodec.getContentEncoding());
+	}
+
 	@Override
 	public final boolean hasError() throws IOException {
 		return getResponseCode() / 100 != 2;
@@ -71,6 +92,18 @@ public abstract class AbstractHttpSenderConnection extends AbstractSenderConnect
 		return builder.toString();
 	}
 
+	/*
+	 * Sending request
+	 */
+
+	@Override
+	protected final OutputStream encodeRequestOutputStream(OutputStream requestOutputStream) throws IOException {
+		if (this.requestContentCodec != null) {
+			return this.requestContentCodec.encode(StreamUtils.nonClosing(requestOutputStream));
+		}
+		return requestOutputStream;
+	}
+
 	/*
 	 * Receiving response
 	 */
@@ -108,17 +141,27 @@ public abstract class AbstractHttpSenderConnection extends AbstractSenderConnect
 		if (inputStream == null) {
 			inputStream = getRawResponseInputStream();
 		}
-		return (isGzipResponse()) ? new GZIPInputStream(inputStream) : inputStream;
+		ContentCodec contentCodec = getResponseContentCodec();
+		return (contentCodec != null) ? contentCodec.decode(inputStream) : inputStream;
 	}
 
-	/** Determine whether the response is a GZIP response. */
-	private boolean isGzipResponse() throws IOException {
+	/** Returns the codec to decode the response with, if it is encoded. */
+	private @Nullable ContentCodec getResponseContentCodec() throws IOException {
 		Iterator<String> iterator = getResponseHeaders(HttpTransportConstants.HEADER_CONTENT_ENCODING);
 		if (iterator.hasNext()) {
-			String encodingHeader = iterator.next();
-			return encodingHeader.toLowerCase().contains(HttpTransportConstants.CONTENT_ENCODING_GZIP);
+			String encodingHeader = iterator.next().toLowerCase();
+			if (this.requestContentCodec != null
+					&& encodingHeader.contains(this.requestContentCodec.getContentEncoding())) {
+				return this.requestContentCodec;
+			}
+			else if (encodingHeader.contains(HttpTransportConstants.CONTENT_ENCODING_GZIP)) {
+				return ContentCodec.GZIP;
+			}
+			else if (encodingHeader.contains(HttpTransportConstants.CONTENT_ENCODING_DEFLATE)) {
+				return ContentCodec.DEFLATE;
+			}
 		}
-		return false;
+		return null;
 	}
 
 	/** Returns the HTTP status code of the response. */
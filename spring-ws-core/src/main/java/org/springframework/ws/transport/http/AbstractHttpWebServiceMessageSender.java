@@ -16,10 +16,12 @@
 
 package org.springframework.ws.transport.http;
 
+import java.io.IOException;
 import java.net.URI;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
 
 import org.springframework.ws.transport.WebServiceMessageSender;
 
@@ -40,6 +42,8 @@ public abstract class AbstractHttpWebServiceMessageSender implements WebServiceM
 
 	private boolean acceptGzipEncoding = true;
 
+	private @Nullable ContentCodec requestContentCodec;
+
 	/**
 	 * Return whether to accept GZIP encoding, that is, whether to send the HTTP
 	 * {@code Accept-Encoding} header with {@code gzip} as value.
@@ -59,6 +63,41 @@ public abstract class AbstractHttpWebServiceMessageSender implements WebServiceM
 		this.acceptGzipEncoding = acceptGzipEncoding;
 	}
 
+	/**
+	 * Return the codec used to encode requests, if any.
+	 * @since 5.0.0
+	 */
+	public @Nullable ContentCodec getRequestContentCodec() {
+		return this.requestContentCodec;
+	}
+
+	/**
+	 * Set the codec used to encode requests, for instance {@link ContentCodec#GZIP}.
+	 * Requests are encoded while they are written, and sent with the corresponding
+	 * {@code Content-Encoding} header.
+	 * <p>
+	 * Default is {@code null}, which means that requests are not encoded. Only set this
+	 * property when the HTTP server is known to accept the content encoding.
+	 * @since 5.0.0
+	 */
+	public void setRequestContentCodec(@Nullable ContentCodec requestContentCodec) {
+		this.requestContentCodec = requestContentCodec;
+	}
+
+	/**
+	 * Prepares the content encoding of the given connection. To be invoked by subclasses
+	 * when creating a connection.
+	 * @param connection the connection to prepare
+	 * @throws IOException in case of I/O errors
+	 * @since 5.0.0
+	 * @see #setRequestContentCodec(ContentCodec)
+	 */
+	protected void prepareContentEncoding(AbstractHttpSenderConnection connection) throws IOException {
+		if (this.requestContentCodec != null) {
+			connection.setRequestContentCodec(this.requestContentCodec);
+		}
+	}
+
 	@Override
 	public boolean supports(URI uri) {
 		return uri.getScheme().equals(HttpTransportConstants.HTTP_URI_SCHEME)
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.transport.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * {@link HttpServletConnection} used for asynchronous dispatch, that reads the request
+ * from a body that has already been received, and buffers the response so that it can be
+ * written with non-blocking I/O.
+ * <p>
+ * The request headers and URI are copied when the connection is created, and the
+ * response status and headers are recorded rather than set on the
+ * {@code HttpServletResponse}, so that the servlet request and response are not used on
+ * the dispatching thread. The recorded response is applied with
+ * {@link #applyResponse()}.
+ *
+ * @since 5.0.0
+ * @see WebServiceMessageReceiverHandlerAdapter#setAsyncExecutor(java.util.concurrent.Executor)
+ */
+class AsyncHttpServletConnection extends HttpServletConnection {
+
+	private final byte[] requestBody;
+
+	private final Map<String, List<String>> requestHeaders = new LinkedCaseInsensitiveMap<>();
+
+	private final String scheme;
+
+	private final String serverName;
+
+	private final int serverPort;
+
+	private final String requestUri;
+
+	private final @Nullable String queryString;
+
+	private int responseStatus = -1;
+
+	private final MultiValueMap<String, String> responseHeaders = new LinkedMultiValueMap<>();
+
+	private final ByteArrayOutputStream responseBody = new ByteArrayOutputStream();
+
+	AsyncHttpServletConnection(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse,
+			byte[] requestBody) {
+		super(httpServletRequest, httpServletResponse);
+		this.requestBody = requestBody;
+		for (String name : Collections.list(httpServletRequest.getHeaderNames())) {
+			this.requestHeaders.put(name, Collections.list(httpServletRequest.getHeaders(name)));
+		}
+		this.scheme = httpServletRequest.getScheme();
+		this.serverName = httpServletRequest.getServerName();
+		this.serverPort = httpServletRequest.getServerPort();
+		this.requestUri = httpServletRequest.getRequestURI();
+		this.queryString = httpServletRequest.getQueryString();
+	}
+
+	@Override
+	public URI getUri() throws URISyntaxException {
+		return new URI(this.scheme, null, this.serverName, this.serverPort, this.requestUri, this.queryString, null);
+	}
+
+	@Override
+	public Iterator<String> getRequestHeaderNames() {
+		return this.requestHeaders.keySet().iterator();
+	}
+
+	@Override
+	public Iterator<String> getRequestHeaders(String name) {
+		return this.requestHeaders.getOrDefault(name, Collections.emptyList()).iterator();
+	}
+
+	@Override
+	@Nullable String getRequestHeader(String name) {
+		List<String> values = this.requestHeaders.get(name);
+		return (values != null && !values.isEmpty()) ? values.get(0) : null;
+	}
+
+	@Override
+	protected InputStream getRequestInputStream() throws IOException {
+		return decodeRequestInputStream(new ByteArrayInputStream(this.requestBody));
+	}
+
+	@Override
+	void setResponseStatus(int status) {
+		this.responseStatus = status;
+	}
+
+	@Override
+	public void addResponseHeader(String name, String value) {
+		this.responseHeaders.add(name, value);
+	}
+
+	@Override
+	protected OutputStream getResponseOutputStream() {
+		return this.responseBody;
+	}
+
+	/**
+	 * Sets the recorded response status and headers on the {@code HttpServletResponse}.
+	 * Must only be invoked while the response can still be used.
+	 */
+	void applyResponse() {
+		HttpServletResponse httpServletResponse = getHttpServletResponse();
+		if (this.responseStatus != -1) {
+			httpServletResponse.setStatus(this.responseStatus);
+		}
+		this.responseHeaders.forEach((name, values) -> {
+			for (String value : values) {
+				httpServletResponse.addHeader(name, value);
+			}
+		});
+	}
+
+	/** Returns the buffered response body. */
+	byte[] getResponseBody() {
+		return this.responseBody.toByteArray();
+	}
+
+}
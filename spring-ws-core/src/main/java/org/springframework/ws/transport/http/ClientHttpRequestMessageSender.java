@@ -62,7 +62,9 @@ public class ClientHttpRequestMessageSender extends AbstractHttpWebServiceMessag
 			request.getHeaders()
 				.add(HttpTransportConstants.HEADER_ACCEPT_ENCODING, HttpTransportConstants.CONTENT_ENCODING_GZIP);
 		}
-		return new ClientHttpRequestConnection(request);
+		ClientHttpRequestConnection connection = new ClientHttpRequestConnection(request);
+		prepareContentEncoding(connection);
+		return connection;
 	}
 
 }
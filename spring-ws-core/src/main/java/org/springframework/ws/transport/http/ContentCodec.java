@@ -0,0 +1,64 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.transport.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Strategy for encoding and decoding HTTP message bodies according to a
+ * {@code Content-Encoding}, such as {@code gzip}. Codecs work on streams, so that a body
+ * is never held in memory in its entirety.
+ *
+ * @since 5.0.0
+ * @see AbstractHttpWebServiceMessageSender#setRequestContentCodec(ContentCodec)
+ * @see WebServiceMessageReceiverHandlerAdapter#setContentCodecs(java.util.List)
+ */
+public interface ContentCodec {
+
+	/** The codec for the {@code gzip} content encoding. */
+	ContentCodec GZIP = StandardContentCodec.GZIP;
+
+	/** The codec for the {@code deflate} content encoding. */
+	ContentCodec DEFLATE = StandardContentCodec.DEFLATE;
+
+	/**
+	 * Returns the content encoding of this codec, as used in the
+	 * {@code Content-Encoding} and {@code Accept-Encoding} headers.
+	 */
+	String getContentEncoding();
+
+	/**
+	 * Returns a stream that encodes the content written to it, and writes the result to
+	 * the given stream. Closing the returned stream finishes the encoding, and closes the
+	 * given stream.
+	 * @param outputStream the stream to write the encoded content to
+	 * @return the encoding stream
+	 * @throws IOException in case of I/O errors
+	 */
+	OutputStream encode(OutputStream outputStream) throws IOException;
+
+	/**
+	 * Returns a stream that decodes the content read from the given stream.
+	 * @param inputStream the stream to read the encoded content from
+	 * @return the decoding stream
+	 * @throws IOException in case of I/O errors
+	 */
+	InputStream decode(InputStream inputStream) throws IOException;
+
+}
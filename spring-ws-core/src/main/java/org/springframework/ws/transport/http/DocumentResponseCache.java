@@ -0,0 +1,235 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.transport.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+import javax.xml.transform.Source;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.util.function.ThrowingSupplier;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Cache of fully serialized WSDL and XSD documents, used by
+ * {@link WsdlDefinitionHandlerAdapter} and {@link XsdSchemaHandlerAdapter}.
+ * <p>
+ * Documents are cached per handler and, if their locations are transformed, per request
+ * scheme, host, port, and context path. Each cached document carries a strong
+ * {@code ETag} and a pre-compressed GZIP variant. Documents are rendered when they are
+ * not cached yet, or when the file they were read from has been modified since. Cache
+ * hits do not access the document sources: only the last modified date of that file is
+ * checked.
+ *
+ * @since 5.0.0
+ */
+final class DocumentResponseCache {
+
+	/**
+	 * Maximum number of cached documents. Bounds the memory used when clients send many
+	 * different {@code Host} headers.
+	 */
+	private static final int CACHE_LIMIT = 256;
+
+	private static final String HEADER_X_FORWARDED_PROTO = "X-Forwarded-Proto";
+
+	private static final String HEADER_X_FORWARDED_HOST = "X-Forwarded-Host";
+
+	private static final String HEADER_X_FORWARDED_PORT = "X-Forwarded-Port";
+
+	private final Map<List<Object>, CachedResponse> cache = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the cached response for the given handler, rendering it if it is not
+	 * cached yet, or if the file it was read from has been modified.
+	 * @param handler the WSDL definition or XSD schema
+	 * @param request the current request
+	 * @param requestDependent whether the rendered document depends on the request
+	 * location, i.e. whether locations are transformed
+	 * @param sourceSupplier supplies the source of the document
+	 * @param renderer renders the document
+	 * @return the cached response
+	 * @throws Exception in case of rendering errors
+	 */
+	CachedResponse getResponse(Object handler, HttpServletRequest request, boolean requestDependent,
+			ThrowingSupplier<Source> sourceSupplier, DocumentRenderer renderer) throws Exception {
+		List<Object> key = requestDependent ? Arrays.asList(handler, request.getScheme(), request.getServerName(),
+				request.getServerPort(), request.getContextPath(), request.getHeader(HEADER_X_FORWARDED_PROTO),
+				request.getHeader(HEADER_X_FORWARDED_HOST), request.getHeader(HEADER_X_FORWARDED_PORT))
+				: Collections.singletonList(handler);
+		CachedResponse response = this.cache.get(key);
+		if (response == null || response.isModified()) {
+			Source source = sourceSupplier.getWithException();
+			File file = LastModifiedHelper.getFile(source);
+			long lastModified = LastModifiedHelper.getLastModified(file);
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			renderer.render(source, outputStream);
+			response = new CachedResponse(outputStream.toByteArray(), file, lastModified);
+			if (this.cache.size() < CACHE_LIMIT || this.cache.containsKey(key)) {
+				this.cache.put(key, response);
+			}
+		}
+		return response;
+	}
+
+	/**
+	 * Removes all cached documents.
+	 */
+	void clear() {
+		this.cache.clear();
+	}
+
+	/**
+	 * Callback interface for rendering a document.
+	 */
+	@FunctionalInterface
+	interface DocumentRenderer {
+
+		/**
+		 * Renders the given document source to the given stream.
+		 * @param source the source of the document
+		 * @param outputStream the stream to render to
+		 * @throws Exception in case of rendering errors
+		 */
+		void render(Source source, OutputStream outputStream) throws Exception;
+
+	}
+
+	/**
+	 * A serialized document, together with its compressed variant and entity tags.
+	 */
+	static final class CachedResponse {
+
+		private final byte[] content;
+
+		private final byte[] gzipContent;
+
+		private final String eTag;
+
+		private final String gzipETag;
+
+		private final @Nullable File file;
+
+		private final long lastModified;
+
+		private CachedResponse(byte[] content, @Nullable File file, long lastModified) throws IOException {
+			this.content = content;
+			this.file = file;
+			this.lastModified = lastModified;
+			ByteArrayOutputStream gzipOutputStream = new ByteArrayOutputStream(content.length / 4);
+			try (GZIPOutputStream outputStream = new GZIPOutputStream(gzipOutputStream)) {
+				outputStream.write(content);
+			}
+			this.gzipContent = gzipOutputStream.toByteArray();
+			String hash = DigestUtils.md5DigestAsHex(content);
+			this.eTag = "\"" + hash + "\"";
+			this.gzipETag = "\"" + hash + "-gzip\"";
+		}
+
+		/**
+		 * Indicates whether the file this document was read from, if any, has been
+		 * modified since it was rendered.
+		 */
+		boolean isModified() {
+			return (this.file != null && LastModifiedHelper.getLastModified(this.file) != this.lastModified);
+		}
+
+		/**
+		 * Writes this document to the given response, or a {@code 304 Not Modified}
+		 * status if the client already has it.
+		 * @param request the current request
+		 * @param response the current response
+		 * @param contentType the content type of the document
+		 * @throws IOException in case of I/O errors
+		 */
+		void writeTo(HttpServletRequest request, HttpServletResponse response, String contentType)
+				throws IOException {
+			boolean gzip = acceptsGzip(request);
+			response.addHeader(HttpTransportConstants.HEADER_VARY, HttpTransportConstants.HEADER_ACCEPT_ENCODING);
+			if (new ServletWebRequest(request, response).checkNotModified(gzip ? this.gzipETag : this.eTag,
+					this.lastModified)) {
+				return;
+			}
+			response.setContentType(contentType);
+			byte[] body = this.content;
+			if (gzip) {
+				response.setHeader(HttpTransportConstants.HEADER_CONTENT_ENCODING,
+						HttpTransportConstants.CONTENT_ENCODING_GZIP);
+				body = this.gzipContent;
+			}
+			response.setContentLength(body.length);
+			response.getOutputStream().write(body);
+		}
+
+		/**
+		 * Indicates whether the {@code Accept-Encoding} header of the given request accepts
+		 * GZIP. An explicit {@code gzip} coding takes precedence over the {@code *} wildcard,
+		 * and a coding with a quality of zero is not accepted.
+		 */
+		private static boolean acceptsGzip(HttpServletRequest request) {
+			String acceptEncoding = request.getHeader(HttpTransportConstants.HEADER_ACCEPT_ENCODING);
+			if (!StringUtils.hasText(acceptEncoding)) {
+				return false;
+			}
+			boolean wildcard = false;
+			for (String coding : StringUtils.tokenizeToStringArray(acceptEncoding, ",")) {
+				String[] parameters = StringUtils.tokenizeToStringArray(coding, ";");
+				String name = parameters[0].toLowerCase(Locale.ROOT);
+				if (HttpTransportConstants.CONTENT_ENCODING_GZIP.equals(name)) {
+					return isAcceptable(parameters);
+				}
+				if ("*".equals(name)) {
+					wildcard = isAcceptable(parameters);
+				}
+			}
+			return wildcard;
+		}
+
+		/** Indicates whether the given coding parameters do not contain a quality of zero. */
+		private static boolean isAcceptable(String[] parameters) {
+			for (int i = 1; i < parameters.length; i++) {
+				String parameter = parameters[i].replace(" ", "").toLowerCase(Locale.ROOT);
+				if (parameter.startsWith("q=")) {
+					try {
+						return Double.parseDouble(parameter.substring(2)) > 0;
+					}
+					catch (NumberFormatException ex) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+
+	}
+
+}
@@ -240,7 +240,9 @@ public class HttpComponentsMessageSender extends AbstractHttpWebServiceMessageSe
 					HttpTransportConstants.CONTENT_ENCODING_GZIP);
 		}
 		HttpContext httpContext = createContext(uri);
-		return new HttpComponentsConnection(getHttpClient(), httpPost, httpContext);
+		HttpComponentsConnection connection = new HttpComponentsConnection(getHttpClient(), httpPost, httpContext);
+		prepareContentEncoding(connection);
+		return connection;
 	}
 
 	/**
@@ -16,12 +16,16 @@
 
 package org.springframework.ws.transport.http;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
 
 import javax.xml.namespace.QName;
 
@@ -30,6 +34,9 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.xml.soap.SOAPConstants;
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.ws.WebServiceMessage;
 import org.springframework.ws.transport.AbstractReceiverConnection;
 import org.springframework.ws.transport.EndpointAwareWebServiceConnection;
@@ -39,6 +46,12 @@ import org.springframework.ws.transport.support.EnumerationIterator;
 
 /**
  * Implementation of {@link WebServiceConnection} that is based on the Servlet API.
+ * <p>
+ * When a {@linkplain #setMaxDecodedRequestSize(long) maximum decoded request size} is set,
+ * requests with a {@code Content-Encoding} supported by one of the
+ * {@linkplain #setContentCodecs(List) content codecs} are decoded. Responses are
+ * encoded when a {@linkplain #setCompressionThreshold(int) compression threshold} is set,
+ * the response exceeds it, and the client accepts one of the content codecs.
  *
  * @author Arjen Poutsma
  * @author Greg Turnquist
@@ -53,6 +66,12 @@ public class HttpServletConnection extends AbstractReceiverConnection
 
 	private boolean statusCodeSet = false;
 
+	private List<ContentCodec> contentCodecs = List.of(ContentCodec.GZIP, ContentCodec.DEFLATE);
+
+	private int compressionThreshold = -1;
+
+	private long maxDecodedRequestSize = -1;
+
 	/**
 	 * Constructs a new servlet connection with the given {@code HttpServletRequest} and
 	 * {@code HttpServletResponse}.
@@ -72,9 +91,39 @@ public class HttpServletConnection extends AbstractReceiverConnection
 		return this.httpServletResponse;
 	}
 
+	/**
+	 * Sets the codecs used to decode requests and encode responses, in order of
+	 * preference. Defaults to {@link ContentCodec#GZIP} and {@link ContentCodec#DEFLATE}.
+	 * @since 5.0.0
+	 */
+	public void setContentCodecs(List<ContentCodec> contentCodecs) {
+		Assert.notNull(contentCodecs, "'contentCodecs' must not be null");
+		this.contentCodecs = contentCodecs;
+	}
+
+	/**
+	 * Sets the size in bytes above which responses are encoded, with the first of the
+	 * {@linkplain #setContentCodecs(List) content codecs} that is accepted by the client.
+	 * Defaults to -1, which means that responses are not encoded.
+	 * @since 5.0.0
+	 */
+	public void setCompressionThreshold(int compressionThreshold) {
+		this.compressionThreshold = compressionThreshold;
+	}
+
+	/**
+	 * Sets the maximum size in bytes of a decoded request. Requests with a supported
+	 * {@code Content-Encoding} are decoded up to this size, and reading them fails once it
+	 * is exceeded. Defaults to -1, which means that requests are not decoded.
+	 * @since 5.0.0
+	 */
+	public void setMaxDecodedRequestSize(long maxDecodedRequestSize) {
+		this.maxDecodedRequestSize = maxDecodedRequestSize;
+	}
+
 	@Override
 	public void endpointNotFound() {
-		getHttpServletResponse().setStatus(HttpTransportConstants.STATUS_NOT_FOUND);
+		setResponseStatus(HttpTransportConstants.STATUS_NOT_FOUND);
 		this.statusCodeSet = true;
 	}
 
@@ -117,9 +166,35 @@ public class HttpServletConnection extends AbstractReceiverConnection
 		return new EnumerationIterator<>(getHttpServletRequest().getHeaders(name));
 	}
 
+	/** Returns the first value of the given request header, if any. */
+	@Nullable String getRequestHeader(String name) {
+		return getHttpServletRequest().getHeader(name);
+	}
+
 	@Override
 	protected InputStream getRequestInputStream() throws IOException {
-		return getHttpServletRequest().getInputStream();
+		return decodeRequestInputStream(getHttpServletRequest().getInputStream());
+	}
+
+	/**
+	 * Decodes the given request body according to the {@code Content-Encoding} of the
+	 * request, if decoding is enabled. Bodies with an unsupported encoding are returned as
+	 * is.
+	 */
+	InputStream decodeRequestInputStream(InputStream inputStream) throws IOException {
+		if (this.maxDecodedRequestSize < 0) {
+			return inputStream;
+		}
+		String contentEncoding = getRequestHeader(HttpTransportConstants.HEADER_CONTENT_ENCODING);
+		if (StringUtils.hasText(contentEncoding)) {
+			contentEncoding = contentEncoding.trim();
+			for (ContentCodec contentCodec : this.contentCodecs) {
+				if (contentCodec.getContentEncoding().equalsIgnoreCase(contentEncoding)) {
+					return new SizeLimitingInputStream(contentCodec.decode(inputStream), this.maxDecodedRequestSize);
+				}
+			}
+		}
+		return inputStream;
 	}
 
 	/*
@@ -131,11 +206,85 @@ public class HttpServletConnection extends AbstractReceiverConnection
 		getHttpServletResponse().addHeader(name, value);
 	}
 
+	/** Sets the status of the response. */
+	void setResponseStatus(int status) {
+		getHttpServletResponse().setStatus(status);
+	}
+
 	@Override
 	protected OutputStream getResponseOutputStream() throws IOException {
 		return getHttpServletResponse().getOutputStream();
 	}
 
+	/**
+	 * Returns a stream that encodes the response written to it if it exceeds the
+	 * compression threshold, and the client accepts a supported content encoding.
+	 */
+	@Override
+	protected OutputStream encodeResponseOutputStream(OutputStream responseOutputStream) {
+		if (this.compressionThreshold >= 0) {
+			ContentCodec contentCodec = getAcceptedContentCodec();
+			if (contentCodec != null) {
+				return new CompressingOutputStream(StreamUtils.nonClosing(responseOutputStream), contentCodec,
+						this.compressionThreshold);
+			}
+		}
+		return outputStream;
+	}
+
+	/** Returns the preferred codec that is accepted by the client, if any. */
+	private @Nullable ContentCodec getAcceptedContentCodec() {
+		String acceptEncoding = getRequestHeader(HttpTransportConstants.HEADER_ACCEPT_ENCODING);
+		if (!StringUtils.hasText(acceptEncoding)) {
+			return null;
+		}
+		String[] codings = StringUtils.tokenizeToStringArray(acceptEncoding, ",");
+		for (ContentCodec contentCodec : this.contentCodecs) {
+			if (isAccepted(contentCodec, codings)) {
+				return contentCodec;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Indicates whether the given codec is accepted by the given codings. A coding that
+	 * names the codec takes precedence over the {@code *} wildcard.
+	 */
+	private static boolean isAccepted(ContentCodec contentCodec, String[] codings) {
+		boolean wildcard = false;
+		for (String coding : codings) {
+			String[] parameters = StringUtils.tokenizeToStringArray(coding, ";");
+			if (parameters.length == 0) {
+				continue;
+			}
+			String name = parameters[0];
+			if (name.equalsIgnoreCase(contentCodec.getContentEncoding())) {
+				return isAcceptable(parameters);
+			}
+			if ("*".equals(name)) {
+				wildcard = isAcceptable(parameters);
+			}
+		}
+		return wildcard;
+	}
+
+	/** Indicates whether the given coding parameters do not contain a quality of zero. */
+	private static boolean isAcceptable(String[] parameters) {
+		for (int i = 1; i < parameters.length; i++) {
+			String parameter = parameters[i].replace(" ", "").toLowerCase(Locale.ROOT);
+			if (parameter.startsWith("q=")) {
+				try {
+					return Double.parseDouble(parameter.substring(2)) > 0;
+				}
+				catch (NumberFormatException ex) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
 	@Override
 	protected void onSendAfterWrite(WebServiceMessage message) throws IOException {
 		this.statusCodeSet = true;
@@ -144,7 +293,7 @@ public class HttpServletConnection extends AbstractReceiverConnection
 	@Override
 	public void onClose() throws IOException {
 		if (!this.statusCodeSet) {
-			getHttpServletResponse().setStatus(HttpTransportConstants.STATUS_ACCEPTED);
+			setResponseStatus(HttpTransportConstants.STATUS_ACCEPTED);
 		}
 	}
 
@@ -161,16 +310,158 @@ public class HttpServletConnection extends AbstractReceiverConnection
 	public void setFaultCode(@Nullable QName faultCode) throws IOException {
 		if (faultCode != null) {
 			if (SOAPConstants.SOAP_SENDER_FAULT.equals(faultCode)) {
-				getHttpServletResponse().setStatus(HttpTransportConstants.STATUS_BAD_REQUEST);
+				setResponseStatus(HttpTransportConstants.STATUS_BAD_REQUEST);
 			}
 			else {
-				getHttpServletResponse().setStatus(HttpTransportConstants.STATUS_INTERNAL_SERVER_ERROR);
+				setResponseStatus(HttpTransportConstants.STATUS_INTERNAL_SERVER_ERROR);
 			}
 		}
 		else {
-			getHttpServletResponse().setStatus(HttpTransportConstants.STATUS_OK);
+			setResponseStatus(HttpTransportConstants.STATUS_OK);
 		}
 		this.statusCodeSet = true;
 	}
 
+	/**
+	 * Input stream that fails once more than a given number of bytes has been read from
+	 * it, to guard against requests that decode to excessive sizes.
+	 */
+	private static final class SizeLimitingInputStream extends FilterInputStream {
+
+		private final long limit;
+
+		private long count;
+
+		SizeLimitingInputStream(InputStream inputStream, long limit) {
+			super(inputStream);
+			this.limit = limit;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b != -1) {
+				count(1);
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int n = super.read(b, off, len);
+			if (n > 0) {
+				count(n);
+			}
+			return n;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			count(skipped);
+			return skipped;
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		@Override
+		public void mark(int readlimit) {
+		}
+
+		@Override
+		public void reset() throws IOException {
+			throw new IOException("mark/reset not supported");
+		}
+
+		private void count(long n) throws IOException {
+			this.count += n;
+			if (this.count > this.limit) {
+				throw new IOException("Decoded request exceeds the maximum size of " + this.limit + " bytes");
+			}
+		}
+
+	}
+
+	/**
+	 * Output stream that buffers the response up to the compression threshold, and
+	 * encodes it once the threshold has been exceeded. Responses that do not exceed it
+	 * are written as is when the stream is closed.
+	 */
+	private final class CompressingOutputStream extends OutputStream {
+
+		private final OutputStream outputStream;
+
+		private final ContentCodec contentCodec;
+
+		private final int threshold;
+
+		private @Nullable ByteArrayOutputStream buffer;
+
+		private @Nullable OutputStream targetStream;
+
+		CompressingOutputStream(OutputStream outputStream, ContentCodec contentCodec, int threshold) {
+			this.outputStream = outputStream;
+			this.contentCodec = contentCodec;
+			this.threshold = threshold;
+			this.buffer = new ByteArrayOutputStream(Math.min(threshold, 8192));
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (this.targetStream != null) {
+				this.targetStream.write(b, off, len);
+			}
+			else if (this.buffer != null) {
+				if (this.buffer.size() + len > this.threshold) {
+					startEncoding().write(b, off, len);
+				}
+				else {
+					this.buffer.write(b, off, len);
+				}
+			}
+			else {
+				throw new IOException("Stream closed");
+			}
+		}
+
+		private OutputStream startEncoding() throws IOException {
+			Assert.state(this.buffer != null, "No buffer");
+			addResponseHeader(HttpTransportConstants.HEADER_CONTENT_ENCODING, this.contentCodec.getContentEncoding());
+			addResponseHeader(HttpTransportConstants.HEADER_VARY, HttpTransportConstants.HEADER_ACCEPT_ENCODING);
+			OutputStream encodingStream = this.contentCodec.encode(this.outputStream);
+			this.buffer.writeTo(encodingStream);
+			this.buffer = null;
+			this.targetStream = encodingStream;
+			return encodingStream;
+		}
+
+		@Override
+		public void flush() throws IOException {
+			if (this.targetStream != null) {
+				this.targetStream.flush();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (this.buffer != null) {
+				this.buffer.writeTo(this.outputStream);
+				this.buffer = null;
+				this.targetStream = this.outputStream;
+			}
+			if (this.targetStream != null) {
+				this.targetStream.close();
+			}
+		}
+
+	}
+
 }
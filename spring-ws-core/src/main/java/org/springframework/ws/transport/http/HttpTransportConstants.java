@@ -35,6 +35,18 @@ public interface HttpTransportConstants extends TransportConstants {
 	/** Header value that indicates a compressed "Content-Encoding". */
 	String CONTENT_ENCODING_GZIP = "gzip";
 
+	/**
+	 * Header value that indicates a "Content-Encoding" compressed with deflate.
+	 * @since 5.0.0
+	 */
+	String CONTENT_ENCODING_DEFLATE = "deflate";
+
+	/**
+	 * The "Vary" header.
+	 * @since 5.0.0
+	 */
+	String HEADER_VARY = "Vary";
+
 	/** The "200 OK" status code. */
 	int STATUS_OK = 200;
 
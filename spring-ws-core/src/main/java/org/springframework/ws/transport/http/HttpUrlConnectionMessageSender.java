@@ -73,7 +73,9 @@ public class HttpUrlConnectionMessageSender extends AbstractHttpWebServiceMessag
 		}
 		else {
 			prepareConnection(httpURLConnection);
-			return new HttpUrlConnection(httpURLConnection);
+			HttpUrlConnection connection = new HttpUrlConnection(httpURLConnection);
+			prepareContentEncoding(connection);
+			return connection;
 		}
 	}
 
@@ -16,21 +16,32 @@
 
 package org.springframework.ws.transport.http;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.InterruptedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
 import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpRequest.Builder;
 import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
 import java.net.http.HttpResponse.BodyHandlers;
+import java.net.http.HttpResponse.BodySubscribers;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -39,35 +50,73 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.http.HttpStatus;
 import org.springframework.util.Assert;
 import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.transport.AsyncWebServiceConnection;
 import org.springframework.ws.transport.WebServiceConnection;
 
 /**
  * Implementation of the {@link WebServiceConnection} interface that uses Java's built-in
  * {@link HttpClient}.
+ * <p>
+ * Supports {@linkplain #sendAsync(WebServiceMessage) asynchronous sending} through
+ * {@link HttpClient#sendAsync(HttpRequest, BodyHandler)}, in which case the response body
+ * is received in full before the returned future completes. Otherwise, the response body
+ * is read directly from the {@code HttpClient} as it arrives.
+ * <p>
+ * By default, the request is buffered in memory, so that it can be sent with a
+ * {@code Content-Length}. When {@linkplain #JdkHttpClientConnection(HttpClient, URI,
+ * Duration, boolean) streaming} the request, the message is handed to the
+ * {@code HttpClient} in chunks through a bounded queue while it is being written, so
+ * memory usage does not depend on the message size. If the exchange fails while the
+ * message is being written, the writer fails with the cause of that failure.
  *
  * @author Marten Deinum
  * @since 4.0
  * @see java.net.http.HttpClient
  * @see java.net.http.HttpRequest
  */
-public class JdkHttpClientConnection extends AbstractHttpSenderConnection {
+public class JdkHttpClientConnection extends AbstractHttpSenderConnection implements AsyncWebServiceConnection {
 
 	private static final Log logger = LogFactory.getLog(JdkHttpClientConnection.class);
 
 	private static final List<String> DISALLOWED_HEADERS = List.of("connection", "content-length", "expect", "host",
 			"upgrade");
 
+	private static final int REQUEST_PIPE_SIZE = 64 * 1024;
+
+	private static final int REQUEST_CHUNK_SIZE = 8 * 1024;
+
 	private final HttpClient httpClient;
 
 	private final URI uri;
 
 	private final Builder requestBuilder;
 
-	private @Nullable ByteArrayOutputStream requestBuffer;
+	private final boolean streamRequest;
+
+	private @Nullable OutputStream requestOutputStream;
+
+	private @Nullable RequestBodyPipe requestBodyPipe;
 
 	private @Nullable HttpResponse<InputStream> response;
 
+	private boolean sendAsync;
+
+	private @Nullable CompletableFuture<HttpResponse<InputStream>> responseFuture;
+
 	protected JdkHttpClientConnection(HttpClient httpClient, URI uri, Duration requestTimeout) {
+		this(httpClient, uri, requestTimeout, false);
+	}
+
+	/**
+	 * Create a new connection.
+	 * @param httpClient the client to use
+	 * @param uri the URI to connect to
+	 * @param requestTimeout the request timeout
+	 * @param streamRequest whether to stream the request body instead of buffering it
+	 * @since 5.0.0
+	 */
+	protected JdkHttpClientConnection(HttpClient httpClient, URI uri, Duration requestTimeout,
+			boolean streamRequest) {
 
 		Assert.notNull(httpClient, "httpClient must not be null");
 		Assert.notNull(uri, "uri must not be null");
@@ -76,6 +125,20 @@ public class JdkHttpClientConnection extends AbstractHttpSenderConnection {
 		this.httpClient = httpClient;
 		this.uri = uri;
 		this.requestBuilder = HttpRequest.newBuilder(uri).timeout(requestTimeout);
+		this.streamRequest = streamRequest;
+	}
+
+	@Override
+	public CompletableFuture<Void> sendAsync(WebServiceMessage message) {
+		this.sendAsync = true;
+		try {
+			send(message);
+		}
+		catch (IOException ex) {
+			return CompletableFuture.failedFuture(ex);
+		}
+		Assert.state(this.responseFuture != null, "Request has not been sent");
+		return this.responseFuture.thenAccept((response) -> this.response = response);
 	}
 
 	protected HttpResponse<InputStream> getResponse() {
@@ -85,8 +148,22 @@ public class JdkHttpClientConnection extends AbstractHttpSenderConnection {
 
 	@Override
 	protected OutputStream getRequestOutputStream() throws IOException {
-		Assert.notNull(this.requestBuffer, "Request OutputStream is not available");
-		return this.requestBuffer;
+		// invoked on the first write, after all headers have been added
+		if (this.requestOutputStream == null) {
+			if (this.streamRequest) {
+				RequestBodyPipe pipe = new RequestBodyPipe();
+				this.requestBodyPipe = pipe;
+				this.requestOutputStream = pipe.getOutputStream();
+				CompletableFuture<HttpResponse<InputStream>> responseFuture = sendRequest(
+						BodyPublishers.ofInputStream(pipe::getInputStream));
+				// unblock the writer if the exchange ends before the body has been read
+				responseFuture.whenComplete((response, ex) -> pipe.exchangeCompleted(ex));
+			}
+			else {
+				this.requestOutputStream = new ByteArrayOutputStream();
+			}
+		}
+		return this.requestOutputStream;
 	}
 
 	@Override
@@ -143,23 +220,52 @@ public class JdkHttpClientConnection extends AbstractHttpSenderConnection {
 	}
 
 	@Override
-	protected void onSendBeforeWrite(WebServiceMessage message) throws IOException {
-		this.requestBuffer = new ByteArrayOutputStream();
+	protected void onSendAfterWrite(WebServiceMessage message) throws IOException {
+		if (this.requestBodyPipe != null) {
+			// signal the end of the streamed request body
+			this.requestBodyPipe.complete();
+		}
+		else {
+			byte[] body = (this.requestOutputStream instanceof ByteArrayOutputStream requestBuffer)
+					? requestBuffer.toByteArray() : new byte[0];
+			sendRequest(BodyPublishers.ofByteArray(body));
+		}
+		if (!this.sendAsync) {
+			this.response = awaitResponse();
+		}
 	}
 
-	@Override
-	protected void onSendAfterWrite(WebServiceMessage message) throws IOException {
-		Assert.state(this.requestBuffer != null, "onSendBeforeWrite has not been called");
-		byte[] body = this.requestBuffer.toByteArray();
+	private CompletableFuture<HttpResponse<InputStream>> sendRequest(BodyPublisher bodyPublisher) {
+		HttpRequest request = this.requestBuilder.POST(bodyPublisher).build();
+		BodyHandler<InputStream> bodyHandler;
+		if (this.sendAsync) {
+			// buffer the body, so that receiving the response does not block
+			bodyHandler = (responseInfo) -> BodySubscribers.mapping(BodySubscribers.ofByteArray(),
+					ByteArrayInputStream::new);
+		}
+		else {
+			bodyHandler = BodyHandlers.ofInputStream();
+		}
+		this.responseFuture = this.httpClient.sendAsync(request, bodyHandler);
+		return this.responseFuture;
+	}
 
-		HttpRequest request = this.requestBuilder.POST(BodyPublishers.ofByteArray(body)).build();
+	private HttpResponse<InputStream> awaitResponse() throws IOException {
+		Assert.state(this.responseFuture != null, "Request has not been sent");
 		try {
-			this.response = this.httpClient.send(request, BodyHandlers.ofInputStream());
+			return this.responseFuture.get();
 		}
 		catch (InterruptedException ex) {
+			this.responseFuture.cancel(true);
 			Thread.currentThread().interrupt();
 			throw new IllegalStateException(ex);
 		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof IOException ioException) {
+				throw ioException;
+			}
+			throw new IllegalStateException(ex.getCause());
+		}
 	}
 
 	@Override
@@ -170,4 +276,177 @@ public class JdkHttpClientConnection extends AbstractHttpSenderConnection {
 		}
 	}
 
+	/**
+	 * Bounded hand-off of a streamed request body from the thread that writes the message
+	 * to the {@code HttpClient}. Unlike piped streams, it is not tied to the threads that
+	 * use it, and it reports the failure of the exchange to the writer.
+	 */
+	private static final class RequestBodyPipe {
+
+		private static final byte[] END = new byte[0];
+
+		private static final byte[] ABORT = new byte[0];
+
+		private final BlockingQueue<byte[]> chunks = new ArrayBlockingQueue<>(REQUEST_PIPE_SIZE / REQUEST_CHUNK_SIZE);
+
+		private final OutputStream outputStream = new PipeOutputStream();
+
+		private final InputStream inputStream = new PipeInputStream();
+
+		private volatile boolean completed;
+
+		private volatile @Nullable Throwable failure;
+
+		OutputStream getOutputStream() {
+			return this.outputStream;
+		}
+
+		InputStream getInputStream() {
+			return this.inputStream;
+		}
+
+		/**
+		 * Signal that the whole body has been written.
+		 */
+		void complete() throws IOException {
+			this.outputStream.flush();
+			put(END);
+			this.completed = true;
+		}
+
+		/**
+		 * Signal that the exchange has ended, successfully or not. If the body has not been
+		 * handed off completely at this point, the writer is released and fails.
+		 */
+		void exchangeCompleted(@Nullable Throwable ex) {
+			if (ex != null || !this.completed) {
+				Throwable cause = (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+				this.failure = (cause != null) ? cause
+						: new IOException("Exchange completed before the request body was sent");
+				// make room for a writer blocked on a full queue
+				this.chunks.clear();
+			}
+		}
+
+		private void put(byte[] chunk) throws IOException {
+			Throwable failure = this.failure;
+			if (failure != null) {
+				throw new IOException("Could not send request body: " + failure.getMessage(), failure);
+			}
+			try {
+				this.chunks.put(chunk);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while sending request body");
+			}
+		}
+
+		private final class PipeOutputStream extends OutputStream {
+
+			private final byte[] buffer = new byte[REQUEST_CHUNK_SIZE];
+
+			private int count;
+
+			private boolean closed;
+
+			@Override
+			public void write(int b) throws IOException {
+				if (this.count == this.buffer.length) {
+					flush();
+				}
+				this.buffer[this.count++] = (byte) b;
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				while (len > 0) {
+					if (this.count == this.buffer.length) {
+						flush();
+					}
+					int n = Math.min(len, this.buffer.length - this.count);
+					System.arraycopy(b, off, this.buffer, this.count, n);
+					this.count += n;
+					off += n;
+					len -= n;
+				}
+			}
+
+			@Override
+			public void flush() throws IOException {
+				if (this.count > 0) {
+					put(Arrays.copyOf(this.buffer, this.count));
+					this.count = 0;
+				}
+			}
+
+			@Override
+			public void close() {
+				if (!this.closed) {
+					this.closed = true;
+					if (!RequestBodyPipe.this.completed) {
+						// the message was not written completely, so make the request fail
+						RequestBodyPipe.this.chunks.clear();
+						RequestBodyPipe.this.chunks.offer(ABORT);
+					}
+				}
+			}
+
+		}
+
+		private final class PipeInputStream extends InputStream {
+
+			private byte @Nullable [] chunk;
+
+			private int position;
+
+			private boolean end;
+
+			@Override
+			public int read() throws IOException {
+				byte[] b = new byte[1];
+				int n = read(b, 0, 1);
+				return (n == -1) ? -1 : (b[0] & 0xFF);
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				if (len == 0) {
+					return 0;
+				}
+				while (this.chunk == null || this.position == this.chunk.length) {
+					if (this.end) {
+						return -1;
+					}
+					byte[] next = take();
+					if (next == END) {
+						this.end = true;
+						return -1;
+					}
+					if (next == ABORT) {
+						throw new IOException("Request body was not written completely");
+					}
+					this.chunk = next;
+					this.position = 0;
+				}
+				int n = Math.min(len, this.chunk.length - this.position);
+				System.arraycopy(this.chunk, this.position, b, off, n);
+				this.position += n;
+				return n;
+			}
+
+			private byte[] take() throws IOException {
+				try {
+					return RequestBodyPipe.this.chunks.take();
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					throw new InterruptedIOException("Interrupted while reading request body");
+				}
+			}
+
+		}
+
+	}
+
 }
@@ -50,6 +50,8 @@ public class JdkHttpClientMessageSender extends AbstractHttpWebServiceMessageSen
 
 	private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
 
+	private boolean streamRequests = false;
+
 	public JdkHttpClientMessageSender() {
 	}
 
@@ -71,15 +73,32 @@ public class JdkHttpClientMessageSender extends AbstractHttpWebServiceMessageSen
 		this.requestTimeout = requestTimeout;
 	}
 
+	/**
+	 * Set whether request messages are streamed to the {@code HttpClient} while they are
+	 * written, rather than buffered in memory first. Default is {@code false}.
+	 * <p>
+	 * Streaming keeps memory usage independent of the message size, which matters for
+	 * large MTOM or attachment requests. Streamed requests are sent without a
+	 * {@code Content-Length} header (i.e. chunked, when using HTTP/1.1), which not all
+	 * servers accept.
+	 * @param streamRequests whether to stream request messages
+	 * @since 5.0.0
+	 */
+	public void setStreamRequests(boolean streamRequests) {
+		this.streamRequests = streamRequests;
+	}
+
 	@Override
 	public WebServiceConnection createConnection(URI uri) throws IOException {
 		Assert.state(this.httpClient != null, "HttpClient is not available");
-		JdkHttpClientConnection connection = new JdkHttpClientConnection(this.httpClient, uri, this.requestTimeout);
+		JdkHttpClientConnection connection = new JdkHttpClientConnection(this.httpClient, uri, this.requestTimeout,
+				this.streamRequests);
 
 		if (isAcceptGzipEncoding()) {
 			connection.addRequestHeader(HttpTransportConstants.HEADER_ACCEPT_ENCODING,
 					HttpTransportConstants.CONTENT_ENCODING_GZIP);
 		}
+		prepareContentEncoding(connection);
 
 		return connection;
 	}
@@ -23,6 +23,7 @@ import java.net.URISyntaxException;
 import javax.xml.transform.Source;
 import javax.xml.transform.dom.DOMSource;
 
+import org.jspecify.annotations.Nullable;
 import org.w3c.dom.Document;
 
 import org.springframework.util.StringUtils;
@@ -45,31 +46,46 @@ final class LastModifiedHelper {
 	 * @return the last modified date, as a long
 	 */
 	static long getLastModified(Source source) {
+		return getLastModified(getFile(source));
+	}
+
+	/**
+	 * Returns the last modified date of the given file.
+	 * @param file the file, or {@code null}
+	 * @return the last modified date, or {@code -1} if the file does not exist
+	 */
+	static long getLastModified(@Nullable File file) {
+		return (file != null && file.exists()) ? file.lastModified() : -1;
+	}
+
+	/**
+	 * Returns the file the given {@link Source} was read from, if any.
+	 * @param source the source
+	 * @return the file, or {@code null} if the source was not read from a file
+	 */
+	static @Nullable File getFile(Source source) {
 		if (source instanceof DOMSource) {
 			Document document = TraxUtils.getDocument((DOMSource) source);
-			return (document != null) ? getLastModified(document.getDocumentURI()) : -1;
+			return (document != null) ? getFile(document.getDocumentURI()) : null;
 		}
 		else {
-			return getLastModified(source.getSystemId());
+			return getFile(source.getSystemId());
 		}
 	}
 
-	private static long getLastModified(String systemId) {
+	private static @Nullable File getFile(@Nullable String systemId) {
 		if (StringUtils.hasText(systemId)) {
 			try {
 				URI systemIdUri = new URI(systemId);
 				if ("file".equals(systemIdUri.getScheme())) {
-					File documentFile = new File(systemIdUri);
-					if (documentFile.exists()) {
-						return documentFile.lastModified();
-					}
+					return new File(systemIdUri);
 				}
 			}
 			catch (URISyntaxException ex) {
 				// ignore
 			}
 		}
-		return -1;
+		return null;
 	}
 
 }
@@ -18,6 +18,7 @@ package org.springframework.ws.transport.http;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -28,6 +29,7 @@ import org.springframework.beans.factory.BeanInitializationException;
 import org.springframework.beans.factory.BeanNameAware;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.servlet.DispatcherServlet;
 import org.springframework.web.servlet.FrameworkServlet;
@@ -40,6 +42,7 @@ import org.springframework.ws.support.DefaultStrategiesHelper;
 import org.springframework.ws.support.WebUtils;
 import org.springframework.ws.transport.WebServiceMessageReceiver;
 import org.springframework.ws.wsdl.WsdlDefinition;
+import org.springframework.xml.validation.XmlValidatorFactory;
 import org.springframework.xml.xsd.XsdSchema;
 
 /**
@@ -61,6 +64,20 @@ import org.springframework.xml.xsd.XsdSchema;
  * {@code transformWsdlLocations} init-param is set to {@code true} in this servlet's
  * configuration in {@code web.xml}, all {@code location} attributes in the WSDL
  * definitions will reflect the URL of the incoming request.
+ * <p>
+ * When the {@code asyncDispatch} init-param is set to {@code true}, and the servlet is
+ * registered with {@code async-supported} enabled, messages are read and written using
+ * non-blocking I/O, and dispatched on the {@link #setAsyncExecutor(Executor) async
+ * executor}, so that slow clients and large messages do not occupy container threads.
+ * Request and response bodies are fully buffered on the heap in this mode, requests are
+ * limited to the {@link #setMaxAsyncRequestSize(long) maxAsyncRequestSize}, and they
+ * time out after the {@link #setAsyncTimeout(long) asyncTimeout}.
+ * <p>
+ * When the {@code compressionThreshold} init-param is set, responses larger than the
+ * given number of bytes are compressed for clients that accept {@code gzip} or
+ * {@code deflate} content encoding. When the {@code maxDecodedRequestSize} init-param is
+ * set, requests compressed with these encodings are decoded up to the given number of
+ * bytes.
  *
  * @author Arjen Poutsma
  * @since 1.0.0
@@ -107,6 +124,12 @@ public class MessageDispatcherServlet extends FrameworkServlet {
 	/** Suffix of a XSD request uri. */
 	private static final String XSD_SUFFIX_NAME = ".xsd";
 
+	/**
+	 * The maximum number of messages dispatched concurrently by the default
+	 * {@linkplain #setAsyncExecutor(Executor) async executor}.
+	 */
+	private static final int DEFAULT_ASYNC_CONCURRENCY_LIMIT = 200;
+
 	private final DefaultStrategiesHelper defaultStrategiesHelper;
 
 	private String messageFactoryBeanName = DEFAULT_MESSAGE_FACTORY_BEAN_NAME;
@@ -144,6 +167,20 @@ public class MessageDispatcherServlet extends FrameworkServlet {
 
 	private boolean transformSchemaLocations = false;
 
+	private boolean asyncDispatch = false;
+
+	private @Nullable Executor asyncExecutor;
+
+	private @Nullable SimpleAsyncTaskExecutor defaultAsyncExecutor;
+
+	private long asyncTimeout = WebServiceMessageReceiverHandlerAdapter.DEFAULT_ASYNC_TIMEOUT;
+
+	private long maxAsyncRequestSize = WebServiceMessageReceiverHandlerAdapter.DEFAULT_MAX_ASYNC_REQUEST_SIZE;
+
+	private int compressionThreshold = -1;
+
+	private long maxDecodedRequestSize = -1;
+
 	/**
 	 * Public constructor, necessary for some Web application servers.
 	 */
@@ -262,6 +299,115 @@ public class MessageDispatcherServlet extends FrameworkServlet {
 		this.transformSchemaLocations = transformSchemaLocations;
 	}
 
+	/**
+	 * Indicates whether messages are dispatched asynchronously.
+	 * @since 5.0.0
+	 */
+	public boolean isAsyncDispatch() {
+		return this.asyncDispatch;
+	}
+
+	/**
+	 * Sets whether messages are dispatched asynchronously, using non-blocking I/O to read
+	 * requests and write responses. Defaults to {@code false}.
+	 * <p>
+	 * Requests for which asynchronous processing is not supported are handled
+	 * synchronously.
+	 * @since 5.0.0
+	 * @see WebServiceMessageReceiverHandlerAdapter#setAsyncExecutor(Executor)
+	 */
+	public void setAsyncDispatch(boolean asyncDispatch) {
+		this.asyncDispatch = asyncDispatch;
+	}
+
+	/**
+	 * Returns the size in bytes above which responses are compressed.
+	 * @since 5.0.0
+	 */
+	public int getCompressionThreshold() {
+		return this.compressionThreshold;
+	}
+
+	/**
+	 * Sets the size in bytes above which responses are compressed, if the client accepts
+	 * a supported content encoding. Defaults to -1, which means that responses are not
+	 * compressed.
+	 * @since 5.0.0
+	 * @see WebServiceMessageReceiverHandlerAdapter#setCompressionThreshold(int)
+	 */
+	public void setCompressionThreshold(int compressionThreshold) {
+		this.compressionThreshold = compressionThreshold;
+	}
+
+	/**
+	 * Returns the maximum size in bytes of a decoded request.
+	 * @since 5.0.0
+	 */
+	public long getMaxDecodedRequestSize() {
+		return this.maxDecodedRequestSize;
+	}
+
+	/**
+	 * Sets the maximum size in bytes of a decoded request. Requests with a supported
+	 * content encoding are decoded up to this size. Defaults to -1, which means that
+	 * requests are not decoded.
+	 * @since 5.0.0
+	 * @see WebServiceMessageReceiverHandlerAdapter#setMaxDecodedRequestSize(long)
+	 */
+	public void setMaxDecodedRequestSize(long maxDecodedRequestSize) {
+		this.maxDecodedRequestSize = maxDecodedRequestSize;
+	}
+
+	/**
+	 * Sets the executor on which messages are dispatched when
+	 * {@link #setAsyncDispatch(boolean) asyncDispatch} is enabled. Defaults to an
+	 * executor that starts a new virtual thread per message, or a new platform thread
+	 * when virtual threads are not available, and that dispatches at most
+	 * {@value #DEFAULT_ASYNC_CONCURRENCY_LIMIT} messages concurrently. Further messages
+	 * are rejected with a {@code 503 Service Unavailable} status.
+	 * @since 5.0.0
+	 */
+	public void setAsyncExecutor(Executor asyncExecutor) {
+		this.asyncExecutor = asyncExecutor;
+	}
+
+	/**
+	 * Returns the time in milliseconds after which asynchronously dispatched requests
+	 * time out.
+	 * @since 5.0.0
+	 */
+	public long getAsyncTimeout() {
+		return this.asyncTimeout;
+	}
+
+	/**
+	 * Sets the time in milliseconds after which asynchronously dispatched requests time
+	 * out. Defaults to {@link WebServiceMessageReceiverHandlerAdapter#DEFAULT_ASYNC_TIMEOUT}.
+	 * @since 5.0.0
+	 * @see WebServiceMessageReceiverHandlerAdapter#setAsyncTimeout(long)
+	 */
+	public void setAsyncTimeout(long asyncTimeout) {
+		this.asyncTimeout = asyncTimeout;
+	}
+
+	/**
+	 * Returns the maximum size in bytes of asynchronously dispatched requests.
+	 * @since 5.0.0
+	 */
+	public long getMaxAsyncRequestSize() {
+		return this.maxAsyncRequestSize;
+	}
+
+	/**
+	 * Sets the maximum size in bytes of asynchronously dispatched requests. Defaults to
+	 * {@link WebServiceMessageReceiverHandlerAdapter#DEFAULT_MAX_ASYNC_REQUEST_SIZE}.
+	 * @since 5.0.0
+	 * @see WebServiceMessageReceiverHandlerAdapter#setMaxAsyncRequestSize(long)
+	 */
+	public void setMaxAsyncRequestSize(long maxAsyncRequestSize) {
+		this.maxAsyncRequestSize = maxAsyncRequestSize;
+	}
+
 	/**
 	 * Returns the bean name used to lookup a
 	 * {@link WebServiceMessageReceiverHandlerAdapter}.
@@ -329,6 +475,24 @@ public class MessageDispatcherServlet extends FrameworkServlet {
 		initStrategies(context);
 	}
 
+	/**
+	 * This implementation closes the default {@linkplain #setAsyncExecutor(Executor) async
+	 * executor}, if it was created, and clears the
+	 * {@linkplain XmlValidatorFactory#clearSchemaCache() schema cache}.
+	 */
+	@Override
+	public void destroy() {
+		super.destroy();
+		XmlValidatorFactory.clearSchemaCache();
+		if (this.defaultAsyncExecutor != null) {
+			if (this.asyncExecutor == this.defaultAsyncExecutor) {
+				this.asyncExecutor = null;
+			}
+			this.defaultAsyncExecutor.close();
+			this.defaultAsyncExecutor = null;
+		}
+	}
+
 	/** Returns the {@link WebServiceMessageReceiver} used by this servlet. */
 	protected WebServiceMessageReceiver getMessageReceiver() {
 		return this.messageReceiver;
@@ -400,6 +564,17 @@ public class MessageDispatcherServlet extends FrameworkServlet {
 				this.messageReceiverHandlerAdapter = new WebServiceMessageReceiverHandlerAdapter();
 			}
 			initWebServiceMessageFactory(context);
+			if (this.asyncDispatch) {
+				this.messageReceiverHandlerAdapter.setAsyncExecutor(getAsyncExecutor());
+				this.messageReceiverHandlerAdapter.setAsyncTimeout(this.asyncTimeout);
+				this.messageReceiverHandlerAdapter.setMaxAsyncRequestSize(this.maxAsyncRequestSize);
+			}
+			if (this.compressionThreshold >= 0) {
+				this.messageReceiverHandlerAdapter.setCompressionThreshold(this.compressionThreshold);
+			}
+			if (this.maxDecodedRequestSize >= 0) {
+				this.messageReceiverHandlerAdapter.setMaxDecodedRequestSize(this.maxDecodedRequestSize);
+			}
 			this.messageReceiverHandlerAdapter.afterPropertiesSet();
 		}
 		catch (Exception ex) {
@@ -407,6 +582,18 @@ public class MessageDispatcherServlet extends FrameworkServlet {
 		}
 	}
 
+	private Executor getAsyncExecutor() {
+		if (this.asyncExecutor == null) {
+			SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(getServletName() + "-");
+			executor.setVirtualThreads(Runtime.version().feature() >= 21);
+			executor.setConcurrencyLimit(DEFAULT_ASYNC_CONCURRENCY_LIMIT);
+			executor.setRejectTasksWhenLimitReached(true);
+			this.defaultAsyncExecutor = executor;
+			this.asyncExecutor = executor;
+		}
+		return this.asyncExecutor;
+	}
+
 	private void initWebServiceMessageFactory(ApplicationContext context) {
 		WebServiceMessageFactory messageFactory;
 		try {
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.transport.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * {@link ContentCodec} implementations for the content encodings supported by the JDK.
+ *
+ * @since 5.0.0
+ */
+enum StandardContentCodec implements ContentCodec {
+
+	GZIP(HttpTransportConstants.CONTENT_ENCODING_GZIP) {
+
+		@Override
+		public OutputStream encode(OutputStream outputStream) throws IOException {
+			return new GZIPOutputStream(outputStream, BUFFER_SIZE);
+		}
+
+		@Override
+		public InputStream decode(InputStream inputStream) throws IOException {
+			return new GZIPInputStream(inputStream, BUFFER_SIZE);
+		}
+
+	},
+
+	DEFLATE(HttpTransportConstants.CONTENT_ENCODING_DEFLATE) {
+
+		@Override
+		public OutputStream encode(OutputStream outputStream) {
+			return new DeflaterOutputStream(outputStream);
+		}
+
+		@Override
+		public InputStream decode(InputStream inputStream) {
+			return new InflaterInputStream(inputStream);
+		}
+
+	};
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final String contentEncoding;
+
+	StandardContentCodec(String contentEncoding) {
+		this.contentEncoding = contentEncoding;
+	}
+
+	@Override
+	public String getContentEncoding() {
+		return this.contentEncoding;
+	}
+
+}
@@ -16,14 +16,27 @@
 
 package org.springframework.ws.transport.http;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.util.Assert;
 import org.springframework.web.servlet.HandlerAdapter;
 import org.springframework.web.servlet.ModelAndView;
 import org.springframework.ws.InvalidXmlException;
-import org.springframework.ws.transport.WebServiceConnection;
 import org.springframework.ws.transport.WebServiceMessageReceiver;
 import org.springframework.ws.transport.support.WebServiceMessageReceiverObjectSupport;
 
@@ -49,11 +62,138 @@ import org.springframework.ws.transport.support.WebServiceMessageReceiverObjectS
 public class WebServiceMessageReceiverHandlerAdapter extends WebServiceMessageReceiverObjectSupport
 		implements HandlerAdapter {
 
+	/**
+	 * Default timeout of asynchronously handled requests, in milliseconds.
+	 * @since 5.0.0
+	 * @see #setAsyncTimeout(long)
+	 */
+	public static final long DEFAULT_ASYNC_TIMEOUT = 30_000;
+
+	/**
+	 * Default maximum size of asynchronously handled requests, in bytes.
+	 * @since 5.0.0
+	 * @see #setMaxAsyncRequestSize(long)
+	 */
+	public static final long DEFAULT_MAX_ASYNC_REQUEST_SIZE = 10 * 1024 * 1024;
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private @Nullable Executor asyncExecutor;
+
+	private long asyncTimeout = DEFAULT_ASYNC_TIMEOUT;
+
+	private long maxAsyncRequestSize = DEFAULT_MAX_ASYNC_REQUEST_SIZE;
+
+	private List<ContentCodec> contentCodecs = List.of(ContentCodec.GZIP, ContentCodec.DEFLATE);
+
+	private int compressionThreshold = -1;
+
+	private long maxDecodedRequestSize = -1;
+
+	/**
+	 * Sets the executor on which messages are dispatched asynchronously. Not set by
+	 * default, which means that messages are handled synchronously on the container
+	 * thread.
+	 * <p>
+	 * When set, and the request supports asynchronous processing, the request body is
+	 * read with non-blocking I/O, the message is dispatched on the given executor, and
+	 * the buffered response is written with non-blocking I/O. This requires the servlet
+	 * to be registered with {@code asyncSupported} enabled.
+	 * <p>
+	 * Note that both the request and the response body are fully buffered on the heap in
+	 * this mode, so the size of requests is limited by the
+	 * {@linkplain #setMaxAsyncRequestSize(long) maximum asynchronous request size}. The
+	 * response status and headers are buffered as well, so endpoints should not use the
+	 * {@code HttpServletRequest} or {@code HttpServletResponse} directly.
+	 * @param asyncExecutor the executor to dispatch messages on
+	 * @since 5.0.0
+	 * @see #setAsyncTimeout(long)
+	 * @see #setMaxAsyncRequestSize(long)
+	 */
+	public void setAsyncExecutor(@Nullable Executor asyncExecutor) {
+		this.asyncExecutor = asyncExecutor;
+	}
+
+	/**
+	 * Sets the time in milliseconds after which asynchronously handled requests time out.
+	 * Defaults to {@value #DEFAULT_ASYNC_TIMEOUT}. A value of zero or less means that
+	 * requests never time out.
+	 * <p>
+	 * A request that times out is answered with a {@code 503 Service Unavailable} status,
+	 * unless its response has been committed, and its response is no longer written. The
+	 * thread dispatching the request is interrupted, so that endpoints waiting for an
+	 * asynchronous result cancel it.
+	 * @param asyncTimeout the timeout in milliseconds
+	 * @since 5.0.0
+	 * @see #setAsyncExecutor(Executor)
+	 */
+	public void setAsyncTimeout(long asyncTimeout) {
+		this.asyncTimeout = asyncTimeout;
+	}
+
+	/**
+	 * Sets the maximum size in bytes of asynchronously handled requests. Defaults to
+	 * {@value #DEFAULT_MAX_ASYNC_REQUEST_SIZE}. A negative value means that the size of
+	 * requests is not limited.
+	 * <p>
+	 * A request that exceeds the maximum size is answered with a
+	 * {@code 413 Content Too Large} status, and is not dispatched.
+	 * @param maxAsyncRequestSize the maximum request size in bytes
+	 * @since 5.0.0
+	 * @see #setAsyncExecutor(Executor)
+	 */
+	public void setMaxAsyncRequestSize(long maxAsyncRequestSize) {
+		this.maxAsyncRequestSize = maxAsyncRequestSize;
+	}
+
+	/**
+	 * Sets the codecs used to decode compressed requests and to compress responses, in
+	 * order of preference. Defaults to {@link ContentCodec#GZIP} and
+	 * {@link ContentCodec#DEFLATE}.
+	 * @param contentCodecs the content codecs
+	 * @since 5.0.0
+	 * @see HttpServletConnection#setContentCodecs(List)
+	 */
+	public void setContentCodecs(List<ContentCodec> contentCodecs) {
+		Assert.notNull(contentCodecs, "'contentCodecs' must not be null");
+		this.contentCodecs = contentCodecs;
+	}
+
+	/**
+	 * Sets the size in bytes above which responses are compressed, if the client accepts
+	 * one of the {@linkplain #setContentCodecs(List) content codecs}. Defaults to -1,
+	 * which means that responses are not compressed.
+	 * @param compressionThreshold the compression threshold
+	 * @since 5.0.0
+	 * @see HttpServletConnection#setCompressionThreshold(int)
+	 */
+	public void setCompressionThreshold(int compressionThreshold) {
+		this.compressionThreshold = compressionThreshold;
+	}
+
+	/**
+	 * Sets the maximum size in bytes of a decoded request. Requests compressed with one of
+	 * the {@linkplain #setContentCodecs(List) content codecs} are decoded up to this size.
+	 * Defaults to -1, which means that requests are not decoded.
+	 * @param maxDecodedRequestSize the maximum decoded request size
+	 * @since 5.0.0
+	 * @see HttpServletConnection#setMaxDecodedRequestSize(long)
+	 */
+	public void setMaxDecodedRequestSize(long maxDecodedRequestSize) {
+		this.maxDecodedRequestSize = maxDecodedRequestSize;
+	}
+
 	@Override
 	public @Nullable ModelAndView handle(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse,
 			Object handler) throws Exception {
 		if (HttpTransportConstants.METHOD_POST.equals(httpServletRequest.getMethod())) {
-			WebServiceConnection connection = new HttpServletConnection(httpServletRequest, httpServletResponse);
+			if (this.asyncExecutor != null && httpServletRequest.isAsyncSupported()) {
+				handleAsync(httpServletRequest, httpServletResponse, (WebServiceMessageReceiver) handler,
+						this.asyncExecutor);
+				return null;
+			}
+			HttpServletConnection connection = new HttpServletConnection(httpServletRequest, httpServletResponse);
+			configureConnection(connection);
 			try {
 				handleConnection(connection, (WebServiceMessageReceiver) handler);
 			}
@@ -67,6 +207,155 @@ public class WebServiceMessageReceiverHandlerAdapter extends WebServiceMessageRe
 		return null;
 	}
 
+	private void configureConnection(HttpServletConnection connection) {
+		connection.setContentCodecs(this.contentCodecs);
+		connection.setCompressionThreshold(this.compressionThreshold);
+		connection.setMaxDecodedRequestSize(this.maxDecodedRequestSize);
+	}
+
+	private void handleAsync(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse,
+			WebServiceMessageReceiver receiver, Executor executor) throws IOException {
+		AsyncContext asyncContext = httpServletRequest.startAsync(httpServletRequest, httpServletResponse);
+		asyncContext.setTimeout(Math.max(this.asyncTimeout, 0));
+		AsyncExchange exchange = new AsyncExchange(asyncContext, httpServletResponse);
+		asyncContext.addListener(exchange);
+		long contentLength = httpServletRequest.getContentLengthLong();
+		if (exceedsMaxAsyncRequestSize(contentLength)) {
+			exchange.complete(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+			return;
+		}
+		ServletInputStream inputStream = httpServletRequest.getInputStream();
+		// do not trust the Content-Length for the initial capacity
+		ByteArrayOutputStream requestBody = new ByteArrayOutputStream(
+				(contentLength > 0) ? (int) Math.min(contentLength, BUFFER_SIZE * 8) : BUFFER_SIZE);
+		inputStream.setReadListener(new ReadListener() {
+
+			private final byte[] buffer = new byte[BUFFER_SIZE];
+
+			@Override
+			public void onDataAvailable() throws IOException {
+				while (!exchange.isDone() && inputStream.isReady() && !inputStream.isFinished()) {
+					int read = inputStream.read(this.buffer);
+					if (read == -1) {
+						return;
+					}
+					if (exceedsMaxAsyncRequestSize(requestBody.size() + (long) read)) {
+						exchange.complete(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+						return;
+					}
+					requestBody.write(this.buffer, 0, read);
+				}
+			}
+
+			@Override
+			public void onAllDataRead() {
+				AsyncHttpServletConnection connection;
+				synchronized (exchange) {
+					if (exchange.isDone()) {
+						return;
+					}
+					connection = new AsyncHttpServletConnection(httpServletRequest, httpServletResponse,
+							requestBody.toByteArray());
+				}
+				try {
+					executor.execute(() -> dispatch(exchange, connection, receiver));
+				}
+				catch (RejectedExecutionException ex) {
+					WebServiceMessageReceiverHandlerAdapter.this.logger.error("Could not dispatch message", ex);
+					exchange.complete(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+				}
+			}
+
+			@Override
+			public void onError(Throwable ex) {
+				WebServiceMessageReceiverHandlerAdapter.this.logger.debug("Could not read request", ex);
+				exchange.complete();
+			}
+
+		});
+	}
+
+	private boolean exceedsMaxAsyncRequestSize(long size) {
+		return this.maxAsyncRequestSize >= 0 && size > this.maxAsyncRequestSize;
+	}
+
+	private void dispatch(AsyncExchange exchange, AsyncHttpServletConnection connection,
+			WebServiceMessageReceiver receiver) {
+		if (exchange.isDone()) {
+			// timed out while waiting for the executor
+			return;
+		}
+		configureConnection(connection);
+		exchange.startDispatch();
+		try {
+			try {
+				handleConnection(connection, receiver);
+			}
+			catch (InvalidXmlException ex) {
+				synchronized (exchange) {
+					if (!exchange.isDone()) {
+						// the recorded response is discarded
+						handleInvalidXmlException(connection.getHttpServletRequest(),
+								connection.getHttpServletResponse(), receiver, ex);
+						exchange.complete();
+					}
+				}
+				return;
+			}
+			writeResponse(exchange, connection);
+		}
+		catch (Exception ex) {
+			this.logger.error("Could not handle message", ex);
+			exchange.complete(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+		}
+		finally {
+			exchange.endDispatch();
+		}
+	}
+
+	private void writeResponse(AsyncExchange exchange, AsyncHttpServletConnection connection) throws IOException {
+		synchronized (exchange) {
+			if (exchange.isDone()) {
+				return;
+			}
+			HttpServletResponse httpServletResponse = connection.getHttpServletResponse();
+			connection.applyResponse();
+			byte[] responseBody = connection.getResponseBody();
+			if (responseBody.length == 0) {
+				exchange.complete();
+				return;
+			}
+			httpServletResponse.setContentLength(responseBody.length);
+			ServletOutputStream outputStream = httpServletResponse.getOutputStream();
+			outputStream.setWriteListener(new WriteListener() {
+
+				private int offset = 0;
+
+				@Override
+				public void onWritePossible() throws IOException {
+					synchronized (exchange) {
+						while (!exchange.isDone() && outputStream.isReady()) {
+							if (this.offset == responseBody.length) {
+								exchange.complete();
+								return;
+							}
+							int length = Math.min(BUFFER_SIZE, responseBody.length - this.offset);
+							outputStream.write(responseBody, this.offset, length);
+							this.offset += length;
+						}
+					}
+				}
+
+				@Override
+				public void onError(Throwable ex) {
+					WebServiceMessageReceiverHandlerAdapter.this.logger.debug("Could not write response", ex);
+					exchange.complete();
+				}
+
+			});
+		}
+	}
+
 	@Override
 	public boolean supports(Object handler) {
 		return handler instanceof WebServiceMessageReceiver;
@@ -104,4 +393,88 @@ public class WebServiceMessageReceiverHandlerAdapter extends WebServiceMessageRe
 		httpServletResponse.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 	}
 
+	/**
+	 * State of an asynchronously handled exchange. Once the exchange is done, because it
+	 * was completed, timed out, or failed, its response must no longer be used. Callers
+	 * synchronize on the exchange while writing the response. When the exchange times
+	 * out, the thread that is dispatching it is interrupted.
+	 */
+	private static final class AsyncExchange implements AsyncListener {
+
+		private final AsyncContext asyncContext;
+
+		private final HttpServletResponse response;
+
+		private boolean done;
+
+		private @Nullable Thread dispatchThread;
+
+		private boolean dispatchInterrupted;
+
+		AsyncExchange(AsyncContext asyncContext, HttpServletResponse response) {
+			this.asyncContext = asyncContext;
+			this.response = response;
+		}
+
+		synchronized boolean isDone() {
+			return this.done;
+		}
+
+		/** Completes the exchange, unless it is done already. */
+		synchronized void complete() {
+			if (!this.done) {
+				this.done = true;
+				this.asyncContext.complete();
+			}
+		}
+
+		/** Completes the exchange with the given status, unless it is done already. */
+		synchronized void complete(int status) {
+			if (!this.done && !this.response.isCommitted()) {
+				this.response.setStatus(status);
+			}
+			complete();
+		}
+
+		/** Registers the current thread as the thread dispatching this exchange. */
+		synchronized void startDispatch() {
+			this.dispatchThread = Thread.currentThread();
+		}
+
+		/**
+		 * Unregisters the current thread, clearing the interrupt caused by a timeout so
+		 * that it does not leak into the next task of the executor.
+		 */
+		synchronized void endDispatch() {
+			this.dispatchThread = null;
+			if (this.dispatchInterrupted) {
+				Thread.interrupted();
+			}
+		}
+
+		@Override
+		public synchronized void onTimeout(AsyncEvent event) {
+			complete(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+			if (this.dispatchThread != null) {
+				this.dispatchInterrupted = true;
+				this.dispatchThread.interrupt();
+			}
+		}
+
+		@Override
+		public void onError(AsyncEvent event) {
+			complete();
+		}
+
+		@Override
+		public synchronized void onComplete(AsyncEvent event) {
+			this.done = true;
+		}
+
+		@Override
+		public void onStartAsync(AsyncEvent event) {
+		}
+
+	}
+
 }
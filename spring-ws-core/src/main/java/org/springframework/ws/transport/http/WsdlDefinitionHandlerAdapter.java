@@ -19,6 +19,7 @@ package org.springframework.ws.transport.http;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.xml.transform.Result;
 import javax.xml.transform.Source;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.dom.DOMResult;
@@ -66,6 +67,11 @@ import org.springframework.xml.xpath.XPathExpressionFactory;
  * the WSDL definition are changed by default. This behavior can be customized by changing
  * the {@code locationExpression} property, which is an XPath expression that matches the
  * attributes to change.
+ * <p>
+ * If the property {@code cacheResponses} is set to {@code true}, the serialized (and
+ * transformed) definition is cached, together with a GZIP-compressed variant that is
+ * served to clients that accept it. Cached responses carry a strong {@code ETag}, and are
+ * served without accessing the definition source until the cache is cleared.
  *
  * @author Arjen Poutsma
  * @since 1.0.0
@@ -105,6 +111,10 @@ public class WsdlDefinitionHandlerAdapter extends LocationTransformerObjectSuppo
 
 	private boolean transformSchemaLocations = false;
 
+	private boolean cacheResponses = false;
+
+	private final DocumentResponseCache responseCache = new DocumentResponseCache();
+
 	/**
 	 * Sets the XPath expression used for extracting the {@code location} attributes from
 	 * the WSDL 1.1 definition.
@@ -142,33 +152,50 @@ public class WsdlDefinitionHandlerAdapter extends LocationTransformerObjectSuppo
 		this.transformSchemaLocations = transformSchemaLocations;
 	}
 
+	/**
+	 * Sets whether serialized definitions are cached. Defaults to {@code false}.
+	 * <p>
+	 * When enabled, each definition is rendered once per distinct request location (if
+	 * locations are transformed), and served from memory afterwards, without accessing
+	 * the definition source again. Definitions read from a file are rendered again when
+	 * that file is modified. Clear the cache when other definitions change.
+	 * @since 5.0.0
+	 * @see #clearResponseCache()
+	 */
+	public void setCacheResponses(boolean cacheResponses) {
+		this.cacheResponses = cacheResponses;
+	}
+
+	/**
+	 * Removes all cached definitions.
+	 * @since 5.0.0
+	 * @see #setCacheResponses(boolean)
+	 */
+	public void clearResponseCache() {
+		this.responseCache.clear();
+	}
+
 	@Override
 	public @Nullable ModelAndView handle(HttpServletRequest request, HttpServletResponse response, Object handler)
 			throws Exception {
 		if (HttpTransportConstants.METHOD_GET.equals(request.getMethod())) {
 			WsdlDefinition definition = (WsdlDefinition) handler;
-			Source definitionSource = definition.getSource();
-			if (new ServletWebRequest(request, response)
-				.checkNotModified(LastModifiedHelper.getLastModified(definitionSource))) {
+			if (this.cacheResponses) {
+				this.responseCache
+					.getResponse(definition, request, this.transformLocations || this.transformSchemaLocations,
+							definition::getSource,
+							(definitionSource, outputStream) -> render(definitionSource, request,
+									new StreamResult(outputStream)))
+					.writeTo(request, response, CONTENT_TYPE);
 				return null;
 			}
-			Transformer transformer = createTransformer();
-			if (this.transformLocations || this.transformSchemaLocations) {
-				DOMResult domResult = new DOMResult();
-				transformer.transform(definitionSource, domResult);
-				Document definitionDocument = (Document) domResult.getNode();
-				if (this.transformLocations) {
-					transformLocations(definitionDocument, request);
-				}
-				if (this.transformSchemaLocations) {
-					transformSchemaLocations(definitionDocument, request);
-				}
-				definitionSource = new DOMSource(definitionDocument);
+			Source definitionSource = definition.getSource();
+			long lastModified = LastModifiedHelper.getLastModified(definitionSource);
+			if (new ServletWebRequest(request, response).checkNotModified(lastModified)) {
+				return null;
 			}
-
 			response.setContentType(CONTENT_TYPE);
-			StreamResult responseResult = new StreamResult(response.getOutputStream());
-			transformer.transform(definitionSource, responseResult);
+			render(definitionSource, request, new StreamResult(response.getOutputStream()));
 		}
 		else {
 			response.setStatus(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
@@ -176,6 +203,23 @@ public class WsdlDefinitionHandlerAdapter extends LocationTransformerObjectSuppo
 		return null;
 	}
 
+	private void render(Source definitionSource, HttpServletRequest request, Result result) throws Exception {
+		Transformer transformer = createTransformer();
+		if (this.transformLocations || this.transformSchemaLocations) {
+			DOMResult domResult = new DOMResult();
+			transformer.transform(definitionSource, domResult);
+			Document definitionDocument = (Document) domResult.getNode();
+			if (this.transformLocations) {
+				transformLocations(definitionDocument, request);
+			}
+			if (this.transformSchemaLocations) {
+				transformSchemaLocations(definitionDocument, request);
+			}
+			definitionSource = new DOMSource(definitionDocument);
+		}
+		transformer.transform(definitionSource, result);
+	}
+
 	@Override
 	public boolean supports(Object handler) {
 		return handler instanceof WsdlDefinition;
@@ -187,6 +231,7 @@ public class WsdlDefinitionHandlerAdapter extends LocationTransformerObjectSuppo
 				this.expressionNamespaces);
 		this.schemaLocationXPathExpression = XPathExpressionFactory.createXPathExpression(this.schemaLocationExpression,
 				this.expressionNamespaces);
+		clearResponseCache();
 	}
 
 	/**
@@ -19,6 +19,7 @@ package org.springframework.ws.transport.http;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.xml.transform.Result;
 import javax.xml.transform.Source;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.dom.DOMResult;
@@ -45,6 +46,11 @@ import org.springframework.xml.xsd.XsdSchema;
  * Reads the source from the mapped {@link XsdSchema} implementation, and writes that as
  * the result to the {@code HttpServletResponse}. Allows for post-processing the schema in
  * subclasses.
+ * <p>
+ * If the property {@code cacheResponses} is set to {@code true}, the serialized (and
+ * transformed) schema is cached, together with a GZIP-compressed variant that is served
+ * to clients that accept it. Cached responses carry a strong {@code ETag}, and are
+ * served without accessing the schema source until the cache is cleared.
  *
  * @author Arjen Poutsma
  * @since 1.5.3
@@ -71,6 +77,10 @@ public class XsdSchemaHandlerAdapter extends LocationTransformerObjectSupport
 
 	private boolean transformSchemaLocations = false;
 
+	private boolean cacheResponses = false;
+
+	private final DocumentResponseCache responseCache = new DocumentResponseCache();
+
 	/**
 	 * Sets the XPath expression used for extracting the {@code schemaLocation} attributes
 	 * from the WSDL 1.1 definition.
@@ -90,27 +100,49 @@ public class XsdSchemaHandlerAdapter extends LocationTransformerObjectSupport
 		this.transformSchemaLocations = transformSchemaLocations;
 	}
 
+	/**
+	 * Sets whether serialized schemas are cached. Defaults to {@code false}.
+	 * <p>
+	 * When enabled, each schema is rendered once per distinct request location (if
+	 * schema locations are transformed), and served from memory afterwards, without
+	 * accessing the schema source again. Schemas read from a file are rendered again when
+	 * that file is modified. Clear the cache when other schemas change.
+	 * @since 5.0.0
+	 * @see #clearResponseCache()
+	 */
+	public void setCacheResponses(boolean cacheResponses) {
+		this.cacheResponses = cacheResponses;
+	}
+
+	/**
+	 * Removes all cached schemas.
+	 * @since 5.0.0
+	 * @see #setCacheResponses(boolean)
+	 */
+	public void clearResponseCache() {
+		this.responseCache.clear();
+	}
+
 	@Override
 	public @Nullable ModelAndView handle(HttpServletRequest request, HttpServletResponse response, Object handler)
 			throws Exception {
 		if (HttpTransportConstants.METHOD_GET.equals(request.getMethod())) {
-			Source schemaSource = getSchemaSource((XsdSchema) handler);
-			if (new ServletWebRequest(request, response)
-				.checkNotModified(LastModifiedHelper.getLastModified(schemaSource))) {
+			XsdSchema schema = (XsdSchema) handler;
+			if (this.cacheResponses) {
+				this.responseCache
+					.getResponse(schema, request, this.transformSchemaLocations, () -> getSchemaSource(schema),
+							(schemaSource, outputStream) -> render(schemaSource, request,
+									new StreamResult(outputStream)))
+					.writeTo(request, response, CONTENT_TYPE);
 				return null;
 			}
-			Transformer transformer = createTransformer();
-			if (this.transformSchemaLocations) {
-				DOMResult domResult = new DOMResult();
-				transformer.transform(schemaSource, domResult);
-				Document schemaDocument = (Document) domResult.getNode();
-				transformSchemaLocations(schemaDocument, request);
-				schemaSource = new DOMSource(schemaDocument);
+			Source schemaSource = getSchemaSource(schema);
+			long lastModified = LastModifiedHelper.getLastModified(schemaSource);
+			if (new ServletWebRequest(request, response).checkNotModified(lastModified)) {
+				return null;
 			}
-
 			response.setContentType(CONTENT_TYPE);
-			StreamResult responseResult = new StreamResult(response.getOutputStream());
-			transformer.transform(schemaSource, responseResult);
+			render(schemaSource, request, new StreamResult(response.getOutputStream()));
 		}
 		else {
 			response.setStatus(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
@@ -118,6 +150,18 @@ public class XsdSchemaHandlerAdapter extends LocationTransformerObjectSupport
 		return null;
 	}
 
+	private void render(Source schemaSource, HttpServletRequest request, Result result) throws Exception {
+		Transformer transformer = createTransformer();
+		if (this.transformSchemaLocations) {
+			DOMResult domResult = new DOMResult();
+			transformer.transform(schemaSource, domResult);
+			Document schemaDocument = (Document) domResult.getNode();
+			transformSchemaLocations(schemaDocument, request);
+			schemaSource = new DOMSource(schemaDocument);
+		}
+		transformer.transform(schemaSource, result);
+	}
+
 	@Override
 	public boolean supports(Object handler) {
 		return handler instanceof XsdSchema;
@@ -127,6 +171,7 @@ public class XsdSchemaHandlerAdapter extends LocationTransformerObjectSupport
 	public void afterPropertiesSet() throws Exception {
 		this.schemaLocationXPathExpression = XPathExpressionFactory.createXPathExpression(this.schemaLocationExpression,
 				this.expressionNamespaces);
+		clearResponseCache();
 	}
 
 	/**
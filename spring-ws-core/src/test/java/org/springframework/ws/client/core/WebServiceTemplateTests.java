@@ -18,11 +18,17 @@ package org.springframework.ws.client.core;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 
+import javax.xml.namespace.QName;
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
 import javax.xml.transform.TransformerException;
 
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
 import org.assertj.core.api.AbstractObjectAssert;
 import org.assertj.core.api.AbstractThrowableAssert;
 import org.assertj.core.api.AssertProvider;
@@ -30,17 +36,20 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.oxm.Marshaller;
 import org.springframework.oxm.Unmarshaller;
 import org.springframework.ws.MockWebServiceMessage;
 import org.springframework.ws.MockWebServiceMessageFactory;
 import org.springframework.ws.WebServiceMessage;
 import org.springframework.ws.client.WebServiceClientException;
+import org.springframework.ws.client.WebServiceIOException;
 import org.springframework.ws.client.WebServiceTransportException;
 import org.springframework.ws.client.support.destination.DestinationProvider;
 import org.springframework.ws.client.support.interceptor.ClientInterceptor;
 import org.springframework.ws.context.DefaultMessageContext;
 import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.transport.AsyncWebServiceConnection;
 import org.springframework.ws.transport.FaultAwareWebServiceConnection;
 import org.springframework.ws.transport.WebServiceConnection;
 import org.springframework.ws.transport.WebServiceMessageSender;
@@ -52,9 +61,11 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.isA;
 import static org.mockito.Mockito.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -172,6 +183,80 @@ class WebServiceTemplateTests {
 		assertThat(result).isNull();
 	}
 
+	@Test
+	void testSendAndReceiveObservation() throws Exception {
+
+		TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+		this.template.setObservationRegistry(observationRegistry);
+
+		WebServiceMessageExtractor<Object> extractorMock = mockWebServiceMessageExtractor();
+		when(extractorMock.extractData(isA(WebServiceMessage.class))).thenReturn(new Object());
+
+		when(this.connectionMock.hasError()).thenReturn(false);
+		when(this.connectionMock.receive(this.messageFactory)).thenReturn(new MockWebServiceMessage("<response/>"));
+		when(this.connectionMock.hasFault()).thenReturn(false);
+
+		this.template.sendAndReceive(null, extractorMock);
+
+		TestObservationRegistryAssert.assertThat(observationRegistry)
+			.hasObservationWithNameEqualTo("spring.ws.client.requests")
+			.that()
+			.hasBeenStarted()
+			.hasBeenStopped()
+			.hasLowCardinalityKeyValue("uri", "http://www.springframework.org/spring-ws")
+			.hasLowCardinalityKeyValue("soap.action", "none")
+			.hasLowCardinalityKeyValue("outcome", "SUCCESS")
+			.hasLowCardinalityKeyValue("exception", "none");
+	}
+
+	@Test
+	void testSendAndReceiveObservationFault() throws Exception {
+
+		TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+		this.template.setObservationRegistry(observationRegistry);
+
+		FaultMessageResolver faultMessageResolverMock = mock(FaultMessageResolver.class);
+		this.template.setFaultMessageResolver(faultMessageResolverMock);
+
+		MockWebServiceMessage response = new MockWebServiceMessage("<response/>");
+		response.setFault(true);
+		response.setFaultCode(new QName("http://schemas.xmlsoap.org/soap/envelope/", "Client"));
+
+		when(this.connectionMock.hasError()).thenReturn(false);
+		when(this.connectionMock.hasFault()).thenReturn(true);
+		when(this.connectionMock.receive(this.messageFactory)).thenReturn(response);
+
+		this.template.sendAndReceive(null, mockWebServiceMessageExtractor());
+
+		TestObservationRegistryAssert.assertThat(observationRegistry)
+			.hasObservationWithNameEqualTo("spring.ws.client.requests")
+			.that()
+			.hasBeenStopped()
+			.hasLowCardinalityKeyValue("outcome", "FAULT")
+			.hasLowCardinalityKeyValue("fault.code", "Client");
+	}
+
+	@Test
+	void testSendAndReceiveObservationError() throws Exception {
+
+		TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+		this.template.setObservationRegistry(observationRegistry);
+
+		doThrow(new IOException("test"))
+			.when(this.connectionMock)
+			.send(isA(WebServiceMessage.class));
+
+		assertThatExceptionOfType(WebServiceIOException.class)
+			.isThrownBy(() -> this.template.sendAndReceive(null, mockWebServiceMessageExtractor()));
+
+		TestObservationRegistryAssert.assertThat(observationRegistry)
+			.hasObservationWithNameEqualTo("spring.ws.client.requests")
+			.that()
+			.hasBeenStopped()
+			.hasLowCardinalityKeyValue("outcome", "ERROR")
+			.hasLowCardinalityKeyValue("exception", "WebServiceIOException");
+	}
+
 	@Test
 	void testSendAndReceiveConnectionError() throws Exception {
 
@@ -619,6 +704,139 @@ class WebServiceTemplateTests {
 		assertThat(result).isNull();
 	}
 
+	@Test
+	void testMarshalSendAndReceiveAsyncBlockingConnection() throws Exception {
+
+		Object unmarshalled = new Object();
+		setupMarshallerAndUnmarshaller(unmarshalled);
+		this.template.setAsyncExecutor(new SyncTaskExecutor());
+
+		CompletableFuture<Object> result = this.template.marshalSendAndReceiveAsync(new Object());
+
+		assertThat(result).isCompletedWithValue(unmarshalled);
+		verify(this.connectionMock).close();
+	}
+
+	@Test
+	void testSendAndReceiveAsyncRejected() throws Exception {
+
+		this.template.setAsyncExecutor((task) -> {
+			throw new RejectedExecutionException("test");
+		});
+
+		CompletableFuture<Object> result = this.template.sendAndReceiveAsync(null, createSimpleExtractor(null));
+
+		assertThat(result).isCompletedExceptionally();
+		assertThatExceptionOfType(ExecutionException.class).isThrownBy(result::get)
+			.withCauseInstanceOf(RejectedExecutionException.class);
+		verify(this.connectionMock).close();
+	}
+
+	@Test
+	void testSendAndReceiveAsyncCancelClosesConnection() throws Exception {
+
+		AsyncWebServiceConnection asyncConnectionMock = mockAsyncConnection();
+		when(asyncConnectionMock.sendAsync(isA(WebServiceMessage.class))).thenReturn(new CompletableFuture<>());
+
+		CompletableFuture<Object> result = this.template.sendAndReceiveAsync(null, createSimpleExtractor(null));
+		result.cancel(true);
+
+		verify(asyncConnectionMock).close();
+	}
+
+	@Test
+	void testSendAndReceiveAsync() throws Exception {
+
+		AsyncWebServiceConnection asyncConnectionMock = mockAsyncConnection();
+		NoOpClientInterceptor clientInterceptor = new NoOpClientInterceptor();
+		this.template.setInterceptors(new ClientInterceptor[] { clientInterceptor });
+
+		Object extracted = new Object();
+		WebServiceMessageExtractor<Object> extract = createSimpleExtractor(extracted);
+
+		CompletableFuture<Void> sent = new CompletableFuture<>();
+		when(asyncConnectionMock.sendAsync(isA(WebServiceMessage.class))).thenReturn(sent);
+		when(asyncConnectionMock.hasError()).thenReturn(false);
+		when(asyncConnectionMock.receive(this.messageFactory)).thenReturn(new MockWebServiceMessage("<response/>"));
+
+		CompletableFuture<Object> result = this.template.sendAndReceiveAsync(null, extract);
+
+		assertThat(result).isNotDone();
+		verify(asyncConnectionMock, never()).receive(this.messageFactory);
+
+		sent.complete(null);
+
+		assertThat(result).isCompletedWithValue(extracted);
+		assertThat(clientInterceptor).hasHandledExchange().hasNoCompletionException();
+		verify(asyncConnectionMock).close();
+	}
+
+	@Test
+	void testSendAndReceiveAsyncObservation() throws Exception {
+
+		TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+		this.template.setObservationRegistry(observationRegistry);
+
+		AsyncWebServiceConnection asyncConnectionMock = mockAsyncConnection();
+		CompletableFuture<Void> sent = new CompletableFuture<>();
+		when(asyncConnectionMock.sendAsync(isA(WebServiceMessage.class))).thenReturn(sent);
+		when(asyncConnectionMock.hasError()).thenReturn(false);
+		when(asyncConnectionMock.receive(this.messageFactory)).thenReturn(new MockWebServiceMessage("<response/>"));
+
+		CompletableFuture<Object> result = this.template.sendAndReceiveAsync(null, createSimpleExtractor(new Object()));
+
+		TestObservationRegistryAssert.assertThat(observationRegistry)
+			.hasObservationWithNameEqualTo("spring.ws.client.requests")
+			.that()
+			.hasBeenStarted()
+			.isNotStopped();
+
+		sent.complete(null);
+
+		assertThat(result).isDone();
+		TestObservationRegistryAssert.assertThat(observationRegistry)
+			.hasObservationWithNameEqualTo("spring.ws.client.requests")
+			.that()
+			.hasBeenStopped()
+			.hasLowCardinalityKeyValue("outcome", "SUCCESS");
+	}
+
+	@Test
+	void testSendAndReceiveAsyncSendFailure() throws Exception {
+
+		AsyncWebServiceConnection asyncConnectionMock = mockAsyncConnection();
+		NoOpClientInterceptor clientInterceptor = new NoOpClientInterceptor();
+		this.template.setInterceptors(new ClientInterceptor[] { clientInterceptor });
+
+		when(asyncConnectionMock.sendAsync(isA(WebServiceMessage.class)))
+			.thenReturn(CompletableFuture.failedFuture(new IOException("test")));
+
+		CompletableFuture<Object> result = this.template.sendAndReceiveAsync(null, createSimpleExtractor(null));
+
+		assertThat(result).isCompletedExceptionally();
+		assertThatExceptionOfType(ExecutionException.class).isThrownBy(result::get)
+			.withCauseInstanceOf(WebServiceIOException.class);
+		assertThat(clientInterceptor).hasHandledError().completionException().isInstanceOf(IOException.class);
+		verify(asyncConnectionMock).close();
+	}
+
+	private AsyncWebServiceConnection mockAsyncConnection() {
+		AsyncWebServiceConnection asyncConnectionMock = mock(AsyncWebServiceConnection.class);
+		this.template.setMessageSender(new WebServiceMessageSender() {
+
+			@Override
+			public WebServiceConnection createConnection(URI uri) {
+				return asyncConnectionMock;
+			}
+
+			@Override
+			public boolean supports(URI uri) {
+				return true;
+			}
+		});
+		return asyncConnectionMock;
+	}
+
 	private static WebServiceMessageExtractor<Object> mockWebServiceMessageExtractor() {
 		return mock(WebServiceMessageExtractor.class);
 	}
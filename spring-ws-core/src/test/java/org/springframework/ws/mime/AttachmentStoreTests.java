@@ -0,0 +1,87 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.mime;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import jakarta.activation.DataHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AttachmentStoreTests {
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	void storeBelowThreshold() throws Exception {
+
+		try (AttachmentStore store = new AttachmentStore(this.directory.toFile(), 16)) {
+			DataHandler dataHandler = store.store(stream("content"), "text/plain");
+
+			assertThat(dataHandler.getContentType()).isEqualTo("text/plain");
+			assertThat(read(dataHandler)).isEqualTo("content");
+			assertThat(this.directory.toFile().list()).isEmpty();
+		}
+	}
+
+	@Test
+	void storeAboveThreshold() throws Exception {
+
+		String content = "content".repeat(100);
+		AttachmentStore store = new AttachmentStore(this.directory.toFile(), 16);
+		DataHandler dataHandler = store.store(stream(content), null);
+
+		assertThat(dataHandler.getContentType()).isEqualTo("application/octet-stream");
+		assertThat(this.directory.toFile().list()).hasSize(1);
+		File file = this.directory.toFile().listFiles()[0];
+		assertThat(file).hasSize(content.length());
+		assertThat(read(dataHandler)).isEqualTo(content);
+		assertThat(read(dataHandler)).as("Content can be read more than once").isEqualTo(content);
+
+		store.close();
+
+		assertThat(file).doesNotExist();
+	}
+
+	@Test
+	void storeAtThreshold() throws Exception {
+
+		try (AttachmentStore store = new AttachmentStore(this.directory.toFile(), 7)) {
+			store.store(stream("content"), "text/plain");
+
+			assertThat(this.directory.toFile().list()).isEmpty();
+		}
+	}
+
+	private static InputStream stream(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String read(DataHandler dataHandler) throws Exception {
+		try (InputStream inputStream = dataHandler.getInputStream()) {
+			return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+}
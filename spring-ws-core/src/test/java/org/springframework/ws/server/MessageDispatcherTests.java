@@ -18,6 +18,10 @@ package org.springframework.ws.server;
 
 import java.util.Collections;
 
+import javax.xml.namespace.QName;
+
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -76,6 +80,71 @@ class MessageDispatcherTests {
 		assertThat(result).isEqualTo(chain);
 	}
 
+	@Test
+	void testGetEndpointCached() throws Exception {
+
+		EndpointMapping mappingMock = createMock(EndpointMapping.class);
+		this.dispatcher.setEndpointMappings(Collections.singletonList(mappingMock));
+		this.dispatcher.setEndpointLookupCaching(true);
+
+		MessageContext messageContext = new DefaultMessageContext(
+				new MockWebServiceMessage("<root xmlns='http://springframework.org/spring-ws'/>"), this.factoryMock);
+		EndpointInvocationChain chain = new EndpointInvocationChain(new Object());
+
+		expect(mappingMock.getEndpoint(messageContext)).andReturn(chain).once();
+
+		replay(mappingMock, this.factoryMock);
+
+		assertThat(this.dispatcher.getEndpoint(messageContext)).isEqualTo(chain);
+		assertThat(this.dispatcher.getEndpoint(messageContext)).isEqualTo(chain);
+
+		verify(mappingMock, this.factoryMock);
+	}
+
+	@Test
+	void testGetEndpointCachedDistinctKeys() throws Exception {
+
+		EndpointMapping mappingMock = createMock(EndpointMapping.class);
+		this.dispatcher.setEndpointMappings(Collections.singletonList(mappingMock));
+		this.dispatcher.setEndpointLookupCaching(true);
+
+		MessageContext messageContext1 = new DefaultMessageContext(
+				new MockWebServiceMessage("<root1 xmlns='http://springframework.org/spring-ws'/>"), this.factoryMock);
+		MessageContext messageContext2 = new DefaultMessageContext(
+				new MockWebServiceMessage("<root2 xmlns='http://springframework.org/spring-ws'/>"), this.factoryMock);
+		EndpointInvocationChain chain1 = new EndpointInvocationChain(new Object());
+		EndpointInvocationChain chain2 = new EndpointInvocationChain(new Object());
+
+		expect(mappingMock.getEndpoint(messageContext1)).andReturn(chain1).once();
+		expect(mappingMock.getEndpoint(messageContext2)).andReturn(chain2).once();
+
+		replay(mappingMock, this.factoryMock);
+
+		assertThat(this.dispatcher.getEndpoint(messageContext1)).isEqualTo(chain1);
+		assertThat(this.dispatcher.getEndpoint(messageContext2)).isEqualTo(chain2);
+		assertThat(this.dispatcher.getEndpoint(messageContext1)).isEqualTo(chain1);
+
+		verify(mappingMock, this.factoryMock);
+	}
+
+	@Test
+	void testGetEndpointAdapterCached() {
+
+		EndpointAdapter adapterMock = createMock(EndpointAdapter.class);
+		this.dispatcher.setEndpointAdapters(Collections.singletonList(adapterMock));
+		this.dispatcher.setEndpointLookupCaching(true);
+
+		Object endpoint = new Object();
+		expect(adapterMock.supports(endpoint)).andReturn(true).once();
+
+		replay(adapterMock, this.factoryMock);
+
+		assertThat(this.dispatcher.getEndpointAdapter(endpoint)).isEqualTo(adapterMock);
+		assertThat(this.dispatcher.getEndpointAdapter(endpoint)).isEqualTo(adapterMock);
+
+		verify(adapterMock, this.factoryMock);
+	}
+
 	@Test
 	void testGetEndpointAdapterSupportedEndpoint() {
 
@@ -394,6 +463,104 @@ class MessageDispatcherTests {
 		verify(mappingMock, interceptorMock, adapterMock, this.factoryMock);
 	}
 
+	@Test
+	void testObservation() throws Exception {
+
+		TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+		this.dispatcher.setObservationRegistry(observationRegistry);
+
+		EndpointAdapter adapterMock = createMock(EndpointAdapter.class);
+		this.dispatcher.setEndpointAdapters(Collections.singletonList(adapterMock));
+
+		Object endpoint = new Object();
+		expect(adapterMock.supports(endpoint)).andReturn(true);
+
+		EndpointMapping mappingMock = createMock(EndpointMapping.class);
+		this.dispatcher.setEndpointMappings(Collections.singletonList(mappingMock));
+
+		MessageContext messageContext = new DefaultMessageContext(
+				new MockWebServiceMessage("<root xmlns='http://springframework.org/spring-ws'/>"), this.factoryMock);
+		adapterMock.invoke(messageContext, endpoint);
+		expect(mappingMock.getEndpoint(messageContext)).andReturn(new EndpointInvocationChain(endpoint));
+		MockWebServiceMessage response = new MockWebServiceMessage();
+		expect(this.factoryMock.createWebServiceMessage()).andReturn(response);
+
+		replay(mappingMock, adapterMock, this.factoryMock);
+
+		messageContext.getResponse();
+		this.dispatcher.dispatch(messageContext);
+
+		verify(mappingMock, adapterMock, this.factoryMock);
+
+		TestObservationRegistryAssert.assertThat(observationRegistry)
+			.hasObservationWithNameEqualTo("spring.ws.server.requests")
+			.that()
+			.hasBeenStarted()
+			.hasBeenStopped()
+			.hasContextualNameEqualTo("ws root")
+			.hasLowCardinalityKeyValue("endpoint", "Object")
+			.hasLowCardinalityKeyValue("payload.root", "{http://springframework.org/spring-ws}root")
+			.hasLowCardinalityKeyValue("outcome", "SUCCESS")
+			.hasLowCardinalityKeyValue("fault.code", "none")
+			.hasLowCardinalityKeyValue("exception", "none");
+	}
+
+	@Test
+	void testObservationFault() throws Exception {
+
+		TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+		this.dispatcher.setObservationRegistry(observationRegistry);
+
+		EndpointAdapter adapterMock = createMock(EndpointAdapter.class);
+		this.dispatcher.setEndpointAdapters(Collections.singletonList(adapterMock));
+
+		Object endpoint = new Object();
+		expect(adapterMock.supports(endpoint)).andReturn(true);
+
+		EndpointMapping mappingMock = createMock(EndpointMapping.class);
+		this.dispatcher.setEndpointMappings(Collections.singletonList(mappingMock));
+
+		adapterMock.invoke(this.messageContext, endpoint);
+		expect(mappingMock.getEndpoint(this.messageContext)).andReturn(new EndpointInvocationChain(endpoint));
+		MockWebServiceMessage response = new MockWebServiceMessage();
+		response.setFault(true);
+		response.setFaultCode(new QName("http://schemas.xmlsoap.org/soap/envelope/", "Server"));
+		expect(this.factoryMock.createWebServiceMessage()).andReturn(response);
+
+		replay(mappingMock, adapterMock, this.factoryMock);
+
+		this.messageContext.getResponse();
+		this.dispatcher.dispatch(this.messageContext);
+
+		verify(mappingMock, adapterMock, this.factoryMock);
+
+		TestObservationRegistryAssert.assertThat(observationRegistry)
+			.hasObservationWithNameEqualTo("spring.ws.server.requests")
+			.that()
+			.hasLowCardinalityKeyValue("payload.root", "none")
+			.hasLowCardinalityKeyValue("outcome", "FAULT")
+			.hasLowCardinalityKeyValue("fault.code", "Server");
+	}
+
+	@Test
+	void testObservationNoEndpointFound() {
+
+		TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+		this.dispatcher.setObservationRegistry(observationRegistry);
+		this.dispatcher.setEndpointMappings(Collections.emptyList());
+
+		assertThatExceptionOfType(NoEndpointFoundException.class)
+			.isThrownBy(() -> this.dispatcher.receive(this.messageContext));
+
+		TestObservationRegistryAssert.assertThat(observationRegistry)
+			.hasObservationWithNameEqualTo("spring.ws.server.requests")
+			.that()
+			.hasBeenStopped()
+			.hasLowCardinalityKeyValue("endpoint", "none")
+			.hasLowCardinalityKeyValue("outcome", "ERROR")
+			.hasLowCardinalityKeyValue("exception", "NoEndpointFoundException");
+	}
+
 	@Test
 	void testNoEndpointFound() {
 
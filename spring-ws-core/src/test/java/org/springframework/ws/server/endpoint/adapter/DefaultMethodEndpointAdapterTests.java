@@ -17,11 +17,16 @@
 package org.springframework.ws.server.endpoint.adapter;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 
+import org.easymock.Capture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.ws.MockWebServiceMessage;
@@ -33,10 +38,13 @@ import org.springframework.ws.server.endpoint.adapter.method.MethodArgumentResol
 import org.springframework.ws.server.endpoint.adapter.method.MethodReturnValueHandler;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.fail;
+import static org.easymock.EasyMock.capture;
 import static org.easymock.EasyMock.createMock;
 import static org.easymock.EasyMock.eq;
 import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.expectLastCall;
 import static org.easymock.EasyMock.isA;
 import static org.easymock.EasyMock.isNull;
 import static org.easymock.EasyMock.replay;
@@ -65,6 +73,8 @@ class DefaultMethodEndpointAdapterTests {
 
 	private String supportedArgument;
 
+	private CompletableFuture<String> pendingFuture;
+
 	@BeforeEach
 	void setUp() throws Exception {
 
@@ -165,6 +175,37 @@ class DefaultMethodEndpointAdapterTests {
 		verify(this.argumentResolver1, this.argumentResolver2, this.returnValueHandler);
 	}
 
+	@Test
+	void invokeCachesResolvers() throws Exception {
+
+		MockWebServiceMessage request = new MockWebServiceMessage("<root xmlns='http://springframework.org'/>");
+		MessageContext messageContext = new DefaultMessageContext(request, new MockWebServiceMessageFactory());
+
+		String value = "Foo";
+
+		// resolvers and handlers are only tested once per parameter
+		expect(this.argumentResolver1.supportsParameter(isA(MethodParameter.class))).andReturn(true).once();
+		expect(this.argumentResolver1.supportsParameter(isA(MethodParameter.class))).andReturn(false).once();
+		expect(this.argumentResolver2.supportsParameter(isA(MethodParameter.class))).andReturn(true).once();
+		expect(this.returnValueHandler.supportsReturnType(isA(MethodParameter.class))).andReturn(true).once();
+
+		expect(this.argumentResolver1.resolveArgument(eq(messageContext), isA(MethodParameter.class))).andReturn(value)
+			.times(2);
+		expect(this.argumentResolver2.resolveArgument(eq(messageContext), isA(MethodParameter.class))).andReturn(42)
+			.times(2);
+		this.returnValueHandler.handleReturnValue(eq(messageContext), isA(MethodParameter.class), eq(value));
+		expectLastCall().times(2);
+
+		replay(this.argumentResolver1, this.argumentResolver2, this.returnValueHandler);
+
+		this.adapter.invoke(messageContext, this.supportedEndpoint);
+		this.adapter.invoke(messageContext, this.supportedEndpoint);
+
+		assertThat(this.supportedArgument).isEqualTo(value);
+
+		verify(this.argumentResolver1, this.argumentResolver2, this.returnValueHandler);
+	}
+
 	@Test
 	void invokeNullReturnValue() throws Exception {
 
@@ -214,6 +255,141 @@ class DefaultMethodEndpointAdapterTests {
 		verify(this.argumentResolver1, this.argumentResolver2, this.returnValueHandler);
 	}
 
+	@Test
+	void invokeCompletableFuture() throws Exception {
+
+		MockWebServiceMessage request = new MockWebServiceMessage("<root xmlns='http://springframework.org'/>");
+		MessageContext messageContext = new DefaultMessageContext(request, new MockWebServiceMessageFactory());
+
+		String value = "Foo";
+
+		expect(this.argumentResolver1.supportsParameter(isA(MethodParameter.class))).andReturn(true);
+		expect(this.argumentResolver1.resolveArgument(eq(messageContext), isA(MethodParameter.class))).andReturn(value);
+
+		Capture<MethodParameter> returnType = Capture.newInstance();
+		expect(this.returnValueHandler.supportsReturnType(capture(returnType))).andReturn(true);
+		this.returnValueHandler.handleReturnValue(eq(messageContext), isA(MethodParameter.class), eq(value));
+
+		replay(this.argumentResolver1, this.argumentResolver2, this.returnValueHandler);
+
+		this.adapter.invoke(messageContext, new MethodEndpoint(this, "future", String.class));
+
+		assertThat(returnType.getValue().getParameterType()).isEqualTo(String.class);
+		assertThat(this.supportedArgument).isEqualTo(value);
+
+		verify(this.argumentResolver1, this.argumentResolver2, this.returnValueHandler);
+	}
+
+	@Test
+	void invokeCompletableFutureException() throws Exception {
+
+		MockWebServiceMessage request = new MockWebServiceMessage("<root xmlns='http://springframework.org'/>");
+		MessageContext messageContext = new DefaultMessageContext(request, new MockWebServiceMessageFactory());
+
+		expect(this.argumentResolver1.supportsParameter(isA(MethodParameter.class))).andReturn(true);
+		expect(this.argumentResolver1.resolveArgument(eq(messageContext), isA(MethodParameter.class)))
+			.andReturn("Foo");
+
+		replay(this.argumentResolver1, this.argumentResolver2, this.returnValueHandler);
+
+		assertThatExceptionOfType(IOException.class).isThrownBy(
+				() -> this.adapter.invoke(messageContext, new MethodEndpoint(this, "failedFuture", String.class)));
+
+		verify(this.argumentResolver1, this.argumentResolver2, this.returnValueHandler);
+	}
+
+	@Test
+	void invokeCompletableFutureTimeout() throws Exception {
+
+		MockWebServiceMessage request = new MockWebServiceMessage("<root xmlns='http://springframework.org'/>");
+		MessageContext messageContext = new DefaultMessageContext(request, new MockWebServiceMessageFactory());
+
+		expect(this.argumentResolver1.supportsParameter(isA(MethodParameter.class))).andReturn(true);
+		expect(this.argumentResolver1.resolveArgument(eq(messageContext), isA(MethodParameter.class)))
+			.andReturn("Foo");
+
+		replay(this.argumentResolver1, this.argumentResolver2, this.returnValueHandler);
+
+		this.adapter.setAsyncResultTimeout(Duration.ofMillis(10));
+
+		assertThatExceptionOfType(TimeoutException.class).isThrownBy(
+				() -> this.adapter.invoke(messageContext, new MethodEndpoint(this, "pendingFuture", String.class)));
+		assertThat(this.pendingFuture).isCancelled();
+
+		verify(this.argumentResolver1, this.argumentResolver2, this.returnValueHandler);
+	}
+
+	@Test
+	void invokeCompletableFutureInterrupted() throws Exception {
+
+		MockWebServiceMessage request = new MockWebServiceMessage("<root xmlns='http://springframework.org'/>");
+		MessageContext messageContext = new DefaultMessageContext(request, new MockWebServiceMessageFactory());
+
+		expect(this.argumentResolver1.supportsParameter(isA(MethodParameter.class))).andReturn(true);
+		expect(this.argumentResolver1.resolveArgument(eq(messageContext), isA(MethodParameter.class)))
+			.andReturn("Foo");
+
+		replay(this.argumentResolver1, this.argumentResolver2, this.returnValueHandler);
+
+		Thread.currentThread().interrupt();
+		try {
+			assertThatExceptionOfType(InterruptedException.class).isThrownBy(
+					() -> this.adapter.invoke(messageContext, new MethodEndpoint(this, "pendingFuture", String.class)));
+		}
+		finally {
+			Thread.interrupted();
+		}
+		assertThat(this.pendingFuture).isCancelled();
+
+		verify(this.argumentResolver1, this.argumentResolver2, this.returnValueHandler);
+	}
+
+	@Test
+	void invokeVoidCompletableFuture() throws Exception {
+
+		MockWebServiceMessage request = new MockWebServiceMessage("<root xmlns='http://springframework.org'/>");
+		MessageContext messageContext = new DefaultMessageContext(request, new MockWebServiceMessageFactory());
+
+		String value = "Foo";
+
+		expect(this.argumentResolver1.supportsParameter(isA(MethodParameter.class))).andReturn(true);
+		expect(this.argumentResolver1.resolveArgument(eq(messageContext), isA(MethodParameter.class))).andReturn(value);
+
+		replay(this.argumentResolver1, this.argumentResolver2, this.returnValueHandler);
+
+		MethodEndpoint endpoint = new MethodEndpoint(this, "voidFuture", String.class);
+		assertThat(this.adapter.supports(endpoint)).isTrue();
+		this.adapter.invoke(messageContext, endpoint);
+
+		assertThat(this.supportedArgument).isEqualTo(value);
+
+		verify(this.argumentResolver1, this.argumentResolver2, this.returnValueHandler);
+	}
+
+	@Test
+	void invokeMono() throws Exception {
+
+		MockWebServiceMessage request = new MockWebServiceMessage("<root xmlns='http://springframework.org'/>");
+		MessageContext messageContext = new DefaultMessageContext(request, new MockWebServiceMessageFactory());
+
+		String value = "Foo";
+
+		expect(this.argumentResolver1.supportsParameter(isA(MethodParameter.class))).andReturn(true);
+		expect(this.argumentResolver1.resolveArgument(eq(messageContext), isA(MethodParameter.class))).andReturn(value);
+
+		Capture<MethodParameter> returnType = Capture.newInstance();
+		expect(this.returnValueHandler.supportsReturnType(capture(returnType))).andReturn(true);
+		this.returnValueHandler.handleReturnValue(eq(messageContext), isA(MethodParameter.class), eq(value));
+
+		replay(this.argumentResolver1, this.argumentResolver2, this.returnValueHandler);
+
+		this.adapter.invoke(messageContext, new MethodEndpoint(this, "mono", String.class));
+
+		assertThat(returnType.getValue().getParameterType()).isEqualTo(String.class);
+
+		verify(this.argumentResolver1, this.argumentResolver2, this.returnValueHandler);
+	}
+
 	public String supported(String s, Integer i) {
 
 		this.supportedArgument = s;
@@ -237,4 +413,30 @@ class DefaultMethodEndpointAdapterTests {
 		throw new IOException(s);
 	}
 
+	public CompletableFuture<String> future(String s) {
+
+		this.supportedArgument = s;
+		return CompletableFuture.supplyAsync(() -> s);
+	}
+
+	public CompletableFuture<String> failedFuture(String s) {
+		return CompletableFuture.failedFuture(new IOException(s));
+	}
+
+	public CompletableFuture<String> pendingFuture(String s) {
+
+		this.pendingFuture = new CompletableFuture<>();
+		return this.pendingFuture;
+	}
+
+	public CompletableFuture<Void> voidFuture(String s) {
+
+		this.supportedArgument = s;
+		return CompletableFuture.completedFuture(null);
+	}
+
+	public Mono<String> mono(String s) {
+		return Mono.fromSupplier(() -> s);
+	}
+
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server.endpoint.adapter.method;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xml.sax.InputSource;
+import org.xmlunit.assertj.XmlAssert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DomXMLStreamReaderTests {
+
+	private static final String XML = "<env:Envelope xmlns:env='urn:envelope' xmlns:tns='urn:types'><env:Body>"
+			+ "<ns:root xmlns:ns='urn:payload' attr='value' type='tns:type'><ns:child>text</ns:child><!-- comment -->"
+			+ "<other xmlns='urn:other'/></ns:root></env:Body></env:Envelope>";
+
+	private Document document;
+
+	private Element payload;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
+		documentBuilderFactory.setNamespaceAware(true);
+		this.document = documentBuilderFactory.newDocumentBuilder().parse(new InputSource(new StringReader(XML)));
+		this.payload = (Element) this.document.getElementsByTagNameNS("urn:payload", "root").item(0);
+	}
+
+	@Test
+	void readElement() throws Exception {
+
+		XMLStreamReader streamReader = new DomXMLStreamReader(this.payload);
+
+		assertThat(streamReader.getEventType()).isEqualTo(XMLStreamConstants.START_DOCUMENT);
+		assertThat(streamReader.nextTag()).isEqualTo(XMLStreamConstants.START_ELEMENT);
+		assertThat(streamReader.getNamespaceURI()).isEqualTo("urn:payload");
+		assertThat(streamReader.getLocalName()).isEqualTo("root");
+		assertThat(streamReader.getAttributeCount()).isEqualTo(2);
+		assertThat(streamReader.getAttributeValue(null, "attr")).isEqualTo("value");
+		assertThat(streamReader.getNamespaceURI("tns")).isEqualTo("urn:types");
+		assertThat(streamReader.nextTag()).isEqualTo(XMLStreamConstants.START_ELEMENT);
+		assertThat(streamReader.getElementText()).isEqualTo("text");
+		assertThat(streamReader.next()).isEqualTo(XMLStreamConstants.COMMENT);
+		assertThat(streamReader.getText()).isEqualTo(" comment ");
+		assertThat(streamReader.nextTag()).isEqualTo(XMLStreamConstants.START_ELEMENT);
+		assertThat(streamReader.getNamespaceURI()).isEqualTo("urn:other");
+		assertThat(streamReader.nextTag()).isEqualTo(XMLStreamConstants.END_ELEMENT);
+		assertThat(streamReader.getLocalName()).isEqualTo("other");
+		assertThat(streamReader.nextTag()).isEqualTo(XMLStreamConstants.END_ELEMENT);
+		assertThat(streamReader.getLocalName()).isEqualTo("root");
+		assertThat(streamReader.getNamespaceURI("tns")).isEqualTo("urn:types");
+		assertThat(streamReader.next()).isEqualTo(XMLStreamConstants.END_DOCUMENT);
+		assertThat(streamReader.hasNext()).isFalse();
+	}
+
+	@Test
+	void readDocument() throws Exception {
+
+		XMLStreamReader streamReader = new DomXMLStreamReader(this.document);
+
+		assertThat(streamReader.nextTag()).isEqualTo(XMLStreamConstants.START_ELEMENT);
+		assertThat(streamReader.getLocalName()).isEqualTo("Envelope");
+		assertThat(streamReader.getNamespaceCount()).isEqualTo(2);
+		assertThat(streamReader.nextTag()).isEqualTo(XMLStreamConstants.START_ELEMENT);
+		assertThat(streamReader.getLocalName()).isEqualTo("Body");
+		assertThat(streamReader.getNamespaceCount()).isZero();
+	}
+
+	@Test
+	void readEvents() throws Exception {
+
+		DomXMLEventReader eventReader = new DomXMLEventReader(this.payload);
+
+		XMLEvent event = eventReader.nextTag();
+		assertThat(event.isStartElement()).isTrue();
+		StartElement startElement = event.asStartElement();
+		assertThat(startElement.getName().getNamespaceURI()).isEqualTo("urn:payload");
+		assertThat(startElement.getNamespaceContext().getNamespaceURI("tns")).isEqualTo("urn:types");
+
+		eventReader = new DomXMLEventReader(this.payload);
+		StringWriter writer = new StringWriter();
+		XMLEventWriter eventWriter = XMLOutputFactory.newInstance().createXMLEventWriter(writer);
+		eventWriter.add(eventReader);
+		eventWriter.flush();
+
+		XmlAssert.assertThat(writer.toString())
+			.and("<ns:root xmlns:ns='urn:payload' attr='value' type='tns:type'><ns:child>text</ns:child>"
+					+ "<!-- comment --><other xmlns='urn:other'/></ns:root>")
+			.areIdentical();
+	}
+
+}
@@ -70,6 +70,7 @@ class StaxPayloadMethodArgumentResolverTests extends AbstractMethodArgumentResol
 
 		Object result = this.resolver.resolveArgument(messageContext, this.streamParameter);
 
+		assertThat(result).isInstanceOf(DomXMLStreamReader.class);
 		testStreamReader(result);
 	}
 
@@ -110,6 +111,7 @@ class StaxPayloadMethodArgumentResolverTests extends AbstractMethodArgumentResol
 
 		Object result = this.resolver.resolveArgument(messageContext, this.eventParameter);
 
+		assertThat(result).isInstanceOf(DomXMLEventReader.class);
 		testEventReader(result);
 	}
 
@@ -18,13 +18,17 @@ package org.springframework.ws.server.endpoint.adapter.method.jaxb;
 
 import java.io.ByteArrayOutputStream;
 import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.sax.SAXSource;
 
+import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.Unmarshaller;
 import jakarta.xml.bind.annotation.XmlElement;
 import jakarta.xml.bind.annotation.XmlRootElement;
 import jakarta.xml.bind.annotation.XmlType;
@@ -203,6 +207,63 @@ class XmlRootElementPayloadMethodProcessorTests {
 			.areIdentical();
 	}
 
+	@Test
+	void resolveArgumentPooled() throws JAXBException {
+
+		AtomicInteger unmarshallerCount = new AtomicInteger();
+		XmlRootElementPayloadMethodProcessor processor = new XmlRootElementPayloadMethodProcessor() {
+
+			@Override
+			protected Unmarshaller createUnmarshaller(JAXBContext jaxbContext) throws JAXBException {
+				unmarshallerCount.incrementAndGet();
+				return super.createUnmarshaller(jaxbContext);
+			}
+		};
+		processor.setPoolSize(1);
+
+		for (int i = 0; i < 3; i++) {
+			WebServiceMessage request = new MockWebServiceMessage(
+					"<root xmlns='http://springframework.org'><string>Foo" + i + "</string></root>");
+			MessageContext messageContext = new DefaultMessageContext(request, new MockWebServiceMessageFactory());
+
+			MyRootElement rootElement = (MyRootElement) processor.resolveArgument(messageContext,
+					this.rootElementParameter);
+
+			assertThat(rootElement.getString()).isEqualTo("Foo" + i);
+		}
+		assertThat(unmarshallerCount).hasValue(1);
+	}
+
+	@Test
+	void handleReturnValuePooled() throws Exception {
+
+		AtomicInteger marshallerCount = new AtomicInteger();
+		XmlRootElementPayloadMethodProcessor processor = new XmlRootElementPayloadMethodProcessor() {
+
+			@Override
+			protected Marshaller createMarshaller(JAXBContext jaxbContext) throws JAXBException {
+				marshallerCount.incrementAndGet();
+				return super.createMarshaller(jaxbContext);
+			}
+		};
+		processor.setPoolSize(1);
+
+		for (int i = 0; i < 3; i++) {
+			MessageContext messageContext = new DefaultMessageContext(new MockWebServiceMessageFactory());
+			MyRootElement rootElement = new MyRootElement();
+			rootElement.setString("Foo" + i);
+
+			processor.handleReturnValue(messageContext, this.rootElementReturnType, rootElement);
+
+			MockWebServiceMessage response = (MockWebServiceMessage) messageContext.getResponse();
+			XmlAssert.assertThat(response.getPayloadAsString())
+				.and("<root xmlns='http://springframework.org'><string>Foo" + i + "</string></root>")
+				.ignoreWhitespace()
+				.areIdentical();
+		}
+		assertThat(marshallerCount).hasValue(1);
+	}
+
 	@Test
 	void handleNullReturnValue() throws Exception {
 
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server.endpoint.annotation;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.xml.bind.JAXBElement;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.ws.context.MessageContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EndpointMappingReflectiveProcessorTests {
+
+	private final EndpointMappingReflectiveProcessor processor = new EndpointMappingReflectiveProcessor();
+
+	private final RuntimeHints hints = new RuntimeHints();
+
+	@Test
+	void registerReflectiveHintsForMethod() throws NoSuchMethodException {
+		Method method = SampleEndpoint.class.getDeclaredMethod("handle", Request.class, MessageContext.class);
+		this.processor.registerReflectionHints(this.hints.reflection(), method);
+
+		assertThat(RuntimeHintsPredicates.reflection().onMethodInvocation(method)).accepts(this.hints);
+		assertThat(RuntimeHintsPredicates.reflection().onType(Request.class)).accepts(this.hints);
+		assertThat(RuntimeHintsPredicates.reflection().onType(Response.class)).accepts(this.hints);
+		assertThat(this.hints.reflection().getTypeHint(MessageContext.class)).isNull();
+	}
+
+	@Test
+	void registerReflectiveHintsForAsyncMethod() throws NoSuchMethodException {
+		Method method = SampleEndpoint.class.getDeclaredMethod("handleAsync", JAXBElement.class);
+		this.processor.registerReflectionHints(this.hints.reflection(), method);
+
+		assertThat(RuntimeHintsPredicates.reflection().onMethodInvocation(method)).accepts(this.hints);
+		assertThat(RuntimeHintsPredicates.reflection().onType(Request.class)).accepts(this.hints);
+		assertThat(RuntimeHintsPredicates.reflection().onType(Response.class)).accepts(this.hints);
+		assertThat(this.hints.reflection().getTypeHint(CompletableFuture.class)).isNull();
+		assertThat(this.hints.reflection().getTypeHint(JAXBElement.class)).isNull();
+	}
+
+	@Test
+	void registerReflectiveHintsForReactiveMethod() throws NoSuchMethodException {
+		Method method = SampleEndpoint.class.getDeclaredMethod("handleReactive", Request.class);
+		this.processor.registerReflectionHints(this.hints.reflection(), method);
+
+		assertThat(RuntimeHintsPredicates.reflection().onMethodInvocation(method)).accepts(this.hints);
+		assertThat(RuntimeHintsPredicates.reflection().onType(Request.class)).accepts(this.hints);
+		assertThat(RuntimeHintsPredicates.reflection().onType(Response.class)).accepts(this.hints);
+		assertThat(this.hints.reflection().getTypeHint(Mono.class)).isNull();
+	}
+
+	@Endpoint
+	static class SampleEndpoint {
+
+		@PayloadRoot(localPart = "Request", namespace = "http://springframework.org/spring-ws")
+		Response handle(Request request, MessageContext messageContext) {
+			return new Response();
+		}
+
+		@PayloadRoot(localPart = "AsyncRequest", namespace = "http://springframework.org/spring-ws")
+		CompletableFuture<Response> handleAsync(JAXBElement<Request> request) {
+			return CompletableFuture.completedFuture(new Response());
+		}
+
+		@PayloadRoot(localPart = "ReactiveRequest", namespace = "http://springframework.org/spring-ws")
+		Mono<Response> handleReactive(Request request) {
+			return Mono.just(new Response());
+		}
+
+	}
+
+	static class Request {
+
+		private String value;
+
+		public String getValue() {
+			return this.value;
+		}
+
+		public void setValue(String value) {
+			this.value = value;
+		}
+
+	}
+
+	static class Response {
+
+	}
+
+}
@@ -16,6 +16,10 @@
 
 package org.springframework.ws.server.endpoint.interceptor;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.XMLConstants;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.sax.SAXSource;
@@ -24,8 +28,10 @@ import jakarta.xml.soap.MessageFactory;
 import jakarta.xml.soap.SOAPMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.w3c.dom.Node;
 import org.xmlunit.assertj.XmlAssert;
 
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.ws.MockWebServiceMessage;
@@ -34,6 +40,8 @@ import org.springframework.ws.context.DefaultMessageContext;
 import org.springframework.ws.context.MessageContext;
 import org.springframework.ws.pox.dom.DomPoxMessage;
 import org.springframework.ws.pox.dom.DomPoxMessageFactory;
+import org.springframework.ws.soap.axiom.AxiomSoapMessage;
+import org.springframework.ws.soap.axiom.AxiomSoapMessageFactory;
 import org.springframework.ws.soap.saaj.SaajSoapMessage;
 import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
 import org.springframework.xml.sax.SaxUtils;
@@ -163,6 +171,58 @@ class PayloadTransformingInterceptorTests {
 		XmlAssert.assertThat(result.toString()).and(expected.toString()).ignoreWhitespace().areSimilar();
 	}
 
+	@Test
+	void testSaajInheritedNamespaces() throws Exception {
+
+		String xslt = """
+				<xsl:stylesheet version="1.0" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"
+						xmlns:p="urn:payload">
+					<xsl:template match="p:payload">
+						<p:result><xsl:value-of select="p:value/namespace::xsd"/></p:result>
+					</xsl:template>
+				</xsl:stylesheet>""";
+		String envelope = """
+				<SOAP-ENV:Envelope xmlns:SOAP-ENV="http://schemas.xmlsoap.org/soap/envelope/"
+						xmlns:xsd="http://www.w3.org/2001/XMLSchema"
+						xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance">
+					<SOAP-ENV:Body>
+						<p:payload xmlns:p="urn:payload"><p:value xsi:type="xsd:string">value</p:value></p:payload>
+					</SOAP-ENV:Body>
+				</SOAP-ENV:Envelope>""";
+		this.interceptor.setRequestXslt(new ByteArrayResource(xslt.getBytes(StandardCharsets.UTF_8)));
+		this.interceptor.afterPropertiesSet();
+		MessageFactory messageFactory = MessageFactory.newInstance();
+		SOAPMessage saajMessage = messageFactory.createMessage(null,
+				new ByteArrayInputStream(envelope.getBytes(StandardCharsets.UTF_8)));
+		SaajSoapMessage message = new SaajSoapMessage(saajMessage);
+		MessageContext context = new DefaultMessageContext(message, new SaajSoapMessageFactory(messageFactory));
+
+		assertThat(this.interceptor.handleRequest(context, null)).isTrue();
+
+		Node result = message.getSaajMessage().getSOAPBody().getElementsByTagNameNS("urn:payload", "result").item(0);
+		assertThat(result.getTextContent()).isEqualTo(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+	}
+
+	@Test
+	void testAxiom() throws Exception {
+
+		this.interceptor.setRequestXslt(this.xslt);
+		this.interceptor.afterPropertiesSet();
+		AxiomSoapMessageFactory factory = new AxiomSoapMessageFactory();
+		AxiomSoapMessage message = factory.createWebServiceMessage();
+		this.transformer.transform(new ResourceSource(this.input), message.getPayloadResult());
+		MessageContext context = new DefaultMessageContext(message, factory);
+
+		assertThat(this.interceptor.handleRequest(context, null)).isTrue();
+
+		StringResult expected = new StringResult();
+		this.transformer.transform(new SAXSource(SaxUtils.createInputSource(this.output)), expected);
+		StringResult result = new StringResult();
+		this.transformer.transform(message.getPayloadSource(), result);
+
+		XmlAssert.assertThat(result.toString()).and(expected.toString()).ignoreWhitespace().areSimilar();
+	}
+
 	@Test
 	void testPox() throws Exception {
 
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server.endpoint.mapping;
+
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.Map;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLStreamReader;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+
+import org.springframework.xml.DocumentBuilderFactoryUtils;
+import org.springframework.xml.XMLInputFactoryUtils;
+import org.springframework.xml.xpath.XPathExpression;
+import org.springframework.xml.xpath.XPathExpressionFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingXPathEvaluatorTests {
+
+	private static final String PAYLOAD = """
+			<ns:order xmlns:ns='urn:orders' type='batch'>
+				<ns:header id='h1'><ns:kind>bulk</ns:kind></ns:header>
+				<ns:item sku='a' qty='1'>first</ns:item>
+				<ns:item sku='b' qty='2'>second<ns:note>x</ns:note></ns:item>
+				<ns:group><ns:item sku='c'>nested</ns:item></ns:group>
+				<plain attr='value'>text</plain>
+			</ns:order>""";
+
+	private static final Map<String, String> NAMESPACES = Collections.singletonMap("ns", "urn:orders");
+
+	@ParameterizedTest
+	@ValueSource(strings = { "/ns:order/@type", "/ns:order/ns:header/ns:kind/text()", "/ns:order/ns:header/@id",
+			"//ns:item/@sku", "//ns:item[@sku='b']/@qty", "//ns:item[@sku='b']", "//ns:item[@sku='c']/text()",
+			"/ns:order/ns:group//ns:item/@sku", "//ns:kind", "ns:header/ns:kind", "ns:item[@sku='b']/text()",
+			"/ns:order/plain/@attr", "/*/plain/text()", "//ns:item[text()='second']", "//ns:item[text()='nested']",
+			"//ns:item[@sku='z']/@qty", "//ns:missing", "/ns:order/*/@sku", "/ns:order/ns:item" })
+	void evaluatesLikeDom(String expression) throws Exception {
+
+		StreamingXPathEvaluator evaluator = StreamingXPathEvaluator.compile(expression, NAMESPACES);
+		assertThat(evaluator).isNotNull();
+
+		Document document = parse(PAYLOAD);
+		XPathExpression domExpression = XPathExpressionFactory.createXPathExpression(expression, NAMESPACES);
+		String expected = domExpression.evaluateAsString(document.getDocumentElement());
+
+		XMLStreamReader streamReader = XMLInputFactoryUtils.newInstance()
+			.createXMLStreamReader(new StringReader(PAYLOAD));
+		assertThat(evaluator.evaluate(streamReader)).isEqualTo(expected);
+		assertThat(evaluator.evaluate(document.getDocumentElement())).isEqualTo(expected);
+	}
+
+	@Test
+	void unqualifiedAttributeDoesNotMatchNamespacedAttribute() throws Exception {
+
+		String payload = "<ns:order xmlns:ns='urn:orders' ns:type='batch'/>";
+		StreamingXPathEvaluator evaluator = StreamingXPathEvaluator.compile("/ns:order/@type", NAMESPACES);
+		assertThat(evaluator).isNotNull();
+
+		XMLStreamReader streamReader = XMLInputFactoryUtils.newInstance()
+			.createXMLStreamReader(new StringReader(payload));
+		assertThat(evaluator.evaluate(streamReader)).isEmpty();
+		assertThat(evaluator.evaluate(parse(payload).getDocumentElement())).isEmpty();
+	}
+
+	@Test
+	void stopsAtResult() throws Exception {
+
+		StreamingXPathEvaluator evaluator = StreamingXPathEvaluator.compile("/ns:order/@type", NAMESPACES);
+		XMLStreamReader streamReader = XMLInputFactoryUtils.newInstance()
+			.createXMLStreamReader(new StringReader("<ns:order xmlns:ns='urn:orders' type='batch'><unclosed>"));
+
+		assertThat(evaluator.evaluate(streamReader)).isEqualTo("batch");
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "count(//ns:item)", "//ns:item[1]", "../ns:item", "/ns:order/ns:item[@sku!='a']",
+			"/unbound:order", "//ns:item[text()='a']/@sku", "//ns:item | //ns:header", "/", "string(/ns:order)" })
+	void rejectsUnsupportedExpressions(String expression) {
+
+		assertThat(StreamingXPathEvaluator.compile(expression, NAMESPACES)).isNull();
+	}
+
+	private Document parse(String xml) throws Exception {
+		DocumentBuilderFactory factory = DocumentBuilderFactoryUtils.newInstance();
+		factory.setNamespaceAware(true);
+		DocumentBuilder builder = factory.newDocumentBuilder();
+		return builder.parse(new InputSource(new StringReader(xml)));
+	}
+
+}
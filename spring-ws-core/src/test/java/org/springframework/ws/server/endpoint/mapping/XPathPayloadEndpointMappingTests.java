@@ -16,6 +16,13 @@
 
 package org.springframework.ws.server.endpoint.mapping;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -50,4 +57,67 @@ class XPathPayloadEndpointMappingTests {
 		assertThat(result).isEqualTo("value");
 	}
 
+	@Test
+	void testGetLookupKeyForMessageNamespaces() throws Exception {
+
+		this.mapping.setExpression("//ns:item[@type='order']/@id");
+		this.mapping.setNamespaces(Collections.singletonMap("ns", "urn:test"));
+		this.mapping.afterPropertiesSet();
+
+		MockWebServiceMessage request = new MockWebServiceMessage("<ns:root xmlns:ns='urn:test'>"
+				+ "<ns:item type='invoice' id='1'/><ns:item type='order' id='2'/></ns:root>");
+		MessageContext context = new DefaultMessageContext(request, new MockWebServiceMessageFactory());
+
+		assertThat(this.mapping.getLookupKeyForMessage(context)).isEqualTo("2");
+	}
+
+	@Test
+	void testGetLookupKeyForMessageUnsupportedExpression() throws Exception {
+
+		this.mapping.setExpression("local-name(/*)");
+		this.mapping.afterPropertiesSet();
+
+		MockWebServiceMessage request = new MockWebServiceMessage("<root>value</root>");
+		MessageContext context = new DefaultMessageContext(request, new MockWebServiceMessageFactory());
+
+		assertThat(this.mapping.getLookupKeyForMessage(context)).isEqualTo("root");
+	}
+
+	@Test
+	void testGetLookupKeyForMessageNonStreaming() throws Exception {
+
+		this.mapping.setExpression("/root/text()");
+		this.mapping.setStreamingEvaluation(false);
+		this.mapping.afterPropertiesSet();
+
+		MockWebServiceMessage request = new MockWebServiceMessage("<root>value</root>");
+		MessageContext context = new DefaultMessageContext(request, new MockWebServiceMessageFactory());
+
+		assertThat(this.mapping.getLookupKeyForMessage(context)).isEqualTo("value");
+	}
+
+	@Test
+	void testGetLookupKeyForMessageSharedStreamSource() throws Exception {
+
+		this.mapping.setExpression("/root/@id");
+		this.mapping.afterPropertiesSet();
+
+		String content = "<root id='value'><child/></root>";
+		StreamSource payloadSource = new StreamSource(
+				new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+		MockWebServiceMessage request = new MockWebServiceMessage() {
+
+			@Override
+			public Source getPayloadSource() {
+				return payloadSource;
+			}
+
+		};
+		MessageContext context = new DefaultMessageContext(request, new MockWebServiceMessageFactory());
+
+		assertThat(this.mapping.getLookupKeyForMessage(context)).isEqualTo("value");
+		assertThat(new String(payloadSource.getInputStream().readAllBytes(), StandardCharsets.UTF_8))
+			.isEqualTo(content);
+	}
+
 }
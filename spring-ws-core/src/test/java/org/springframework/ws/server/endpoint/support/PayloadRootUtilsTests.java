@@ -16,7 +16,14 @@
 
 package org.springframework.ws.server.endpoint.support;
 
+import java.io.ByteArrayInputStream;
+import java.io.Reader;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilder;
@@ -30,16 +37,20 @@ import javax.xml.transform.sax.SAXSource;
 import javax.xml.transform.stream.StreamSource;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.xml.sax.InputSource;
 
+import org.springframework.util.FileCopyUtils;
 import org.springframework.util.xml.StaxUtils;
 import org.springframework.xml.DocumentBuilderFactoryUtils;
 import org.springframework.xml.XMLInputFactoryUtils;
+import org.springframework.xml.transform.StringSource;
 import org.springframework.xml.transform.TransformerFactoryUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
 
 class PayloadRootUtilsTests {
 
@@ -102,6 +113,74 @@ class PayloadRootUtilsTests {
 		assertThat(qName.getPrefix()).isEqualTo("prefix");
 	}
 
+	@Test
+	void testGetQNameForStreamSourceIsReplayable() throws Exception {
+
+		String contents = "<prefix:localname xmlns:prefix='namespace'><child>text</child></prefix:localname>";
+		StreamSource source = new StreamSource(new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8)));
+		QName qName = PayloadRootUtils.getPayloadRootQName(source, TransformerFactoryUtils.newInstance());
+
+		assertThat(qName).isEqualTo(new QName("namespace", "localname", "prefix"));
+		assertThat(new String(source.getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(contents);
+	}
+
+	@Test
+	void testGetQNameForStreamSourceReaderIsReplayable() throws Exception {
+
+		String contents = "<?xml version='1.0'?><!-- comment --><localname xmlns='namespace'><child/></localname>";
+		StreamSource source = new StreamSource(new StringReader(contents));
+		QName qName = PayloadRootUtils.getPayloadRootQName(source, TransformerFactoryUtils.newInstance());
+
+		assertThat(qName).isEqualTo(new QName("namespace", "localname"));
+		assertThat(FileCopyUtils.copyToString(source.getReader())).isEqualTo(contents);
+	}
+
+	@Test
+	void testGetQNameForStreamSourceClosesFreshReader() throws Exception {
+
+		String contents = "<prefix:localname xmlns:prefix='namespace'/>";
+		List<Reader> readers = new ArrayList<>();
+		StreamSource source = new StreamSource() {
+
+			@Override
+			public Reader getReader() {
+				Reader reader = new StringReader(contents);
+				readers.add(reader);
+				return reader;
+			}
+
+		};
+		QName qName = PayloadRootUtils.getPayloadRootQName(source, TransformerFactoryUtils.newInstance());
+
+		assertThat(qName).isEqualTo(new QName("namespace", "localname", "prefix"));
+		assertThat(readers).isNotEmpty();
+		assertThatIOException().isThrownBy(readers.get(readers.size() - 1)::read);
+	}
+
+	@Test
+	void testGetQNameForLargeStreamSource() throws Exception {
+
+		StringBuilder contents = new StringBuilder("<prefix:localname xmlns:prefix='namespace'>");
+		for (int i = 0; i < 10000; i++) {
+			contents.append("<child>").append(i).append("</child>");
+		}
+		contents.append("</prefix:localname>");
+		StreamSource source = new StreamSource(new StringReader(contents.toString()));
+		QName qName = PayloadRootUtils.getPayloadRootQName(source, TransformerFactoryUtils.newInstance());
+
+		assertThat(qName).isEqualTo(new QName("namespace", "localname", "prefix"));
+		assertThat(FileCopyUtils.copyToString(source.getReader())).isEqualTo(contents.toString());
+	}
+
+	@Test
+	void testGetQNameForStringSource() throws Exception {
+
+		Source source = new StringSource("<prefix:localname xmlns:prefix='namespace'/>");
+		QName qName = PayloadRootUtils.getPayloadRootQName(source, TransformerFactoryUtils.newInstance());
+
+		assertThat(qName).isEqualTo(new QName("namespace", "localname", "prefix"));
+	}
+
 	@Test
 	void testGetQNameForSaxSource() throws Exception {
 		String contents = "<prefix:localname xmlns:prefix='namespace'/>";
@@ -114,6 +193,20 @@ class PayloadRootUtilsTests {
 		assertThat(qName.getPrefix()).isEqualTo("prefix");
 	}
 
+	@Test
+	void testGetQNameForRelativeSystemId(@TempDir Path directory) throws Exception {
+
+		Path file = directory.resolve("payload.xml");
+		Files.writeString(file, "<prefix:localname xmlns:prefix='namespace'/>");
+		String systemId = Path.of("").toAbsolutePath().relativize(file).toString().replace('\\', '/');
+		QName qName = PayloadRootUtils.getPayloadRootQName(new StreamSource(systemId),
+				TransformerFactoryUtils.newInstance());
+
+		assertThat(qName).isNotNull();
+		assertThat(qName.getLocalPart()).isEqualTo("localname");
+		assertThat(qName.getNamespaceURI()).isEqualTo("namespace");
+	}
+
 	@Test
 	void testGetQNameForNullSource() throws Exception {
 
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.addressing.messageid;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DuplicateDetectingMessageIdStrategyTests {
+
+	private DuplicateDetectingMessageIdStrategy strategy;
+
+	private MutableClock clock;
+
+	@BeforeEach
+	void setUp() {
+		this.clock = new MutableClock();
+		this.strategy = new DuplicateDetectingMessageIdStrategy();
+		this.strategy.setClock(this.clock);
+		this.strategy.setWindow(Duration.ofMinutes(1));
+	}
+
+	@Test
+	void testDuplicate() {
+
+		URI messageId = this.strategy.newMessageId(null);
+
+		assertThat(this.strategy.isDuplicate(messageId)).isFalse();
+		assertThat(this.strategy.isDuplicate(messageId)).isTrue();
+		assertThat(this.strategy.isDuplicate(URI.create(messageId.toString()))).isTrue();
+		assertThat(this.strategy.isDuplicate(this.strategy.newMessageId(null))).isFalse();
+	}
+
+	@Test
+	void testNullMessageId() {
+
+		assertThat(this.strategy.isDuplicate(null)).isFalse();
+		assertThat(this.strategy.isDuplicate(null)).isFalse();
+	}
+
+	@Test
+	void testExpiry() {
+
+		URI messageId = this.strategy.newMessageId(null);
+
+		assertThat(this.strategy.isDuplicate(messageId)).isFalse();
+		this.clock.advance(Duration.ofSeconds(59));
+		assertThat(this.strategy.isDuplicate(messageId)).isTrue();
+		this.clock.advance(Duration.ofSeconds(1));
+		assertThat(this.strategy.isDuplicate(messageId)).isFalse();
+	}
+
+	@Test
+	void testCapacity() {
+
+		this.strategy.setCapacity(1024);
+		URI first = this.strategy.newMessageId(null);
+		assertThat(this.strategy.isDuplicate(first)).isFalse();
+		for (int i = 0; i < 10_000; i++) {
+			this.clock.advance(Duration.ofMillis(1));
+			assertThat(this.strategy.isDuplicate(this.strategy.newMessageId(null))).isFalse();
+		}
+
+		assertThat(this.strategy.isDuplicate(first)).isFalse();
+	}
+
+	@Test
+	void testMessageIdStore() {
+
+		Set<URI> shared = ConcurrentHashMap.newKeySet();
+		DuplicateDetectingMessageIdStrategy other = new DuplicateDetectingMessageIdStrategy();
+		this.strategy.setMessageIdStore((messageId, timeToLive) -> shared.add(messageId));
+		other.setMessageIdStore((messageId, timeToLive) -> shared.add(messageId));
+
+		URI messageId = this.strategy.newMessageId(null);
+
+		assertThat(this.strategy.isDuplicate(messageId)).isFalse();
+		assertThat(other.isDuplicate(messageId)).isTrue();
+		assertThat(shared).containsExactly(messageId);
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant = Instant.parse("2025-01-01T00:00:00Z");
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneOffset getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
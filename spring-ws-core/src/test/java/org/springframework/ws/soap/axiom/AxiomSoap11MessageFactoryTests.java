@@ -22,7 +22,10 @@ import java.io.InputStream;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
 
+import org.apache.axiom.soap.SOAPMessage;
 import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 import org.xmlunit.assertj.XmlAssert;
 
 import org.springframework.ws.InvalidXmlException;
@@ -114,6 +117,40 @@ public class AxiomSoap11MessageFactoryTests extends AbstractSoap11MessageFactory
 		}
 	}
 
+	@Test
+	void testDomCompatible() throws Exception {
+
+		AxiomSoapMessageFactory messageFactory = new AxiomSoapMessageFactory();
+		messageFactory.setDomCompatible(true);
+		messageFactory.afterPropertiesSet();
+
+		String xml = "<soapenv:Envelope xmlns:soapenv='http://schemas.xmlsoap.org/soap/envelope/'><soapenv:Body>"
+				+ "<root xmlns='http://springframework.org/spring-ws'><child /></root>"
+				+ "</soapenv:Body></soapenv:Envelope>";
+		TransportInputStream tis = new MockTransportInputStream(new ByteArrayInputStream(xml.getBytes()));
+		AxiomSoapMessage message = (AxiomSoapMessage) messageFactory.createWebServiceMessage(tis);
+		SOAPMessage axiomMessage = message.getAxiomMessage();
+
+		Document document = message.getDocument();
+
+		assertThat(document.getDocumentElement()).isSameAs(axiomMessage.getSOAPEnvelope());
+
+		Element child = (Element) document.getElementsByTagNameNS("http://springframework.org/spring-ws", "child")
+			.item(0);
+		child.setAttributeNS(null, "attr", "value");
+		message.setDocument(document);
+
+		assertThat(message.getAxiomMessage()).isSameAs(axiomMessage);
+
+		StringResult result = new StringResult();
+		this.transformer.transform(message.getPayloadSource(), result);
+
+		XmlAssert.assertThat(result.toString())
+			.and("<root xmlns='http://springframework.org/spring-ws'><child attr='value'/></root>")
+			.ignoreWhitespace()
+			.areIdentical();
+	}
+
 	/**
 	 * See http://jira.springframework.org/browse/SWS-502
 	 */
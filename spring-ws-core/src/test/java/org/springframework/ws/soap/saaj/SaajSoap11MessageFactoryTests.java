@@ -18,18 +18,25 @@ package org.springframework.ws.soap.saaj;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 import jakarta.xml.soap.MessageFactory;
 import jakarta.xml.soap.SOAPConstants;
 import jakarta.xml.soap.SOAPMessage;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.ws.WebServiceMessageFactory;
+import org.springframework.ws.mime.Attachment;
 import org.springframework.ws.soap.SoapMessage;
 import org.springframework.ws.soap.soap11.AbstractSoap11MessageFactoryTests;
+import org.springframework.ws.transport.MockTransportInputStream;
+import org.springframework.ws.transport.TransportInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -55,4 +62,63 @@ class SaajSoap11MessageFactoryTests extends AbstractSoap11MessageFactoryTests {
 		assertThat(result).startsWith("<?xml version=\"1.0\"");
 	}
 
+	@Test
+	void attachmentCaching(@TempDir Path cacheDir) throws IOException {
+
+		SaajSoapMessageFactory saajMessageFactory = (SaajSoapMessageFactory) this.messageFactory;
+		saajMessageFactory.setAttachmentCaching(true);
+		saajMessageFactory.setAttachmentCacheDir(cacheDir.toFile());
+		saajMessageFactory.setAttachmentCacheThreshold(1);
+		InputStream is = AbstractSoap11MessageFactoryTests.class.getResourceAsStream("soap11-attachment.bin");
+		Map<String, String> headers = new HashMap<>();
+		headers.put("Content-Type",
+				"multipart/related;" + "type=\"text/xml\";" + "boundary=\"----=_Part_0_11416420.1149699787554\"");
+		TransportInputStream tis = new MockTransportInputStream(is, headers) {
+
+			@Override
+			public boolean supportsResources() {
+				return true;
+			}
+
+		};
+
+		SoapMessage soapMessage = saajMessageFactory.createWebServiceMessage(tis);
+
+		assertThat(cacheDir.toFile().list()).hasSize(1);
+		Attachment attachment = soapMessage.getAttachment("interface21");
+		assertThat(attachment).isNotNull();
+		assertThat(attachment.getContentType()).isEqualTo("image/jpeg");
+		try (InputStream content = attachment.getInputStream()) {
+			assertThat(content.readAllBytes()).hasSize((int) cacheDir.toFile().listFiles()[0].length());
+		}
+
+		tis.close();
+
+		assertThat(cacheDir.toFile().list()).isEmpty();
+	}
+
+	@Test
+	void attachmentCachingWithoutResources(@TempDir Path cacheDir) throws IOException {
+
+		SaajSoapMessageFactory saajMessageFactory = (SaajSoapMessageFactory) this.messageFactory;
+		saajMessageFactory.setAttachmentCaching(true);
+		saajMessageFactory.setAttachmentCacheDir(cacheDir.toFile());
+		saajMessageFactory.setAttachmentCacheThreshold(1);
+		InputStream is = AbstractSoap11MessageFactoryTests.class.getResourceAsStream("soap11-attachment.bin");
+		Map<String, String> headers = new HashMap<>();
+		headers.put("Content-Type",
+				"multipart/related;" + "type=\"text/xml\";" + "boundary=\"----=_Part_0_11416420.1149699787554\"");
+		TransportInputStream tis = new MockTransportInputStream(is, headers);
+
+		SoapMessage soapMessage = saajMessageFactory.createWebServiceMessage(tis);
+		tis.close();
+
+		assertThat(cacheDir.toFile().list()).hasSize(1);
+		Attachment attachment = soapMessage.getAttachment("interface21");
+		assertThat(attachment).isNotNull();
+		try (InputStream content = attachment.getInputStream()) {
+			assertThat(content.readAllBytes()).hasSize((int) cacheDir.toFile().listFiles()[0].length());
+		}
+	}
+
 }
@@ -407,6 +407,43 @@ class PayloadValidatingInterceptorTests {
 		assertThat(result).isTrue();
 	}
 
+	@Test
+	void testFailFast() throws Exception {
+
+		this.interceptor.setFailFast(true);
+		SoapMessage invalidMessage = this.soap11Factory.createWebServiceMessage();
+		InputStream inputStream = getClass().getResourceAsStream(INVALID_MESSAGE);
+		this.transformer.transform(new StreamSource(inputStream), invalidMessage.getPayloadResult());
+		this.context = new DefaultMessageContext(invalidMessage, this.soap11Factory);
+
+		boolean result = this.interceptor.handleRequest(this.context, null);
+
+		assertThat(result).isFalse();
+		assertThat(this.context.hasResponse()).isTrue();
+
+		Soap11Fault fault = (Soap11Fault) ((SoapMessage) this.context.getResponse()).getSoapBody().getFault();
+
+		assertThat(fault.getFaultDetail().getDetailEntries()).toIterable().hasSize(1);
+	}
+
+	@Test
+	void testInvalidAxiom() throws Exception {
+
+		AxiomSoapMessageFactory messageFactory = new AxiomSoapMessageFactory();
+		messageFactory.setPayloadCaching(true);
+		messageFactory.afterPropertiesSet();
+
+		SoapMessage invalidMessage = messageFactory.createWebServiceMessage();
+		InputStream inputStream = getClass().getResourceAsStream(INVALID_MESSAGE);
+		this.transformer.transform(new StreamSource(inputStream), invalidMessage.getPayloadResult());
+		this.context = new DefaultMessageContext(invalidMessage, messageFactory);
+
+		boolean result = this.interceptor.handleRequest(this.context, null);
+
+		assertThat(result).isFalse();
+		assertThat(this.context.hasResponse()).isTrue();
+	}
+
 	@Test
 	void customErrorHandler() throws Exception {
 
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.support;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.util.ClassUtils;
+import org.springframework.ws.server.endpoint.adapter.DefaultMethodEndpointAdapter;
+import org.springframework.ws.server.endpoint.mapping.PayloadRootAnnotationMethodEndpointMapping;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+import org.springframework.ws.soap.server.endpoint.adapter.method.SoapHeaderElementMethodArgumentResolver;
+import org.springframework.ws.soap.server.endpoint.adapter.method.SoapMethodArgumentResolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DefaultStrategiesRuntimeHintsTests {
+
+	private RuntimeHints hints;
+
+	@BeforeEach
+	void setUp() {
+		this.hints = new RuntimeHints();
+		SpringFactoriesLoader.forResourceLocation("META-INF/spring/aot.factories")
+			.load(RuntimeHintsRegistrar.class)
+			.forEach((registrar) -> registrar.registerHints(this.hints, ClassUtils.getDefaultClassLoader()));
+	}
+
+	@Test
+	void defaultStrategiesResourcesHaveHints() {
+		assertThat(RuntimeHintsPredicates.resource()
+			.forResource("org/springframework/ws/server/MessageDispatcher.properties")).accepts(this.hints);
+		assertThat(RuntimeHintsPredicates.resource()
+			.forResource("org/springframework/ws/soap/server/SoapMessageDispatcher.properties")).accepts(this.hints);
+		assertThat(RuntimeHintsPredicates.resource()
+			.forResource("org/springframework/ws/client/core/WebServiceTemplate.properties")).accepts(this.hints);
+	}
+
+	@Test
+	void defaultStrategiesHaveHints() {
+		assertThat(RuntimeHintsPredicates.reflection()
+			.onType(DefaultMethodEndpointAdapter.class)
+			.withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(this.hints);
+		assertThat(RuntimeHintsPredicates.reflection()
+			.onType(PayloadRootAnnotationMethodEndpointMapping.class)
+			.withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(this.hints);
+		assertThat(RuntimeHintsPredicates.reflection()
+			.onType(SaajSoapMessageFactory.class)
+			.withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(this.hints);
+	}
+
+	@Test
+	void methodArgumentResolversInstantiatedByNameHaveHints() {
+		assertThat(RuntimeHintsPredicates.reflection()
+			.onType(SoapMethodArgumentResolver.class)
+			.withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(this.hints);
+		assertThat(RuntimeHintsPredicates.reflection()
+			.onType(SoapHeaderElementMethodArgumentResolver.class)
+			.withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(this.hints);
+	}
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.support;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.soap.SoapMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class MessageTracerTests {
+
+	private static final String CONTENT = "<root xmlns='http://springframework.org/spring-ws'/>";
+
+	private MessageTracer tracer;
+
+	private WebServiceMessage message;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		this.tracer = new MessageTracer();
+		this.message = mock(WebServiceMessage.class);
+		willAnswer((invocation) -> {
+			invocation.getArgument(0, OutputStream.class).write(CONTENT.getBytes(StandardCharsets.UTF_8));
+			return null;
+		}).given(this.message).writeTo(any());
+	}
+
+	@Test
+	void capture() throws Exception {
+
+		MessageTracer.CapturedContent content = this.tracer.capture(this.message);
+
+		assertThat(content.isTruncated()).isFalse();
+		assertThat(content.getLength()).isEqualTo(CONTENT.length());
+		assertThat(content).hasToString(CONTENT);
+	}
+
+	@Test
+	void captureTruncated() throws Exception {
+
+		this.tracer.setMaxContentLength(5);
+		MessageTracer.CapturedContent content = this.tracer.capture(this.message);
+
+		assertThat(content.isTruncated()).isTrue();
+		assertThat(content.getLength()).isEqualTo(5);
+		assertThat(content).hasToString("<root...");
+
+		this.tracer.setMaxContentLength(Integer.MAX_VALUE);
+
+		assertThat(this.tracer.capture(this.message)).hasToString(CONTENT);
+	}
+
+	@Test
+	void captureTruncatedAbortsSerialization() throws Exception {
+
+		AtomicInteger written = new AtomicInteger();
+		WebServiceMessage message = mock(WebServiceMessage.class);
+		willAnswer((invocation) -> {
+			OutputStream outputStream = invocation.getArgument(0, OutputStream.class);
+			for (int i = 0; i < 100; i++) {
+				outputStream.write('a');
+				written.incrementAndGet();
+			}
+			return null;
+		}).given(message).writeTo(any());
+		this.tracer.setMaxContentLength(10);
+
+		MessageTracer.CapturedContent content = this.tracer.capture(message);
+
+		assertThat(content.isTruncated()).isTrue();
+		assertThat(content).hasToString("aaaaaaaaaa...");
+		assertThat(written).hasValue(10);
+	}
+
+	@Test
+	void captureTruncatedOnCharacterBoundary() throws Exception {
+
+		WebServiceMessage message = mock(WebServiceMessage.class);
+		willAnswer((invocation) -> {
+			invocation.getArgument(0, OutputStream.class).write("<a>\u20ac</a>".getBytes(StandardCharsets.UTF_8));
+			return null;
+		}).given(message).writeTo(any());
+		this.tracer.setMaxContentLength(5);
+
+		MessageTracer.CapturedContent content = this.tracer.capture(message);
+
+		assertThat(content.isTruncated()).isTrue();
+		assertThat(content).hasToString("<a>...");
+	}
+
+	@Test
+	void sampling() {
+
+		assertThat(this.tracer.isSampled(this.message)).isTrue();
+
+		SoapMessage soapMessage = mock(SoapMessage.class);
+		given(soapMessage.getSoapAction()).willReturn("http://springframework.org/spring-ws/Ignored");
+		this.tracer.setOperationSampleRates(Map.of("http://springframework.org/spring-ws/Ignored", 0));
+
+		assertThat(this.tracer.isSampled(soapMessage)).isFalse();
+		assertThat(this.tracer.isSampled(this.message)).isTrue();
+	}
+
+	@Test
+	void traceSynchronously() {
+
+		Log log = mock(Log.class);
+		this.tracer.trace(log, () -> "entry");
+
+		verify(log).trace("entry");
+	}
+
+	@Test
+	void traceAsynchronously() throws Exception {
+
+		Log log = mock(Log.class);
+		this.tracer.setAsynchronous(true);
+		this.tracer.setQueueCapacity(1);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		this.tracer.trace(log, () -> {
+			started.countDown();
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return "first";
+		});
+		assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+		this.tracer.trace(log, () -> "second");
+		this.tracer.trace(log, () -> "dropped");
+
+		assertThat(this.tracer.getDroppedEntries()).isEqualTo(1);
+
+		release.countDown();
+		this.tracer.destroy();
+
+		verify(log).trace("first");
+		verify(log).trace("second");
+	}
+
+}
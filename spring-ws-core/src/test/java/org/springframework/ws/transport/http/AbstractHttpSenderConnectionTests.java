@@ -17,20 +17,30 @@
 package org.springframework.ws.transport.http;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
 import java.util.Collections;
 import java.util.Random;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.input.BoundedInputStream;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.ws.WebServiceMessage;
 import org.springframework.ws.WebServiceMessageFactory;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
@@ -81,4 +91,52 @@ class AbstractHttpSenderConnectionTests {
 		testSupportsStreaming(false);
 	}
 
+	@Test
+	void requestContentCodec() throws Exception {
+		byte[] content = new byte[16 * 1024];
+		new Random().nextBytes(content);
+		MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST, URI.create("http://example.com"));
+		request.setResponse(new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+		ClientHttpRequestConnection connection = new ClientHttpRequestConnection(request);
+		WebServiceMessage message = spy(WebServiceMessage.class);
+		doAnswer((invocation) -> {
+			invocation.getArgument(0, OutputStream.class).write(content);
+			return null;
+		}).when(message).writeTo(any());
+
+		connection.setRequestContentCodec(ContentCodec.GZIP);
+		connection.send(message);
+
+		assertThat(request.getHeaders().getFirst(HttpTransportConstants.HEADER_CONTENT_ENCODING)).isEqualTo("gzip");
+		try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(request.getBodyAsBytes()))) {
+			assertThat(IOUtils.toByteArray(inputStream)).isEqualTo(content);
+		}
+	}
+
+	@Test
+	void deflateResponse() throws Exception {
+		byte[] content = new byte[16 * 1024];
+		new Random().nextBytes(content);
+		ByteArrayOutputStream deflated = new ByteArrayOutputStream();
+		try (OutputStream outputStream = new DeflaterOutputStream(deflated)) {
+			outputStream.write(content);
+		}
+		AbstractHttpSenderConnection connection = spy(AbstractHttpSenderConnection.class);
+		when(connection.getResponseCode()).thenReturn(200);
+		when(connection.getResponseContentLength()).thenReturn((long) deflated.size());
+		when(connection.getRawResponseInputStream()).thenReturn(new ByteArrayInputStream(deflated.toByteArray()));
+		when(connection.getResponseHeaders(any())).thenReturn(Collections.emptyIterator());
+		when(connection.getResponseHeaders(HttpTransportConstants.HEADER_CONTENT_ENCODING))
+			.thenReturn(Collections.singletonList("deflate").iterator());
+
+		WebServiceMessageFactory messageFactory = spy(WebServiceMessageFactory.class);
+		WebServiceMessage message = spy(WebServiceMessage.class);
+		ArgumentCaptor<InputStream> inputStreamCapture = ArgumentCaptor.forClass(InputStream.class);
+		when(messageFactory.createWebServiceMessage(inputStreamCapture.capture())).thenReturn(message);
+
+		connection.receive(messageFactory);
+
+		assertThat(IOUtils.toByteArray(inputStreamCapture.getValue())).isEqualTo(content);
+	}
+
 }
@@ -16,8 +16,15 @@
 
 package org.springframework.ws.transport.http;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerFactory;
@@ -40,6 +47,7 @@ import org.springframework.xml.transform.StringSource;
 import org.springframework.xml.transform.TransformerFactoryUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
 
 class HttpServletConnectionTests {
 
@@ -118,6 +126,152 @@ class HttpServletConnectionTests {
 			.areIdentical();
 	}
 
+	@Test
+	void receiveGzip() throws Exception {
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (OutputStream outputStream = new GZIPOutputStream(bytes)) {
+			outputStream.write(SOAP_CONTENT.getBytes(StandardCharsets.UTF_8));
+		}
+		this.httpServletRequest.addHeader("Content-Type", "text/xml");
+		this.httpServletRequest.addHeader("Content-Encoding", "gzip");
+		this.httpServletRequest.setContent(bytes.toByteArray());
+		this.connection.setMaxDecodedRequestSize(4096);
+		SaajSoapMessage message = (SaajSoapMessage) this.connection.receive(this.messageFactory);
+
+		assertThat(message).isNotNull();
+
+		StringResult result = new StringResult();
+		Transformer transformer = this.transformerFactory.newTransformer();
+		transformer.transform(message.getPayloadSource(), result);
+
+		XmlAssert.assertThat(result.toString()).and(CONTENT).ignoreWhitespace().areIdentical();
+	}
+
+	@Test
+	void receiveGzipDecodingDisabled() throws Exception {
+
+		byte[] content = gzip(SOAP_CONTENT);
+		this.httpServletRequest.addHeader("Content-Encoding", "gzip");
+		this.httpServletRequest.setContent(content);
+
+		try (InputStream inputStream = this.connection.decodeRequestInputStream(new ByteArrayInputStream(content))) {
+			assertThat(inputStream.readAllBytes()).isEqualTo(content);
+		}
+	}
+
+	@Test
+	void receiveGzipExceedingMaxDecodedRequestSize() throws Exception {
+
+		byte[] content = gzip(SOAP_CONTENT);
+		this.httpServletRequest.addHeader("Content-Encoding", "gzip");
+		this.httpServletRequest.setContent(content);
+		this.connection.setMaxDecodedRequestSize(16);
+
+		try (InputStream inputStream = this.connection.decodeRequestInputStream(new ByteArrayInputStream(content))) {
+			assertThatIOException().isThrownBy(inputStream::readAllBytes);
+		}
+	}
+
+	@Test
+	void sendCompressed() throws Exception {
+
+		this.httpServletRequest.addHeader("Accept-Encoding", "deflate;q=0.5, gzip");
+		this.connection.setContentCodecs(List.of(ContentCodec.GZIP));
+		this.connection.setCompressionThreshold(16);
+
+		this.connection.send(createResponse());
+		this.connection.close();
+
+		assertThat(this.httpServletResponse.getHeader("Content-Encoding")).isEqualTo("gzip");
+		assertThat(this.httpServletResponse.getHeader("Vary")).isEqualTo("Accept-Encoding");
+		try (InputStream inputStream = new GZIPInputStream(
+				new ByteArrayInputStream(this.httpServletResponse.getContentAsByteArray()))) {
+			XmlAssert.assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8))
+				.and(SOAP_CONTENT)
+				.ignoreWhitespace()
+				.areIdentical();
+		}
+	}
+
+	@Test
+	void sendCompressedFinishesEncodingWithoutClosing() throws Exception {
+
+		this.httpServletRequest.addHeader("Accept-Encoding", "gzip");
+		this.connection.setCompressionThreshold(16);
+
+		this.connection.send(createResponse());
+
+		try (InputStream inputStream = new GZIPInputStream(
+				new ByteArrayInputStream(this.httpServletResponse.getContentAsByteArray()))) {
+			XmlAssert.assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8))
+				.and(SOAP_CONTENT)
+				.ignoreWhitespace()
+				.areIdentical();
+		}
+		this.connection.close();
+	}
+
+	@Test
+	void sendBelowCompressionThreshold() throws Exception {
+
+		this.httpServletRequest.addHeader("Accept-Encoding", "gzip");
+		this.connection.setCompressionThreshold(4096);
+
+		this.connection.send(createResponse());
+		this.connection.close();
+
+		assertThat(this.httpServletResponse.getHeader("Content-Encoding")).isNull();
+		XmlAssert.assertThat(this.httpServletResponse.getContentAsString())
+			.and(SOAP_CONTENT)
+			.ignoreWhitespace()
+			.areIdentical();
+	}
+
+	@Test
+	void sendCompressionNotAccepted() throws Exception {
+
+		this.httpServletRequest.addHeader("Accept-Encoding", "gzip;q=0, identity");
+		this.connection.setCompressionThreshold(0);
+
+		this.connection.send(createResponse());
+		this.connection.close();
+
+		assertThat(this.httpServletResponse.getHeader("Content-Encoding")).isNull();
+		XmlAssert.assertThat(this.httpServletResponse.getContentAsString())
+			.and(SOAP_CONTENT)
+			.ignoreWhitespace()
+			.areIdentical();
+	}
+
+	@Test
+	void sendCompressionNotAcceptedExplicitlyWithWildcard() throws Exception {
+
+		this.httpServletRequest.addHeader("Accept-Encoding", "gzip;q=0, *");
+		this.connection.setContentCodecs(List.of(ContentCodec.GZIP, ContentCodec.DEFLATE));
+		this.connection.setCompressionThreshold(0);
+
+		this.connection.send(createResponse());
+		this.connection.close();
+
+		assertThat(this.httpServletResponse.getHeader("Content-Encoding")).isEqualTo("deflate");
+	}
+
+	private static byte[] gzip(String content) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (OutputStream outputStream = new GZIPOutputStream(bytes)) {
+			outputStream.write(content.getBytes(StandardCharsets.UTF_8));
+		}
+		return bytes.toByteArray();
+	}
+
+	private SaajSoapMessage createResponse() throws Exception {
+		SaajSoapMessage message = this.messageFactory.createWebServiceMessage();
+		Transformer transformer = this.transformerFactory.newTransformer();
+		transformer.transform(new StringSource(CONTENT), message.getPayloadResult());
+		return message;
+	}
+
 	@Test
 	void faultCodes() throws IOException {
 
@@ -16,14 +16,26 @@
 
 package org.springframework.ws.transport.http;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
-
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.xml.soap.MessageFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.mock.web.MockAsyncContext;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.ws.FaultAwareWebServiceMessage;
@@ -32,6 +44,7 @@ import org.springframework.ws.NoEndpointFoundException;
 import org.springframework.ws.WebServiceMessageFactory;
 import org.springframework.ws.context.MessageContext;
 import org.springframework.ws.soap.SoapVersion;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
 import org.springframework.ws.transport.WebServiceMessageReceiver;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -197,6 +210,164 @@ class WebServiceMessageReceiverHandlerAdapterTests {
 		verifyMockControls();
 	}
 
+	@Test
+	void testHandlePostAsync() throws Exception {
+
+		byte[] content = REQUEST.getBytes(StandardCharsets.UTF_8);
+		NonBlockingServletInputStream inputStream = new NonBlockingServletInputStream(content);
+		MockHttpServletRequest asyncRequest = new MockHttpServletRequest() {
+			@Override
+			public ServletInputStream getInputStream() {
+				return inputStream;
+			}
+		};
+		asyncRequest.setMethod(HttpTransportConstants.METHOD_POST);
+		asyncRequest.setAsyncSupported(true);
+		asyncRequest.setContentType("text/xml; charset=\"utf-8\"");
+		asyncRequest.setCharacterEncoding("UTF-8");
+		NonBlockingServletOutputStream outputStream = new NonBlockingServletOutputStream();
+		MockHttpServletResponse asyncResponse = new MockHttpServletResponse() {
+			@Override
+			public ServletOutputStream getOutputStream() {
+				return outputStream;
+			}
+		};
+		this.adapter.setMessageFactory(new SaajSoapMessageFactory(MessageFactory.newInstance()));
+		this.adapter.setAsyncExecutor(new SyncTaskExecutor());
+
+		this.adapter.handle(asyncRequest, asyncResponse, (WebServiceMessageReceiver) MessageContext::getResponse);
+
+		assertThat(asyncRequest.isAsyncStarted()).isTrue();
+		assertThat(outputStream.content.size()).isZero();
+
+		inputStream.readListener.onDataAvailable();
+		inputStream.readListener.onAllDataRead();
+
+		assertThat(asyncResponse.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+		assertThat(asyncResponse.getContentType()).startsWith("text/xml");
+		assertThat(asyncResponse.getContentLength()).isEqualTo(outputStream.content.size());
+		assertThat(outputStream.content.toString(StandardCharsets.UTF_8)).contains("Envelope");
+	}
+
+	@Test
+	void testHandlePostAsyncTimeoutInterruptsDispatch() throws Exception {
+
+		NonBlockingServletInputStream inputStream = new NonBlockingServletInputStream(
+				REQUEST.getBytes(StandardCharsets.UTF_8));
+		MockHttpServletRequest asyncRequest = new MockHttpServletRequest() {
+			@Override
+			public ServletInputStream getInputStream() {
+				return inputStream;
+			}
+		};
+		asyncRequest.setMethod(HttpTransportConstants.METHOD_POST);
+		asyncRequest.setAsyncSupported(true);
+		asyncRequest.setContentType("text/xml; charset=\"utf-8\"");
+		NonBlockingServletOutputStream outputStream = new NonBlockingServletOutputStream();
+		MockHttpServletResponse asyncResponse = new MockHttpServletResponse() {
+			@Override
+			public ServletOutputStream getOutputStream() {
+				return outputStream;
+			}
+		};
+		this.adapter.setMessageFactory(new SaajSoapMessageFactory(MessageFactory.newInstance()));
+		this.adapter.setAsyncExecutor(new SyncTaskExecutor());
+		AtomicBoolean interrupted = new AtomicBoolean();
+
+		this.adapter.handle(asyncRequest, asyncResponse, (WebServiceMessageReceiver) (messageContext) -> {
+			MockAsyncContext asyncContext = (MockAsyncContext) asyncRequest.getAsyncContext();
+			for (AsyncListener listener : asyncContext.getListeners()) {
+				listener.onTimeout(new AsyncEvent(asyncContext));
+			}
+			interrupted.set(Thread.currentThread().isInterrupted());
+		});
+
+		inputStream.readListener.onDataAvailable();
+		inputStream.readListener.onAllDataRead();
+
+		assertThat(interrupted).isTrue();
+		assertThat(Thread.currentThread().isInterrupted()).isFalse();
+		assertThat(asyncResponse.getStatus()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+		assertThat(outputStream.content.size()).isZero();
+	}
+
+	@Test
+	void testHandlePostAsyncTooLarge() throws Exception {
+
+		byte[] content = REQUEST.getBytes(StandardCharsets.UTF_8);
+		NonBlockingServletInputStream inputStream = new NonBlockingServletInputStream(content);
+		MockHttpServletRequest asyncRequest = new MockHttpServletRequest() {
+			@Override
+			public ServletInputStream getInputStream() {
+				return inputStream;
+			}
+		};
+		asyncRequest.setMethod(HttpTransportConstants.METHOD_POST);
+		asyncRequest.setAsyncSupported(true);
+		asyncRequest.setContentType("text/xml; charset=\"utf-8\"");
+		NonBlockingServletOutputStream outputStream = new NonBlockingServletOutputStream();
+		MockHttpServletResponse asyncResponse = new MockHttpServletResponse() {
+			@Override
+			public ServletOutputStream getOutputStream() {
+				return outputStream;
+			}
+		};
+		this.adapter.setMessageFactory(new SaajSoapMessageFactory(MessageFactory.newInstance()));
+		this.adapter.setAsyncExecutor(new SyncTaskExecutor());
+		this.adapter.setMaxAsyncRequestSize(content.length - 1);
+
+		this.adapter.handle(asyncRequest, asyncResponse, (WebServiceMessageReceiver) (messageContext) -> {
+			throw new AssertionError("Too large message must not be dispatched");
+		});
+
+		inputStream.readListener.onDataAvailable();
+		inputStream.readListener.onAllDataRead();
+
+		assertThat(asyncResponse.getStatus()).isEqualTo(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+		assertThat(outputStream.content.size()).isZero();
+	}
+
+	@Test
+	void testHandlePostAsyncTimeout() throws Exception {
+
+		NonBlockingServletInputStream inputStream = new NonBlockingServletInputStream(
+				REQUEST.getBytes(StandardCharsets.UTF_8));
+		MockHttpServletRequest asyncRequest = new MockHttpServletRequest() {
+			@Override
+			public ServletInputStream getInputStream() {
+				return inputStream;
+			}
+		};
+		asyncRequest.setMethod(HttpTransportConstants.METHOD_POST);
+		asyncRequest.setAsyncSupported(true);
+		asyncRequest.setContentType("text/xml; charset=\"utf-8\"");
+		NonBlockingServletOutputStream outputStream = new NonBlockingServletOutputStream();
+		MockHttpServletResponse asyncResponse = new MockHttpServletResponse() {
+			@Override
+			public ServletOutputStream getOutputStream() {
+				return outputStream;
+			}
+		};
+		this.adapter.setMessageFactory(new SaajSoapMessageFactory(MessageFactory.newInstance()));
+		this.adapter.setAsyncExecutor(new SyncTaskExecutor());
+		this.adapter.setAsyncTimeout(1000);
+
+		this.adapter.handle(asyncRequest, asyncResponse, (WebServiceMessageReceiver) (messageContext) -> {
+			throw new AssertionError("Timed out message must not be dispatched");
+		});
+
+		MockAsyncContext asyncContext = (MockAsyncContext) asyncRequest.getAsyncContext();
+		assertThat(asyncContext.getTimeout()).isEqualTo(1000);
+		for (AsyncListener listener : asyncContext.getListeners()) {
+			listener.onTimeout(new AsyncEvent(asyncContext));
+		}
+		inputStream.readListener.onDataAvailable();
+		inputStream.readListener.onAllDataRead();
+
+		assertThat(asyncResponse.getStatus()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+		assertThat(outputStream.content.size()).isZero();
+	}
+
 	private void replayMockControls() {
 		replay(this.factoryMock, this.requestMock, this.responseMock);
 	}
@@ -205,4 +376,73 @@ class WebServiceMessageReceiverHandlerAdapterTests {
 		verify(this.factoryMock, this.requestMock, this.responseMock);
 	}
 
+	private static final class NonBlockingServletInputStream extends ServletInputStream {
+
+		private final InputStream delegate;
+
+		private ReadListener readListener;
+
+		private boolean finished;
+
+		NonBlockingServletInputStream(byte[] content) {
+			this.delegate = new ByteArrayInputStream(content);
+		}
+
+		@Override
+		public boolean isFinished() {
+			return this.finished;
+		}
+
+		@Override
+		public boolean isReady() {
+			return true;
+		}
+
+		@Override
+		public void setReadListener(ReadListener readListener) {
+			this.readListener = readListener;
+		}
+
+		@Override
+		public int read() {
+			int result = this.delegate.read();
+			this.finished = (result == -1);
+			return result;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			int result = this.delegate.read(b, off, len);
+			this.finished = (result == -1);
+			return result;
+		}
+
+	}
+
+	private static final class NonBlockingServletOutputStream extends ServletOutputStream {
+
+		private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+		@Override
+		public boolean isReady() {
+			return true;
+		}
+
+		@Override
+		public void setWriteListener(WriteListener writeListener) {
+			try {
+				writeListener.onWritePossible();
+			}
+			catch (Exception ex) {
+				writeListener.onError(ex);
+			}
+		}
+
+		@Override
+		public void write(int b) {
+			this.content.write(b);
+		}
+
+	}
+
 }
@@ -19,13 +19,18 @@ package org.springframework.ws.transport.http;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.stream.StreamSource;
 
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.w3c.dom.Document;
 import org.xmlunit.assertj.XmlAssert;
 
@@ -83,6 +88,48 @@ class WsdlDefinitionHandlerAdapterTests {
 		verify(this.definitionMock);
 	}
 
+	@Test
+	void handleGetCachedReadsSourceOnce() throws Exception {
+
+		this.adapter.setCacheResponses(true);
+		this.request.setMethod(HttpTransportConstants.METHOD_GET);
+		String definition = "<definition xmlns='http://schemas.xmlsoap.org/wsdl/'/>";
+		expect(this.definitionMock.getSource()).andReturn(new StringSource(definition)).once();
+
+		replay(this.definitionMock);
+
+		this.adapter.handle(this.request, this.response, this.definitionMock);
+		MockHttpServletResponse cachedResponse = new MockHttpServletResponse();
+		this.adapter.handle(this.request, cachedResponse, this.definitionMock);
+
+		XmlAssert.assertThat(cachedResponse.getContentAsString()).and(definition).ignoreWhitespace().areIdentical();
+
+		verify(this.definitionMock);
+	}
+
+	@Test
+	void handleGetCachedRendersModifiedFile(@TempDir Path directory) throws Exception {
+
+		this.adapter.setCacheResponses(true);
+		this.request.setMethod(HttpTransportConstants.METHOD_GET);
+		Path file = directory.resolve("definition.wsdl");
+		Files.writeString(file, "<definition xmlns='http://schemas.xmlsoap.org/wsdl/' name='first'/>");
+		expect(this.definitionMock.getSource()).andAnswer(() -> new StreamSource(file.toFile())).times(2);
+
+		replay(this.definitionMock);
+
+		this.adapter.handle(this.request, this.response, this.definitionMock);
+		String definition = "<definition xmlns='http://schemas.xmlsoap.org/wsdl/' name='second'/>";
+		Files.writeString(file, definition);
+		Files.setLastModifiedTime(file, FileTime.fromMillis(file.toFile().lastModified() + 10000));
+		MockHttpServletResponse modifiedResponse = new MockHttpServletResponse();
+		this.adapter.handle(this.request, modifiedResponse, this.definitionMock);
+
+		XmlAssert.assertThat(modifiedResponse.getContentAsString()).and(definition).ignoreWhitespace().areIdentical();
+
+		verify(this.definitionMock);
+	}
+
 	@Test
 	void handleGetUpToDate() throws Exception {
 		this.request.setMethod(HttpTransportConstants.METHOD_GET);
@@ -18,6 +18,7 @@ package org.springframework.ws.transport.http;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -97,6 +98,61 @@ class XsdSchemaHandlerAdapterTests {
 		XmlAssert.assertThat(this.response.getContentAsString()).and(expected).ignoreWhitespace().areIdentical();
 	}
 
+	@Test
+	void handleGetCached() throws Exception {
+		this.adapter.setCacheResponses(true);
+		this.request.setMethod(HttpTransportConstants.METHOD_GET);
+		Resource single = new ClassPathResource("single.xsd", getClass());
+		SimpleXsdSchema schema = new SimpleXsdSchema(single);
+		schema.afterPropertiesSet();
+		this.adapter.handle(this.request, this.response, schema);
+		assertThat(this.response.getStatus()).isEqualTo(HttpStatus.OK.value());
+		String etag = this.response.getHeader(HttpHeaders.ETAG);
+		assertThat(etag).isNotNull();
+		String expected = new String(FileCopyUtils.copyToByteArray(single.getFile()));
+		XmlAssert.assertThat(this.response.getContentAsString()).and(expected).ignoreWhitespace().areIdentical();
+
+		MockHttpServletRequest conditionalRequest = new MockHttpServletRequest(HttpTransportConstants.METHOD_GET, "/");
+		conditionalRequest.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+		MockHttpServletResponse conditionalResponse = new MockHttpServletResponse();
+		this.adapter.handle(conditionalRequest, conditionalResponse, schema);
+		assertThat(conditionalResponse.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+		assertThat(conditionalResponse.getContentLength()).isEqualTo(0);
+	}
+
+	@Test
+	void handleGetCachedGzip() throws Exception {
+		this.adapter.setCacheResponses(true);
+		this.request.setMethod(HttpTransportConstants.METHOD_GET);
+		this.request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+		Resource single = new ClassPathResource("single.xsd", getClass());
+		SimpleXsdSchema schema = new SimpleXsdSchema(single);
+		schema.afterPropertiesSet();
+		this.adapter.handle(this.request, this.response, schema);
+		assertThat(this.response.getStatus()).isEqualTo(HttpStatus.OK.value());
+		assertThat(this.response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+		assertThat(this.response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+		byte[] content = FileCopyUtils
+			.copyToByteArray(new GZIPInputStream(new ByteArrayInputStream(this.response.getContentAsByteArray())));
+		String expected = new String(FileCopyUtils.copyToByteArray(single.getFile()));
+		XmlAssert.assertThat(new String(content)).and(expected).ignoreWhitespace().areIdentical();
+	}
+
+	@Test
+	void handleGetCachedGzipRefused() throws Exception {
+		this.adapter.setCacheResponses(true);
+		this.request.setMethod(HttpTransportConstants.METHOD_GET);
+		this.request.addHeader(HttpHeaders.ACCEPT_ENCODING, "GZIP;q=0, *");
+		Resource single = new ClassPathResource("single.xsd", getClass());
+		SimpleXsdSchema schema = new SimpleXsdSchema(single);
+		schema.afterPropertiesSet();
+		this.adapter.handle(this.request, this.response, schema);
+		assertThat(this.response.getStatus()).isEqualTo(HttpStatus.OK.value());
+		assertThat(this.response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+		String expected = new String(FileCopyUtils.copyToByteArray(single.getFile()));
+		XmlAssert.assertThat(this.response.getContentAsString()).and(expected).ignoreWhitespace().areIdentical();
+	}
+
 	@Test
 	void handleNonGet() throws Exception {
 
@@ -68,7 +68,11 @@ import org.springframework.ws.soap.security.wss4j2.callback.UsernameTokenPrincip
 /**
  * A WS-Security endpoint interceptor based on Apache's WSS4J. This interceptor supports
  * messages created by {@link org.springframework.ws.soap.axiom.AxiomSoapMessageFactory}
- * and {@link org.springframework.ws.soap.saaj.SaajSoapMessageFactory}.
+ * and {@link org.springframework.ws.soap.saaj.SaajSoapMessageFactory}. WSS4J processes
+ * the envelope as a DOM {@code Document}; for Axiom messages, this requires a conversion to
+ * and from DOM, unless the message factory is
+ * {@linkplain org.springframework.ws.soap.axiom.AxiomSoapMessageFactory#setDomCompatible(boolean)
+ * DOM-compatible}, in which case the message is secured and validated in place.
  * <p>
  * The validation and securement actions executed by this interceptor are configured via
  * {@code validationActions} and {@code securementActions} properties, respectively.
@@ -26,6 +26,8 @@ import jakarta.xml.soap.MessageFactory;
 import jakarta.xml.soap.MimeHeaders;
 import jakarta.xml.soap.SOAPConstants;
 import jakarta.xml.soap.SOAPMessage;
+import org.apache.axiom.om.OMAbstractFactory;
+import org.apache.axiom.om.OMMetaFactory;
 import org.apache.axiom.om.OMXMLBuilderFactory;
 import org.apache.axiom.soap.SOAPModelBuilder;
 import org.junit.jupiter.api.BeforeEach;
@@ -58,6 +60,8 @@ public abstract class Wss4jTests {
 
 	protected final boolean axiomTest = this.getClass().getSimpleName().startsWith("Axiom");
 
+	protected final boolean axiomDomTest = this.getClass().getSimpleName().startsWith("AxiomDom");
+
 	protected final boolean saajTest = this.getClass().getSimpleName().startsWith("Saaj");
 
 	protected Jaxp13XPathTemplate xpathTemplate = new Jaxp13XPathTemplate();
@@ -160,7 +164,7 @@ public abstract class Wss4jTests {
 
 		try (InputStream is = resource.getInputStream()) {
 
-			SOAPModelBuilder builder = OMXMLBuilderFactory.createSOAPModelBuilder(is, null);
+			SOAPModelBuilder builder = OMXMLBuilderFactory.createSOAPModelBuilder(getAxiomMetaFactory(), is, null);
 			org.apache.axiom.soap.SOAPMessage soapMessage = builder.getSOAPMessage();
 			builder.detach();
 			return new AxiomSoapMessage(soapMessage, "", true, true);
@@ -176,13 +180,24 @@ public abstract class Wss4jTests {
 
 		try (InputStream is = resource.getInputStream()) {
 
-			SOAPModelBuilder builder = OMXMLBuilderFactory.createSOAPModelBuilder(is, null);
+			SOAPModelBuilder builder = OMXMLBuilderFactory.createSOAPModelBuilder(getAxiomMetaFactory(), is, null);
 			org.apache.axiom.soap.SOAPMessage soapMessage = builder.getSOAPMessage();
 			builder.detach();
 			return new AxiomSoapMessage(soapMessage, "", true, true);
 		}
 	}
 
+	private OMMetaFactory getAxiomMetaFactory() {
+		return this.axiomDomTest ? OMAbstractFactory.getMetaFactory(OMAbstractFactory.FEATURE_DOM)
+				: OMAbstractFactory.getMetaFactory();
+	}
+
+	private AxiomSoapMessageFactory createAxiomSoapMessageFactory() {
+		AxiomSoapMessageFactory messageFactory = new AxiomSoapMessageFactory();
+		messageFactory.setDomCompatible(this.axiomDomTest);
+		return messageFactory;
+	}
+
 	protected Object getMessage(SoapMessage soapMessage) {
 		if (soapMessage instanceof AxiomSoapMessage) {
 			return ((AxiomSoapMessage) soapMessage).getAxiomMessage();
@@ -231,7 +246,7 @@ public abstract class Wss4jTests {
 
 	protected SoapMessageFactory getSoap11MessageFactory() {
 		if (this.axiomTest) {
-			return new AxiomSoapMessageFactory();
+			return createAxiomSoapMessageFactory();
 		}
 		if (this.saajTest) {
 			return new SaajSoapMessageFactory(this.saajSoap11MessageFactory);
@@ -242,7 +257,7 @@ public abstract class Wss4jTests {
 	protected SoapMessageFactory getSoap12MessageFactory() {
 		SoapMessageFactory messageFactory;
 		if (this.axiomTest) {
-			messageFactory = new AxiomSoapMessageFactory();
+			messageFactory = createAxiomSoapMessageFactory();
 		}
 		else if (this.saajTest) {
 			messageFactory = new SaajSoapMessageFactory(this.saajSoap12MessageFactory);
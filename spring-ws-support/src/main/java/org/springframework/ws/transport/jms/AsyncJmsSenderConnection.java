@@ -0,0 +1,58 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.transport.jms;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Destination;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.transport.AsyncWebServiceConnection;
+
+/**
+ * {@link JmsSenderConnection} that receives its response through a shared
+ * {@link JmsReplyConsumer}, and can therefore wait for it without blocking a thread.
+ *
+ * @since 5.0.0
+ */
+final class AsyncJmsSenderConnection extends JmsSenderConnection implements AsyncWebServiceConnection {
+
+	AsyncJmsSenderConnection(ConnectionFactory connectionFactory, Connection connection, Session session,
+			Destination requestDestination, Message requestMessage, JmsReplyConsumer replyConsumer)
+			throws JMSException {
+		super(connectionFactory, connection, session, requestDestination, requestMessage);
+		setReplyConsumer(replyConsumer);
+	}
+
+	@Override
+	public CompletableFuture<Void> sendAsync(WebServiceMessage message) {
+		try {
+			send(message);
+		}
+		catch (IOException ex) {
+			return CompletableFuture.failedFuture(ex);
+		}
+		return awaitReplyAsync();
+	}
+
+}
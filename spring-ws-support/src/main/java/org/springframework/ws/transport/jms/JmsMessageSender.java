@@ -18,6 +18,8 @@ package org.springframework.ws.transport.jms;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.jms.Connection;
 import jakarta.jms.ConnectionFactory;
@@ -29,6 +31,7 @@ import jakarta.jms.Session;
 import jakarta.jms.Topic;
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.jms.connection.ConnectionFactoryUtils;
 import org.springframework.jms.core.MessagePostProcessor;
 import org.springframework.jms.support.JmsUtils;
@@ -86,6 +89,14 @@ import org.springframework.ws.transport.jms.support.JmsTransportUtils;
  * If the {@code replyToName} is not set, a {@link Session#createTemporaryQueue()
  * temporary queue} is used.
  * <p>
+ * By default, every connection creates a consumer for its response, and a temporary
+ * queue if needed. When the {@link #setSharedReplyConsumer(boolean) sharedReplyConsumer}
+ * property is set to {@code true}, a single long-lived consumer is used per reply
+ * destination instead, and responses are matched to requests by a generated
+ * {@code JMSCorrelationID}. The connections created in this mode support the
+ * asynchronous operations of the
+ * {@link org.springframework.ws.client.core.WebServiceTemplate}.
+ * <p>
  * This class uses {@link jakarta.jms.BytesMessage} messages by default, but can be
  * configured to send {@link jakarta.jms.TextMessage} messages instead. <b>Note</b> that
  * {@code BytesMessages} are preferred, since {@code TextMessages} do not support
@@ -101,7 +112,7 @@ import org.springframework.ws.transport.jms.support.JmsTransportUtils;
  * @see <a href="https://datatracker.ietf.org/doc/rfc6167">IRI Scheme for Java(tm) Message
  * Service 1.0</a>
  */
-public class JmsMessageSender extends JmsDestinationAccessor implements WebServiceMessageSender {
+public class JmsMessageSender extends JmsDestinationAccessor implements WebServiceMessageSender, DisposableBean {
 
 	/**
 	 * Default timeout for receive operations: -1 indicates a blocking receive without
@@ -121,6 +132,10 @@ public class JmsMessageSender extends JmsDestinationAccessor implements WebServi
 
 	private @Nullable MessagePostProcessor postProcessor;
 
+	private boolean sharedReplyConsumer = false;
+
+	private final Map<String, JmsReplyConsumer> replyConsumers = new ConcurrentHashMap<>();
+
 	/**
 	 * Create a new {@code JmsMessageSender}
 	 * <p>
@@ -165,6 +180,32 @@ public class JmsMessageSender extends JmsDestinationAccessor implements WebServi
 		this.postProcessor = postProcessor;
 	}
 
+	/**
+	 * Sets whether responses are received by a single, long-lived consumer per reply
+	 * destination, rather than by a new consumer per request. Defaults to {@code false}.
+	 * <p>
+	 * A fixed reply destination ({@code replyToName}) must only be used by this sender
+	 * when this is enabled, since the shared consumer receives all messages sent to it.
+	 * A shared consumer whose connection fails is replaced by a new one for the next
+	 * request. A {@link #setPostProcessor(MessagePostProcessor) post-processor} must not
+	 * remove the {@code JMSCorrelationID} of the request in this mode.
+	 * @since 5.0.0
+	 */
+	public void setSharedReplyConsumer(boolean sharedReplyConsumer) {
+		this.sharedReplyConsumer = sharedReplyConsumer;
+	}
+
+	/**
+	 * Stops the shared reply consumers, if any.
+	 */
+	@Override
+	public void destroy() {
+		for (JmsReplyConsumer replyConsumer : this.replyConsumers.values()) {
+			replyConsumer.stop();
+		}
+		this.replyConsumers.clear();
+	}
+
 	@Override
 	public WebServiceConnection createConnection(URI uri) throws IOException {
 		ConnectionFactory connectionFactory = getConnectionFactory();
@@ -176,12 +217,19 @@ public class JmsMessageSender extends JmsDestinationAccessor implements WebServi
 			jmsSession = createSession(jmsConnection);
 			Destination requestDestination = resolveRequestDestination(jmsSession, uri);
 			Message requestMessage = createRequestMessage(jmsSession, uri);
-			JmsSenderConnection wsConnection = new JmsSenderConnection(connectionFactory, jmsConnection, jmsSession,
-					requestDestination, requestMessage);
+			JmsSenderConnection wsConnection;
+			if (this.sharedReplyConsumer) {
+				wsConnection = new AsyncJmsSenderConnection(connectionFactory, jmsConnection, jmsSession,
+						requestDestination, requestMessage, getReplyConsumer(connectionFactory, uri));
+			}
+			else {
+				wsConnection = new JmsSenderConnection(connectionFactory, jmsConnection, jmsSession,
+						requestDestination, requestMessage);
+				wsConnection.setResponseDestination(resolveResponseDestination(jmsSession, uri));
+			}
 			wsConnection.setDeliveryMode(JmsTransportUtils.getDeliveryMode(uri));
 			wsConnection.setPriority(JmsTransportUtils.getPriority(uri));
 			wsConnection.setReceiveTimeout(this.receiveTimeout);
-			wsConnection.setResponseDestination(resolveResponseDestination(jmsSession, uri));
 			wsConnection.setTimeToLive(JmsTransportUtils.getTimeToLive(uri));
 			wsConnection.setTextMessageEncoding(this.textMessageEncoding);
 			wsConnection.setSessionTransacted(isSessionTransacted());
@@ -211,6 +259,24 @@ public class JmsMessageSender extends JmsDestinationAccessor implements WebServi
 		return StringUtils.hasLength(destinationName) ? resolveDestinationName(session, destinationName) : null;
 	}
 
+	private JmsReplyConsumer getReplyConsumer(ConnectionFactory connectionFactory, URI uri) throws JMSException {
+		String replyToName = JmsTransportUtils.getReplyToName(uri);
+		String key = StringUtils.hasLength(replyToName) ? replyToName : "";
+		JmsReplyConsumer replyConsumer = this.replyConsumers.get(key);
+		if (replyConsumer == null || !replyConsumer.isActive()) {
+			synchronized (this.replyConsumers) {
+				replyConsumer = this.replyConsumers.get(key);
+				if (replyConsumer == null || !replyConsumer.isActive()) {
+					// replace a consumer whose connection failed
+					replyConsumer = JmsReplyConsumer.start(connectionFactory, getDestinationResolver(),
+							StringUtils.hasLength(replyToName) ? replyToName : null, isPubSubDomain());
+					this.replyConsumers.put(key, replyConsumer);
+				}
+			}
+		}
+		return replyConsumer;
+	}
+
 	private Message createRequestMessage(Session session, URI uri) throws JMSException {
 		int messageType = JmsTransportUtils.getMessageType(uri);
 		if (messageType == JmsTransportConstants.BYTES_MESSAGE_TYPE) {
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.transport.jms;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Destination;
+import jakarta.jms.ExceptionListener;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageListener;
+import jakarta.jms.Session;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.jms.support.JmsUtils;
+import org.springframework.jms.support.destination.DestinationResolver;
+
+/**
+ * Long-lived consumer of response messages, shared by all {@link JmsSenderConnection}s
+ * created by a {@link JmsMessageSender} for the same reply destination. Responses are
+ * matched to pending requests by their {@code JMSCorrelationID}.
+ * <p>
+ * Uses a dedicated JMS connection and session, so that the reply destination, typically a
+ * temporary queue, lives as long as this consumer. When that connection fails, the
+ * consumer stops, and pending requests fail. A stopped consumer is no longer
+ * {@linkplain #isActive() active}, and must be replaced by a new one.
+ *
+ * @since 5.0.0
+ */
+final class JmsReplyConsumer implements MessageListener, ExceptionListener {
+
+	private static final Log logger = LogFactory.getLog(JmsReplyConsumer.class);
+
+	private final Connection connection;
+
+	private final Session session;
+
+	private final Destination replyDestination;
+
+	private final MessageConsumer consumer;
+
+	private final Map<String, CompletableFuture<Message>> pendingReplies = new ConcurrentHashMap<>();
+
+	private volatile boolean active = true;
+
+	private JmsReplyConsumer(Connection connection, Session session, Destination replyDestination,
+			MessageConsumer consumer) {
+		this.connection = connection;
+		this.session = session;
+		this.replyDestination = replyDestination;
+		this.consumer = consumer;
+	}
+
+	/**
+	 * Starts a reply consumer on the given destination, or on a new temporary queue if
+	 * no destination name is given.
+	 */
+	static JmsReplyConsumer start(ConnectionFactory connectionFactory, DestinationResolver destinationResolver,
+			@Nullable String replyToName, boolean pubSubDomain) throws JMSException {
+		Connection connection = connectionFactory.createConnection();
+		Session session = null;
+		try {
+			session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+			Destination replyDestination = (replyToName != null)
+					? destinationResolver.resolveDestinationName(session, replyToName, pubSubDomain)
+					: session.createTemporaryQueue();
+			MessageConsumer consumer = session.createConsumer(replyDestination);
+			JmsReplyConsumer replyConsumer = new JmsReplyConsumer(connection, session, replyDestination, consumer);
+			consumer.setMessageListener(replyConsumer);
+			try {
+				connection.setExceptionListener(replyConsumer);
+			}
+			catch (JMSException ex) {
+				// not allowed in Jakarta EE containers
+				logger.debug("Could not register ExceptionListener, connection failures will not be detected", ex);
+			}
+			connection.start();
+			return replyConsumer;
+		}
+		catch (JMSException | RuntimeException ex) {
+			JmsUtils.closeSession(session);
+			JmsUtils.closeConnection(connection);
+			throw ex;
+		}
+	}
+
+	/** Returns the destination on which replies are received. */
+	Destination getReplyDestination() {
+		return this.replyDestination;
+	}
+
+	/** Indicates whether this consumer still receives replies. */
+	boolean isActive() {
+		return this.active;
+	}
+
+	/**
+	 * Registers a pending request with the given correlation id. Must be called before
+	 * the request is sent.
+	 * @return a future that completes with the response message
+	 */
+	CompletableFuture<Message> register(String correlationId) {
+		CompletableFuture<Message> reply = new CompletableFuture<>();
+		this.pendingReplies.put(correlationId, reply);
+		if (!this.active && this.pendingReplies.remove(correlationId) != null) {
+			reply.completeExceptionally(new IllegalStateException("Reply consumer stopped"));
+		}
+		return reply;
+	}
+
+	/** Removes the pending request with the given correlation id, if any. */
+	void cancel(String correlationId) {
+		this.pendingReplies.remove(correlationId);
+	}
+
+	@Override
+	public void onMessage(Message message) {
+		try {
+			String correlationId = message.getJMSCorrelationID();
+			CompletableFuture<Message> reply = (correlationId != null) ? this.pendingReplies.remove(correlationId)
+					: null;
+			if (reply != null) {
+				reply.complete(message);
+			}
+			else if (logger.isDebugEnabled()) {
+				logger.debug("Discarding response with unknown correlation id [" + correlationId + "]");
+			}
+		}
+		catch (JMSException ex) {
+			logger.warn("Could not read correlation id of response message", ex);
+		}
+	}
+
+	/**
+	 * Stops this consumer after its connection failed. Pending requests are completed
+	 * exceptionally.
+	 */
+	@Override
+	public void onException(JMSException ex) {
+		logger.warn("Connection of reply consumer failed, stopping it", ex);
+		stop(new JmsTransportException("Connection of reply consumer failed", ex));
+	}
+
+	/**
+	 * Stops this consumer. Pending requests are completed exceptionally.
+	 */
+	void stop() {
+		stop(new IllegalStateException("Reply consumer stopped"));
+	}
+
+	private void stop(Exception failure) {
+		this.active = false;
+		JmsUtils.closeMessageConsumer(this.consumer);
+		JmsUtils.closeSession(this.session);
+		JmsUtils.closeConnection(this.connection, true);
+		for (String correlationId : this.pendingReplies.keySet()) {
+			CompletableFuture<Message> reply = this.pendingReplies.remove(correlationId);
+			if (reply != null) {
+				reply.completeExceptionally(failure);
+			}
+		}
+	}
+
+}
@@ -22,6 +22,11 @@ import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import jakarta.jms.BytesMessage;
 import jakarta.jms.Connection;
@@ -40,6 +45,7 @@ import org.springframework.jms.connection.ConnectionFactoryUtils;
 import org.springframework.jms.core.MessagePostProcessor;
 import org.springframework.jms.support.JmsUtils;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 import org.springframework.ws.WebServiceMessage;
 import org.springframework.ws.transport.AbstractSenderConnection;
 import org.springframework.ws.transport.WebServiceConnection;
@@ -48,6 +54,11 @@ import org.springframework.ws.transport.jms.support.JmsTransportUtils;
 /**
  * Implementation of {@link WebServiceConnection} that is used for client-side JMS access.
  * Exposes a {@link BytesMessage} request and response message.
+ * <p>
+ * When created by a {@link JmsMessageSender} that uses a
+ * {@linkplain JmsMessageSender#setSharedReplyConsumer(boolean) shared reply consumer},
+ * the response is not received by a consumer of this connection, but matched to the
+ * request by a generated {@code JMSCorrelationID}.
  *
  * @author Arjen Poutsma
  * @author Greg Turnquist
@@ -85,6 +96,10 @@ public class JmsSenderConnection extends AbstractSenderConnection {
 
 	private boolean temporaryResponseQueueCreated = false;
 
+	private @Nullable JmsReplyConsumer replyConsumer;
+
+	private @Nullable CompletableFuture<Message> pendingReply;
+
 	/** Constructs a new JMS connection with the given parameters. */
 	protected JmsSenderConnection(ConnectionFactory connectionFactory, Connection connection, Session session,
 			Destination requestDestination, Message requestMessage) throws JMSException {
@@ -152,6 +167,11 @@ public class JmsSenderConnection extends AbstractSenderConnection {
 		this.sessionTransacted = sessionTransacted;
 	}
 
+	void setReplyConsumer(JmsReplyConsumer replyConsumer) {
+		this.replyConsumer = replyConsumer;
+		this.responseDestination = replyConsumer.getReplyDestination();
+	}
+
 	/*
 	 * URI
 	 */
@@ -222,9 +242,19 @@ public class JmsSenderConnection extends AbstractSenderConnection {
 				this.temporaryResponseQueueCreated = true;
 			}
 			this.requestMessage.setJMSReplyTo(this.responseDestination);
+			if (this.replyConsumer != null) {
+				this.requestMessage.setJMSCorrelationID(UUID.randomUUID().toString());
+			}
 			if (this.postProcessor != null) {
 				this.requestMessage = this.postProcessor.postProcessMessage(this.requestMessage);
 			}
+			if (this.replyConsumer != null) {
+				String correlationId = this.requestMessage.getJMSCorrelationID();
+				Assert.state(StringUtils.hasLength(correlationId),
+						"Request has no JMSCorrelationID, which is required to match the reply of the shared "
+								+ "reply consumer; the MessagePostProcessor must not remove it");
+				this.pendingReply = this.replyConsumer.register(correlationId);
+			}
 			this.connection.start();
 			messageProducer.send(this.requestMessage);
 			if (this.session.getTransacted() && isSessionLocallyTransacted(this.session)) {
@@ -232,6 +262,7 @@ public class JmsSenderConnection extends AbstractSenderConnection {
 			}
 		}
 		catch (JMSException ex) {
+			cancelPendingReply();
 			throw new JmsTransportException(ex);
 		}
 		finally {
@@ -252,8 +283,38 @@ public class JmsSenderConnection extends AbstractSenderConnection {
 	 * Receiving
 	 */
 
+	/**
+	 * Returns a future that completes when the response to the sent request has been
+	 * received by the shared reply consumer, or when the receive timeout has elapsed.
+	 */
+	CompletableFuture<Void> awaitReplyAsync() {
+		CompletableFuture<Message> reply = this.pendingReply;
+		Assert.state(reply != null, "No pending reply");
+		// a timeout of 0 means waiting indefinitely, as for MessageConsumer.receive(long)
+		if (this.receiveTimeout > 0) {
+			reply.completeOnTimeout(null, this.receiveTimeout, TimeUnit.MILLISECONDS);
+		}
+		return reply.thenAccept((message) -> {
+		});
+	}
+
+	private void cancelPendingReply() {
+		if (this.replyConsumer != null && this.pendingReply != null) {
+			try {
+				this.replyConsumer.cancel(this.requestMessage.getJMSCorrelationID());
+			}
+			catch (JMSException ex) {
+				// ignore
+			}
+		}
+	}
+
 	@Override
 	protected void onReceiveBeforeRead() throws IOException {
+		if (this.pendingReply != null) {
+			setResponseMessage(awaitReply(this.pendingReply));
+			return;
+		}
 		MessageConsumer messageConsumer = null;
 		try {
 			if (this.temporaryResponseQueueCreated) {
@@ -266,13 +327,7 @@ public class JmsSenderConnection extends AbstractSenderConnection {
 			}
 			Message message = (this.receiveTimeout >= 0) ? messageConsumer.receive(this.receiveTimeout)
 					: messageConsumer.receive();
-			if (message instanceof BytesMessage || message instanceof TextMessage) {
-				this.responseMessage = message;
-			}
-			else if (message != null) {
-				throw new IllegalArgumentException("Wrong message type: [" + message.getClass() + "]. "
-						+ "Only BytesMessages or TextMessages can be handled.");
-			}
+			setResponseMessage(message);
 		}
 		catch (JMSException ex) {
 			throw new JmsTransportException(ex);
@@ -291,6 +346,35 @@ public class JmsSenderConnection extends AbstractSenderConnection {
 		}
 	}
 
+	private @Nullable Message awaitReply(CompletableFuture<Message> reply) throws IOException {
+		try {
+			return (this.receiveTimeout > 0) ? reply.get(this.receiveTimeout, TimeUnit.MILLISECONDS) : reply.get();
+		}
+		catch (TimeoutException ex) {
+			return null;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while waiting for response", ex);
+		}
+		catch (ExecutionException ex) {
+			throw new IOException("Could not receive response", ex.getCause());
+		}
+		finally {
+			cancelPendingReply();
+		}
+	}
+
+	private void setResponseMessage(@Nullable Message message) {
+		if (message instanceof BytesMessage || message instanceof TextMessage) {
+			this.responseMessage = message;
+		}
+		else if (message != null) {
+			throw new IllegalArgumentException("Wrong message type: [" + message.getClass() + "]. "
+					+ "Only BytesMessages or TextMessages can be handled.");
+		}
+	}
+
 	@Override
 	protected boolean hasResponse() throws IOException {
 		return this.responseMessage != null;
@@ -335,6 +419,7 @@ public class JmsSenderConnection extends AbstractSenderConnection {
 
 	@Override
 	protected void onClose() throws IOException {
+		cancelPendingReply();
 		JmsUtils.closeSession(this.session);
 		ConnectionFactoryUtils.releaseConnection(this.connection, this.connectionFactory, true);
 	}
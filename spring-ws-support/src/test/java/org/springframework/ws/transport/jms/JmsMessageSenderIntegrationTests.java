@@ -21,6 +21,8 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.jms.BytesMessage;
 import jakarta.jms.ConnectionFactory;
@@ -46,6 +48,7 @@ import org.springframework.jms.config.DefaultJmsListenerContainerFactory;
 import org.springframework.jms.core.BrowserCallback;
 import org.springframework.jms.core.JmsTemplate;
 import org.springframework.jms.core.MessagePostProcessor;
+import org.springframework.jms.support.destination.DynamicDestinationResolver;
 import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
@@ -54,9 +57,11 @@ import org.springframework.ws.soap.SoapMessage;
 import org.springframework.ws.soap.SoapVersion;
 import org.springframework.ws.soap.saaj.SaajSoapMessage;
 import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+import org.springframework.ws.transport.AsyncWebServiceConnection;
 import org.springframework.ws.transport.WebServiceConnection;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 @SpringJUnitConfig
 class JmsMessageSenderIntegrationTests {
@@ -155,6 +160,110 @@ class JmsMessageSenderIntegrationTests {
 		}
 	}
 
+	@Test
+	void testSendAndReceiveSharedReplyConsumer() throws Exception {
+		JmsMessageSender sharedMessageSender = new JmsMessageSender(this.connectionFactory);
+		sharedMessageSender.setReceiveTimeout(Duration.ofSeconds(1).toMillis());
+		sharedMessageSender.setSharedReplyConsumer(true);
+		this.testJmsListener.handleMessage((message) -> {
+			assertNonEmptyByteMessage(message);
+			return createEmptySoapMessage();
+		});
+		URI uri = new URI("jms:SenderRequestQueue?deliveryMode=NON_PERSISTENT");
+		try {
+			for (int i = 0; i < 3; i++) {
+				try (WebServiceConnection connection = sharedMessageSender.createConnection(uri)) {
+					SoapMessage soapRequest = new SaajSoapMessage(messageFactory.createMessage());
+					soapRequest.setSoapAction(SOAP_ACTION);
+					connection.send(soapRequest);
+
+					SoapMessage response = (SoapMessage) connection
+						.receive(new SaajSoapMessageFactory(messageFactory));
+					assertThat(response).isNotNull();
+					assertThat(response.getSoapAction()).isEqualTo(SOAP_ACTION);
+				}
+			}
+		}
+		finally {
+			sharedMessageSender.destroy();
+		}
+	}
+
+	@Test
+	void testSendAndReceiveSharedReplyConsumerWithoutTimeout() throws Exception {
+		JmsMessageSender sharedMessageSender = new JmsMessageSender(this.connectionFactory);
+		sharedMessageSender.setReceiveTimeout(0);
+		sharedMessageSender.setSharedReplyConsumer(true);
+		this.testJmsListener.handleMessage((message) -> createEmptySoapMessage());
+		URI uri = new URI("jms:SenderRequestQueue?deliveryMode=NON_PERSISTENT");
+		try (WebServiceConnection connection = sharedMessageSender.createConnection(uri)) {
+			SoapMessage soapRequest = new SaajSoapMessage(messageFactory.createMessage());
+			soapRequest.setSoapAction(SOAP_ACTION);
+			connection.send(soapRequest);
+
+			SoapMessage response = (SoapMessage) connection.receive(new SaajSoapMessageFactory(messageFactory));
+			assertThat(response).isNotNull();
+			assertThat(response.getSoapAction()).isEqualTo(SOAP_ACTION);
+		}
+		finally {
+			sharedMessageSender.destroy();
+		}
+	}
+
+	@Test
+	void testSendAsyncSharedReplyConsumer() throws Exception {
+		JmsMessageSender sharedMessageSender = new JmsMessageSender(this.connectionFactory);
+		sharedMessageSender.setReceiveTimeout(Duration.ofSeconds(1).toMillis());
+		sharedMessageSender.setSharedReplyConsumer(true);
+		this.testJmsListener.handleMessage((message) -> createEmptySoapMessage());
+		URI uri = new URI("jms:SenderRequestQueue?deliveryMode=NON_PERSISTENT");
+		try (WebServiceConnection connection = sharedMessageSender.createConnection(uri)) {
+			assertThat(connection).isInstanceOf(AsyncWebServiceConnection.class);
+			SoapMessage soapRequest = new SaajSoapMessage(messageFactory.createMessage());
+			soapRequest.setSoapAction(SOAP_ACTION);
+			((AsyncWebServiceConnection) connection).sendAsync(soapRequest).get(10, TimeUnit.SECONDS);
+
+			SoapMessage response = (SoapMessage) connection.receive(new SaajSoapMessageFactory(messageFactory));
+			assertThat(response).isNotNull();
+			assertThat(response.getSoapAction()).isEqualTo(SOAP_ACTION);
+		}
+		finally {
+			sharedMessageSender.destroy();
+		}
+	}
+
+	@Test
+	void testSharedReplyConsumerRequiresCorrelationId() throws Exception {
+		JmsMessageSender sharedMessageSender = new JmsMessageSender(this.connectionFactory);
+		sharedMessageSender.setSharedReplyConsumer(true);
+		sharedMessageSender.setPostProcessor((message) -> {
+			message.setJMSCorrelationID(null);
+			return message;
+		});
+		URI uri = new URI("jms:SenderRequestQueue?deliveryMode=NON_PERSISTENT");
+		try (WebServiceConnection connection = sharedMessageSender.createConnection(uri)) {
+			SoapMessage soapRequest = new SaajSoapMessage(messageFactory.createMessage());
+			assertThatIllegalStateException().isThrownBy(() -> connection.send(soapRequest))
+				.withMessageContaining("JMSCorrelationID");
+		}
+		finally {
+			sharedMessageSender.destroy();
+		}
+	}
+
+	@Test
+	void testReplyConsumerConnectionFailure() throws Exception {
+		JmsReplyConsumer replyConsumer = JmsReplyConsumer.start(this.connectionFactory,
+				new DynamicDestinationResolver(), null, false);
+		CompletableFuture<Message> reply = replyConsumer.register("correlationId");
+
+		replyConsumer.onException(new JMSException("Connection lost"));
+
+		assertThat(replyConsumer.isActive()).isFalse();
+		assertThat(reply).isCompletedExceptionally();
+		assertThat(replyConsumer.register("other")).isCompletedExceptionally();
+	}
+
 	@Test
 	void testPostProcessor() throws Exception {
 		MessagePostProcessor processor = message -> {
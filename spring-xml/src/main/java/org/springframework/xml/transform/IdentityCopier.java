@@ -0,0 +1,509 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.xml.transform;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.dom.DOMResult;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.sax.SAXSource;
+
+import org.jspecify.annotations.Nullable;
+import org.w3c.dom.DOMException;
+import org.w3c.dom.DOMImplementation;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXNotRecognizedException;
+import org.xml.sax.SAXNotSupportedException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.ext.DefaultHandler2;
+
+import org.springframework.util.StringUtils;
+import org.springframework.util.xml.StaxUtils;
+import org.springframework.xml.DocumentBuilderFactoryUtils;
+
+/**
+ * Copies a {@link Source} to a {@link Result} directly, without an identity
+ * {@link javax.xml.transform.Transformer}. Supports DOM to DOM, StAX to DOM, StAX to
+ * StAX, and SAX to DOM copies; all other combinations are left to TrAX.
+ * <p>
+ * Serializing to a {@link javax.xml.transform.stream.StreamResult} is deliberately not
+ * supported, as the output of the TrAX serializer (XML declaration, escaping, empty
+ * elements) is relied upon for logging and tracing.
+ *
+ * @since 5.0.0
+ * @see TransformerHelper#setDirectCopy(boolean)
+ */
+abstract class IdentityCopier {
+
+	private static volatile @Nullable DOMImplementation domImplementation;
+
+	/**
+	 * Copy the given source to the given result, if supported.
+	 * @param source the source to copy from
+	 * @param result the result to copy to
+	 * @return {@code true} if the source was copied; {@code false} if the combination is
+	 * not supported, and the source is left untouched
+	 * @throws TransformerException in case of copy errors
+	 */
+	static boolean copy(Source source, Result result) throws TransformerException {
+		try {
+			if (StaxUtils.isStaxSource(source)) {
+				XMLStreamReader streamReader = getXMLStreamReader(source);
+				if (streamReader == null) {
+					return false;
+				}
+				if (result instanceof DOMResult domResult) {
+					return copyStaxToDom(streamReader, domResult);
+				}
+				else if (StaxUtils.isStaxResult(result)) {
+					XMLStreamWriter streamWriter = getXMLStreamWriter(result);
+					return streamWriter != null && copyStaxToStax(streamReader, streamWriter);
+				}
+			}
+			else if (result instanceof DOMResult domResult) {
+				if (source instanceof DOMSource domSource) {
+					return copyDomToDom(domSource, domResult);
+				}
+				else if (source instanceof SAXSource saxSource) {
+					return copySaxToDom(saxSource, domResult);
+				}
+			}
+			return false;
+		}
+		catch (XMLStreamException | SAXException | IOException | ParserConfigurationException | DOMException ex) {
+			throw new TransformerException(ex);
+		}
+	}
+
+	private static @Nullable XMLStreamReader getXMLStreamReader(Source source) throws XMLStreamException {
+		XMLStreamReader streamReader = StaxUtils.getXMLStreamReader(source);
+		if (streamReader == null) {
+			XMLEventReader eventReader = StaxUtils.getXMLEventReader(source);
+			if (eventReader != null) {
+				streamReader = StaxUtils.createEventStreamReader(eventReader);
+			}
+		}
+		return streamReader;
+	}
+
+	private static @Nullable XMLStreamWriter getXMLStreamWriter(Result result) {
+		XMLStreamWriter streamWriter = StaxUtils.getXMLStreamWriter(result);
+		if (streamWriter == null) {
+			XMLEventWriter eventWriter = StaxUtils.getXMLEventWriter(result);
+			if (eventWriter != null) {
+				streamWriter = StaxUtils.createEventStreamWriter(eventWriter);
+			}
+		}
+		return streamWriter;
+	}
+
+	private static boolean copyDomToDom(DOMSource source, DOMResult result) throws ParserConfigurationException {
+		Node node = source.getNode();
+		if (!(node instanceof Document || node instanceof Element)) {
+			return false;
+		}
+		DomBuilder builder = new DomBuilder(result);
+		if (node instanceof Document document) {
+			for (Node child = document.getFirstChild(); child != null; child = child.getNextSibling()) {
+				if (child.getNodeType() != Node.DOCUMENT_TYPE_NODE) {
+					builder.importNode(child);
+				}
+			}
+		}
+		else {
+			builder.importNode(node);
+		}
+		return true;
+	}
+
+	/**
+	 * Copies the document or element the given reader is positioned on. In the latter
+	 * case, the reader is left on the corresponding end element.
+	 */
+	private static boolean copyStaxToDom(XMLStreamReader reader, DOMResult result)
+			throws XMLStreamException, ParserConfigurationException {
+		int event = reader.getEventType();
+		if (event != XMLStreamConstants.START_DOCUMENT && event != XMLStreamConstants.START_ELEMENT) {
+			return false;
+		}
+		boolean fragment = (event == XMLStreamConstants.START_ELEMENT);
+		DomBuilder builder = new DomBuilder(result);
+		int depth = 0;
+		while (true) {
+			switch (event) {
+				case XMLStreamConstants.START_ELEMENT -> {
+					builder.startElement(reader.getNamespaceURI(),
+							qualifiedName(reader.getPrefix(), reader.getLocalName()));
+					for (int i = 0; i < reader.getNamespaceCount(); i++) {
+						builder.namespace(reader.getNamespacePrefix(i), reader.getNamespaceURI(i));
+					}
+					for (int i = 0; i < reader.getAttributeCount(); i++) {
+						builder.attribute(reader.getAttributeNamespace(i),
+								qualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)),
+								reader.getAttributeValue(i));
+					}
+					depth++;
+				}
+				case XMLStreamConstants.END_ELEMENT -> {
+					builder.endElement();
+					depth--;
+					if (fragment && depth == 0) {
+						return true;
+					}
+				}
+				case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> {
+					if (depth > 0) {
+						builder.characters(reader.getText());
+					}
+				}
+				case XMLStreamConstants.COMMENT -> builder.comment(reader.getText());
+				case XMLStreamConstants.PROCESSING_INSTRUCTION ->
+					builder.processingInstruction(reader.getPITarget(), reader.getPIData());
+				case XMLStreamConstants.END_DOCUMENT -> {
+					return true;
+				}
+				default -> {
+				}
+			}
+			if (!reader.hasNext()) {
+				return true;
+			}
+			event = reader.next();
+		}
+	}
+
+	/**
+	 * Copies the document or element the given reader is positioned on. In the latter
+	 * case, the reader is left on the corresponding end element, and no document events
+	 * are written.
+	 */
+	private static boolean copyStaxToStax(XMLStreamReader reader, XMLStreamWriter writer) throws XMLStreamException {
+		int event = reader.getEventType();
+		if (event != XMLStreamConstants.START_DOCUMENT && event != XMLStreamConstants.START_ELEMENT) {
+			return false;
+		}
+		boolean fragment = (event == XMLStreamConstants.START_ELEMENT);
+		int depth = 0;
+		while (true) {
+			switch (event) {
+				case XMLStreamConstants.START_DOCUMENT -> writer.writeStartDocument();
+				case XMLStreamConstants.START_ELEMENT -> {
+					writeStartElement(reader, writer);
+					depth++;
+				}
+				case XMLStreamConstants.END_ELEMENT -> {
+					writer.writeEndElement();
+					depth--;
+					if (fragment && depth == 0) {
+						writer.flush();
+						return true;
+					}
+				}
+				case XMLStreamConstants.CHARACTERS, XMLStreamConstants.SPACE -> {
+					if (depth > 0) {
+						writer.writeCharacters(reader.getTextCharacters(), reader.getTextStart(),
+								reader.getTextLength());
+					}
+				}
+				case XMLStreamConstants.CDATA -> writer.writeCData(reader.getText());
+				case XMLStreamConstants.COMMENT -> writer.writeComment(reader.getText());
+				case XMLStreamConstants.PROCESSING_INSTRUCTION -> {
+					String data = reader.getPIData();
+					if (data != null) {
+						writer.writeProcessingInstruction(reader.getPITarget(), data);
+					}
+					else {
+						writer.writeProcessingInstruction(reader.getPITarget());
+					}
+				}
+				case XMLStreamConstants.END_DOCUMENT -> {
+					writer.writeEndDocument();
+					writer.flush();
+					return true;
+				}
+				default -> {
+				}
+			}
+			if (!reader.hasNext()) {
+				writer.flush();
+				return true;
+			}
+			event = reader.next();
+		}
+	}
+
+	/**
+	 * Writes the start element the given reader is positioned on, including its
+	 * namespace declarations and attributes. Declares the namespaces of the element and
+	 * its attributes if they are not bound in the writer, as they may have been declared
+	 * on an ancestor that is not copied.
+	 */
+	private static void writeStartElement(XMLStreamReader reader, XMLStreamWriter writer) throws XMLStreamException {
+		String prefix = nullToEmpty(reader.getPrefix());
+		String namespaceUri = nullToEmpty(reader.getNamespaceURI());
+		boolean declareNamespace = !isBound(writer, prefix, namespaceUri) && !isDeclared(reader, prefix);
+		writer.writeStartElement(prefix, reader.getLocalName(), namespaceUri);
+		for (int i = 0; i < reader.getNamespaceCount(); i++) {
+			writeNamespace(writer, nullToEmpty(reader.getNamespacePrefix(i)), nullToEmpty(reader.getNamespaceURI(i)));
+		}
+		if (declareNamespace) {
+			writeNamespace(writer, prefix, namespaceUri);
+		}
+		for (int i = 0; i < reader.getAttributeCount(); i++) {
+			String attributePrefix = nullToEmpty(reader.getAttributePrefix(i));
+			String attributeNamespaceUri = nullToEmpty(reader.getAttributeNamespace(i));
+			if (attributeNamespaceUri.isEmpty()) {
+				writer.writeAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+			}
+			else {
+				if (!attributePrefix.equals(prefix) && !isBound(writer, attributePrefix, attributeNamespaceUri)
+						&& !isDeclared(reader, attributePrefix)) {
+					writeNamespace(writer, attributePrefix, attributeNamespaceUri);
+				}
+				writer.writeAttribute(attributePrefix, attributeNamespaceUri, reader.getAttributeLocalName(i),
+						reader.getAttributeValue(i));
+			}
+		}
+	}
+
+	private static boolean isBound(XMLStreamWriter writer, String prefix, String namespaceUri) {
+		return namespaceUri.equals(nullToEmpty(writer.getNamespaceContext().getNamespaceURI(prefix)));
+	}
+
+	private static boolean isDeclared(XMLStreamReader reader, String prefix) {
+		for (int i = 0; i < reader.getNamespaceCount(); i++) {
+			if (prefix.equals(nullToEmpty(reader.getNamespacePrefix(i)))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void writeNamespace(XMLStreamWriter writer, String prefix, String namespaceUri)
+			throws XMLStreamException {
+		if (prefix.isEmpty()) {
+			writer.writeDefaultNamespace(namespaceUri);
+		}
+		else {
+			writer.writeNamespace(prefix, namespaceUri);
+		}
+	}
+
+	private static boolean copySaxToDom(SAXSource source, DOMResult result)
+			throws SAXException, IOException, ParserConfigurationException {
+		XMLReader reader = source.getXMLReader();
+		InputSource inputSource = source.getInputSource();
+		if (reader == null || inputSource == null) {
+			return false;
+		}
+		DomContentHandler handler = new DomContentHandler(new DomBuilder(result));
+		reader.setContentHandler(handler);
+		try {
+			reader.setProperty("http://xml.org/sax/properties/lexical-handler", handler);
+		}
+		catch (SAXNotRecognizedException | SAXNotSupportedException ex) {
+			// ignore, comments will not be copied
+		}
+		reader.parse(inputSource);
+		return true;
+	}
+
+	private static String qualifiedName(@Nullable String prefix, String localName) {
+		return (StringUtils.hasLength(prefix) ? prefix + ":" + localName : localName);
+	}
+
+	private static String nullToEmpty(@Nullable String s) {
+		return (s != null ? s : "");
+	}
+
+	private static Document createDocument() throws ParserConfigurationException {
+		DOMImplementation implementation = domImplementation;
+		if (implementation == null) {
+			implementation = DocumentBuilderFactoryUtils.newInstance().newDocumentBuilder().getDOMImplementation();
+			domImplementation = implementation;
+		}
+		return implementation.createDocument(null, null, null);
+	}
+
+	/**
+	 * Builds DOM nodes under the node of a {@link DOMResult}, creating a new
+	 * {@link Document} if the result has no node yet.
+	 */
+	private static final class DomBuilder {
+
+		private final Document document;
+
+		private final Node root;
+
+		private final @Nullable Node nextSibling;
+
+		private Node current;
+
+		DomBuilder(DOMResult result) throws ParserConfigurationException {
+			Node node = result.getNode();
+			if (node == null) {
+				node = createDocument();
+				result.setNode(node);
+			}
+			this.document = (node instanceof Document document ? document : node.getOwnerDocument());
+			this.root = node;
+			this.nextSibling = result.getNextSibling();
+			this.current = node;
+		}
+
+		void importNode(Node node) {
+			append(this.document.importNode(node, true));
+		}
+
+		void startElement(@Nullable String namespaceUri, String qualifiedName) {
+			Element element = this.document.createElementNS(emptyToNull(namespaceUri), qualifiedName);
+			append(element);
+			this.current = element;
+		}
+
+		void namespace(@Nullable String prefix, @Nullable String namespaceUri) {
+			String qualifiedName = (StringUtils.hasLength(prefix) ? XMLConstants.XMLNS_ATTRIBUTE + ":" + prefix
+					: XMLConstants.XMLNS_ATTRIBUTE);
+			((Element) this.current).setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, qualifiedName,
+					nullToEmpty(namespaceUri));
+		}
+
+		void attribute(@Nullable String namespaceUri, String qualifiedName, String value) {
+			((Element) this.current).setAttributeNS(emptyToNull(namespaceUri), qualifiedName, value);
+		}
+
+		void characters(String text) {
+			append(this.document.createTextNode(text));
+		}
+
+		void comment(String text) {
+			append(this.document.createComment(text));
+		}
+
+		void processingInstruction(String target, @Nullable String data) {
+			append(this.document.createProcessingInstruction(target, nullToEmpty(data)));
+		}
+
+		void endElement() {
+			Node parent = this.current.getParentNode();
+			this.current = (parent != null ? parent : this.root);
+		}
+
+		private void append(Node node) {
+			if (this.current == this.root) {
+				this.root.insertBefore(node, this.nextSibling);
+			}
+			else {
+				this.current.appendChild(node);
+			}
+		}
+
+		private static @Nullable String emptyToNull(@Nullable String s) {
+			return (StringUtils.hasLength(s) ? s : null);
+		}
+
+	}
+
+	/**
+	 * SAX handler that builds DOM nodes with a {@link DomBuilder}.
+	 */
+	private static final class DomContentHandler extends DefaultHandler2 {
+
+		private final DomBuilder builder;
+
+		private final List<String[]> namespaces = new ArrayList<>();
+
+		private int depth;
+
+		DomContentHandler(DomBuilder builder) {
+			this.builder = builder;
+		}
+
+		@Override
+		public void startPrefixMapping(String prefix, String uri) {
+			this.namespaces.add(new String[] { prefix, uri });
+		}
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes) {
+			this.builder.startElement(uri, StringUtils.hasLength(qName) ? qName : localName);
+			for (String[] namespace : this.namespaces) {
+				this.builder.namespace(namespace[0], namespace[1]);
+			}
+			this.namespaces.clear();
+			for (int i = 0; i < attributes.getLength(); i++) {
+				String attributeName = attributes.getQName(i);
+				if (!StringUtils.hasLength(attributeName)) {
+					attributeName = attributes.getLocalName(i);
+				}
+				if (!XMLConstants.XMLNS_ATTRIBUTE.equals(attributeName)
+						&& !attributeName.startsWith(XMLConstants.XMLNS_ATTRIBUTE + ":")) {
+					this.builder.attribute(attributes.getURI(i), attributeName, attributes.getValue(i));
+				}
+			}
+			this.depth++;
+		}
+
+		@Override
+		public void endElement(String uri, String localName, String qName) {
+			this.builder.endElement();
+			this.depth--;
+		}
+
+		@Override
+		public void characters(char[] ch, int start, int length) {
+			if (this.depth > 0) {
+				this.builder.characters(new String(ch, start, length));
+			}
+		}
+
+		@Override
+		public void ignorableWhitespace(char[] ch, int start, int length) {
+			characters(ch, start, length);
+		}
+
+		@Override
+		public void processingInstruction(String target, String data) {
+			this.builder.processingInstruction(target, data);
+		}
+
+		@Override
+		public void comment(char[] ch, int start, int length) {
+			this.builder.comment(new String(ch, start, length));
+		}
+
+	}
+
+}
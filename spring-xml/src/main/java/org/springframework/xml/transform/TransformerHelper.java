@@ -40,6 +40,8 @@ public class TransformerHelper {
 
 	private @Nullable Class<? extends TransformerFactory> transformerFactoryClass;
 
+	private boolean directCopy = true;
+
 	/**
 	 * Initializes a new instance of the {@code TransformerHelper}.
 	 */
@@ -70,6 +72,20 @@ public class TransformerHelper {
 		this.transformerFactoryClass = transformerFactoryClass;
 	}
 
+	/**
+	 * Indicates whether {@link #transform(Source, Result)} should copy DOM, StAX, and SAX
+	 * sources to DOM and StAX results directly, rather than through an identity
+	 * {@link Transformer}. Other combinations, including serializing to a
+	 * {@link javax.xml.transform.stream.StreamResult}, always use a transformer.
+	 * <p>
+	 * Default is {@code true}. Switch this off if the configured
+	 * {@code TransformerFactory} must see every transformation.
+	 * @since 5.0.0
+	 */
+	public void setDirectCopy(boolean directCopy) {
+		this.directCopy = directCopy;
+	}
+
 	/**
 	 * Instantiate a new TransformerFactory.
 	 * <p>
@@ -123,12 +139,16 @@ public class TransformerHelper {
 
 	/**
 	 * Transforms the given {@link Source} to the given {@link Result}. Creates a new
-	 * {@link Transformer} for every call, as transformers are not thread-safe.
+	 * {@link Transformer} for every call, as transformers are not thread-safe, unless the
+	 * source can be {@linkplain #setDirectCopy(boolean) copied directly}.
 	 * @param source the source to transform from
 	 * @param result the result to transform to
 	 * @throws TransformerException if thrown by JAXP methods
 	 */
 	public void transform(Source source, Result result) throws TransformerException {
+		if (this.directCopy && IdentityCopier.copy(source, result)) {
+			return;
+		}
 		Transformer transformer = createTransformer();
 		transformer.transform(source, result);
 	}
@@ -52,6 +52,20 @@ public abstract class TransformerObjectSupport {
 		this.transformerHelper.setTransformerFactoryClass(transformerFactoryClass);
 	}
 
+	/**
+	 * Indicates whether {@link #transform(Source, Result)} should copy DOM, StAX, and SAX
+	 * sources to DOM and StAX results directly, rather than through an identity
+	 * {@link Transformer}.
+	 * <p>
+	 * Default is {@code true}. Switch this off if the configured
+	 * {@code TransformerFactory} must see every transformation.
+	 * @since 5.0.0
+	 * @see TransformerHelper#setDirectCopy(boolean)
+	 */
+	public void setDirectCopy(boolean directCopy) {
+		this.transformerHelper.setDirectCopy(directCopy);
+	}
+
 	/**
 	 * Instantiate a new TransformerFactory.
 	 * <p>
@@ -89,7 +103,8 @@ public abstract class TransformerObjectSupport {
 
 	/**
 	 * Transforms the given {@link Source} to the given {@link Result}. Creates a new
-	 * {@link Transformer} for every call, as transformers are not thread-safe.
+	 * {@link Transformer} for every call, as transformers are not thread-safe, unless the
+	 * source can be {@linkplain #setDirectCopy(boolean) copied directly}.
 	 * @param source the source to transform from
 	 * @param result the result to transform to
 	 * @throws TransformerException if thrown by JAXP methods
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.xml.validation;
+
+import org.jspecify.annotations.Nullable;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+/**
+ * {@link ValidationErrorHandler} that aborts validation on the first error. The
+ * {@link XmlValidator} implementations created by {@link XmlValidatorFactory} return the
+ * error as result, rather than throwing an {@link XmlValidationException}.
+ * <p>
+ * Instances of this class are stateful, and should only be used for a single validation.
+ *
+ * @since 5.0.0
+ */
+public class FailFastValidationErrorHandler implements ValidationErrorHandler {
+
+	private @Nullable SAXParseException error;
+
+	@Override
+	public SAXParseException[] getErrors() {
+		return (this.error != null) ? new SAXParseException[] { this.error } : new SAXParseException[0];
+	}
+
+	/** Ignores the warning. */
+	@Override
+	public void warning(SAXParseException ex) throws SAXException {
+	}
+
+	/** Records the error, and rethrows it to abort validation. */
+	@Override
+	public void error(SAXParseException ex) throws SAXException {
+		this.error = ex;
+		throw ex;
+	}
+
+	/** Records the error, and rethrows it to abort validation. */
+	@Override
+	public void fatalError(SAXParseException ex) throws SAXException {
+		this.error = ex;
+		throw ex;
+	}
+
+}
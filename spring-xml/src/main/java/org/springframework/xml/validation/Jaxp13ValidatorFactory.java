@@ -41,7 +41,7 @@ abstract class Jaxp13ValidatorFactory {
 
 	static XmlValidator createValidator(Resource[] resources, String schemaLanguage) throws IOException {
 		try {
-			Schema schema = SchemaLoaderUtils.loadSchema(resources, schemaLanguage);
+			Schema schema = SchemaCache.getSchema(resources, schemaLanguage);
 			return new Jaxp13Validator(schema);
 		}
 		catch (SAXException ex) {
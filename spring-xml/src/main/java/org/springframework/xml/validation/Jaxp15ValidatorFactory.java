@@ -19,9 +19,14 @@ package org.springframework.xml.validation;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
 
 import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.Source;
+import javax.xml.transform.stax.StAXSource;
 import javax.xml.validation.Schema;
 import javax.xml.validation.Validator;
 
@@ -34,10 +39,17 @@ import org.xml.sax.SAXNotSupportedException;
 import org.xml.sax.SAXParseException;
 
 import org.springframework.core.io.Resource;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.xml.StaxUtils;
 
 /**
  * Internal class that uses JAXP 1.5 features to create an {@code XmlValidator} with
  * settings to prevent external entity access.
+ * <p>
+ * Created validators keep a bounded pool of {@link Validator} instances, so that the
+ * {@link Schema} is only asked for a new {@code Validator} when all pooled instances are
+ * in use. Validators are {@linkplain Validator#reset() reset} before they are returned
+ * to the pool, so that no state carries over from one validation to the next.
  *
  * @author Arjen Poutsma
  * @author Greg Turnquist
@@ -47,9 +59,12 @@ abstract class Jaxp15ValidatorFactory {
 
 	private static final Log log = LogFactory.getLog(Jaxp15ValidatorFactory.class);
 
+	/** The maximum number of idle validators kept per schema. */
+	private static final int MAX_POOLED_VALIDATORS = 16;
+
 	static XmlValidator createValidator(Resource[] resources, String schemaLanguage) throws IOException {
 		try {
-			Schema schema = SchemaLoaderUtils.loadSchema(resources, schemaLanguage);
+			Schema schema = SchemaCache.getSchema(resources, schemaLanguage);
 			return new Jaxp15Validator(schema);
 		}
 		catch (SAXException ex) {
@@ -61,6 +76,8 @@ abstract class Jaxp15ValidatorFactory {
 
 		private final Schema schema;
 
+		private final Queue<Validator> validators = new ArrayBlockingQueue<>(MAX_POOLED_VALIDATORS);
+
 		Jaxp15Validator(Schema schema) {
 			this.schema = schema;
 		}
@@ -76,8 +93,33 @@ abstract class Jaxp15ValidatorFactory {
 			if (errorHandler == null) {
 				errorHandler = new DefaultValidationErrorHandler();
 			}
+			Validator validator = this.validators.poll();
+			if (validator == null) {
+				validator = createValidator();
+			}
+			validator.setErrorHandler(errorHandler);
+			try {
+				validator.validate(getValidationSource(source));
+				release(validator);
+				return errorHandler.getErrors();
+			}
+			catch (SAXException ex) {
+				SAXParseException[] errors = errorHandler.getErrors();
+				if (isAbortedBy(ex, errors)) {
+					release(validator);
+					return errors;
+				}
+				throw new XmlValidationException("Could not validate source: " + ex.getMessage(), ex);
+			}
+		}
+
+		private Validator createValidator() {
 			Validator validator = this.schema.newValidator();
+			configure(validator);
+			return validator;
+		}
 
+		private static void configure(Validator validator) {
 			try {
 				validator.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
 			}
@@ -97,15 +139,48 @@ abstract class Jaxp15ValidatorFactory {
 							+ validator.getClass().getCanonicalName());
 				}
 			}
+		}
 
-			validator.setErrorHandler(errorHandler);
-			try {
-				validator.validate(source);
-				return errorHandler.getErrors();
+		/**
+		 * Resets the given validator, and returns it to the pool if that is not full.
+		 * Resetting also clears the properties that prevent external entity access, so
+		 * these are configured again.
+		 */
+		private void release(Validator validator) {
+			validator.reset();
+			configure(validator);
+			this.validators.offer(validator);
+		}
+
+		/**
+		 * Returns a {@link StAXSource} for custom StAX sources backed by a stream reader,
+		 * so that they are read by the validator's own StAX support rather than through
+		 * the {@code XMLReader} of the custom source.
+		 */
+		private static Source getValidationSource(Source source) {
+			if (!(source instanceof StAXSource) && StaxUtils.isStaxSource(source)) {
+				XMLStreamReader streamReader = StaxUtils.getXMLStreamReader(source);
+				if (streamReader != null && (streamReader.getEventType() == XMLStreamConstants.START_DOCUMENT
+						|| streamReader.getEventType() == XMLStreamConstants.START_ELEMENT)) {
+					return new StAXSource(streamReader);
+				}
 			}
-			catch (SAXException ex) {
-				throw new XmlValidationException("Could not validate source: " + ex.getMessage(), ex);
+			return source;
+		}
+
+		/**
+		 * Indicates whether validation was aborted by the error handler rethrowing one of
+		 * the errors it collected, as a {@link FailFastValidationErrorHandler} does.
+		 */
+		private static boolean isAbortedBy(Throwable ex, SAXParseException[] errors) {
+			Throwable cause = ex;
+			while (cause != null) {
+				if (ObjectUtils.containsElement(errors, cause)) {
+					return true;
+				}
+				cause = cause.getCause();
 			}
+			return false;
 		}
 
 	}
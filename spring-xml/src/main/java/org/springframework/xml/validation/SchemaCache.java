@@ -0,0 +1,114 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.xml.validation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.validation.Schema;
+
+import org.jspecify.annotations.Nullable;
+import org.xml.sax.SAXException;
+
+import org.springframework.core.SpringProperties;
+import org.springframework.core.io.Resource;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Internal process-wide cache of compiled {@link Schema} objects, keyed by the schema
+ * language and by the location and content digest of each schema resource. A
+ * {@code Schema} is immutable and thread-safe, so all validators created for the same
+ * resources, for instance by several validating interceptors and a WSDL definition, can
+ * share it instead of compiling the same schemas again.
+ * <p>
+ * Resources that can only be read once, such as an
+ * {@link org.springframework.core.io.InputStreamResource}, are never cached. Only the
+ * given resources are digested; the schemas they include or import are assumed not to
+ * change while the process runs. Cached schemas are softly referenced, so that they can
+ * be reclaimed under memory pressure, and can be removed with
+ * {@link XmlValidatorFactory#clearSchemaCache()}. Caching can be switched off by setting
+ * the {@value #IGNORE_PROPERTY_NAME} Spring property to {@code true}.
+ *
+ * @since 5.0.0
+ * @see SchemaLoaderUtils#loadSchema(Resource[], String)
+ */
+abstract class SchemaCache {
+
+	/**
+	 * Name of the Spring property that switches off schema caching.
+	 * @see SpringProperties
+	 */
+	static final String IGNORE_PROPERTY_NAME = "spring.xml.schema-cache.ignore";
+
+	private static final boolean shouldIgnore = SpringProperties.getFlag(IGNORE_PROPERTY_NAME);
+
+	private static final Map<List<String>, Schema> schemas = new ConcurrentReferenceHashMap<>(16,
+			ConcurrentReferenceHashMap.ReferenceType.SOFT);
+
+	/**
+	 * Return the compiled schema for the given resources, loading it with
+	 * {@link SchemaLoaderUtils#loadSchema(Resource[], String)} if not cached yet.
+	 * @param resources the resources to load from
+	 * @param schemaLanguage the language of the schema
+	 * @return the compiled schema
+	 * @throws IOException if loading failed
+	 * @throws SAXException if loading failed
+	 */
+	static Schema getSchema(Resource[] resources, String schemaLanguage) throws IOException, SAXException {
+		List<String> key = (!shouldIgnore ? createKey(resources, schemaLanguage) : null);
+		if (key == null) {
+			return SchemaLoaderUtils.loadSchema(resources, schemaLanguage);
+		}
+		Schema schema = schemas.get(key);
+		if (schema == null) {
+			schema = SchemaLoaderUtils.loadSchema(resources, schemaLanguage);
+			Schema existing = schemas.putIfAbsent(key, schema);
+			if (existing != null) {
+				schema = existing;
+			}
+		}
+		return schema;
+	}
+
+	/**
+	 * Remove all cached schemas.
+	 */
+	static void clear() {
+		schemas.clear();
+	}
+
+	private static @Nullable List<String> createKey(Resource[] resources, String schemaLanguage) throws IOException {
+		List<String> key = new ArrayList<>(resources.length * 2 + 1);
+		key.add(schemaLanguage);
+		for (Resource resource : resources) {
+			if (resource.isOpen() || !resource.exists()) {
+				return null;
+			}
+			String systemId = SchemaLoaderUtils.getSystemId(resource);
+			key.add(systemId != null ? systemId : resource.getDescription());
+			try (InputStream inputStream = resource.getInputStream()) {
+				key.add(DigestUtils.md5DigestAsHex(inputStream));
+			}
+		}
+		return key;
+	}
+
+}
@@ -34,6 +34,10 @@ import org.springframework.xml.JaxpVersion;
  * The goal of this class is to avoid runtime dependencies on JAXP 1.3 by using the best
  * validation implementation that is available. Prefers JAXP 1.3 {@link XmlValidator}
  * implementations to a custom, SAX-based implementation.
+ * <p>
+ * Compiled schemas are cached process-wide, keyed by the location and content of the
+ * given resources, so that creating several validators for the same schemas only
+ * compiles them once. The cache can be cleared with {@link #clearSchemaCache()}.
  *
  * @author Arjen Poutsma
  * @since 1.0.0
@@ -102,4 +106,14 @@ public abstract class XmlValidatorFactory {
 		}
 	}
 
+	/**
+	 * Remove all compiled schemas from the process-wide cache, for instance when the
+	 * application that created them is shut down. Validators that have already been
+	 * created are not affected.
+	 * @since 5.0.0
+	 */
+	public static void clearSchemaCache() {
+		SchemaCache.clear();
+	}
+
 }
@@ -17,8 +17,12 @@
 package org.springframework.xml.xpath;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.xml.namespace.QName;
 import javax.xml.xpath.XPath;
@@ -52,15 +56,7 @@ abstract class Jaxp13XPathExpressionFactory {
 	 * @throws XPathParseException when the given expression cannot be parsed
 	 */
 	static XPathExpression createXPathExpression(String expression) {
-		try {
-			XPath xpath = createXPath();
-			javax.xml.xpath.XPathExpression xpathExpression = xpath.compile(expression);
-			return new Jaxp13XPathExpression(xpathExpression, expression);
-		}
-		catch (XPathExpressionException ex) {
-			throw new org.springframework.xml.xpath.XPathParseException(
-					"Could not compile [" + expression + "] to a XPathExpression: " + ex.getMessage(), ex);
-		}
+		return createXPathExpression(expression, Collections.emptyMap());
 	}
 
 	/**
@@ -72,13 +68,19 @@ abstract class Jaxp13XPathExpressionFactory {
 	 * @throws XPathParseException when the given expression cannot be parsed
 	 */
 	public static XPathExpression createXPathExpression(String expression, Map<String, String> namespaces) {
+		javax.xml.xpath.XPathExpression xpathExpression = compile(expression, namespaces);
+		return new Jaxp13XPathExpression(xpathExpression, expression, namespaces);
+	}
+
+	private static javax.xml.xpath.XPathExpression compile(String expression, Map<String, String> namespaces) {
 		try {
 			XPath xpath = createXPath();
-			SimpleNamespaceContext namespaceContext = new SimpleNamespaceContext();
-			namespaceContext.setBindings(namespaces);
-			xpath.setNamespaceContext(namespaceContext);
-			javax.xml.xpath.XPathExpression xpathExpression = xpath.compile(expression);
-			return new Jaxp13XPathExpression(xpathExpression, expression);
+			if (!namespaces.isEmpty()) {
+				SimpleNamespaceContext namespaceContext = new SimpleNamespaceContext();
+				namespaceContext.setBindings(namespaces);
+				xpath.setNamespaceContext(namespaceContext);
+			}
+			return xpath.compile(expression);
 		}
 		catch (XPathExpressionException ex) {
 			throw new org.springframework.xml.xpath.XPathParseException(
@@ -90,16 +92,28 @@ abstract class Jaxp13XPathExpressionFactory {
 		return xpathFactory.newXPath();
 	}
 
-	/** JAXP 1.3 implementation of the {@code XPathExpression} interface. */
+	/**
+	 * JAXP 1.3 implementation of the {@code XPathExpression} interface.
+	 * <p>
+	 * A compiled JAXP {@code XPathExpression} is not thread-safe, so rather than
+	 * serializing all callers on a single instance, this implementation keeps a pool of
+	 * compiled instances: each evaluation takes one from the pool, compiling a new one
+	 * when none is available, and returns it afterwards. The pool therefore grows to the
+	 * number of threads that concurrently evaluate the expression.
+	 */
 	private static final class Jaxp13XPathExpression implements XPathExpression {
 
-		private final javax.xml.xpath.XPathExpression xpathExpression;
+		private final Queue<javax.xml.xpath.XPathExpression> xpathExpressions = new ConcurrentLinkedQueue<>();
 
 		private final String expression;
 
-		private Jaxp13XPathExpression(javax.xml.xpath.XPathExpression xpathExpression, String expression) {
-			this.xpathExpression = xpathExpression;
+		private final Map<String, String> namespaces;
+
+		private Jaxp13XPathExpression(javax.xml.xpath.XPathExpression xpathExpression, String expression,
+				Map<String, String> namespaces) {
+			this.xpathExpressions.offer(xpathExpression);
 			this.expression = expression;
+			this.namespaces = new HashMap<>(namespaces);
 		}
 
 		@Override
@@ -119,15 +133,20 @@ abstract class Jaxp13XPathExpressionFactory {
 		}
 
 		private Object evaluate(Node node, QName returnType) {
+			// XPathExpression is not thread-safe, so use one instance per concurrent caller
+			javax.xml.xpath.XPathExpression xpathExpression = this.xpathExpressions.poll();
+			if (xpathExpression == null) {
+				xpathExpression = compile(this.expression, this.namespaces);
+			}
 			try {
-				// XPathExpression is not thread-safe
-				synchronized (this.xpathExpression) {
-					return this.xpathExpression.evaluate(node, returnType);
-				}
+				return xpathExpression.evaluate(node, returnType);
 			}
 			catch (XPathExpressionException ex) {
 				throw new XPathException("Could not evaluate XPath expression:" + ex.getMessage(), ex);
 			}
+			finally {
+				this.xpathExpressions.offer(xpathExpression);
+			}
 		}
 
 		private List<Node> toNodeList(NodeList nodeList) {
@@ -16,19 +16,44 @@
 
 package org.springframework.xml.transform;
 
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
+import javax.xml.transform.dom.DOMResult;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.sax.SAXSource;
+import javax.xml.transform.stax.StAXResult;
+import javax.xml.transform.stax.StAXSource;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xml.sax.InputSource;
+import org.xmlunit.assertj.XmlAssert;
+
+import org.springframework.util.xml.StaxUtils;
+import org.springframework.xml.DocumentBuilderFactoryUtils;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
-import static org.xmlunit.assertj.XmlAssert.assertThat;
 
 class TransformerHelperTests {
 
+	private static final String XML = "<ns:root xmlns:ns='http://springframework.org/spring-ws'>"
+			+ "<ns:child attr='value'>text</ns:child><!-- comment --><other xmlns='urn:other'/></ns:root>";
+
 	private TransformerHelper helper;
 
 	private Transformer transformer;
@@ -49,7 +74,133 @@ class TransformerHelperTests {
 
 		this.helper.transform(source, result);
 
-		assertThat(result.toString()).and(xml).ignoreWhitespace().areIdentical();
+		XmlAssert.assertThat(result.toString()).and(xml).ignoreWhitespace().areIdentical();
+	}
+
+	@Test
+	void domToDom() throws Exception {
+
+		Document document = parse(XML);
+		DOMResult result = new DOMResult();
+
+		this.helper.transform(new DOMSource(document), result);
+
+		assertThat(result.getNode()).isNotSameAs(document);
+		XmlAssert.assertThat(result.getNode()).and(XML).areIdentical();
+	}
+
+	@Test
+	void domElementToDomNode() throws Exception {
+
+		Document document = parse(XML);
+		Document target = parse("<target xmlns='http://springframework.org/spring-ws'><last/></target>");
+		Element targetElement = target.getDocumentElement();
+		DOMResult result = new DOMResult(targetElement, targetElement.getFirstChild());
+
+		this.helper.transform(new DOMSource(document.getDocumentElement()), result);
+
+		XmlAssert.assertThat(target)
+			.and("<target xmlns='http://springframework.org/spring-ws'>" + XML + "<last/></target>")
+			.areIdentical();
+	}
+
+	@Test
+	void staxToDom() throws Exception {
+
+		XMLStreamReader streamReader = XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(XML));
+		DOMResult result = new DOMResult();
+
+		this.helper.transform(new StAXSource(streamReader), result);
+
+		XmlAssert.assertThat(result.getNode()).and(XML).areIdentical();
+	}
+
+	@Test
+	void staxEventsToDom() throws Exception {
+
+		Source source = StaxUtils
+			.createStaxSource(XMLInputFactory.newInstance().createXMLEventReader(new StringReader(XML)));
+		DOMResult result = new DOMResult();
+
+		this.helper.transform(source, result);
+
+		XmlAssert.assertThat(result.getNode()).and(XML).areIdentical();
+	}
+
+	@Test
+	void staxElementToDom() throws Exception {
+
+		XMLStreamReader streamReader = XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(XML));
+		streamReader.nextTag();
+		streamReader.nextTag();
+		DOMResult result = new DOMResult();
+
+		this.helper.transform(new StAXSource(streamReader), result);
+
+		XmlAssert.assertThat(result.getNode())
+			.and("<ns:child xmlns:ns='http://springframework.org/spring-ws' attr='value'>text</ns:child>")
+			.areIdentical();
+		assertThat(streamReader.getEventType()).isEqualTo(XMLStreamConstants.END_ELEMENT);
+		assertThat(streamReader.getLocalName()).isEqualTo("child");
+	}
+
+	@Test
+	void staxToStax() throws Exception {
+
+		XMLStreamReader streamReader = XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(XML));
+		StringWriter writer = new StringWriter();
+		XMLStreamWriter streamWriter = XMLOutputFactory.newInstance().createXMLStreamWriter(writer);
+
+		this.helper.transform(new StAXSource(streamReader), new StAXResult(streamWriter));
+
+		XmlAssert.assertThat(writer.toString()).and(XML).areIdentical();
+	}
+
+	@Test
+	void staxElementToStax() throws Exception {
+
+		XMLStreamReader streamReader = XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(XML));
+		streamReader.nextTag();
+		streamReader.nextTag();
+		StringWriter writer = new StringWriter();
+		XMLStreamWriter streamWriter = XMLOutputFactory.newInstance().createXMLStreamWriter(writer);
+
+		this.helper.transform(new StAXSource(streamReader), new StAXResult(streamWriter));
+
+		XmlAssert.assertThat(writer.toString())
+			.and("<ns:child xmlns:ns='http://springframework.org/spring-ws' attr='value'>text</ns:child>")
+			.areIdentical();
+	}
+
+	@Test
+	void saxToDom() throws Exception {
+
+		SAXParserFactory parserFactory = SAXParserFactory.newInstance();
+		parserFactory.setNamespaceAware(true);
+		Source source = new SAXSource(parserFactory.newSAXParser().getXMLReader(),
+				new InputSource(new StringReader(XML)));
+		DOMResult result = new DOMResult();
+
+		this.helper.transform(source, result);
+
+		XmlAssert.assertThat(result.getNode()).and(XML).areIdentical();
+	}
+
+	@Test
+	void directCopyDisabled() throws Exception {
+
+		this.helper.setDirectCopy(false);
+		DOMResult result = new DOMResult();
+
+		this.helper.transform(new DOMSource(parse(XML)), result);
+
+		XmlAssert.assertThat(result.getNode()).and(XML).areIdentical();
+	}
+
+	private static Document parse(String xml) throws Exception {
+		DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactoryUtils.newInstance();
+		documentBuilderFactory.setNamespaceAware(true);
+		return documentBuilderFactory.newDocumentBuilder().parse(new InputSource(new StringReader(xml)));
 	}
 
 }
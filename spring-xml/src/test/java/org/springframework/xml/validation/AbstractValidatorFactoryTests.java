@@ -19,6 +19,8 @@ package org.springframework.xml.validation;
 import java.io.InputStream;
 
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.Source;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.sax.SAXSource;
@@ -33,7 +35,9 @@ import org.xml.sax.SAXParseException;
 
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.util.xml.StaxUtils;
 import org.springframework.xml.DocumentBuilderFactoryUtils;
+import org.springframework.xml.XMLInputFactoryUtils;
 import org.springframework.xml.transform.ResourceSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -127,6 +131,40 @@ public abstract class AbstractValidatorFactoryTests {
 		assertThat(errors).hasSize(3);
 	}
 
+	@Test
+	void testHandleValidMessageStax() throws Exception {
+
+		XMLInputFactory inputFactory = XMLInputFactoryUtils.newInstance();
+		XMLStreamReader streamReader = inputFactory.createXMLStreamReader(this.validInputStream);
+		SAXParseException[] errors = this.validator.validate(StaxUtils.createCustomStaxSource(streamReader));
+
+		assertThat(errors).isEmpty();
+	}
+
+	@Test
+	void testHandleInvalidMessageStax() throws Exception {
+
+		XMLInputFactory inputFactory = XMLInputFactoryUtils.newInstance();
+		XMLStreamReader streamReader = inputFactory.createXMLStreamReader(this.invalidInputStream);
+		SAXParseException[] errors = this.validator.validate(StaxUtils.createCustomStaxSource(streamReader));
+
+		assertThat(errors).hasSize(3);
+	}
+
+	@Test
+	void testFailFast() throws Exception {
+
+		SAXParseException[] errors = this.validator.validate(new StreamSource(this.invalidInputStream),
+				new FailFastValidationErrorHandler());
+
+		assertThat(errors).hasSize(1);
+
+		this.validInputStream = AbstractValidatorFactoryTests.class.getResourceAsStream("validDocument.xml");
+		errors = this.validator.validate(new StreamSource(this.validInputStream), new FailFastValidationErrorHandler());
+
+		assertThat(errors).isEmpty();
+	}
+
 	@Test
 	void testMultipleSchemasValidMessage() throws Exception {
 
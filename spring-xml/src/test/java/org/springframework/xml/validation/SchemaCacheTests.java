@@ -0,0 +1,106 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.xml.validation;
+
+import javax.xml.XMLConstants;
+import javax.xml.validation.Schema;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaCacheTests {
+
+	@AfterEach
+	void tearDown() {
+		SchemaCache.clear();
+	}
+
+	@Test
+	void sameResources() throws Exception {
+
+		Schema schema = SchemaCache.getSchema(new Resource[] { new ClassPathResource("schema.xsd", getClass()) },
+				XMLConstants.W3C_XML_SCHEMA_NS_URI);
+		Schema other = SchemaCache.getSchema(new Resource[] { new ClassPathResource("schema.xsd", getClass()) },
+				XMLConstants.W3C_XML_SCHEMA_NS_URI);
+
+		assertThat(other).isSameAs(schema);
+	}
+
+	@Test
+	void clearSchemaCache() throws Exception {
+
+		Schema schema = SchemaCache.getSchema(new Resource[] { new ClassPathResource("schema.xsd", getClass()) },
+				XMLConstants.W3C_XML_SCHEMA_NS_URI);
+		XmlValidatorFactory.clearSchemaCache();
+		Schema other = SchemaCache.getSchema(new Resource[] { new ClassPathResource("schema.xsd", getClass()) },
+				XMLConstants.W3C_XML_SCHEMA_NS_URI);
+
+		assertThat(other).isNotSameAs(schema);
+	}
+
+	@Test
+	void differentResources() throws Exception {
+
+		Resource envelope = new ClassPathResource("envelope.xsd", getClass());
+		Resource encoding = new ClassPathResource("encoding.xsd", getClass());
+		Schema schema = SchemaCache.getSchema(new Resource[] { envelope }, XMLConstants.W3C_XML_SCHEMA_NS_URI);
+		Schema other = SchemaCache.getSchema(new Resource[] { envelope, encoding },
+				XMLConstants.W3C_XML_SCHEMA_NS_URI);
+
+		assertThat(other).isNotSameAs(schema);
+	}
+
+	@Test
+	void differentContent() throws Exception {
+
+		Schema schema = SchemaCache.getSchema(new Resource[] { schemaResource("urn:one") },
+				XMLConstants.W3C_XML_SCHEMA_NS_URI);
+		Schema same = SchemaCache.getSchema(new Resource[] { schemaResource("urn:one") },
+				XMLConstants.W3C_XML_SCHEMA_NS_URI);
+		Schema other = SchemaCache.getSchema(new Resource[] { schemaResource("urn:two") },
+				XMLConstants.W3C_XML_SCHEMA_NS_URI);
+
+		assertThat(same).isSameAs(schema);
+		assertThat(other).isNotSameAs(schema);
+	}
+
+	@Test
+	void inputStreamResourceIsNotCached() throws Exception {
+
+		Resource resource = new ClassPathResource("schema.xsd", getClass());
+		Schema schema = SchemaCache.getSchema(new Resource[] { new InputStreamResource(resource.getInputStream()) },
+				XMLConstants.W3C_XML_SCHEMA_NS_URI);
+		Schema other = SchemaCache.getSchema(new Resource[] { new InputStreamResource(resource.getInputStream()) },
+				XMLConstants.W3C_XML_SCHEMA_NS_URI);
+
+		assertThat(other).isNotSameAs(schema);
+	}
+
+	private static Resource schemaResource(String targetNamespace) {
+		String xsd = "<schema xmlns='http://www.w3.org/2001/XMLSchema' targetNamespace='" + targetNamespace
+				+ "'><element name='root' type='string'/></schema>";
+		return new ByteArrayResource(xsd.getBytes());
+	}
+
+}
@@ -16,10 +16,57 @@
 
 package org.springframework.xml.xpath;
 
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+
+import org.springframework.xml.DocumentBuilderFactoryUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 class Jaxp13XPathExpressionFactoryTests extends AbstractXPathExpressionFactoryTests {
 
+	@Test
+	void testEvaluateConcurrently() throws Exception {
+
+		XPathExpression expression = createXPathExpression("/ns:root/ns:child[@id='1']/text()",
+				Collections.singletonMap("ns", "urn:test"));
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < 400; i++) {
+				String value = "value" + i;
+				Callable<Boolean> task = () -> {
+					DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactoryUtils.newInstance();
+					documentBuilderFactory.setNamespaceAware(true);
+					Document document = documentBuilderFactory.newDocumentBuilder()
+						.parse(new InputSource(new StringReader(
+								"<root xmlns='urn:test'><child id='1'>" + value + "</child></root>")));
+					return value.equals(expression.evaluateAsString(document));
+				};
+				results.add(executor.submit(task));
+			}
+			for (Future<Boolean> result : results) {
+				assertThat(result.get()).isTrue();
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
 	@Override
 	protected XPathExpression createXPathExpression(String expression) {
 		return Jaxp13XPathExpressionFactory.createXPathExpression(expression);